@@ -1,14 +1,18 @@
 package com.krushikranti.gateway.config;
 
+import com.krushikranti.gateway.routing.PathPrefixMatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.server.ServerWebExchange;
 
 import jakarta.annotation.PostConstruct;
 
+import java.util.List;
+
 /**
  * Gateway routing configuration.
  * Uses ServiceUrlProperties for environment-aware service URLs.
@@ -18,6 +22,9 @@ import jakarta.annotation.PostConstruct;
 @Slf4j
 public class GatewayConfig {
 
+    private static final String RESOLVED_ROUTE_ATTR = GatewayConfig.class.getName() + ".resolvedRouteId";
+    private static final String NO_ROUTE = "";
+
     private final ServiceUrlProperties serviceUrls;
 
     @PostConstruct
@@ -30,109 +37,66 @@ public class GatewayConfig {
         log.info("  KYC Service: {}", serviceUrls.getKycService());
     }
 
+    /**
+     * Route table. Each route owns a path prefix ({@code prefix/**}); prefixes are
+     * compiled into one {@link PathPrefixMatcher} so a request is resolved with a
+     * single trie walk, and every route predicate just compares against that result.
+     */
+    private List<ServiceRoute> serviceRoutes() {
+        return List.of(
+                new ServiceRoute("jwks-endpoint", "/.well-known", serviceUrls.getAuthService()),
+                new ServiceRoute("auth-service", "/auth", serviceUrls.getAuthService()),
+                new ServiceRoute("farmer-service", "/farmer", serviceUrls.getFarmerService()),
+                new ServiceRoute("funding-service", "/funding", serviceUrls.getFundingService()),
+                new ServiceRoute("inventory-service", "/inventory", serviceUrls.getInventoryService()),
+                new ServiceRoute("procurement-service", "/procurement", serviceUrls.getProcurementService()),
+                new ServiceRoute("payment-service", "/payment", serviceUrls.getPaymentService()),
+                new ServiceRoute("profile-service", "/profile", serviceUrls.getProfileService()),
+                new ServiceRoute("file-service", "/file", serviceUrls.getFileService()),
+                new ServiceRoute("notification-service", "/notification", serviceUrls.getNotificationService()),
+                new ServiceRoute("chat-service", "/chat", serviceUrls.getChatService()),
+                new ServiceRoute("advisory-service", "/advisory", serviceUrls.getAdvisoryService()),
+                new ServiceRoute("support-service", "/support", serviceUrls.getSupportService()),
+                new ServiceRoute("subscription-service", "/subscription", serviceUrls.getSubscriptionService()),
+                new ServiceRoute("kyc-service", "/kyc", serviceUrls.getKycService()),
+                new ServiceRoute("admin-farmer-service", "/admin/farmers", serviceUrls.getFarmerService()),
+                new ServiceRoute("admin-kyc-service", "/admin/kyc", serviceUrls.getKycService()),
+                new ServiceRoute("admin-subscription-service", "/admin/subscriptions", serviceUrls.getSubscriptionService()),
+                new ServiceRoute("field-officer-service", "/field-officer", serviceUrls.getFieldOfficerService()),
+                new ServiceRoute("admin-field-officer-service", "/admin/field-officers", serviceUrls.getFieldOfficerService())
+        );
+    }
+
     @Bean
     public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
-        return builder.routes()
-                // JWKS endpoint (must be before auth routes to avoid path conflicts)
-                .route("jwks-endpoint", r -> r
-                        .path("/.well-known/**")
-                        .uri(serviceUrls.getAuthService()))
-                
-                // Auth Service Routes
-                .route("auth-service", r -> r
-                        .path("/auth/**")
-                        .uri(serviceUrls.getAuthService()))
-                
-                // Farmer Service Routes
-                .route("farmer-service", r -> r
-                        .path("/farmer/**")
-                        .uri(serviceUrls.getFarmerService()))
-                
-                // Funding Service Routes
-                .route("funding-service", r -> r
-                        .path("/funding/**")
-                        .uri(serviceUrls.getFundingService()))
-                
-                // Inventory Service Routes
-                .route("inventory-service", r -> r
-                        .path("/inventory/**")
-                        .uri(serviceUrls.getInventoryService()))
-                
-                // Procurement Service Routes
-                .route("procurement-service", r -> r
-                        .path("/procurement/**")
-                        .uri(serviceUrls.getProcurementService()))
-                
-                // Payment Service Routes
-                .route("payment-service", r -> r
-                        .path("/payment/**")
-                        .uri(serviceUrls.getPaymentService()))
-                
-                // Profile Service Routes
-                .route("profile-service", r -> r
-                        .path("/profile/**")
-                        .uri(serviceUrls.getProfileService()))
-                
-                // File/Media Service Routes
-                .route("file-service", r -> r
-                        .path("/file/**")
-                        .uri(serviceUrls.getFileService()))
-                
-                // Notification Service Routes
-                .route("notification-service", r -> r
-                        .path("/notification/**")
-                        .uri(serviceUrls.getNotificationService()))
-                
-                // Chat/Tadnya Service Routes
-                .route("chat-service", r -> r
-                        .path("/chat/**")
-                        .uri(serviceUrls.getChatService()))
-                
-                // Advisory Service Routes
-                .route("advisory-service", r -> r
-                        .path("/advisory/**")
-                        .uri(serviceUrls.getAdvisoryService()))
-                
-                // Support Service Routes
-                .route("support-service", r -> r
-                        .path("/support/**")
-                        .uri(serviceUrls.getSupportService()))
-                
-                // Subscription Service Routes
-                .route("subscription-service", r -> r
-                        .path("/subscription/**")
-                        .uri(serviceUrls.getSubscriptionService()))
-                
-                // KYC Service Routes
-                .route("kyc-service", r -> r
-                        .path("/kyc/**")
-                        .uri(serviceUrls.getKycService()))
-                
-                // Admin Routes - Farmer Management (routed to farmer-service)
-                .route("admin-farmer-service", r -> r
-                        .path("/admin/farmers/**")
-                        .uri(serviceUrls.getFarmerService()))
-                
-                // Admin Routes - KYC Management (routed to kyc-service)
-                .route("admin-kyc-service", r -> r
-                        .path("/admin/kyc/**")
-                        .uri(serviceUrls.getKycService()))
-                
-                // Admin Routes - Subscription Management (routed to subscription-service)
-                .route("admin-subscription-service", r -> r
-                        .path("/admin/subscriptions/**")
-                        .uri(serviceUrls.getSubscriptionService()))
-                
-                // Field Officer Service Routes
-                .route("field-officer-service", r -> r
-                        .path("/field-officer/**")
-                        .uri(serviceUrls.getFieldOfficerService()))
-                
-                // Admin Routes - Field Officer Management (routed to field-officer-service)
-                .route("admin-field-officer-service", r -> r
-                        .path("/admin/field-officers/**")
-                        .uri(serviceUrls.getFieldOfficerService()))
-                
-                .build();
+        List<ServiceRoute> routes = serviceRoutes();
+
+        PathPrefixMatcher.Builder<String> matcherBuilder = PathPrefixMatcher.builder();
+        routes.forEach(route -> matcherBuilder.addPathPrefix(route.pathPrefix(), route.id()));
+        PathPrefixMatcher<String> routeMatcher = matcherBuilder.build();
+
+        RouteLocatorBuilder.Builder routesBuilder = builder.routes();
+        for (ServiceRoute route : routes) {
+            routesBuilder.route(route.id(), r -> r
+                    .predicate(exchange -> route.id().equals(resolveRouteId(exchange, routeMatcher)))
+                    .uri(route.uri()));
+        }
+        return routesBuilder.build();
+    }
+
+    /**
+     * Resolve the route for a request once and remember it on the exchange,
+     * so the remaining route predicates are a string comparison.
+     */
+    private static String resolveRouteId(ServerWebExchange exchange, PathPrefixMatcher<String> routeMatcher) {
+        String routeId = exchange.getAttribute(RESOLVED_ROUTE_ATTR);
+        if (routeId == null) {
+            String match = routeMatcher.match(exchange.getRequest().getURI().getRawPath());
+            routeId = match != null ? match : NO_ROUTE;
+            exchange.getAttributes().put(RESOLVED_ROUTE_ATTR, routeId);
+        }
+        return routeId;
     }
+
+    private record ServiceRoute(String id, String pathPrefix, String uri) {}
 }
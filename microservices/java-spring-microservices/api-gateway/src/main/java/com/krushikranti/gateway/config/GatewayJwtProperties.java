@@ -4,6 +4,7 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,5 +15,16 @@ public class GatewayJwtProperties {
     private boolean enabled = true;
     private List<String> skipPaths = new ArrayList<>();
     private String jwksUri;
-}
 
+    /** How long a fetched JWKS may be used before requests must wait for a new one. */
+    private Duration jwksCacheTtl = Duration.ofMinutes(5);
+    /** How long before expiry the JWKS is refreshed in the background. */
+    private Duration jwksRefreshAhead = Duration.ofMinutes(1);
+    /** Minimum gap between refreshes forced by a token with an unknown key ID. */
+    private Duration jwksMinRefreshInterval = Duration.ofSeconds(30);
+
+    /** Maximum number of verified tokens kept in memory. */
+    private long tokenCacheMaxSize = 10_000;
+    /** Upper bound on how long a verified token is trusted without re-verification. */
+    private Duration tokenCacheMaxTtl = Duration.ofMinutes(5);
+}
@@ -1,6 +1,7 @@
 package com.krushikranti.gateway.filter;
 
 import com.krushikranti.gateway.config.GatewayJwtProperties;
+import com.krushikranti.gateway.routing.PathPrefixMatcher;
 import com.krushikranti.gateway.service.JwksService;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
@@ -19,12 +20,12 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 
 /**
  * Global JWT Authentication Filter.
  * Validates JWT tokens using JWKS from Auth Service.
  * Extracts user information and adds headers for downstream services.
+ * The skip-path list is compiled into a {@link PathPrefixMatcher} at startup.
  */
 @Component
 @Slf4j
@@ -32,6 +33,7 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
     private final GatewayJwtProperties jwtProperties;
     private final JwksService jwksService;
+    private PathPrefixMatcher<Boolean> skipPathMatcher;
 
     @Autowired
     public JwtAuthenticationFilter(GatewayJwtProperties jwtProperties, JwksService jwksService) {
@@ -41,6 +43,10 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
     @PostConstruct
     public void init() {
+        PathPrefixMatcher.Builder<Boolean> builder = PathPrefixMatcher.builder();
+        jwtProperties.getSkipPaths().forEach(skipPath -> builder.addPrefix(skipPath, Boolean.TRUE));
+        this.skipPathMatcher = builder.build();
+
         log.info("JWT Filter initialized with skip paths: {}", jwtProperties.getSkipPaths());
         log.info("JWKS URI: {}", jwtProperties.getJwksUri());
     }
@@ -52,7 +58,7 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
         // Skip JWT validation for public endpoints
         if (!jwtProperties.isEnabled() || shouldSkipPath(path)) {
-            log.debug("Skipping JWT validation for path: {}", path);
+            log.trace("Skipping JWT validation for path: {}", path);
             return chain.filter(exchange);
         }
 
@@ -90,14 +96,7 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
     }
 
     private boolean shouldSkipPath(String path) {
-        List<String> skipPaths = jwtProperties.getSkipPaths();
-        boolean shouldSkip = skipPaths.stream().anyMatch(skipPath -> path.startsWith(skipPath));
-        if (shouldSkip) {
-            log.debug("Path {} matches skip pattern", path);
-        } else {
-            log.debug("Path {} requires JWT validation. Skip paths: {}", path, skipPaths);
-        }
-        return shouldSkip;
+        return skipPathMatcher.matches(path);
     }
 
     private String extractToken(ServerHttpRequest request) {
@@ -0,0 +1,129 @@
+package com.krushikranti.gateway.routing;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable prefix trie over request paths, built once at startup and shared by
+ * the JWT skip list and route resolution.
+ *
+ * <p>Two kinds of entries are supported:
+ * <ul>
+ *   <li>{@link Builder#addPrefix plain prefixes} match any path starting with the
+ *       prefix ({@code /auth/login} matches {@code /auth/login-otp}), like {@link String#startsWith};</li>
+ *   <li>{@link Builder#addPathPrefix path prefixes} match whole segments only, like a
+ *       {@code /prefix/**} route pattern ({@code /farmer} matches {@code /farmer} and
+ *       {@code /farmer/1} but not {@code /farmers}).</li>
+ * </ul>
+ * {@link #match} returns the value of the longest matching entry. Lookups walk the
+ * path once and do not allocate.
+ */
+public final class PathPrefixMatcher<T> {
+
+    private final Node<T> root;
+
+    private PathPrefixMatcher(Node<T> root) {
+        this.root = root;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return the value of the longest entry matching {@code path}, or {@code null} if none matches
+     */
+    public T match(String path) {
+        Node<T> node = root;
+        T match = null;
+        int length = path.length();
+
+        for (int i = 0; node != null; i++) {
+            if (node.prefixValue != null) {
+                match = node.prefixValue;
+            } else if (node.pathValue != null && (i == length || path.charAt(i) == '/')) {
+                match = node.pathValue;
+            }
+            if (i == length) {
+                break;
+            }
+            node = node.child(path.charAt(i));
+        }
+        return match;
+    }
+
+    public boolean matches(String path) {
+        return match(path) != null;
+    }
+
+    private static final class Node<T> {
+        private final char[] keys;
+        private final Node<T>[] children;
+        private final T prefixValue;
+        private final T pathValue;
+
+        private Node(char[] keys, Node<T>[] children, T prefixValue, T pathValue) {
+            this.keys = keys;
+            this.children = children;
+            this.prefixValue = prefixValue;
+            this.pathValue = pathValue;
+        }
+
+        private Node<T> child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final BuilderNode<T> root = new BuilderNode<>();
+
+        private Builder() {
+        }
+
+        /** Match every path that starts with {@code prefix}. */
+        public Builder<T> addPrefix(String prefix, T value) {
+            node(prefix).prefixValue = value;
+            return this;
+        }
+
+        /** Match {@code prefix} itself and every path below it ({@code prefix/**}). */
+        public Builder<T> addPathPrefix(String prefix, T value) {
+            String normalized = prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix;
+            node(normalized).pathValue = value;
+            return this;
+        }
+
+        public PathPrefixMatcher<T> build() {
+            return new PathPrefixMatcher<>(root.freeze());
+        }
+
+        private BuilderNode<T> node(String prefix) {
+            BuilderNode<T> node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new BuilderNode<>());
+            }
+            return node;
+        }
+    }
+
+    private static final class BuilderNode<T> {
+        private final Map<Character, BuilderNode<T>> children = new TreeMap<>();
+        private T prefixValue;
+        private T pathValue;
+
+        @SuppressWarnings("unchecked")
+        private Node<T> freeze() {
+            char[] keys = new char[children.size()];
+            Node<T>[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, BuilderNode<T>> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                frozen[i++] = entry.getValue().freeze();
+            }
+            return new Node<>(keys, frozen, prefixValue, pathValue);
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package com.krushikranti.gateway.service;
 
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.krushikranti.gateway.config.GatewayJwtProperties;
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.crypto.RSASSAVerifier;
 import com.nimbusds.jose.jwk.JWK;
@@ -20,18 +21,30 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.security.interfaces.RSAPublicKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.ParseException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * JWKS Service for fetching and caching JSON Web Key Sets.
  * Used by API Gateway to validate JWT tokens from Auth Service.
+ *
+ * <p>The JWKS is held together with a ready-made verifier per key ID. Fetches are
+ * single-flight (concurrent callers share one request) and the set is refreshed in
+ * the background shortly before it expires, so requests only wait on auth-service
+ * when no usable key set is held at all. Successfully verified tokens are cached by
+ * SHA-256 hash until their {@code exp} (bounded by {@code token-cache-max-ttl}), so a
+ * repeat token costs a hash and a cache lookup instead of an RSA verification.
  */
 @Service
 @Slf4j
@@ -41,19 +54,33 @@ public class JwksService {
     private final GatewayJwtProperties jwtProperties;
     private final WebClient.Builder webClientBuilder;
 
-    private Cache<String, JWKSet> jwksCache;
+    private AsyncLoadingCache<String, KeySnapshot> jwksCache;
+    private Cache<String, VerifiedToken> tokenCache;
     private WebClient webClient;
 
     private static final String JWKS_CACHE_KEY = "jwks";
-    private static final Duration CACHE_DURATION = Duration.ofMinutes(5);
 
     @PostConstruct
     public void init() {
         this.webClient = webClientBuilder.build();
+
+        Duration ttl = jwtProperties.getJwksCacheTtl();
+        Duration refreshAhead = jwtProperties.getJwksRefreshAhead();
+        if (refreshAhead.isNegative() || refreshAhead.compareTo(ttl) >= 0) {
+            throw new IllegalStateException("gateway.jwt.jwks-refresh-ahead (" + refreshAhead
+                    + ") must be zero or more and less than gateway.jwt.jwks-cache-ttl (" + ttl + ")");
+        }
         this.jwksCache = Caffeine.newBuilder()
-                .expireAfterWrite(CACHE_DURATION.toMinutes(), TimeUnit.MINUTES)
-                .maximumSize(10)
+                .expireAfterWrite(ttl)
+                .refreshAfterWrite(ttl.minus(refreshAhead))
+                .maximumSize(1)
+                .buildAsync(new JwksLoader());
+
+        this.tokenCache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getTokenCacheMaxSize())
+                .expireAfter(new TokenExpiry(jwtProperties.getTokenCacheMaxTtl()))
                 .build();
+
         log.info("JWKS Service initialized. JWKS URI: {}", jwtProperties.getJwksUri());
     }
 
@@ -61,80 +88,73 @@ public class JwksService {
      * Fetch JWKS from Auth Service (with caching)
      */
     public Mono<JWKSet> getJwks() {
-        JWKSet cachedJwks = jwksCache.getIfPresent(JWKS_CACHE_KEY);
-        if (cachedJwks != null) {
-            log.debug("Using cached JWKS");
-            return Mono.just(cachedJwks);
-        }
-
-        log.info("Fetching JWKS from: {}", jwtProperties.getJwksUri());
-        return webClient.get()
-                .uri(jwtProperties.getJwksUri())
-                .retrieve()
-                .bodyToMono(String.class)
-                .map(this::parseJwks)
-                .doOnNext(jwkSet -> {
-                    jwksCache.put(JWKS_CACHE_KEY, jwkSet);
-                    log.info("JWKS cached. Keys count: {}", jwkSet.getKeys().size());
-                })
-                .doOnError(e -> log.error("Failed to fetch JWKS: {}", e.getMessage()));
+        return getKeys().map(KeySnapshot::jwkSet);
     }
 
     /**
      * Validate a JWT token using JWKS
      */
     public Mono<TokenValidationResult> validateToken(String token) {
-        return getJwks()
-                .map(jwkSet -> validateTokenWithJwks(token, jwkSet))
-                .onErrorReturn(new TokenValidationResult(false, null, null, null, "Failed to fetch JWKS"));
+        String tokenHash = hash(token);
+        VerifiedToken cached = tokenCache.getIfPresent(tokenHash);
+        if (cached != null) {
+            return Mono.just(cached.result());
+        }
+
+        SignedJWT signedJWT;
+        try {
+            signedJWT = SignedJWT.parse(token);
+        } catch (ParseException e) {
+            log.error("Failed to parse JWT: {}", e.getMessage());
+            return Mono.just(invalid("Invalid token format"));
+        }
+
+        // Get key ID from token header
+        String keyId = signedJWT.getHeader().getKeyID();
+        if (keyId == null) {
+            log.warn("Token has no key ID in header");
+            return Mono.just(invalid("Token has no key ID"));
+        }
+
+        return getKeys()
+                .flatMap(keys -> keys.jwkSet().getKeyByKeyId(keyId) == null && canForceRefresh(keys)
+                        ? refreshKeys(keyId)
+                        : Mono.just(keys))
+                .map(keys -> validateTokenWithKeys(signedJWT, keyId, tokenHash, keys))
+                .onErrorReturn(invalid("Failed to fetch JWKS"));
     }
 
     /**
-     * Validate token with the provided JWKS
+     * Validate token with the provided key snapshot; valid tokens are added to the token cache.
      */
-    private TokenValidationResult validateTokenWithJwks(String token, JWKSet jwkSet) {
+    private TokenValidationResult validateTokenWithKeys(SignedJWT signedJWT, String keyId, String tokenHash,
+                                                        KeySnapshot keys) {
         try {
-            SignedJWT signedJWT = SignedJWT.parse(token);
-            JWSHeader header = signedJWT.getHeader();
-            
-            // Get key ID from token header
-            String keyId = header.getKeyID();
-            if (keyId == null) {
-                log.warn("Token has no key ID in header");
-                return new TokenValidationResult(false, null, null, null, "Token has no key ID");
-            }
-
             // Find the key in JWKS
-            JWK jwk = jwkSet.getKeyByKeyId(keyId);
-            if (jwk == null) {
-                log.warn("Key ID {} not found in JWKS", keyId);
-                return new TokenValidationResult(false, null, null, null, "Key not found in JWKS");
-            }
-
-            // Verify it's an RSA key
-            if (!(jwk instanceof RSAKey)) {
+            JWSVerifier verifier = keys.verifiers().get(keyId);
+            if (verifier == null) {
+                if (keys.jwkSet().getKeyByKeyId(keyId) == null) {
+                    log.warn("Key ID {} not found in JWKS", keyId);
+                    return invalid("Key not found in JWKS");
+                }
                 log.warn("Key {} is not an RSA key", keyId);
-                return new TokenValidationResult(false, null, null, null, "Invalid key type");
+                return invalid("Invalid key type");
             }
 
-            RSAKey rsaKey = (RSAKey) jwk;
-            RSAPublicKey publicKey = rsaKey.toRSAPublicKey();
-            
             // Verify signature
-            JWSVerifier verifier = new RSASSAVerifier(publicKey);
             if (!signedJWT.verify(verifier)) {
                 log.warn("Token signature verification failed");
-                return new TokenValidationResult(false, null, null, null, "Invalid signature");
+                return invalid("Invalid signature");
             }
 
             // Get claims
             JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
-            
+
             // Verify expiration
             Date expirationTime = claims.getExpirationTime();
             if (expirationTime == null || expirationTime.before(Date.from(Instant.now()))) {
                 log.warn("Token has expired");
-                return new TokenValidationResult(false, null, null, null, "Token expired");
+                return invalid("Token expired");
             }
 
             // Extract user information
@@ -143,16 +163,69 @@ public class JwksService {
             @SuppressWarnings("unchecked")
             List<String> roles = (List<String>) claims.getClaim("roles");
 
+            TokenValidationResult result = new TokenValidationResult(true, userId, username, roles, null);
+            tokenCache.put(tokenHash, new VerifiedToken(result, expirationTime.toInstant()));
+
             log.debug("Token validated successfully for user: {}", username);
-            return new TokenValidationResult(true, userId, username, roles, null);
+            return result;
 
         } catch (ParseException e) {
             log.error("Failed to parse JWT: {}", e.getMessage());
-            return new TokenValidationResult(false, null, null, null, "Invalid token format");
+            return invalid("Invalid token format");
         } catch (JOSEException e) {
             log.error("Failed to verify JWT: {}", e.getMessage());
-            return new TokenValidationResult(false, null, null, null, "Verification failed");
+            return invalid("Verification failed");
+        }
+    }
+
+    private Mono<KeySnapshot> getKeys() {
+        // suppressCancel: the load is shared, one cancelled request must not abort it for the others
+        return Mono.fromFuture(jwksCache.get(JWKS_CACHE_KEY), true);
+    }
+
+    /**
+     * Refresh the JWKS because a token referenced an unknown key ID (e.g. right after key rotation).
+     * Concurrent refreshes are coalesced by the cache.
+     */
+    private Mono<KeySnapshot> refreshKeys(String keyId) {
+        log.info("Key ID {} not in cached JWKS, refreshing", keyId);
+        return Mono.fromFuture(jwksCache.synchronous().refresh(JWKS_CACHE_KEY), true);
+    }
+
+    private boolean canForceRefresh(KeySnapshot keys) {
+        return keys.fetchedAt().plus(jwtProperties.getJwksMinRefreshInterval()).isBefore(Instant.now());
+    }
+
+    private CompletableFuture<KeySnapshot> fetchKeys() {
+        log.info("Fetching JWKS from: {}", jwtProperties.getJwksUri());
+        return webClient.get()
+                .uri(jwtProperties.getJwksUri())
+                .retrieve()
+                .bodyToMono(String.class)
+                .map(this::parseJwks)
+                .map(this::toSnapshot)
+                .doOnNext(keys -> log.info("JWKS cached. Keys count: {}", keys.jwkSet().getKeys().size()))
+                .doOnError(e -> log.error("Failed to fetch JWKS: {}", e.getMessage()))
+                .toFuture();
+    }
+
+    /**
+     * Build one verifier per RSA key up front so that validation does not rebuild
+     * the public key and verifier on every request.
+     */
+    private KeySnapshot toSnapshot(JWKSet jwkSet) {
+        Map<String, JWSVerifier> verifiers = new HashMap<>();
+        for (JWK jwk : jwkSet.getKeys()) {
+            if (jwk.getKeyID() == null || !(jwk instanceof RSAKey rsaKey)) {
+                continue;
+            }
+            try {
+                verifiers.put(jwk.getKeyID(), new RSASSAVerifier(rsaKey.toRSAPublicKey()));
+            } catch (JOSEException e) {
+                log.warn("Skipping unusable RSA key {}: {}", jwk.getKeyID(), e.getMessage());
+            }
         }
+        return new KeySnapshot(jwkSet, Map.copyOf(verifiers), Instant.now());
     }
 
     /**
@@ -167,14 +240,80 @@ public class JwksService {
         }
     }
 
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static TokenValidationResult invalid(String errorMessage) {
+        return new TokenValidationResult(false, null, null, null, errorMessage);
+    }
+
     /**
      * Clear the JWKS cache (useful for key rotation)
      */
     public void clearCache() {
-        jwksCache.invalidateAll();
+        jwksCache.synchronous().invalidateAll();
+        tokenCache.invalidateAll();
         log.info("JWKS cache cleared");
     }
 
+    /**
+     * Loads the JWKS. On refresh, tokens verified with a key that has since been
+     * removed from the set are dropped from the token cache.
+     */
+    private class JwksLoader implements AsyncCacheLoader<String, KeySnapshot> {
+
+        @Override
+        public CompletableFuture<KeySnapshot> asyncLoad(String key, Executor executor) {
+            return fetchKeys();
+        }
+
+        @Override
+        public CompletableFuture<KeySnapshot> asyncReload(String key, KeySnapshot oldValue, Executor executor) {
+            return fetchKeys().thenApply(keys -> {
+                if (!keys.verifiers().keySet().containsAll(oldValue.verifiers().keySet())) {
+                    log.info("Signing keys were removed from JWKS, clearing verified token cache");
+                    tokenCache.invalidateAll();
+                }
+                return keys;
+            });
+        }
+    }
+
+    /**
+     * Expires a verified token at its own {@code exp}, but never later than {@code maxTtl}.
+     */
+    private record TokenExpiry(Duration maxTtl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration untilExpiry = Duration.between(Instant.now(), value.expiresAt());
+            if (untilExpiry.isNegative()) {
+                return 0;
+            }
+            return (untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private record KeySnapshot(JWKSet jwkSet, Map<String, JWSVerifier> verifiers, Instant fetchedAt) {}
+
+    private record VerifiedToken(TokenValidationResult result, Instant expiresAt) {}
+
     /**
      * Result of token validation
      */
@@ -186,4 +325,3 @@ public class JwksService {
             String errorMessage
     ) {}
 }
-
@@ -0,0 +1,182 @@
+package com.krushikranti.gateway.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.krushikranti.gateway.config.GatewayJwtProperties;
+import com.krushikranti.gateway.filter.JwtAuthenticationFilter;
+import com.krushikranti.gateway.routing.PathPrefixMatcher;
+import com.krushikranti.gateway.service.JwksService;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.adapter.DefaultServerWebExchange;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.i18n.LocaleContextResolver;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+import org.springframework.web.server.session.WebSessionManager;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link JwtAuthenticationFilter} under a mix of public paths,
+ * authenticated calls from a pool of users and unauthenticated calls.
+ * JWKS is served from an in-memory exchange function, so no network is involved.
+ *
+ * <p>Run with the {@link #main} method (IDE) after {@code mvn test-compile -pl api-gateway -am}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    /** Same list as application.yml. */
+    private static final List<String> SKIP_PATHS = List.of(
+            "/auth/login", "/auth/register", "/auth/verify-otp", "/auth/request-login-otp",
+            "/auth/get-otp", "/auth/resend-otp", "/.well-known", "/actuator/health");
+
+    private static final List<String> PUBLIC_PATHS = List.of(
+            "/auth/login", "/auth/request-login-otp", "/.well-known/jwks.json", "/actuator/health");
+
+    private static final List<String> PROTECTED_PATHS = List.of(
+            "/farmer/profile", "/farmer/farms/12", "/admin/farmers", "/field-officer/assignments",
+            "/kyc/status", "/subscription/status", "/admin/field-officers/3/assignments");
+
+    private static final int USERS = 50;
+
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    // Shared so that the benchmark measures the filter, not exchange/codec construction
+    private static final WebSessionManager SESSION_MANAGER = new DefaultWebSessionManager();
+    private static final ServerCodecConfigurer CODECS = ServerCodecConfigurer.create();
+    private static final LocaleContextResolver LOCALE_RESOLVER = new AcceptHeaderLocaleContextResolver();
+
+    private JwtAuthenticationFilter filter;
+    private PathPrefixMatcher<Boolean> skipPathMatcher;
+    private MockServerHttpRequest[] requests;
+    private String[] paths;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.ERROR);
+
+        RSAKey signingKey = new RSAKeyGenerator(2048).keyID("benchmark-key").generate();
+        String jwksJson = new JWKSet(signingKey.toPublicJWK()).toString();
+        WebClient.Builder webClientBuilder = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(jwksJson)
+                        .build()));
+
+        GatewayJwtProperties properties = new GatewayJwtProperties();
+        properties.setSkipPaths(SKIP_PATHS);
+        properties.setJwksUri("http://auth-service/.well-known/jwks.json");
+
+        JwksService jwksService = new JwksService(properties, webClientBuilder);
+        jwksService.init();
+        filter = new JwtAuthenticationFilter(properties, jwksService);
+        filter.init();
+
+        PathPrefixMatcher.Builder<Boolean> builder = PathPrefixMatcher.builder();
+        SKIP_PATHS.forEach(skipPath -> builder.addPrefix(skipPath, Boolean.TRUE));
+        skipPathMatcher = builder.build();
+
+        List<String> tokens = new ArrayList<>();
+        for (int userId = 1; userId <= USERS; userId++) {
+            tokens.add(sign(signingKey, userId));
+        }
+
+        // Roughly 30% public, 65% authenticated, 5% missing token
+        List<MockServerHttpRequest> mix = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int bucket = i % 20;
+            if (bucket < 6) {
+                mix.add(MockServerHttpRequest.post(PUBLIC_PATHS.get(i % PUBLIC_PATHS.size())).build());
+            } else if (bucket < 19) {
+                mix.add(MockServerHttpRequest.get(PROTECTED_PATHS.get(i % PROTECTED_PATHS.size()))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get(i % USERS))
+                        .build());
+            } else {
+                mix.add(MockServerHttpRequest.get(PROTECTED_PATHS.get(i % PROTECTED_PATHS.size())).build());
+            }
+        }
+        requests = mix.toArray(new MockServerHttpRequest[0]);
+        paths = mix.stream().map(request -> request.getURI().getPath()).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public Object filterMixedPaths() {
+        MockServerHttpRequest request = requests[next++ % requests.length];
+        DefaultServerWebExchange exchange = new DefaultServerWebExchange(
+                request, new MockServerHttpResponse(), SESSION_MANAGER, CODECS, LOCALE_RESOLVER);
+        filter.filter(exchange, CHAIN).block();
+        return exchange.getResponse().getStatusCode();
+    }
+
+    @Benchmark
+    public boolean skipPathTrie() {
+        return skipPathMatcher.matches(paths[next++ % paths.length]);
+    }
+
+    /** The previous implementation of shouldSkipPath, without its debug logging. */
+    @Benchmark
+    public boolean skipPathStreamBaseline() {
+        String path = paths[next++ % paths.length];
+        return SKIP_PATHS.stream().anyMatch(path::startsWith);
+    }
+
+    private static String sign(RSAKey signingKey, int userId) throws Exception {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject(String.valueOf(userId))
+                .claim("username", "user" + userId)
+                .claim("roles", List.of("FARMER"))
+                .expirationTime(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+                .build();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(signingKey));
+        return jwt.serialize();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
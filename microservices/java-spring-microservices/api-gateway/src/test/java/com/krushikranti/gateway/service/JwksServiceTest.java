@@ -0,0 +1,228 @@
+package com.krushikranti.gateway.service;
+
+import com.krushikranti.gateway.config.GatewayJwtProperties;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Serves the JWKS from an in-memory exchange function that counts fetches.
+ */
+@DisplayName("JwksService Unit Tests")
+class JwksServiceTest {
+
+    private static RSAKey currentKey;
+    private static RSAKey nextKey;
+
+    private final AtomicInteger fetches = new AtomicInteger();
+    private volatile JWKSet served;
+    private volatile Sinks.One<String> pendingResponse;
+
+    private GatewayJwtProperties properties;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        currentKey = new RSAKeyGenerator(2048).keyID("current").generate();
+        nextKey = new RSAKeyGenerator(2048).keyID("next").generate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        served = new JWKSet(currentKey.toPublicJWK());
+        properties = new GatewayJwtProperties();
+        properties.setJwksUri("http://auth-service/.well-known/jwks.json");
+    }
+
+    @Test
+    @DisplayName("Key cache - JWKS is fetched once for any number of tokens")
+    void validateToken_KnownKey_FetchesJwksOnce() throws Exception {
+        // Given
+        JwksService jwksService = jwksService();
+
+        // When
+        for (int userId = 1; userId <= 5; userId++) {
+            JwksService.TokenValidationResult result = jwksService.validateToken(sign(currentKey, userId)).block();
+
+            // Then
+            assertThat(result.valid()).isTrue();
+            assertThat(result.userId()).isEqualTo(String.valueOf(userId));
+            assertThat(result.roles()).containsExactly("FARMER");
+        }
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Key cache - clearing the cache makes the next request fetch again")
+    void clearCache_NextRequestFetchesAgain() throws Exception {
+        // Given
+        JwksService jwksService = jwksService();
+        String token = sign(currentKey, 1);
+        assertThat(jwksService.validateToken(token).block().valid()).isTrue();
+
+        // When
+        jwksService.clearCache();
+
+        // Then
+        assertThat(jwksService.validateToken(token).block().valid()).isTrue();
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Single flight - concurrent cache misses share one JWKS fetch")
+    void validateToken_ConcurrentMisses_SingleFetch() throws Exception {
+        // Given
+        pendingResponse = Sinks.one();
+        JwksService jwksService = jwksService();
+        List<CompletableFuture<JwksService.TokenValidationResult>> results = new ArrayList<>();
+
+        // When
+        for (int userId = 1; userId <= 20; userId++) {
+            results.add(jwksService.validateToken(sign(currentKey, userId)).toFuture());
+        }
+        assertThat(results).noneMatch(CompletableFuture::isDone);
+        pendingResponse.tryEmitValue(served.toString());
+
+        // Then
+        assertThat(results).allSatisfy(result -> assertThat(result.join().valid()).isTrue());
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Forced refresh - unknown key ID refreshes the JWKS after the minimum interval")
+    void validateToken_UnknownKeyAfterRotation_RefreshesJwks() throws Exception {
+        // Given
+        properties.setJwksMinRefreshInterval(Duration.ofMillis(50));
+        JwksService jwksService = jwksService();
+        assertThat(jwksService.validateToken(sign(currentKey, 1)).block().valid()).isTrue();
+        served = new JWKSet(List.of(currentKey.toPublicJWK(), nextKey.toPublicJWK()));
+        Thread.sleep(100);
+
+        // When
+        JwksService.TokenValidationResult result = jwksService.validateToken(sign(nextKey, 2)).block();
+
+        // Then
+        assertThat(result.valid()).isTrue();
+        assertThat(fetches).hasValue(2);
+        assertThat(jwksService.validateToken(sign(nextKey, 3)).block().valid()).isTrue();
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Forced refresh - unknown key IDs within the minimum interval do not refetch")
+    void validateToken_UnknownKeyWithinInterval_RateLimited() throws Exception {
+        // Given
+        properties.setJwksMinRefreshInterval(Duration.ofHours(1));
+        JwksService jwksService = jwksService();
+        assertThat(jwksService.validateToken(sign(currentKey, 1)).block().valid()).isTrue();
+        served = new JWKSet(List.of(currentKey.toPublicJWK(), nextKey.toPublicJWK()));
+
+        // When
+        List<JwksService.TokenValidationResult> results = new ArrayList<>();
+        for (int userId = 2; userId <= 6; userId++) {
+            results.add(jwksService.validateToken(sign(nextKey, userId)).block());
+        }
+
+        // Then
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.valid()).isFalse();
+            assertThat(result.errorMessage()).isEqualTo("Key not found in JWKS");
+        });
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Forced refresh - a refresh that still lacks the key is not repeated within the interval")
+    void validateToken_UnknownKeyAfterRefresh_NotRefreshedAgain() throws Exception {
+        // Given
+        properties.setJwksMinRefreshInterval(Duration.ofMillis(500));
+        JwksService jwksService = jwksService();
+        assertThat(jwksService.validateToken(sign(currentKey, 1)).block().valid()).isTrue();
+        Thread.sleep(600);
+
+        // When
+        JwksService.TokenValidationResult first = jwksService.validateToken(sign(nextKey, 2)).block();
+        JwksService.TokenValidationResult second = jwksService.validateToken(sign(nextKey, 3)).block();
+
+        // Then
+        assertThat(first.valid()).isFalse();
+        assertThat(second.valid()).isFalse();
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Validation - token without key ID is rejected without fetching the JWKS")
+    void validateToken_NoKeyId_RejectedWithoutFetch() throws Exception {
+        // Given
+        JwksService jwksService = jwksService();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims(1));
+        jwt.sign(new RSASSASigner(currentKey));
+
+        // When
+        JwksService.TokenValidationResult result = jwksService.validateToken(jwt.serialize()).block();
+
+        // Then
+        assertThat(result.valid()).isFalse();
+        assertThat(result.errorMessage()).isEqualTo("Token has no key ID");
+        assertThat(fetches).hasValue(0);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private JwksService jwksService() {
+        WebClient.Builder webClientBuilder = WebClient.builder().exchangeFunction(request -> {
+            fetches.incrementAndGet();
+            Sinks.One<String> pending = pendingResponse;
+            Mono<String> body = pending != null ? pending.asMono() : Mono.fromSupplier(() -> served.toString());
+            return body.map(json -> ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(json)
+                    .build());
+        });
+        JwksService jwksService = new JwksService(properties, webClientBuilder);
+        jwksService.init();
+        return jwksService;
+    }
+
+    private static String sign(RSAKey signingKey, int userId) throws Exception {
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims(userId));
+        jwt.sign(new RSASSASigner(signingKey));
+        return jwt.serialize();
+    }
+
+    private static JWTClaimsSet claims(int userId) {
+        return new JWTClaimsSet.Builder()
+                .subject(String.valueOf(userId))
+                .claim("username", "user" + userId)
+                .claim("roles", List.of("FARMER"))
+                .expirationTime(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+                .build();
+    }
+}
@@ -1,61 +1,172 @@
 package com.krushikranti.auth.config;
 
+import com.krushikranti.auth.service.SigningKeyStore;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
 import com.nimbusds.jose.jwk.RSAKey;
 import jakarta.annotation.PostConstruct;
-import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.NoSuchAlgorithmException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
-import java.util.UUID;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * RSA Key Provider for JWT signing and verification.
- * Generates an RSA key pair on startup for signing JWTs.
- * The public key is exposed via JWKS endpoint for token validation.
+ *
+ * <p>Keys are shared by all auth-service instances, so any instance can verify a token signed by
+ * another and the JWKS is the same everywhere. With {@code jwt.keys.source=database} (default) keys
+ * live in the {@code signing_keys} table and rotate every {@code jwt.keys.rotation-interval}; with
+ * {@code keystore} they are read from a PKCS#12 file, and a key signs from its certificate's
+ * not-before date. Keys are reloaded every {@code jwt.keys.refresh-interval}.
+ *
+ * <p>The JWKS holds the signing key, the next key ahead of its activation, and replaced keys until
+ * the tokens they signed have expired.
  */
 @Component
 @Slf4j
-@Getter
+@RequiredArgsConstructor
 public class RsaKeyProvider {
 
-    private RSAPublicKey publicKey;
-    private RSAPrivateKey privateKey;
-    private String keyId;
+    private final SigningKeyStore signingKeyStore;
 
-    @Value("${jwt.rsa.key-size:2048}")
-    private int keySize;
+    @Value("${jwt.keys.source:database}")
+    private String source = "database";
+
+    @Value("${jwt.keys.keystore.path:}")
+    private String keystorePath;
+
+    @Value("${jwt.keys.keystore.password:}")
+    private String keystorePassword;
+
+    @Value("${jwt.keys.keystore.type:PKCS12}")
+    private String keystoreType = "PKCS12";
+
+    @Value("${jwt.expiration}")
+    private long tokenExpirationMillis;
+
+    /** Extra time a replaced key stays published, for clock skew between instances. */
+    @Value("${jwt.keys.verify-grace:PT5M}")
+    private Duration verifyGrace = Duration.ofMinutes(5);
+
+    private volatile SigningKeyRing ring = new SigningKeyRing(List.of());
 
     @PostConstruct
     public void init() {
+        reload();
+        if (ring.keys().isEmpty()) {
+            throw new IllegalStateException("No RSA signing keys available from " + source);
+        }
+    }
+
+    /**
+     * Reload keys, rotating them when due. On failure the previously loaded keys stay in use.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.refresh-interval:PT5M}",
+            initialDelayString = "${jwt.keys.refresh-interval:PT5M}")
+    public void reload() {
         try {
-            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
-            keyPairGenerator.initialize(keySize);
-            KeyPair keyPair = keyPairGenerator.generateKeyPair();
-            
-            this.publicKey = (RSAPublicKey) keyPair.getPublic();
-            this.privateKey = (RSAPrivateKey) keyPair.getPrivate();
-            this.keyId = UUID.randomUUID().toString();
-            
-            log.info("RSA key pair generated successfully. Key ID: {}", keyId);
-        } catch (NoSuchAlgorithmException e) {
-            log.error("Failed to generate RSA key pair", e);
-            throw new RuntimeException("Failed to initialize RSA keys", e);
+            SigningKeyRing loaded = "keystore".equalsIgnoreCase(source)
+                    ? loadKeystore()
+                    : signingKeyStore.loadAndRotate(Instant.now(), retention());
+            if (loaded.keys().isEmpty()) {
+                log.error("No usable RSA signing keys loaded from {}, keeping current keys", source);
+                return;
+            }
+            this.ring = loaded;
+            log.info("RSA signing keys loaded from {}. Signing key ID: {}, published keys: {}", source,
+                    getKeyId(), ring.published(Instant.now(), retention()).size());
+        } catch (RuntimeException e) {
+            log.error("Failed to load RSA signing keys from {}, keeping current keys: {}", source, e.getMessage(), e);
         }
     }
 
     /**
-     * Get the RSA public key in JWK format for JWKS endpoint
+     * The key that signs new tokens now.
      */
-    public RSAKey getJwk() {
-        return new RSAKey.Builder(publicKey)
-                .keyID(keyId)
-                .build();
+    public SigningKeyRing.Key getSigningKey() {
+        return ring.signingKey(Instant.now())
+                .orElseThrow(() -> new IllegalStateException("No RSA signing key available"));
+    }
+
+    public String getKeyId() {
+        return getSigningKey().keyId();
+    }
+
+    /**
+     * Public key of a published key, for verifying tokens signed by any instance.
+     */
+    public Optional<RSAPublicKey> getPublicKey(String keyId) {
+        if (keyId == null) {
+            return Optional.empty();
+        }
+        Instant now = Instant.now();
+        return ring.published(now, retention()).stream()
+                .filter(key -> key.keyId().equals(keyId))
+                .map(SigningKeyRing.Key::publicKey)
+                .findFirst();
+    }
+
+    /**
+     * Get the published RSA public keys in JWK format for JWKS endpoint
+     */
+    public JWKSet getJwkSet() {
+        List<JWK> jwks = new ArrayList<>();
+        for (SigningKeyRing.Key key : ring.published(Instant.now(), retention())) {
+            jwks.add(new RSAKey.Builder(key.publicKey())
+                    .keyID(key.keyId())
+                    .keyUse(KeyUse.SIGNATURE)
+                    .build());
+        }
+        return new JWKSet(jwks);
     }
-}
 
+    // ==================== Helper Methods ====================
+
+    private Duration retention() {
+        return Duration.ofMillis(tokenExpirationMillis).plus(verifyGrace);
+    }
+
+    private SigningKeyRing loadKeystore() {
+        if (keystorePath == null || keystorePath.isBlank()) {
+            throw new IllegalStateException("jwt.keys.keystore.path is required when jwt.keys.source=keystore");
+        }
+        char[] password = keystorePassword.toCharArray();
+        try (InputStream in = Files.newInputStream(Path.of(keystorePath))) {
+            KeyStore keyStore = KeyStore.getInstance(keystoreType);
+            keyStore.load(in, password);
+
+            List<SigningKeyRing.Key> keys = new ArrayList<>();
+            for (String alias : Collections.list(keyStore.aliases())) {
+                if (!keyStore.isKeyEntry(alias)
+                        || !(keyStore.getKey(alias, password) instanceof RSAPrivateKey privateKey)
+                        || !(keyStore.getCertificate(alias) instanceof X509Certificate certificate)
+                        || !(certificate.getPublicKey() instanceof RSAPublicKey publicKey)) {
+                    log.warn("Skipping keystore entry {}: not an RSA key pair with an X.509 certificate", alias);
+                    continue;
+                }
+                keys.add(new SigningKeyRing.Key(alias, publicKey, privateKey, certificate.getNotBefore().toInstant()));
+            }
+            return new SigningKeyRing(keys);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to read keystore " + keystorePath + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.krushikranti.auth.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -19,7 +20,7 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/auth/**", "/actuator/**", "/.well-known/**")
+                        .requestMatchers("/auth/**", "/actuator/**", "/.well-known/**", "/sms-stub/**")
                         .permitAll()
                         .anyRequest()
                         .authenticated()
@@ -28,9 +29,12 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * BCrypt with a configurable cost; existing hashes with a lower cost are upgraded on login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
 
@@ -0,0 +1,89 @@
+package com.krushikranti.auth.config;
+
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable set of RSA signing keys ordered by activation time.
+ *
+ * <p>At any moment the key that activated last signs new tokens. A key that has not activated yet
+ * (the next key) is already published, so verifiers have it before the first token signed with it
+ * appears. A replaced key stays published for {@code retention} after its successor activated, so
+ * tokens it signed remain verifiable until they expire.
+ */
+public record SigningKeyRing(List<Key> keys) {
+
+    public record Key(String keyId, RSAPublicKey publicKey, RSAPrivateKey privateKey, Instant activatesAt) {
+    }
+
+    public SigningKeyRing {
+        keys = keys.stream().sorted(Comparator.comparing(Key::activatesAt)).toList();
+    }
+
+    /**
+     * The key that signs tokens at the given time: the last one activated, or the earliest key if
+     * none has activated yet.
+     */
+    public Optional<Key> signingKey(Instant now) {
+        Key signing = null;
+        for (Key key : keys) {
+            if (signing != null && key.activatesAt().isAfter(now)) {
+                break;
+            }
+            signing = key;
+        }
+        return Optional.ofNullable(signing);
+    }
+
+    /**
+     * Keys to publish in the JWKS: the signing key, next keys, and replaced keys whose successor
+     * activated less than {@code retention} ago.
+     */
+    public List<Key> published(Instant now, Duration retention) {
+        List<Key> published = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (!isExpired(i, now, retention)) {
+                published.add(keys.get(i));
+            }
+        }
+        return published;
+    }
+
+    /**
+     * Replaced keys that no token still in circulation can have been signed with.
+     */
+    public List<Key> expired(Instant now, Duration retention) {
+        List<Key> expired = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (isExpired(i, now, retention)) {
+                expired.add(keys.get(i));
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Latest activation time among all keys, including next keys.
+     */
+    public Optional<Instant> lastActivation() {
+        return keys.isEmpty() ? Optional.empty() : Optional.of(keys.get(keys.size() - 1).activatesAt());
+    }
+
+    public Optional<Key> find(String keyId) {
+        return keys.stream().filter(key -> key.keyId().equals(keyId)).findFirst();
+    }
+
+    private boolean isExpired(int index, Instant now, Duration retention) {
+        if (index + 1 >= keys.size()) {
+            return false;
+        }
+        Instant replacedAt = keys.get(index + 1).activatesAt();
+        return !replacedAt.plus(retention).isAfter(now);
+    }
+}
@@ -2,8 +2,11 @@ package com.krushikranti.auth.controller;
 
 import com.krushikranti.auth.dto.*;
 import com.krushikranti.auth.dto.AdminCreateUserRequest;
+import com.krushikranti.auth.exception.OtpThrottledException;
 import com.krushikranti.auth.model.User;
 import com.krushikranti.auth.service.AuthService;
+import com.krushikranti.auth.service.JwtService;
+import com.krushikranti.auth.service.RefreshTokenService;
 import com.krushikranti.i18n.constants.MessageKeys;
 import com.krushikranti.i18n.service.MessageService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +27,8 @@ public class AuthController {
 
     private final AuthService authService;
     private final MessageService messageService;
+    private final RefreshTokenService refreshTokenService;
+    private final JwtService jwtService;
 
     @PostMapping("/register")
     public ResponseEntity<?> register(@Valid @RequestBody RegisterRequest request, HttpServletRequest httpRequest) {
@@ -75,25 +80,30 @@ public class AuthController {
         }
 
         User user = userOpt.get();
-        String token = authService.generateToken(user);
-
-        UserInfo userInfo = UserInfo.builder()
-                .id(user.getId())
-                .username(user.getUsername())
-                .email(user.getEmail())
-                .phoneNumber(user.getPhoneNumber())
-                .role(user.getRole().name())
-                .isVerified(user.getIsVerified())
-                .build();
+        return ResponseEntity.ok(authResponse(user, refreshTokenService.issue(user)));
+    }
 
-        AuthResponse authResponse = AuthResponse.builder()
-                .accessToken(token)
-                .tokenType("Bearer")
-                .expiresIn(86400L) // 24 hours in seconds
-                .user(userInfo)
-                .build();
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token.
+     * Each refresh token works once; reusing one revokes all tokens from the same login.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate(request.getRefreshToken());
+        if (rotation.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new ApiResponse<>("Invalid or expired refresh token. Please log in again.", null));
+        }
+        return ResponseEntity.ok(authResponse(rotation.get().user(), rotation.get().refreshToken()));
+    }
 
-        return ResponseEntity.ok(authResponse);
+    /**
+     * Revoke a refresh token and every token from the same login.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        return ResponseEntity.ok(new ApiResponse<>("Logged out", null));
     }
 
     @PostMapping("/request-login-otp")
@@ -138,27 +148,7 @@ public class AuthController {
         return ResponseEntity.ok("Auth Service is running");
     }
 
-    // Test endpoint: Get OTP (for testing purposes only)
-    @GetMapping("/get-otp/{phoneNumber}")
-    public ResponseEntity<?> getOtp(@PathVariable String phoneNumber) {
-        try {
-            String otp = authService.getOtpForPhone(phoneNumber);
-            if (otp == null) {
-                return ResponseEntity.badRequest()
-                        .body(new ApiResponse<>("No OTP found for this phone number. OTP may have expired or was not generated.", null));
-            }
-            
-            // For testing purposes only - return OTP in response
-            return ResponseEntity.ok(new ApiResponse<>(
-                    "OTP retrieved successfully. For testing only: " + otp, 
-                    otp));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(new ApiResponse<>(e.getMessage(), null));
-        }
-    }
-
-    // Test endpoint: Resend OTP (for testing purposes only)
+    // Resend OTP to a registered phone number
     @PostMapping("/resend-otp")
     public ResponseEntity<?> resendOtp(@Valid @RequestBody ResendOtpRequest request) {
         try {
@@ -168,14 +158,12 @@ public class AuthController {
                         .body(new ApiResponse<>("User not found", null));
             }
 
-            // Generate new OTP
-            String otp = authService.generateOtpForPhone(request.getPhoneNumber());
-            
-            // In production, send OTP via SMS
-            // For testing, return it in response (ONLY FOR DEVELOPMENT!)
-            return ResponseEntity.ok(new ApiResponse<>(
-                    "OTP generated successfully. For testing: " + otp, 
-                    null));
+            // Generate a new OTP; it is delivered by SMS only
+            authService.generateOtpForPhone(request.getPhoneNumber());
+
+            return ResponseEntity.ok(new ApiResponse<>("OTP sent successfully", null));
+        } catch (OtpThrottledException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse<>(e.getMessage(), null));
@@ -300,5 +288,23 @@ public class AuthController {
                     .body(new ApiResponse<>("Invalid user ID format", null));
         }
     }
-}
 
+    private AuthResponse authResponse(User user, String refreshToken) {
+        UserInfo userInfo = UserInfo.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .phoneNumber(user.getPhoneNumber())
+                .role(user.getRole().name())
+                .isVerified(user.getIsVerified())
+                .build();
+
+        return AuthResponse.builder()
+                .accessToken(authService.generateToken(user))
+                .refreshToken(refreshToken)
+                .tokenType("Bearer")
+                .expiresIn(jwtService.getExpirationSeconds())
+                .user(userInfo)
+                .build();
+    }
+}
@@ -2,7 +2,6 @@ package com.krushikranti.auth.controller;
 
 import com.krushikranti.auth.config.RsaKeyProvider;
 import com.krushikranti.auth.service.JwtService;
-import com.nimbusds.jose.jwk.JWKSet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,13 +25,13 @@ public class JwksController {
     private final JwtService jwtService;
 
     /**
-     * Returns the JSON Web Key Set containing the RSA public key.
+     * Returns the JSON Web Key Set containing the RSA public keys: the signing key, the next key
+     * ahead of rotation and replaced keys whose tokens may still be valid.
      * This endpoint is public and used by API Gateway for token validation.
      */
     @GetMapping(value = "/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Map<String, Object>> getJwks() {
-        JWKSet jwkSet = new JWKSet(rsaKeyProvider.getJwk());
-        return ResponseEntity.ok(jwkSet.toJSONObject());
+        return ResponseEntity.ok(rsaKeyProvider.getJwkSet().toJSONObject());
     }
 
     /**
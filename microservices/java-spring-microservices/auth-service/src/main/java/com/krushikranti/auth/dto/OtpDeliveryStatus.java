@@ -0,0 +1,22 @@
+package com.krushikranti.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OtpDeliveryStatus {
+    private String messageId;
+    private String phoneNumber;
+    private String status; // SENT, RETRYING, FAILED, EXPIRED, REJECTED
+    private Integer attempts;
+    private String providerMessageId;
+    private String error;
+    private Instant updatedAt;
+}
@@ -3,6 +3,7 @@ package com.krushikranti.auth.exception;
 import com.krushikranti.auth.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -38,6 +39,21 @@ public class GlobalExceptionHandler {
                 .body(new ApiResponse<>(ex.getMessage(), null));
     }
 
+    @ExceptionHandler(OtpThrottledException.class)
+    public ResponseEntity<ApiResponse<Object>> handleOtpThrottledException(OtpThrottledException ex) {
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ApiResponse<>(ex.getMessage(), null));
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ApiResponse<Object>> handlePasswordHashingBusyException(PasswordHashingBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ApiResponse<>(ex.getMessage(), null));
+    }
+
     @ExceptionHandler(RedisConnectionFailureException.class)
     public ResponseEntity<ApiResponse<Object>> handleRedisException(RedisConnectionFailureException ex) {
         log.error("Redis connection error: {}", ex.getMessage(), ex);
@@ -0,0 +1,20 @@
+package com.krushikranti.auth.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a phone number has requested too many OTPs or is locked out after too many wrong
+ * attempts. Mapped to 429 with a Retry-After header.
+ */
+@Getter
+public class OtpThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public OtpThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,12 @@
+package com.krushikranti.auth.exception;
+
+/**
+ * Thrown when the password hashing executor is saturated. Mapped to 503 with a Retry-After header,
+ * so a burst of password logins fails fast instead of tying up request threads.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
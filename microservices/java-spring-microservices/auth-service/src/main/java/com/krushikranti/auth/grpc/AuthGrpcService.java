@@ -10,8 +10,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @GrpcService
 @RequiredArgsConstructor
@@ -21,6 +23,8 @@ public class AuthGrpcService extends AuthServiceImplBase {
     private final JwtService jwtService;
     private final UserRepository userRepository;
 
+    private static final int MAX_BATCH_SIZE = 500;
+
     @Override
     public void validateToken(TokenValidationRequest request, StreamObserver<TokenValidationResponse> responseObserver) {
         String token = request.getToken();
@@ -107,17 +111,7 @@ public class AuthGrpcService extends AuthServiceImplBase {
                 return;
             }
 
-            User user = userOpt.get();
-            List<String> roles = List.of(user.getRole().name());
-
-            UserInfoResponse response = UserInfoResponse.newBuilder()
-                    .setUserId(userId)
-                    .setUsername(user.getUsername())
-                    .setEmail(user.getEmail())
-                    .setPhoneNumber(user.getPhoneNumber())
-                    .addAllRoles(roles)
-                    .setActive(user.getIsActive())
-                    .build();
+            UserInfoResponse response = toUserInfo(userOpt.get());
 
             log.debug("Retrieved user info for userId: {}", userId);
             responseObserver.onNext(response);
@@ -133,5 +127,52 @@ public class AuthGrpcService extends AuthServiceImplBase {
                     .asRuntimeException());
         }
     }
-}
 
+    @Override
+    public void getUsersByIds(GetUsersByIdsRequest request, StreamObserver<GetUsersByIdsResponse> responseObserver) {
+        if (request.getUserIdsCount() > MAX_BATCH_SIZE) {
+            responseObserver.onError(io.grpc.Status.INVALID_ARGUMENT
+                    .withDescription("At most " + MAX_BATCH_SIZE + " user IDs per request")
+                    .asRuntimeException());
+            return;
+        }
+
+        try {
+            Set<Long> ids = new LinkedHashSet<>();
+            for (String userId : request.getUserIdsList()) {
+                ids.add(Long.parseLong(userId));
+            }
+
+            // One query for the whole batch; unknown IDs are simply absent from the response
+            GetUsersByIdsResponse.Builder response = GetUsersByIdsResponse.newBuilder();
+            for (User user : userRepository.findAllById(ids)) {
+                response.addUsers(toUserInfo(user));
+            }
+
+            log.debug("Retrieved user info for {} of {} requested users", response.getUsersCount(), ids.size());
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (NumberFormatException e) {
+            responseObserver.onError(io.grpc.Status.INVALID_ARGUMENT
+                    .withDescription("Invalid user ID format: " + e.getMessage())
+                    .asRuntimeException());
+        } catch (Exception e) {
+            log.error("Error retrieving users by IDs: {}", e.getMessage());
+            responseObserver.onError(io.grpc.Status.INTERNAL
+                    .withDescription("Internal server error")
+                    .asRuntimeException());
+        }
+    }
+
+    private UserInfoResponse toUserInfo(User user) {
+        // Protobuf setters reject null, so optional columns map to empty strings
+        return UserInfoResponse.newBuilder()
+                .setUserId(String.valueOf(user.getId()))
+                .setUsername(user.getUsername() != null ? user.getUsername() : "")
+                .setEmail(user.getEmail() != null ? user.getEmail() : "")
+                .setPhoneNumber(user.getPhoneNumber() != null ? user.getPhoneNumber() : "")
+                .addAllRoles(List.of(user.getRole().name()))
+                .setActive(Boolean.TRUE.equals(user.getIsActive()))
+                .build();
+    }
+}
@@ -23,14 +23,23 @@ public class RefreshToken {
     @Column(name = "user_id", nullable = false)
     private Long userId;
     
-    @Column(unique = true, nullable = false, length = 500)
-    private String token;
+    /** SHA-256 of the token, base64url; the token itself is never stored */
+    @Column(name = "token_hash", unique = true, nullable = false, length = 64)
+    private String tokenHash;
+
+    /** Tokens descending from the same login share a family and are revoked together */
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
     
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
     
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
+
+    /** Set when the token was exchanged; presenting it again is reuse */
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
     
     @Column(name = "is_revoked")
     @Builder.Default
@@ -41,4 +50,3 @@ public class RefreshToken {
         createdAt = LocalDateTime.now();
     }
 }
-
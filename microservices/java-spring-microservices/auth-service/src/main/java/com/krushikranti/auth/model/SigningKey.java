@@ -0,0 +1,46 @@
+package com.krushikranti.auth.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * RSA key pair used to sign JWTs. Keys are shared through the database so that every
+ * auth-service instance signs with the same key and publishes the same JWKS.
+ */
+@Entity
+@Table(name = "signing_keys")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SigningKey {
+
+    @Id
+    @Column(name = "key_id", length = 64)
+    private String keyId;
+
+    /** X.509 encoded public key, base64 */
+    @Column(name = "public_key", nullable = false, columnDefinition = "TEXT")
+    private String publicKey;
+
+    /** Encrypted PKCS#8 private key, base64 */
+    @Column(name = "private_key", nullable = false, columnDefinition = "TEXT")
+    private String privateKey;
+
+    /** From this time the key signs new tokens, until the next key activates */
+    @Column(name = "activates_at", nullable = false)
+    private LocalDateTime activatesAt;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -1,24 +1,43 @@
 package com.krushikranti.auth.repository;
 
 import com.krushikranti.auth.model.RefreshToken;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
-    
+
+    /**
+     * Find a token by hash, locking the row so that concurrent refreshes with the same token
+     * are serialized and only one of them can rotate it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Delete up to limit expired tokens.
+     *
+     * @return number of deleted rows
+     */
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < ?1 OR rt.isRevoked = true")
-    void deleteExpiredOrRevokedTokens(LocalDateTime now);
+    @Transactional
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN " +
+            "(SELECT id FROM refresh_tokens WHERE expires_at < ?1 LIMIT ?2)", nativeQuery = true)
+    int deleteExpiredBatch(LocalDateTime now, int limit);
     
     @Modifying
     @Query("UPDATE RefreshToken rt SET rt.isRevoked = true WHERE rt.userId = ?1")
     void revokeAllUserTokens(Long userId);
-}
 
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.isRevoked = true WHERE rt.familyId = ?1 AND rt.isRevoked = false")
+    int revokeFamily(String familyId);
+}
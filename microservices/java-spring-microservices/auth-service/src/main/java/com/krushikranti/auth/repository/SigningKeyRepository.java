@@ -0,0 +1,21 @@
+package com.krushikranti.auth.repository;
+
+import com.krushikranti.auth.model.SigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SigningKeyRepository extends JpaRepository<SigningKey, String> {
+
+    List<SigningKey> findAllByOrderByActivatesAtAsc();
+
+    /**
+     * Serialize key rotation across auth-service instances. The lock is released when the
+     * transaction ends.
+     */
+    @Query(value = "SELECT pg_advisory_xact_lock(?1) IS NOT NULL", nativeQuery = true)
+    boolean lockForRotation(long lockKey);
+}
@@ -2,7 +2,10 @@ package com.krushikranti.auth.repository;
 
 import com.krushikranti.auth.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -14,5 +17,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     boolean existsByPhoneNumber(String phoneNumber);
     boolean existsByUsername(String username);
+
+    /**
+     * Replace a password hash, unless the password was changed in the meantime.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.passwordHash = ?3 WHERE u.id = ?1 AND u.passwordHash = ?2")
+    int updatePasswordHash(Long userId, String currentHash, String newHash);
 }
 
@@ -5,9 +5,9 @@ import com.krushikranti.auth.model.User;
 import com.krushikranti.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,40 +18,37 @@ import java.util.Optional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
     private final OtpService otpService;
     private final RegistrationDataService registrationDataService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
     public User registerUser(String username, String email, String phoneNumber, String password, User.UserRole role) {
-        if (userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Email already exists");
-        }
-        if (userRepository.existsByPhoneNumber(phoneNumber)) {
-            throw new IllegalArgumentException("Phone number already exists");
-        }
-        if (userRepository.existsByUsername(username)) {
-            throw new IllegalArgumentException("Username already exists");
-        }
-
-        User user = User.builder()
-                .username(username)
-                .email(email)
-                .phoneNumber(phoneNumber)
-                .passwordHash(passwordEncoder.encode(password))
-                .role(role != null ? role : User.UserRole.FARMER)
-                .isActive(true)
-                .isVerified(false)
-                .build();
-
-        User savedUser = userRepository.save(user);
-        log.info("User registered: {}", savedUser.getEmail());
-        
-        // Generate and send OTP (in production, send via SMS)
-        otpService.generateOtp(phoneNumber);
-        
-        return savedUser;
+        // Hash before the transaction starts, so no database connection is held while BCrypt runs
+        String passwordHash = passwordHashingService.encode(password);
+
+        return transactionTemplate.execute(status -> {
+            checkUserDoesNotExist(email, phoneNumber, username);
+
+            User user = User.builder()
+                    .username(username)
+                    .email(email)
+                    .phoneNumber(phoneNumber)
+                    .passwordHash(passwordHash)
+                    .role(role != null ? role : User.UserRole.FARMER)
+                    .isActive(true)
+                    .isVerified(false)
+                    .build();
+
+            User savedUser = userRepository.save(user);
+            log.info("User registered: {}", savedUser.getEmail());
+
+            // Generate and send OTP (in production, send via SMS)
+            otpService.generateOtp(phoneNumber);
+
+            return savedUser;
+        });
     }
 
     public Optional<User> authenticate(String email, String password) {
@@ -73,11 +70,19 @@ public class AuthService {
             return Optional.empty();
         }
 
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+        if (!passwordHashingService.matches(password, user.getPasswordHash())) {
             log.warn("Invalid password attempt for: {}", email);
             return Optional.empty();
         }
 
+        // Hashes made with a lower BCrypt cost than configured are upgraded in the background
+        String currentHash = user.getPasswordHash();
+        passwordHashingService.rehashIfNeeded(password, currentHash, newHash -> {
+            if (userRepository.updatePasswordHash(user.getId(), currentHash, newHash) > 0) {
+                log.info("Password hash upgraded for user: {}", user.getId());
+            }
+        });
+
         return Optional.of(user);
     }
 
@@ -102,68 +107,53 @@ public class AuthService {
             throw new IllegalArgumentException("Username already exists");
         }
 
-        // Check if there's already a pending registration for this phone number
-        RegisterRequest existingData = registrationDataService.getRegistrationData(registerRequest.getPhoneNumber());
-        if (existingData != null) {
-            log.info("Registration data already exists for phone: {}, overwriting", registerRequest.getPhoneNumber());
-        }
-
-        // Store registration data temporarily in Redis
-        registrationDataService.storeRegistrationData(registerRequest.getPhoneNumber(), registerRequest);
-        
-        // Generate and send OTP
-        otpService.generateOtp(registerRequest.getPhoneNumber());
+        // Generate OTP and store registration data temporarily in Redis (one round trip),
+        // replacing any pending registration for this phone number
+        otpService.generateOtp(registerRequest.getPhoneNumber(),
+                registrationDataService.key(registerRequest.getPhoneNumber()),
+                registrationDataService.toJson(registerRequest));
         log.info("OTP sent for registration to phone: {}", registerRequest.getPhoneNumber());
     }
 
     /**
      * Verify OTP and complete registration - saves user to database with is_verified=true
      */
-    @Transactional
     public User verifyOtpAndRegister(String phoneNumber, String otp) {
-        // Verify OTP
-        if (!otpService.validateOtp(phoneNumber, otp)) {
+        // Verify OTP and take the registration data from Redis in one round trip
+        OtpService.Verification verification = otpService.validateOtp(phoneNumber, otp,
+                registrationDataService.key(phoneNumber));
+        if (!verification.valid()) {
             throw new IllegalArgumentException("Invalid OTP");
         }
 
-        // Retrieve registration data from Redis
-        RegisterRequest registerRequest = registrationDataService.getRegistrationData(phoneNumber);
+        RegisterRequest registerRequest = registrationDataService.fromJson(verification.payload());
         if (registerRequest == null) {
             throw new IllegalArgumentException("Registration data not found. Please start registration again.");
         }
 
-        // Verify again that user doesn't exist (in case registered between OTP send and verify)
-        if (userRepository.existsByEmail(registerRequest.getEmail())) {
-            registrationDataService.deleteRegistrationData(phoneNumber);
-            throw new IllegalArgumentException("Email already exists");
-        }
-        if (userRepository.existsByPhoneNumber(phoneNumber)) {
-            registrationDataService.deleteRegistrationData(phoneNumber);
-            throw new IllegalArgumentException("Phone number already exists");
-        }
-        if (userRepository.existsByUsername(registerRequest.getUsername())) {
-            registrationDataService.deleteRegistrationData(phoneNumber);
-            throw new IllegalArgumentException("Username already exists");
-        }
-
-        // Create and save user with is_verified=true
-        User user = User.builder()
-                .username(registerRequest.getUsername())
-                .email(registerRequest.getEmail())
-                .phoneNumber(phoneNumber)
-                .passwordHash(passwordEncoder.encode(registerRequest.getPassword()))
-                .role(registerRequest.getRole() != null ? registerRequest.getRole() : User.UserRole.FARMER)
-                .isActive(true)
-                .isVerified(true) // User is verified since OTP is validated
-                .build();
-
-        User savedUser = userRepository.save(user);
-        log.info("User registered and verified: {}", savedUser.getEmail());
-
-        // Clean up registration data from Redis
-        registrationDataService.deleteRegistrationData(phoneNumber);
-        
-        return savedUser;
+        // Hash before the transaction starts, as in registerUser
+        String passwordHash = passwordHashingService.encode(registerRequest.getPassword());
+
+        return transactionTemplate.execute(status -> {
+            // Verify again that user doesn't exist (in case registered between OTP send and verify)
+            checkUserDoesNotExist(registerRequest.getEmail(), phoneNumber, registerRequest.getUsername());
+
+            // Create and save user with is_verified=true
+            User user = User.builder()
+                    .username(registerRequest.getUsername())
+                    .email(registerRequest.getEmail())
+                    .phoneNumber(phoneNumber)
+                    .passwordHash(passwordHash)
+                    .role(registerRequest.getRole() != null ? registerRequest.getRole() : User.UserRole.FARMER)
+                    .isActive(true)
+                    .isVerified(true) // User is verified since OTP is validated
+                    .build();
+
+            User savedUser = userRepository.save(user);
+            log.info("User registered and verified: {}", savedUser.getEmail());
+
+            return savedUser;
+        });
     }
 
     @Transactional
@@ -266,8 +256,31 @@ public class AuthService {
      * Admin method to create users directly without OTP verification.
      * Used by admin services to create field officers, etc.
      */
-    @Transactional
     public User registerUserDirectly(String username, String email, String phoneNumber, String password, User.UserRole role) {
+        // Hash before the transaction starts, as in registerUser
+        String passwordHash = passwordHashingService.encode(password);
+
+        return transactionTemplate.execute(status -> {
+            checkUserDoesNotExist(email, phoneNumber, username);
+
+            User user = User.builder()
+                    .username(username)
+                    .email(email)
+                    .phoneNumber(phoneNumber)
+                    .passwordHash(passwordHash)
+                    .role(role != null ? role : User.UserRole.FARMER)
+                    .isActive(true)
+                    .isVerified(true) // Admin-created users are automatically verified
+                    .build();
+
+            User savedUser = userRepository.save(user);
+            log.info("User created directly by admin: {} (Role: {})", savedUser.getEmail(), savedUser.getRole());
+
+            return savedUser;
+        });
+    }
+
+    private void checkUserDoesNotExist(String email, String phoneNumber, String username) {
         if (userRepository.existsByEmail(email)) {
             throw new IllegalArgumentException("Email already exists");
         }
@@ -277,21 +290,6 @@ public class AuthService {
         if (userRepository.existsByUsername(username)) {
             throw new IllegalArgumentException("Username already exists");
         }
-
-        User user = User.builder()
-                .username(username)
-                .email(email)
-                .phoneNumber(phoneNumber)
-                .passwordHash(passwordEncoder.encode(password))
-                .role(role != null ? role : User.UserRole.FARMER)
-                .isActive(true)
-                .isVerified(true) // Admin-created users are automatically verified
-                .build();
-
-        User savedUser = userRepository.save(user);
-        log.info("User created directly by admin: {} (Role: {})", savedUser.getEmail(), savedUser.getRole());
-        
-        return savedUser;
     }
 }
 
@@ -1,6 +1,7 @@
 package com.krushikranti.auth.service;
 
 import com.krushikranti.auth.config.RsaKeyProvider;
+import com.krushikranti.auth.config.SigningKeyRing;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
@@ -15,9 +16,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.security.interfaces.RSAPublicKey;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * JWT Service using RSA (RS256) for token signing and verification.
@@ -41,7 +44,8 @@ public class JwtService {
      */
     public String generateToken(String userId, String username, List<String> roles) {
         try {
-            JWSSigner signer = new RSASSASigner(rsaKeyProvider.getPrivateKey());
+            SigningKeyRing.Key signingKey = rsaKeyProvider.getSigningKey();
+            JWSSigner signer = new RSASSASigner(signingKey.privateKey());
             
             JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
                     .subject(userId)
@@ -54,7 +58,7 @@ public class JwtService {
 
             // Include key ID in header for JWKS lookup
             JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256)
-                    .keyID(rsaKeyProvider.getKeyId())
+                    .keyID(signingKey.keyId())
                     .build();
 
             SignedJWT signedJWT = new SignedJWT(header, claimsSet);
@@ -69,12 +73,18 @@ public class JwtService {
     }
 
     /**
-     * Validate a JWT token using RSA public key
+     * Validate a JWT token using the RSA public key named in its header
      */
     public boolean validateToken(String token) {
         try {
             SignedJWT signedJWT = SignedJWT.parse(token);
-            JWSVerifier verifier = new RSASSAVerifier(rsaKeyProvider.getPublicKey());
+            String keyId = signedJWT.getHeader().getKeyID();
+            Optional<RSAPublicKey> publicKey = rsaKeyProvider.getPublicKey(keyId);
+            if (publicKey.isEmpty()) {
+                log.warn("Token signed with unknown key ID: {}", keyId);
+                return false;
+            }
+            JWSVerifier verifier = new RSASSAVerifier(publicKey.get());
             
             if (!signedJWT.verify(verifier)) {
                 log.warn("Token signature verification failed");
@@ -147,6 +157,13 @@ public class JwtService {
         return claims != null ? (String) claims.getClaim("username") : null;
     }
 
+    /**
+     * Lifetime of access tokens in seconds, for the expiresIn of token responses
+     */
+    public long getExpirationSeconds() {
+        return expiration / 1000;
+    }
+
     /**
      * Get the issuer for this JWT service
      */
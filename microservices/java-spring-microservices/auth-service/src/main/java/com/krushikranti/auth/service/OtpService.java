@@ -1,18 +1,52 @@
 package com.krushikranti.auth.service;
 
+import com.krushikranti.auth.exception.OtpThrottledException;
+import com.krushikranti.auth.sms.OtpDeliveryService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 
-import java.util.Random;
-import java.util.concurrent.TimeUnit;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.List;
 
+/**
+ * OTP issue and verification on Redis.
+ *
+ * <p>Each operation is a single Lua script, so it costs one round trip and is atomic under
+ * concurrent requests for the same phone number. Issuing is limited to {@code otp.request-limit}
+ * per sliding {@code otp.request-window}; {@code otp.max-attempts} wrong codes discard the OTP and
+ * lock the phone number out of both issuing and verifying for {@code otp.lockout}.
+ *
+ * <p>All keys of a phone number share the hash tag {@code {phoneNumber}}.
+ */
 @Service
 @Slf4j
 public class OtpService {
 
+    private static final long ISSUED = 1;
+    private static final long VALID = 1;
+    private static final long NO_OTP = 0;
+    private static final long LOCKED = -1;
+    private static final long REQUEST_LIMIT = -2;
+    private static final long LOCKED_NOW = -3;
+    private static final long WRONG_CODE = -4;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ISSUE_SCRIPT = loadScript("scripts/otp/issue.lua");
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> VERIFY_SCRIPT = loadScript("scripts/otp/verify.lua");
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final OtpDeliveryService otpDeliveryService;
+    private final SecureRandom secureRandom = new SecureRandom();
 
     @Value("${otp.expiration}")
     private int otpExpiration;
@@ -20,32 +54,103 @@ public class OtpService {
     @Value("${otp.length}")
     private int otpLength;
 
-    public OtpService(RedisTemplate<String, String> redisTemplate) {
+    @Value("${otp.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${otp.lockout:PT15M}")
+    private Duration lockout = Duration.ofMinutes(15);
+
+    @Value("${otp.request-limit:5}")
+    private int requestLimit = 5;
+
+    @Value("${otp.request-window:PT15M}")
+    private Duration requestWindow = Duration.ofMinutes(15);
+
+    public OtpService(RedisTemplate<String, String> redisTemplate, OtpDeliveryService otpDeliveryService) {
         this.redisTemplate = redisTemplate;
+        this.otpDeliveryService = otpDeliveryService;
+    }
+
+    /**
+     * Result of verifying an OTP. payload is the value stored with the OTP, if it was requested.
+     */
+    public record Verification(boolean valid, String payload) {
     }
 
     public String generateOtp(String phoneNumber) {
+        return generateOtp(phoneNumber, null, null);
+    }
+
+    /**
+     * Issue an OTP and store a payload under payloadKey with the same expiry, in one round trip.
+     * The SMS is queued for delivery; this does not wait for it to be sent.
+     *
+     * @param payloadKey key from {@link #payloadKey(String, String)}, or null
+     * @throws OtpThrottledException if the phone number is locked out or over its request limit
+     */
+    public String generateOtp(String phoneNumber, String payloadKey, String payload) {
         String otp = generateRandomOtp();
-        String key = "otp:" + phoneNumber;
-        
-        redisTemplate.opsForValue().set(key, otp, otpExpiration, TimeUnit.SECONDS);
-        log.debug("Generated OTP for phone: {}", phoneNumber);
-        
+        List<?> result = redisTemplate.execute(ISSUE_SCRIPT,
+                List.of(codeKey(phoneNumber), requestsKey(phoneNumber), lockKey(phoneNumber),
+                        payloadKey != null ? payloadKey : codeKey(phoneNumber)),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(requestWindow.toMillis()),
+                String.valueOf(requestLimit),
+                otp,
+                String.valueOf(otpExpiration),
+                Long.toHexString(secureRandom.nextLong()),
+                payloadKey != null && payload != null ? payload : "");
+
+        long status = status(result);
+        if (status == LOCKED) {
+            log.warn("OTP requested for locked out phone: {}", phoneNumber);
+            throw new OtpThrottledException("Too many wrong OTP attempts. Please try again later.", retryAfter(result));
+        }
+        if (status == REQUEST_LIMIT) {
+            log.warn("OTP request limit reached for phone: {}", phoneNumber);
+            throw new OtpThrottledException("Too many OTP requests. Please try again later.", retryAfter(result));
+        }
+        if (status != ISSUED) {
+            throw new IllegalStateException("Unexpected OTP issue result: " + result);
+        }
+        String messageId = otpDeliveryService.enqueue(phoneNumber, otp, Duration.ofSeconds(otpExpiration));
+        log.debug("Generated OTP for phone: {}, SMS {}", phoneNumber, messageId);
         return otp;
     }
 
     public boolean validateOtp(String phoneNumber, String otp) {
-        String key = "otp:" + phoneNumber;
-        String storedOtp = redisTemplate.opsForValue().get(key);
-        
-        if (storedOtp != null && storedOtp.equals(otp)) {
-            redisTemplate.delete(key);
+        return validateOtp(phoneNumber, otp, null).valid();
+    }
+
+    /**
+     * Verify and consume an OTP; if valid and payloadKey is given, the payload is taken as well,
+     * all in one round trip.
+     *
+     * @throws OtpThrottledException if the phone number is locked out, including by this attempt
+     */
+    public Verification validateOtp(String phoneNumber, String otp, String payloadKey) {
+        List<?> result = redisTemplate.execute(VERIFY_SCRIPT,
+                List.of(codeKey(phoneNumber), lockKey(phoneNumber),
+                        payloadKey != null ? payloadKey : codeKey(phoneNumber)),
+                otp != null ? otp : "",
+                String.valueOf(maxAttempts),
+                String.valueOf(lockout.toMillis()),
+                payloadKey != null ? "1" : "0");
+
+        long status = status(result);
+        if (status == VALID) {
             log.debug("OTP validated successfully for phone: {}", phoneNumber);
-            return true;
+            return new Verification(true, result.size() > 2 ? (String) result.get(2) : null);
+        }
+        if (status == LOCKED || status == LOCKED_NOW) {
+            log.warn("OTP verification locked out for phone: {}", phoneNumber);
+            throw new OtpThrottledException("Too many wrong OTP attempts. Please try again later.", retryAfter(result));
         }
-        
-        log.debug("OTP validation failed for phone: {}", phoneNumber);
-        return false;
+        if (status != NO_OTP && status != WRONG_CODE) {
+            throw new IllegalStateException("Unexpected OTP verify result: " + result);
+        }
+        log.debug("OTP validation failed for phone: {} ({})", phoneNumber, status == NO_OTP ? "no OTP" : "wrong code");
+        return new Verification(false, null);
     }
 
     /**
@@ -53,22 +158,65 @@ public class OtpService {
      * Does not delete the OTP
      */
     public String getOtp(String phoneNumber) {
-        String key = "otp:" + phoneNumber;
-        return redisTemplate.opsForValue().get(key);
+        Object otp = redisTemplate.opsForHash().get(codeKey(phoneNumber), "code");
+        return otp != null ? otp.toString() : null;
     }
 
     public void deleteOtp(String phoneNumber) {
-        String key = "otp:" + phoneNumber;
-        redisTemplate.delete(key);
+        redisTemplate.delete(codeKey(phoneNumber));
+    }
+
+    /**
+     * Key for a payload stored with a phone number's OTP; shares the phone's hash tag.
+     */
+    public static String payloadKey(String prefix, String phoneNumber) {
+        return prefix + ":{" + phoneNumber + "}";
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static String codeKey(String phoneNumber) {
+        return "otp:{" + phoneNumber + "}:code";
+    }
+
+    private static String requestsKey(String phoneNumber) {
+        return "otp:{" + phoneNumber + "}:requests";
+    }
+
+    private static String lockKey(String phoneNumber) {
+        return "otp:{" + phoneNumber + "}:lock";
+    }
+
+    private static long status(List<?> result) {
+        if (result == null || result.isEmpty() || !(result.get(0) instanceof Number status)) {
+            throw new IllegalStateException("Unexpected OTP script result: " + result);
+        }
+        return status.longValue();
+    }
+
+    private static Duration retryAfter(List<?> result) {
+        return result.size() > 1 && result.get(1) instanceof Number millis
+                ? Duration.ofMillis(millis.longValue())
+                : Duration.ZERO;
     }
 
     private String generateRandomOtp() {
-        Random random = new Random();
-        StringBuilder otp = new StringBuilder();
+        StringBuilder otp = new StringBuilder(otpLength);
         for (int i = 0; i < otpLength; i++) {
-            otp.append(random.nextInt(10));
+            otp.append(secureRandom.nextInt(10));
         }
         return otp.toString();
     }
-}
 
+    /**
+     * Load a script once; Spring runs it with EVALSHA and falls back to EVAL if Redis lost it.
+     */
+    @SuppressWarnings("rawtypes")
+    private static RedisScript<List> loadScript(String path) {
+        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+            return RedisScript.of(StreamUtils.copyToString(in, StandardCharsets.UTF_8), List.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load Redis script " + path, e);
+        }
+    }
+}
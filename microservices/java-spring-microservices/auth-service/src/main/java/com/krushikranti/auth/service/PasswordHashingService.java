@@ -0,0 +1,159 @@
+package com.krushikranti.auth.service;
+
+import com.krushikranti.auth.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs BCrypt hashing on a dedicated, bounded executor.
+ *
+ * <p>Hashing is deliberately slow, so a burst of password logins would otherwise occupy every
+ * request thread and starve requests that need no crypto (OTP, user lookups). At most
+ * {@code password.hashing.threads} hashes run at a time and {@code password.hashing.queue-capacity}
+ * wait; beyond that callers get a {@link PasswordHashingBusyException} (503) immediately.
+ *
+ * <p>Metrics: {@code auth.password.hashing} timer (tag {@code operation}), {@code auth.password.hashing.queue}
+ * and {@code auth.password.hashing.active} gauges and the {@code auth.password.hashing.rejected} counter.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${password.hashing.threads:0}")
+    private int threads; // 0: number of CPUs
+
+    @Value("${password.hashing.queue-capacity:64}")
+    private int queueCapacity = 64;
+
+    /** Longest a caller waits for a queued hash before giving up with 503. */
+    @Value("${password.hashing.timeout:PT5S}")
+    private Duration timeout = Duration.ofSeconds(5);
+
+    private ThreadPoolExecutor executor;
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Counter rejected;
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.encodeTimer = Timer.builder("auth.password.hashing").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hashing").tag("operation", "matches").register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.hashing.rejected").register(meterRegistry);
+        Gauge.builder("auth.password.hashing.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+
+        log.info("Password hashing executor: {} threads, queue capacity {}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * @throws PasswordHashingBusyException if the executor is saturated
+     */
+    public String encode(String rawPassword) {
+        return run(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * @throws PasswordHashingBusyException if the executor is saturated
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Re-hash the password in the background if its hash was made with a lower cost than the
+     * configured one (BCrypt's upgradeEncoding never asks to lower the cost). Only submitted while a
+     * thread is idle and nothing is queued, so a rehash does not take a queue slot from a login;
+     * otherwise it is skipped and the next login tries again.
+     *
+     * @param onRehashed receives the new hash
+     */
+    public void rehashIfNeeded(String rawPassword, String encodedPassword, Consumer<String> onRehashed) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        if (!executor.getQueue().isEmpty() || executor.getActiveCount() >= executor.getMaximumPoolSize()) {
+            log.debug("Password hashing busy, rehash skipped");
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    onRehashed.accept(encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+                } catch (RuntimeException e) {
+                    log.warn("Password rehash failed: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Password hashing busy, rehash skipped");
+        }
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing queue full ({} waiting), rejecting request", executor.getQueue().size());
+            throw new PasswordHashingBusyException("Server is busy. Please try again shortly.");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            log.warn("Password hashing did not finish within {}", timeout);
+            throw new PasswordHashingBusyException("Server is busy. Please try again shortly.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Password hashing interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
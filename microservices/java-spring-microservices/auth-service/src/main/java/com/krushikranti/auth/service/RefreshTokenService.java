@@ -0,0 +1,168 @@
+package com.krushikranti.auth.service;
+
+import com.krushikranti.auth.model.RefreshToken;
+import com.krushikranti.auth.model.User;
+import com.krushikranti.auth.repository.RefreshTokenRepository;
+import com.krushikranti.auth.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Rotating refresh tokens.
+ *
+ * <p>A login starts a token family. Each refresh exchanges the presented token for a new one in the
+ * same family and marks the old one used, so a token works once. Presenting a used or revoked token
+ * means it was copied; the whole family is revoked and the user has to log in again. A token used less
+ * than {@code jwt.refresh-reuse-grace} ago is only refused, without revoking the family, since that is
+ * usually a concurrent refresh or a client retrying after a timeout rather than a stolen token.
+ *
+ * <p>Only the SHA-256 hash of a token is stored, so a refresh is one lookup by a unique index.
+ * Used tokens are kept until they expire for reuse detection, then purged in chunks.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpiration;
+
+    @Value("${jwt.refresh-purge.batch-size:1000}")
+    private int purgeBatchSize = 1000;
+
+    @Value("${jwt.refresh-reuse-grace:PT10S}")
+    private Duration reuseGrace = Duration.ofSeconds(10);
+
+    /**
+     * A rotated token: the user it belongs to and the refresh token replacing the presented one.
+     */
+    public record Rotation(User user, String refreshToken) {
+    }
+
+    /**
+     * Issue the first refresh token of a new family, at login.
+     */
+    @Transactional
+    public String issue(User user) {
+        return create(user.getId(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchange a refresh token for a new one.
+     *
+     * @return empty if the token is unknown, expired or revoked, was already used (the family is then
+     * revoked unless the use was within the reuse grace), or the user can no longer log in
+     */
+    @Transactional
+    public Optional<Rotation> rotate(String rawToken) {
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHash(hash(rawToken));
+        if (found.isEmpty()) {
+            log.debug("Unknown refresh token presented");
+            return Optional.empty();
+        }
+
+        RefreshToken token = found.get();
+        LocalDateTime now = LocalDateTime.now();
+        boolean revoked = Boolean.TRUE.equals(token.getIsRevoked());
+        if (!revoked && token.getUsedAt() != null && token.getUsedAt().plus(reuseGrace).isAfter(now)) {
+            log.info("Refresh token for user {} (family {}) was rotated {} ms ago, refusing repeat refresh",
+                    token.getUserId(), token.getFamilyId(), Duration.between(token.getUsedAt(), now).toMillis());
+            return Optional.empty();
+        }
+        if (token.getUsedAt() != null || revoked) {
+            int revokedCount = refreshTokenRepository.revokeFamily(token.getFamilyId());
+            log.warn("Refresh token reuse for user {} (family {}), revoked {} tokens",
+                    token.getUserId(), token.getFamilyId(), revokedCount);
+            return Optional.empty();
+        }
+        if (token.getExpiresAt().isBefore(now)) {
+            log.debug("Expired refresh token presented for user {}", token.getUserId());
+            return Optional.empty();
+        }
+
+        Optional<User> user = userRepository.findById(token.getUserId())
+                .filter(u -> Boolean.TRUE.equals(u.getIsActive()) && Boolean.TRUE.equals(u.getIsVerified()));
+        if (user.isEmpty()) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId());
+            log.warn("Refresh for inactive or missing user {}, family revoked", token.getUserId());
+            return Optional.empty();
+        }
+
+        token.setUsedAt(now);
+        refreshTokenRepository.save(token);
+        return Optional.of(new Rotation(user.get(), create(token.getUserId(), token.getFamilyId())));
+    }
+
+    /**
+     * Revoke the family of a refresh token, at logout. Unknown tokens are ignored.
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * Delete expired tokens in chunks, each in its own transaction, so the purge never holds
+     * many row locks or one long transaction.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge.interval:PT1H}",
+            initialDelayString = "${jwt.refresh-purge.interval:PT1H}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        long total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpiredBatch(now, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+        if (total > 0) {
+            log.info("Purged {} expired refresh tokens", total);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private String create(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpiration)))
+                .build());
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
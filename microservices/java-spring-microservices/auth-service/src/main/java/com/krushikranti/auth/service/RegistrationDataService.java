@@ -5,68 +5,47 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.krushikranti.auth.dto.RegisterRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
-
+/**
+ * Pending registration data, kept in Redis until the phone number is verified.
+ * The data is stored and taken together with the OTP by {@link OtpService}.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RegistrationDataService {
 
-    private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
 
-    @Value("${otp.expiration}")
-    private int registrationDataExpiration; // Use same expiration as OTP (5 minutes)
-
     /**
-     * Store registration data temporarily in Redis
-     * Key format: "registration:{phoneNumber}"
+     * Redis key of a phone number's registration data: "registration:{phoneNumber}"
      */
-    public void storeRegistrationData(String phoneNumber, RegisterRequest registerRequest) {
+    public String key(String phoneNumber) {
+        return OtpService.payloadKey("registration", phoneNumber);
+    }
+
+    public String toJson(RegisterRequest registerRequest) {
         try {
-            String key = "registration:" + phoneNumber;
-            String jsonData = objectMapper.writeValueAsString(registerRequest);
-            redisTemplate.opsForValue().set(key, jsonData, registrationDataExpiration, TimeUnit.SECONDS);
-            log.debug("Stored registration data for phone: {}", phoneNumber);
+            return objectMapper.writeValueAsString(registerRequest);
         } catch (JsonProcessingException e) {
-            log.error("Failed to serialize registration data for phone: {}", phoneNumber, e);
+            log.error("Failed to serialize registration data for phone: {}", registerRequest.getPhoneNumber(), e);
             throw new RuntimeException("Failed to store registration data", e);
         }
     }
 
     /**
-     * Retrieve registration data from Redis
+     * @return the registration data, or null if jsonData is null
      */
-    public RegisterRequest getRegistrationData(String phoneNumber) {
+    public RegisterRequest fromJson(String jsonData) {
+        if (jsonData == null) {
+            return null;
+        }
         try {
-            String key = "registration:" + phoneNumber;
-            String jsonData = redisTemplate.opsForValue().get(key);
-            
-            if (jsonData == null) {
-                log.debug("No registration data found for phone: {}", phoneNumber);
-                return null;
-            }
-            
-            RegisterRequest registerRequest = objectMapper.readValue(jsonData, RegisterRequest.class);
-            log.debug("Retrieved registration data for phone: {}", phoneNumber);
-            return registerRequest;
+            return objectMapper.readValue(jsonData, RegisterRequest.class);
         } catch (JsonProcessingException e) {
-            log.error("Failed to deserialize registration data for phone: {}", phoneNumber, e);
+            log.error("Failed to deserialize registration data", e);
             throw new RuntimeException("Failed to retrieve registration data", e);
         }
     }
-
-    /**
-     * Delete registration data from Redis
-     */
-    public void deleteRegistrationData(String phoneNumber) {
-        String key = "registration:" + phoneNumber;
-        redisTemplate.delete(key);
-        log.debug("Deleted registration data for phone: {}", phoneNumber);
-    }
 }
-
@@ -0,0 +1,175 @@
+package com.krushikranti.auth.service;
+
+import com.krushikranti.auth.config.SigningKeyRing;
+import com.krushikranti.auth.model.SigningKey;
+import com.krushikranti.auth.repository.SigningKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Database-backed RSA signing keys with scheduled rotation.
+ *
+ * <p>A new key is created {@code jwt.keys.publish-ahead} before the signing key is due for rotation,
+ * with an activation time in the future, so every instance and the gateway's JWKS cache have it
+ * before it signs anything. Instances rotate under a PostgreSQL advisory lock, so exactly one of
+ * them creates the next key. Private keys are stored encrypted with AES-GCM under a key derived
+ * from {@code jwt.keys.encryption-secret}.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SigningKeyStore {
+
+    private static final long ROTATION_LOCK_KEY = 0x6a776b73L; // "jwks"
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_BITS = 128;
+
+    private final SigningKeyRepository signingKeyRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.rsa.key-size:2048}")
+    private int keySize = 2048;
+
+    @Value("${jwt.keys.rotation-interval:P30D}")
+    private Duration rotationInterval = Duration.ofDays(30);
+
+    @Value("${jwt.keys.publish-ahead:PT1H}")
+    private Duration publishAhead = Duration.ofHours(1);
+
+    @Value("${jwt.keys.encryption-secret:${jwt.secret}}")
+    private String encryptionSecret;
+
+    /**
+     * Load the stored keys, creating the first or next key and deleting expired ones when due.
+     *
+     * @param retention how long a replaced key must stay verifiable
+     */
+    @Transactional
+    public SigningKeyRing loadAndRotate(Instant now, Duration retention) {
+        SigningKeyRing ring = load();
+        if (!isRotationDue(ring, now) && ring.expired(now, retention).isEmpty()) {
+            return ring;
+        }
+
+        // Another instance may have rotated while we waited for the lock
+        signingKeyRepository.lockForRotation(ROTATION_LOCK_KEY);
+        ring = load();
+
+        if (ring.keys().isEmpty()) {
+            signingKeyRepository.save(generate(now));
+            log.info("Created initial signing key");
+        } else if (isRotationDue(ring, now)) {
+            Instant scheduled = ring.lastActivation().orElseThrow().plus(rotationInterval);
+            Instant activatesAt = scheduled.isAfter(now.plus(publishAhead)) ? scheduled : now.plus(publishAhead);
+            SigningKey next = signingKeyRepository.save(generate(activatesAt));
+            log.info("Created next signing key {} activating at {}", next.getKeyId(), activatesAt);
+        }
+
+        List<String> expired = ring.expired(now, retention).stream().map(SigningKeyRing.Key::keyId).toList();
+        if (!expired.isEmpty()) {
+            signingKeyRepository.deleteAllById(expired);
+            log.info("Deleted expired signing keys {}", expired);
+        }
+        return load();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * A new key is needed when there is none, or when the last key's rotation is within publish-ahead.
+     */
+    private boolean isRotationDue(SigningKeyRing ring, Instant now) {
+        return ring.lastActivation()
+                .map(last -> !last.plus(rotationInterval).minus(publishAhead).isAfter(now))
+                .orElse(true);
+    }
+
+    private SigningKeyRing load() {
+        List<SigningKeyRing.Key> keys = new ArrayList<>();
+        for (SigningKey stored : signingKeyRepository.findAllByOrderByActivatesAtAsc()) {
+            try {
+                keys.add(toKey(stored));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                // Wrong encryption secret or corrupt row; never sign with it, but keep the other keys
+                log.error("Skipping unreadable signing key {}: {}", stored.getKeyId(), e.getMessage());
+            }
+        }
+        return new SigningKeyRing(keys);
+    }
+
+    private SigningKey generate(Instant activatesAt) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(keySize);
+            KeyPair keyPair = generator.generateKeyPair();
+            return SigningKey.builder()
+                    .keyId(UUID.randomUUID().toString())
+                    .publicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()))
+                    .privateKey(Base64.getEncoder().encodeToString(encrypt(keyPair.getPrivate().getEncoded())))
+                    .activatesAt(LocalDateTime.ofInstant(activatesAt, ZoneOffset.UTC))
+                    .build();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to generate RSA signing key", e);
+        }
+    }
+
+    private SigningKeyRing.Key toKey(SigningKey stored) throws GeneralSecurityException {
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        RSAPublicKey publicKey = (RSAPublicKey) keyFactory.generatePublic(
+                new X509EncodedKeySpec(Base64.getDecoder().decode(stored.getPublicKey())));
+        RSAPrivateKey privateKey = (RSAPrivateKey) keyFactory.generatePrivate(
+                new PKCS8EncodedKeySpec(decrypt(Base64.getDecoder().decode(stored.getPrivateKey()))));
+        return new SigningKeyRing.Key(stored.getKeyId(), publicKey, privateKey,
+                stored.getActivatesAt().toInstant(ZoneOffset.UTC));
+    }
+
+    private byte[] encrypt(byte[] plain) throws GeneralSecurityException {
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        secureRandom.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, encryptionKey(), new GCMParameterSpec(GCM_TAG_BITS, iv));
+        byte[] encrypted = cipher.doFinal(plain);
+        return ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted).array();
+    }
+
+    private byte[] decrypt(byte[] stored) throws GeneralSecurityException {
+        if (stored.length <= GCM_IV_LENGTH) {
+            throw new IllegalArgumentException("Encrypted key too short");
+        }
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, encryptionKey(), new GCMParameterSpec(GCM_TAG_BITS, stored, 0, GCM_IV_LENGTH));
+        return cipher.doFinal(stored, GCM_IV_LENGTH, stored.length - GCM_IV_LENGTH);
+    }
+
+    private SecretKeySpec encryptionKey() throws GeneralSecurityException {
+        byte[] key = MessageDigest.getInstance("SHA-256").digest(encryptionSecret.getBytes(StandardCharsets.UTF_8));
+        return new SecretKeySpec(key, "AES");
+    }
+}
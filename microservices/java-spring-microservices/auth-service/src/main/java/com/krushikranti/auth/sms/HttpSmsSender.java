@@ -0,0 +1,110 @@
+package com.krushikranti.auth.sms;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends a batch in one POST to an HTTP SMS gateway:
+ * <pre>
+ * {"messages": [{"id": "..", "to": "9876543210", "text": ".."}]}
+ * -> {"results": [{"id": "..", "status": "ACCEPTED|REJECTED", "providerMessageId": "..", "retryable": false, "error": ".."}]}
+ * </pre>
+ * Timeouts, 429 and 5xx responses make the whole batch retryable; other 4xx responses fail it.
+ * {@link SmsStubController} implements this protocol for local runs and tests.
+ */
+@Component
+@ConditionalOnProperty(name = "sms.provider", havingValue = "http")
+@Slf4j
+public class HttpSmsSender implements SmsSender {
+
+    private final RestClient restClient;
+
+    public HttpSmsSender(@Value("${sms.http.url}") String url,
+                         @Value("${sms.http.api-key:}") String apiKey,
+                         @Value("${sms.http.connect-timeout:PT2S}") Duration connectTimeout,
+                         @Value("${sms.http.read-timeout:PT5S}") Duration readTimeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) connectTimeout.toMillis());
+        requestFactory.setReadTimeout((int) readTimeout.toMillis());
+
+        RestClient.Builder builder = RestClient.builder()
+                .baseUrl(url)
+                .requestFactory(requestFactory);
+        if (!apiKey.isBlank()) {
+            builder.defaultHeader("X-Api-Key", apiKey);
+        }
+        this.restClient = builder.build();
+        log.info("HTTP SMS provider: {}", url);
+    }
+
+    @Override
+    public List<SmsSendResult> send(List<SmsMessage> messages) {
+        List<Map<String, String>> body = new ArrayList<>(messages.size());
+        for (SmsMessage message : messages) {
+            body.add(Map.of("id", message.id(), "to", message.phoneNumber(), "text", message.text()));
+        }
+
+        BatchResponse response;
+        try {
+            response = restClient.post()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("messages", body))
+                    .retrieve()
+                    .body(BatchResponse.class);
+        } catch (RestClientResponseException e) {
+            int status = e.getStatusCode().value();
+            boolean retryable = status == 429 || e.getStatusCode().is5xxServerError();
+            log.warn("SMS provider returned {} for a batch of {}", status, messages.size());
+            return all(messages, retryable, "Provider returned " + status);
+        } catch (RestClientException e) {
+            log.warn("SMS provider call failed for a batch of {}: {}", messages.size(), e.getMessage());
+            return all(messages, true, e.getMessage());
+        }
+
+        Map<String, SmsSendResult> results = new HashMap<>();
+        if (response != null && response.results() != null) {
+            for (ResultItem item : response.results()) {
+                if (item.id() == null) {
+                    continue;
+                }
+                results.put(item.id(), "ACCEPTED".equalsIgnoreCase(item.status())
+                        ? SmsSendResult.accepted(item.id(), item.providerMessageId())
+                        : new SmsSendResult(item.id(), false, Boolean.TRUE.equals(item.retryable()), null, item.error()));
+            }
+        }
+        return messages.stream()
+                .map(message -> results.getOrDefault(message.id(),
+                        SmsSendResult.retryable(message.id(), "No result from provider")))
+                .toList();
+    }
+
+    private static List<SmsSendResult> all(List<SmsMessage> messages, boolean retryable, String error) {
+        return messages.stream()
+                .map(message -> retryable
+                        ? SmsSendResult.retryable(message.id(), error)
+                        : SmsSendResult.failed(message.id(), error))
+                .toList();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record BatchResponse(List<ResultItem> results) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record ResultItem(String id, String status, String providerMessageId, Boolean retryable, String error) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.krushikranti.auth.sms;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Development provider: accepts every message and only logs that it was "sent".
+ * With {@code sms.stub.enabled=true} the code can be read from {@code /auth/get-otp/{phoneNumber}}.
+ */
+@Component
+@ConditionalOnProperty(name = "sms.provider", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LoggingSmsSender implements SmsSender {
+
+    @Override
+    public List<SmsSendResult> send(List<SmsMessage> messages) {
+        for (SmsMessage message : messages) {
+            log.info("SMS {} to {} not sent (sms.provider=log)", message.id(), message.phoneNumber());
+        }
+        return messages.stream()
+                .map(message -> SmsSendResult.accepted(message.id(), "log-" + message.id()))
+                .toList();
+    }
+}
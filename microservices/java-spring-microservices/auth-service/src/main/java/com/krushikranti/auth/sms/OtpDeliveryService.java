@@ -0,0 +1,356 @@
+package com.krushikranti.auth.sms;
+
+import com.krushikranti.auth.dto.OtpDeliveryStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers OTP text messages in the background, so requests return as soon as the OTP is stored.
+ *
+ * <p>Messages wait in a bounded queue ({@code sms.queue-capacity}); when it is full new messages are
+ * rejected rather than slowing requests down, and the user can request another OTP. Workers send up
+ * to {@code sms.batch-size} messages per provider call, waiting at most {@code sms.linger} to fill a
+ * batch. Retryable failures are sent again with exponential backoff and jitter, up to
+ * {@code sms.max-attempts} and never after the OTP has expired.
+ *
+ * <p>The outcome of each message is kept in Redis for {@code sms.status-ttl}, written once per batch,
+ * together with a pointer from the phone number to its latest OTP message.
+ */
+@Service
+@Slf4j
+public class OtpDeliveryService {
+
+    private final SmsSender smsSender;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${sms.queue-capacity:10000}")
+    private int queueCapacity = 10_000;
+
+    @Value("${sms.workers:2}")
+    private int workerCount = 2;
+
+    @Value("${sms.batch-size:50}")
+    private int batchSize = 50;
+
+    @Value("${sms.linger:PT0.1S}")
+    private Duration linger = Duration.ofMillis(100);
+
+    @Value("${sms.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${sms.initial-backoff:PT2S}")
+    private Duration initialBackoff = Duration.ofSeconds(2);
+
+    @Value("${sms.max-backoff:PT1M}")
+    private Duration maxBackoff = Duration.ofMinutes(1);
+
+    @Value("${sms.status-ttl:P1D}")
+    private Duration statusTtl = Duration.ofDays(1);
+
+    @Value("${sms.shutdown-timeout:PT5S}")
+    private Duration shutdownTimeout = Duration.ofSeconds(5);
+
+    @Value("${sms.otp-template:Your Krushi Kranti verification code is %s. It is valid for %d minutes.}")
+    private String otpTemplate = "Your Krushi Kranti verification code is %s. It is valid for %d minutes.";
+
+    private BlockingQueue<Pending> queue;
+    private final DelayQueue<Pending> retries = new DelayQueue<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public OtpDeliveryService(SmsSender smsSender, RedisTemplate<String, String> redisTemplate) {
+        this.smsSender = smsSender;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @PostConstruct
+    void start() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.running = true;
+        for (int i = 1; i <= workerCount; i++) {
+            Thread worker = new Thread(this::work, "otp-sms-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("OTP delivery started with {} workers using {}", workerCount, smsSender.getClass().getSimpleName());
+    }
+
+    /**
+     * Stop taking messages and give the workers a moment to send what is already queued.
+     * Messages waiting for a retry are dropped; their OTPs can be requested again.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        for (Thread worker : workers) {
+            worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            worker.interrupt();
+        }
+        if (!queue.isEmpty() || !retries.isEmpty()) {
+            log.warn("OTP delivery stopped with {} queued and {} retrying messages", queue.size(), retries.size());
+        }
+    }
+
+    /**
+     * Queue an OTP text message; returns immediately.
+     *
+     * @param validity how long the OTP is valid; the message is not sent after that
+     * @return the message id, also when the message was rejected because the queue is full or the
+     *         service is shutting down
+     */
+    public String enqueue(String phoneNumber, String otp, Duration validity) {
+        String text = String.format(otpTemplate, otp, Math.max(1, validity.toMinutes()));
+        Pending pending = new Pending(new SmsMessage(UUID.randomUUID().toString(), phoneNumber, text),
+                Instant.now().plus(validity));
+
+        if (!running) {
+            log.warn("OTP delivery is shutting down, message {} to {} rejected", pending.message.id(), phoneNumber);
+            recordStatuses(List.of(statusOf(pending, "REJECTED", null, "Delivery shutting down")));
+        } else if (!queue.offer(pending)) {
+            log.error("OTP delivery queue full, message {} to {} rejected", pending.message.id(), phoneNumber);
+            recordStatuses(List.of(statusOf(pending, "REJECTED", null, "Delivery queue full")));
+        }
+        return pending.message.id();
+    }
+
+    /**
+     * Delivery status of the latest OTP message to a phone number. Empty until a worker has
+     * processed the message.
+     */
+    public Optional<OtpDeliveryStatus> getLatestStatus(String phoneNumber) {
+        String messageId = redisTemplate.opsForValue().get(latestKey(phoneNumber));
+        return messageId != null ? getStatus(messageId) : Optional.empty();
+    }
+
+    public Optional<OtpDeliveryStatus> getStatus(String messageId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(statusKey(messageId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(OtpDeliveryStatus.builder()
+                .messageId(messageId)
+                .phoneNumber((String) fields.get("phoneNumber"))
+                .status((String) fields.get("status"))
+                .attempts(fields.get("attempts") != null ? Integer.valueOf((String) fields.get("attempts")) : null)
+                .providerMessageId((String) fields.get("providerMessageId"))
+                .error((String) fields.get("error"))
+                .updatedAt(fields.get("updatedAt") != null ? Instant.parse((String) fields.get("updatedAt")) : null)
+                .build());
+    }
+
+    // ==================== Worker ====================
+
+    private void work() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<Pending> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    process(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("OTP delivery worker error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Due retries first, then new messages; waits up to linger for a batch to fill.
+     */
+    private List<Pending> nextBatch() throws InterruptedException {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        retries.drainTo(batch, batchSize);
+        if (batch.isEmpty()) {
+            Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return batch;
+            }
+            batch.add(first);
+        }
+
+        long deadline = System.nanoTime() + linger.toNanos();
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void process(List<Pending> batch) {
+        Instant now = Instant.now();
+        List<Map<String, String>> statuses = new ArrayList<>(batch.size());
+        Map<String, Pending> toSend = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            if (pending.expiresAt.isBefore(now)) {
+                statuses.add(statusOf(pending, "EXPIRED", null, "OTP expired before it could be sent"));
+            } else {
+                pending.attempts++;
+                toSend.put(pending.message.id(), pending);
+            }
+        }
+
+        if (!toSend.isEmpty()) {
+            List<SmsMessage> messages = toSend.values().stream().map(pending -> pending.message).toList();
+            List<SmsSendResult> results;
+            try {
+                results = smsSender.send(messages);
+            } catch (RuntimeException e) {
+                log.warn("SMS provider error for a batch of {}: {}", messages.size(), e.getMessage());
+                results = messages.stream().map(message -> SmsSendResult.retryable(message.id(), e.getMessage())).toList();
+            }
+
+            Map<String, SmsSendResult> byId = new HashMap<>();
+            results.forEach(result -> byId.put(result.messageId(), result));
+            for (Pending pending : toSend.values()) {
+                SmsSendResult result = byId.getOrDefault(pending.message.id(),
+                        SmsSendResult.retryable(pending.message.id(), "No result from provider"));
+                statuses.add(handleResult(pending, result, now));
+            }
+            log.debug("Sent OTP batch of {} messages", messages.size());
+        }
+        recordStatuses(statuses);
+    }
+
+    private Map<String, String> handleResult(Pending pending, SmsSendResult result, Instant now) {
+        if (result.accepted()) {
+            return statusOf(pending, "SENT", result.providerMessageId(), null);
+        }
+        if (result.retryable() && pending.attempts < maxAttempts) {
+            Duration delay = backoff(pending.attempts);
+            if (now.plus(delay).isBefore(pending.expiresAt)) {
+                pending.dueAt = System.nanoTime() + delay.toNanos();
+                retries.add(pending);
+                return statusOf(pending, "RETRYING", null, result.error());
+            }
+        }
+        log.warn("OTP message {} to {} failed after {} attempts: {}", pending.message.id(),
+                pending.message.phoneNumber(), pending.attempts, result.error());
+        return statusOf(pending, "FAILED", null, result.error());
+    }
+
+    /**
+     * initial-backoff doubled per attempt, capped at max-backoff, with up to 50% jitter.
+     */
+    private Duration backoff(int attempts) {
+        long base = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempts - 1, 20));
+        return Duration.ofMillis(base / 2 + ThreadLocalRandom.current().nextLong(base / 2 + 1));
+    }
+
+    // ==================== Status ====================
+
+    private static Map<String, String> statusOf(Pending pending, String status, String providerMessageId, String error) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("messageId", pending.message.id());
+        fields.put("phoneNumber", pending.message.phoneNumber());
+        fields.put("status", status);
+        fields.put("attempts", String.valueOf(pending.attempts));
+        fields.put("updatedAt", Instant.now().toString());
+        if (providerMessageId != null) {
+            fields.put("providerMessageId", providerMessageId);
+        }
+        if (error != null) {
+            fields.put("error", error);
+        }
+        return fields;
+    }
+
+    /**
+     * Write statuses of a batch in one pipelined round trip. The phone's latest-message pointer is
+     * set when a message is first processed.
+     */
+    private void recordStatuses(List<Map<String, String>> statuses) {
+        if (statuses.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> serializer = RedisSerializer.string();
+        long ttlSeconds = statusTtl.toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map<String, String> status : statuses) {
+                    byte[] key = serializer.serialize(statusKey(status.get("messageId")));
+                    Map<byte[], byte[]> fields = new HashMap<>();
+                    status.forEach((field, value) -> fields.put(field.getBytes(StandardCharsets.UTF_8),
+                            value.getBytes(StandardCharsets.UTF_8)));
+                    connection.hashCommands().hMSet(key, fields);
+                    connection.keyCommands().expire(key, ttlSeconds);
+                    if (Integer.parseInt(status.get("attempts")) > 1) {
+                        continue; // a newer OTP may have been issued since the first attempt
+                    }
+                    connection.stringCommands().set(serializer.serialize(latestKey(status.get("phoneNumber"))),
+                            serializer.serialize(status.get("messageId")),
+                            Expiration.seconds(ttlSeconds), RedisStringCommands.SetOption.upsert());
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to record {} OTP delivery statuses: {}", statuses.size(), e.getMessage());
+        }
+    }
+
+    private static String statusKey(String messageId) {
+        return "sms:" + messageId;
+    }
+
+    private static String latestKey(String phoneNumber) {
+        return "otp:{" + phoneNumber + "}:delivery";
+    }
+
+    /**
+     * A queued message. attempts and dueAt are only touched by the worker that holds it.
+     */
+    private static final class Pending implements Delayed {
+        private final SmsMessage message;
+        private final Instant expiresAt;
+        private int attempts;
+        private long dueAt;
+
+        private Pending(SmsMessage message, Instant expiresAt) {
+            this.message = message;
+            this.expiresAt = expiresAt;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.krushikranti.auth.sms;
+
+import com.krushikranti.auth.dto.ApiResponse;
+import com.krushikranti.auth.service.AuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Returns the live OTP of a phone number, for local runs where no SMS reaches a phone. Only present
+ * with {@code sms.stub.enabled=true}, like {@link SmsStubController}; it stays under {@code /auth}
+ * because that is the prefix the gateway routes to this service.
+ */
+@RestController
+@RequestMapping("/auth")
+@ConditionalOnProperty(name = "sms.stub.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OtpStubController {
+
+    private final AuthService authService;
+
+    @GetMapping("/get-otp/{phoneNumber}")
+    public ResponseEntity<ApiResponse<String>> getOtp(@PathVariable String phoneNumber) {
+        String otp = authService.getOtpForPhone(phoneNumber);
+        if (otp == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ApiResponse<>("No OTP found for this phone number. OTP may have expired or was not generated.", null));
+        }
+        return ResponseEntity.ok(new ApiResponse<>("OTP retrieved (SMS stub enabled)", otp));
+    }
+}
@@ -0,0 +1,7 @@
+package com.krushikranti.auth.sms;
+
+/**
+ * A text message to send. id is ours and is echoed back by the provider.
+ */
+public record SmsMessage(String id, String phoneNumber, String text) {
+}
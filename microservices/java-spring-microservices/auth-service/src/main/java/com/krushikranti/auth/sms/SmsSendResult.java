@@ -0,0 +1,22 @@
+package com.krushikranti.auth.sms;
+
+/**
+ * Provider outcome for one message of a batch.
+ *
+ * @param retryable whether a rejected message may succeed if sent again (e.g. provider overloaded)
+ */
+public record SmsSendResult(String messageId, boolean accepted, boolean retryable, String providerMessageId,
+                            String error) {
+
+    public static SmsSendResult accepted(String messageId, String providerMessageId) {
+        return new SmsSendResult(messageId, true, false, providerMessageId, null);
+    }
+
+    public static SmsSendResult retryable(String messageId, String error) {
+        return new SmsSendResult(messageId, false, true, null, error);
+    }
+
+    public static SmsSendResult failed(String messageId, String error) {
+        return new SmsSendResult(messageId, false, false, null, error);
+    }
+}
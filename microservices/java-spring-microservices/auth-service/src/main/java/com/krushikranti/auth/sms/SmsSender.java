@@ -0,0 +1,15 @@
+package com.krushikranti.auth.sms;
+
+import java.util.List;
+
+/**
+ * SMS provider. Selected with {@code sms.provider}.
+ */
+public interface SmsSender {
+
+    /**
+     * Send a batch of messages in one provider call. Must return one result per message; messages
+     * without a result are retried. Must not throw for provider errors.
+     */
+    List<SmsSendResult> send(List<SmsMessage> messages);
+}
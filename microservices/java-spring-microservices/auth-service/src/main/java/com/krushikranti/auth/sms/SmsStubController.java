@@ -0,0 +1,90 @@
+package com.krushikranti.auth.sms;
+
+import com.krushikranti.auth.dto.ApiResponse;
+import com.krushikranti.auth.dto.OtpDeliveryStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Local SMS provider speaking the {@link HttpSmsSender} protocol, for running the service and
+ * tests without a real gateway. Enable with {@code sms.stub.enabled=true} and point
+ * {@code sms.http.url} at {@code /sms-stub/messages}.
+ *
+ * <p>Keeps the last message per phone number in memory. {@code sms.stub.failure-rate} makes a
+ * share of batches fail with 503, to exercise retries. Also exposes the delivery status of a phone
+ * number's latest OTP message, which is only meant for local runs and tests.
+ */
+@RestController
+@RequestMapping("/sms-stub")
+@ConditionalOnProperty(name = "sms.stub.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SmsStubController {
+
+    private static final int MAX_PHONE_NUMBERS = 10_000;
+
+    private final OtpDeliveryService otpDeliveryService;
+
+    private final Map<String, Map<String, String>> lastMessages = new ConcurrentHashMap<>();
+
+    @Value("${sms.stub.failure-rate:0}")
+    private double failureRate;
+
+    @PostMapping("/messages")
+    public ResponseEntity<Map<String, Object>> send(@RequestBody Map<String, List<Map<String, String>>> request) {
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        List<Map<String, String>> messages = request.getOrDefault("messages", List.of());
+        List<Map<String, Object>> results = new ArrayList<>(messages.size());
+        for (Map<String, String> message : messages) {
+            String providerMessageId = "stub-" + UUID.randomUUID();
+            if (lastMessages.size() >= MAX_PHONE_NUMBERS) {
+                lastMessages.clear();
+            }
+            lastMessages.put(message.get("to"), Map.of(
+                    "id", message.get("id"),
+                    "providerMessageId", providerMessageId,
+                    "text", message.get("text")));
+            results.add(Map.of("id", message.get("id"), "status", "ACCEPTED", "providerMessageId", providerMessageId));
+        }
+        log.debug("SMS stub accepted {} messages", messages.size());
+        return ResponseEntity.ok(Map.of("results", results));
+    }
+
+    @GetMapping("/messages/{phoneNumber}")
+    public ResponseEntity<ApiResponse<Map<String, String>>> lastMessage(@PathVariable String phoneNumber) {
+        Map<String, String> message = lastMessages.get(phoneNumber);
+        if (message == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ApiResponse<>("No message sent to this phone number", null));
+        }
+        return ResponseEntity.ok(new ApiResponse<>("Last message", message));
+    }
+
+    @GetMapping("/otp-delivery/{phoneNumber}")
+    public ResponseEntity<ApiResponse<OtpDeliveryStatus>> otpDeliveryStatus(@PathVariable String phoneNumber) {
+        return otpDeliveryService.getLatestStatus(phoneNumber)
+                .map(status -> ResponseEntity.ok(new ApiResponse<>("OTP delivery status", status)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ApiResponse<>("No OTP message processed for this phone number yet", null)));
+    }
+}
@@ -0,0 +1,15 @@
+-- ============================================
+-- RSA signing keys shared by all auth-service instances
+-- A key signs tokens from activates_at until the next key activates,
+-- and stays in the JWKS until the tokens it signed have expired.
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS signing_keys (
+    key_id VARCHAR(64) PRIMARY KEY,
+    public_key TEXT NOT NULL,
+    private_key TEXT NOT NULL,       -- AES-GCM encrypted PKCS#8, see jwt.keys.encryption-secret
+    activates_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_signing_keys_activates_at ON signing_keys(activates_at);
@@ -0,0 +1,18 @@
+-- ============================================
+-- Rotating refresh tokens
+-- Tokens are stored as SHA-256 hashes. Each login starts a family; every refresh marks the
+-- presented token used and issues the next one in the same family. Presenting a used or
+-- revoked token revokes the whole family (reuse detection).
+-- No refresh tokens were issued before this migration, so existing rows are dropped.
+-- ============================================
+
+DELETE FROM refresh_tokens;
+
+ALTER TABLE refresh_tokens DROP COLUMN token;
+ALTER TABLE refresh_tokens ADD COLUMN token_hash VARCHAR(64) NOT NULL;
+ALTER TABLE refresh_tokens ADD COLUMN family_id VARCHAR(36) NOT NULL;
+ALTER TABLE refresh_tokens ADD COLUMN used_at TIMESTAMP;
+
+CREATE UNIQUE INDEX idx_refresh_tokens_token_hash ON refresh_tokens(token_hash);
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens(family_id);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens(expires_at);
@@ -0,0 +1,29 @@
+-- Issue an OTP for a phone number in one round trip.
+-- KEYS[1] otp hash (code, attempts), KEYS[2] request log (sorted set), KEYS[3] lockout flag,
+-- KEYS[4] payload stored alongside the OTP (e.g. pending registration)
+-- ARGV[1] now (ms), ARGV[2] request window (ms), ARGV[3] max requests per window,
+-- ARGV[4] code, ARGV[5] OTP ttl (s), ARGV[6] request nonce, ARGV[7] payload ('' to leave KEYS[4] alone)
+-- Returns {status, retryAfterMs}: 1 issued, -1 locked out, -2 request limit reached
+
+local lockTtl = redis.call('PTTL', KEYS[3])
+if lockTtl > 0 then
+    return {-1, lockTtl}
+end
+
+local now = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now - window)
+if redis.call('ZCARD', KEYS[2]) >= tonumber(ARGV[3]) then
+    local oldest = redis.call('ZRANGE', KEYS[2], 0, 0, 'WITHSCORES')
+    return {-2, math.max(tonumber(oldest[2]) + window - now, 1)}
+end
+redis.call('ZADD', KEYS[2], now, ARGV[6])
+redis.call('PEXPIRE', KEYS[2], window)
+
+redis.call('DEL', KEYS[1])
+redis.call('HSET', KEYS[1], 'code', ARGV[4], 'attempts', 0)
+redis.call('EXPIRE', KEYS[1], tonumber(ARGV[5]))
+if ARGV[7] ~= '' then
+    redis.call('SET', KEYS[4], ARGV[7], 'EX', tonumber(ARGV[5]))
+end
+return {1, 0}
@@ -0,0 +1,35 @@
+-- Verify and consume an OTP in one round trip.
+-- KEYS[1] otp hash (code, attempts), KEYS[2] lockout flag, KEYS[3] payload stored with the OTP
+-- ARGV[1] submitted code, ARGV[2] max attempts, ARGV[3] lockout (ms), ARGV[4] '1' to take the payload
+-- Returns {status, value, payload}:
+--   1 valid (payload or false), 0 no OTP, -1 locked out (value = retry after ms),
+--   -3 wrong code, now locked out (value = lockout ms), -4 wrong code (value = attempts left)
+
+local lockTtl = redis.call('PTTL', KEYS[2])
+if lockTtl > 0 then
+    return {-1, lockTtl}
+end
+
+local code = redis.call('HGET', KEYS[1], 'code')
+if not code then
+    return {0, 0}
+end
+
+if code == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    local payload = false
+    if ARGV[4] == '1' then
+        payload = redis.call('GET', KEYS[3])
+        redis.call('DEL', KEYS[3])
+    end
+    return {1, 0, payload}
+end
+
+local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+local maxAttempts = tonumber(ARGV[2])
+if attempts >= maxAttempts then
+    redis.call('DEL', KEYS[1])
+    redis.call('SET', KEYS[2], '1', 'PX', tonumber(ARGV[3]))
+    return {-3, tonumber(ARGV[3])}
+end
+return {-4, maxAttempts - attempts}
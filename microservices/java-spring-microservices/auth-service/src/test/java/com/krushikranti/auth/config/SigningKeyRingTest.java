@@ -0,0 +1,104 @@
+package com.krushikranti.auth.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SigningKeyRing Unit Tests")
+class SigningKeyRingTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+    private static final Duration RETENTION = Duration.ofDays(1);
+
+    private static SigningKeyRing.Key key(String keyId, Instant activatesAt) {
+        return new SigningKeyRing.Key(keyId, null, null, activatesAt);
+    }
+
+    @Test
+    @DisplayName("Signing key - last activated key signs, next key does not yet")
+    void signingKey_WithNextKey_ReturnsLastActivated() {
+        // Given
+        SigningKeyRing ring = new SigningKeyRing(List.of(
+                key("next", NOW.plus(Duration.ofHours(1))),
+                key("current", NOW.minus(Duration.ofDays(3))),
+                key("old", NOW.minus(Duration.ofDays(10)))));
+
+        // When/Then
+        assertThat(ring.signingKey(NOW)).map(SigningKeyRing.Key::keyId).contains("current");
+        assertThat(ring.signingKey(NOW.plus(Duration.ofHours(2)))).map(SigningKeyRing.Key::keyId).contains("next");
+    }
+
+    @Test
+    @DisplayName("Signing key - earliest key is used when none has activated yet")
+    void signingKey_NoneActivated_ReturnsEarliest() {
+        // Given
+        SigningKeyRing ring = new SigningKeyRing(List.of(
+                key("later", NOW.plus(Duration.ofHours(2))),
+                key("first", NOW.plus(Duration.ofHours(1)))));
+
+        // When/Then
+        assertThat(ring.signingKey(NOW)).map(SigningKeyRing.Key::keyId).contains("first");
+    }
+
+    @Test
+    @DisplayName("Signing key - empty ring has no signing key")
+    void signingKey_EmptyRing_ReturnsEmpty() {
+        SigningKeyRing ring = new SigningKeyRing(List.of());
+
+        assertThat(ring.signingKey(NOW)).isEmpty();
+        assertThat(ring.lastActivation()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Published - replaced key stays published until retention after its successor activated")
+    void published_ReplacedKey_KeptForRetention() {
+        // Given
+        Instant replacedAt = NOW.minus(Duration.ofHours(12));
+        SigningKeyRing ring = new SigningKeyRing(List.of(
+                key("old", NOW.minus(Duration.ofDays(10))),
+                key("current", replacedAt),
+                key("next", NOW.plus(Duration.ofHours(1)))));
+
+        // When/Then
+        assertThat(ring.published(NOW, RETENTION)).extracting(SigningKeyRing.Key::keyId)
+                .containsExactly("old", "current", "next");
+        assertThat(ring.expired(NOW, RETENTION)).isEmpty();
+
+        Instant afterRetention = replacedAt.plus(RETENTION);
+        assertThat(ring.published(afterRetention, RETENTION)).extracting(SigningKeyRing.Key::keyId)
+                .containsExactly("current", "next");
+        assertThat(ring.expired(afterRetention, RETENTION)).extracting(SigningKeyRing.Key::keyId)
+                .containsExactly("old");
+    }
+
+    @Test
+    @DisplayName("Published - newest key never expires")
+    void published_NewestKey_NeverExpires() {
+        // Given
+        SigningKeyRing ring = new SigningKeyRing(List.of(key("only", NOW.minus(Duration.ofDays(365)))));
+
+        // When/Then
+        assertThat(ring.published(NOW, RETENTION)).extracting(SigningKeyRing.Key::keyId).containsExactly("only");
+        assertThat(ring.expired(NOW, RETENTION)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Last activation and find - include next keys")
+    void lastActivationAndFind_IncludeNextKeys() {
+        // Given
+        Instant nextActivation = NOW.plus(Duration.ofHours(1));
+        SigningKeyRing ring = new SigningKeyRing(List.of(
+                key("next", nextActivation),
+                key("current", NOW.minus(Duration.ofDays(1)))));
+
+        // When/Then
+        assertThat(ring.lastActivation()).contains(nextActivation);
+        assertThat(ring.find("next")).map(SigningKeyRing.Key::activatesAt).contains(nextActivation);
+        assertThat(ring.find("missing")).isEmpty();
+    }
+}
@@ -0,0 +1,80 @@
+package com.krushikranti.auth.repository;
+
+import com.krushikranti.auth.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("UserRepository Tests")
+class UserRepositoryTest {
+
+    /**
+     * AuthServiceApplication's explicit component scan would load every bean into the JPA slice.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        user = userRepository.save(User.builder()
+                .username("john")
+                .email("john@example.com")
+                .phoneNumber("9876543210")
+                .passwordHash("old-hash")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Update password hash - replaced when the current hash matches")
+    void updatePasswordHash_CurrentHashMatches_Updated() {
+        // When
+        int updated = userRepository.updatePasswordHash(user.getId(), "old-hash", "new-hash");
+
+        // Then
+        entityManager.clear();
+        assertThat(updated).isEqualTo(1);
+        assertThat(userRepository.findById(user.getId())).get()
+                .extracting(User::getPasswordHash).isEqualTo("new-hash");
+    }
+
+    @Test
+    @DisplayName("Update password hash - left alone when the password changed in the meantime")
+    void updatePasswordHash_PasswordChanged_NotUpdated() {
+        // Given
+        userRepository.updatePasswordHash(user.getId(), "old-hash", "changed-hash");
+
+        // When
+        int updated = userRepository.updatePasswordHash(user.getId(), "old-hash", "rehashed-old-password");
+
+        // Then
+        entityManager.clear();
+        assertThat(updated).isZero();
+        assertThat(userRepository.findById(user.getId())).get()
+                .extracting(User::getPasswordHash).isEqualTo("changed-hash");
+    }
+}
@@ -0,0 +1,213 @@
+package com.krushikranti.auth.service;
+
+import com.krushikranti.auth.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs against a 1-thread executor with a 1-slot queue; hashes block until the test releases them.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PasswordHashingService Unit Tests")
+class PasswordHashingServiceTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private MeterRegistry meterRegistry;
+    private PasswordHashingService hashingService;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hashingService = new PasswordHashingService(passwordEncoder, meterRegistry);
+        ReflectionTestUtils.setField(hashingService, "threads", 1);
+        ReflectionTestUtils.setField(hashingService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(hashingService, "timeout", Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hashingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Encode and matches - run on the hashing executor")
+    void encodeAndMatches_Idle_Delegate() {
+        // Given
+        hashingService.init();
+        when(passwordEncoder.encode("secret")).thenReturn("hash");
+        when(passwordEncoder.matches("secret", "hash")).thenReturn(true);
+
+        // When/Then
+        assertThat(hashingService.encode("secret")).isEqualTo("hash");
+        assertThat(hashingService.matches("secret", "hash")).isTrue();
+        assertThat(meterRegistry.get("auth.password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(rejectedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Saturated - call is rejected immediately when the thread is busy and the queue is full")
+    void matches_QueueFull_RejectedImmediately() {
+        // Given
+        hashingService.init();
+        when(passwordEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            awaitRelease();
+            return true;
+        });
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> hashingService.matches("a", "hash"));
+        awaitUntil(() -> gauge("auth.password.hashing.active") == 1);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> hashingService.matches("b", "hash"));
+        awaitUntil(() -> gauge("auth.password.hashing.queue") == 1);
+
+        // When/Then
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> hashingService.matches("c", "hash"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(rejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.join()).isTrue();
+        assertThat(queued.join()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Timeout - hash that does not finish in time is cancelled and counted as rejected")
+    void encode_Timeout_CancelsTask() {
+        // Given
+        ReflectionTestUtils.setField(hashingService, "timeout", Duration.ofMillis(100));
+        hashingService.init();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when(passwordEncoder.encode("slow")).thenAnswer(invocation -> {
+            try {
+                awaitRelease();
+                return "hash";
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw e;
+            }
+        });
+
+        // When/Then
+        assertThatThrownBy(() -> hashingService.encode("slow")).isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(rejectedCount()).isEqualTo(1);
+        awaitUntil(interrupted::get);
+        awaitUntil(() -> gauge("auth.password.hashing.active") == 0);
+
+        when(passwordEncoder.encode("fast")).thenReturn("hash");
+        assertThat(hashingService.encode("fast")).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("Rehash - not submitted when the encoder does not ask for an upgrade")
+    void rehashIfNeeded_NoUpgrade_Skipped() {
+        // Given
+        hashingService.init();
+        when(passwordEncoder.upgradeEncoding("hash")).thenReturn(false);
+
+        // When
+        hashingService.rehashIfNeeded("secret", "hash", newHash -> {
+            throw new AssertionError("Unexpected rehash");
+        });
+
+        // Then
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("Rehash - new hash is handed to the callback when an upgrade is needed")
+    void rehashIfNeeded_Upgrade_CallsBack() {
+        // Given
+        hashingService.init();
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        when(passwordEncoder.encode("secret")).thenReturn("new-hash");
+        AtomicReference<String> rehashed = new AtomicReference<>();
+
+        // When
+        hashingService.rehashIfNeeded("secret", "old-hash", rehashed::set);
+
+        // Then
+        awaitUntil(() -> rehashed.get() != null);
+        assertThat(rehashed.get()).isEqualTo("new-hash");
+    }
+
+    @Test
+    @DisplayName("Rehash - skipped without taking a queue slot or counting a rejection when the executor is busy")
+    void rehashIfNeeded_Busy_Skipped() {
+        // Given
+        hashingService.init();
+        when(passwordEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            awaitRelease();
+            return true;
+        });
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> hashingService.matches("a", "hash"));
+        awaitUntil(() -> gauge("auth.password.hashing.active") == 1);
+
+        // When
+        hashingService.rehashIfNeeded("secret", "old-hash", newHash -> {
+            throw new AssertionError("Unexpected rehash");
+        });
+
+        // Then
+        assertThat(gauge("auth.password.hashing.queue")).isZero();
+        assertThat(rejectedCount()).isZero();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> hashingService.matches("b", "hash"));
+        awaitUntil(() -> gauge("auth.password.hashing.queue") == 1);
+        release.countDown();
+        assertThat(running.join()).isTrue();
+        assertThat(queued.join()).isTrue();
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void awaitRelease() throws InterruptedException {
+        if (!release.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Test did not release the hash");
+        }
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double rejectedCount() {
+        return meterRegistry.get("auth.password.hashing.rejected").counter().count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5 seconds");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.krushikranti.auth.service;
+
+import com.krushikranti.auth.model.RefreshToken;
+import com.krushikranti.auth.model.User;
+import com.krushikranti.auth.repository.RefreshTokenRepository;
+import com.krushikranti.auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService Unit Tests")
+class RefreshTokenServiceTest {
+
+    private static final String FAMILY_ID = "family-1";
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "refreshExpiration", 604_800_000L);
+    }
+
+    private RefreshToken token(LocalDateTime usedAt, boolean revoked) {
+        return RefreshToken.builder()
+                .id(1L).userId(7L).tokenHash("hash").familyId(FAMILY_ID)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .usedAt(usedAt)
+                .isRevoked(revoked)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Rotate - unused token is marked used and replaced by a token in the same family")
+    void rotate_UnusedToken_IssuesNewTokenInFamily() {
+        // Given
+        RefreshToken token = token(null, false);
+        User user = User.builder().id(7L).isActive(true).isVerified(true).build();
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(token));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        // When
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate("raw-token");
+
+        // Then
+        assertThat(rotation).isPresent();
+        assertThat(rotation.get().user()).isSameAs(user);
+        assertThat(rotation.get().refreshToken()).isNotBlank().isNotEqualTo("raw-token");
+        assertThat(token.getUsedAt()).isNotNull();
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, times(2)).save(saved.capture());
+        RefreshToken issued = saved.getAllValues().get(1);
+        assertThat(issued.getFamilyId()).isEqualTo(FAMILY_ID);
+        assertThat(issued.getUserId()).isEqualTo(7L);
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    @DisplayName("Rotate - token used outside the grace window revokes the whole family")
+    void rotate_ReusedToken_RevokesFamily() {
+        // Given
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenReturn(Optional.of(token(LocalDateTime.now().minusMinutes(5), false)));
+
+        // When
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate("raw-token");
+
+        // Then
+        assertThat(rotation).isEmpty();
+        verify(refreshTokenRepository).revokeFamily(FAMILY_ID);
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Rotate - token used within the grace window is refused without revoking the family")
+    void rotate_ReusedWithinGrace_RefusedWithoutRevoking() {
+        // Given
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenReturn(Optional.of(token(LocalDateTime.now().minusSeconds(2), false)));
+
+        // When
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate("raw-token");
+
+        // Then
+        assertThat(rotation).isEmpty();
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Rotate - revoked token revokes the family even if it was used within the grace window")
+    void rotate_RevokedToken_RevokesFamily() {
+        // Given
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenReturn(Optional.of(token(LocalDateTime.now().minusSeconds(2), true)));
+
+        // When
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate("raw-token");
+
+        // Then
+        assertThat(rotation).isEmpty();
+        verify(refreshTokenRepository).revokeFamily(FAMILY_ID);
+    }
+
+    @Test
+    @DisplayName("Rotate - expired token is refused without revoking the family")
+    void rotate_ExpiredToken_Refused() {
+        // Given
+        RefreshToken token = token(null, false);
+        token.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(token));
+
+        // When
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate("raw-token");
+
+        // Then
+        assertThat(rotation).isEmpty();
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Rotate - inactive user revokes the family")
+    void rotate_InactiveUser_RevokesFamily() {
+        // Given
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(token(null, false)));
+        when(userRepository.findById(7L))
+                .thenReturn(Optional.of(User.builder().id(7L).isActive(false).isVerified(true).build()));
+
+        // When
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate("raw-token");
+
+        // Then
+        assertThat(rotation).isEmpty();
+        verify(refreshTokenRepository).revokeFamily(FAMILY_ID);
+    }
+
+    @Test
+    @DisplayName("Rotate - unknown token is refused")
+    void rotate_UnknownToken_Refused() {
+        // Given
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThat(refreshTokenService.rotate("raw-token")).isEmpty();
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+    }
+}
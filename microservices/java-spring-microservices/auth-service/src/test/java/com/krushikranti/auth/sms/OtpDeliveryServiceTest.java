@@ -0,0 +1,254 @@
+package com.krushikranti.auth.sms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs without worker threads; each test drives the worker steps (nextBatch, process) itself.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OtpDeliveryService Unit Tests")
+class OtpDeliveryServiceTest {
+
+    private static final Duration VALIDITY = Duration.ofMinutes(5);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private FakeSmsSender smsSender;
+    private OtpDeliveryService deliveryService;
+
+    @BeforeEach
+    void setUp() {
+        smsSender = new FakeSmsSender();
+        deliveryService = new OtpDeliveryService(smsSender, redisTemplate);
+        ReflectionTestUtils.setField(deliveryService, "workerCount", 0);
+        ReflectionTestUtils.setField(deliveryService, "linger", Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Batching - queued messages are sent in batches of at most batch-size")
+    void process_QueuedMessages_SentInBatches() {
+        // Given
+        ReflectionTestUtils.setField(deliveryService, "batchSize", 3);
+        deliveryService.start();
+        for (int i = 0; i < 5; i++) {
+            deliveryService.enqueue("900000000" + i, "12345" + i, VALIDITY);
+        }
+
+        // When
+        runWorkerOnce();
+        runWorkerOnce();
+
+        // Then
+        assertThat(smsSender.batches).extracting(List::size).containsExactly(3, 2);
+        assertThat(smsSender.batches.get(0).get(0).text()).contains("123450").contains("5 minutes");
+        assertThat(recordedStatuses()).extracting(status -> status.get("status")).containsOnly("SENT");
+    }
+
+    @Test
+    @DisplayName("Backoff - retryable failure is retried after a jittered delay, then sent")
+    void process_RetryableFailure_RetriedWithBackoff() {
+        // Given
+        ReflectionTestUtils.setField(deliveryService, "initialBackoff", Duration.ofSeconds(2));
+        deliveryService.start();
+        deliveryService.enqueue("9000000001", "123456", VALIDITY);
+        smsSender.result = message -> SmsSendResult.retryable(message.id(), "503 Service Unavailable");
+
+        // When
+        runWorkerOnce();
+
+        // Then
+        DelayQueue<?> retries = retries();
+        assertThat(retries).hasSize(1);
+        assertThat(retries.peek().getDelay(TimeUnit.MILLISECONDS)).isBetween(0L, 2000L);
+        assertThat(lastStatus()).containsEntry("status", "RETRYING").containsEntry("attempts", "1");
+
+        // When the retry is due
+        ReflectionTestUtils.setField(retries.peek(), "dueAt", System.nanoTime());
+        smsSender.result = message -> SmsSendResult.accepted(message.id(), "provider-1");
+        runWorkerOnce();
+
+        // Then
+        assertThat(smsSender.batches).hasSize(2);
+        assertThat(retries).isEmpty();
+        assertThat(lastStatus()).containsEntry("status", "SENT").containsEntry("attempts", "2")
+                .containsEntry("providerMessageId", "provider-1");
+    }
+
+    @Test
+    @DisplayName("Backoff - doubles per attempt with up to 50% jitter, capped at max-backoff")
+    void backoff_DoublesAndCaps() {
+        // Given
+        ReflectionTestUtils.setField(deliveryService, "initialBackoff", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(deliveryService, "maxBackoff", Duration.ofSeconds(4));
+
+        // When/Then
+        long[] expectedBase = {1000, 2000, 4000, 4000, 4000};
+        for (int attempts = 1; attempts <= expectedBase.length; attempts++) {
+            Duration delay = ReflectionTestUtils.invokeMethod(deliveryService, "backoff", attempts);
+            assertThat(delay.toMillis()).isBetween(expectedBase[attempts - 1] / 2, expectedBase[attempts - 1]);
+        }
+    }
+
+    @Test
+    @DisplayName("Expiry - message whose OTP expired while queued is not sent")
+    void process_ExpiredWhileQueued_NotSent() throws InterruptedException {
+        // Given
+        deliveryService.start();
+        deliveryService.enqueue("9000000001", "123456", Duration.ofMillis(1));
+        Thread.sleep(10);
+
+        // When
+        runWorkerOnce();
+
+        // Then
+        assertThat(smsSender.batches).isEmpty();
+        assertThat(lastStatus()).containsEntry("status", "EXPIRED").containsEntry("attempts", "0");
+    }
+
+    @Test
+    @DisplayName("Expiry - no retry is scheduled past the OTP's expiry")
+    void process_RetryWouldOutliveOtp_Failed() {
+        // Given
+        ReflectionTestUtils.setField(deliveryService, "initialBackoff", Duration.ofMinutes(4));
+        ReflectionTestUtils.setField(deliveryService, "maxBackoff", Duration.ofMinutes(4));
+        deliveryService.start();
+        deliveryService.enqueue("9000000001", "123456", Duration.ofMinutes(1));
+        smsSender.result = message -> SmsSendResult.retryable(message.id(), "timeout");
+
+        // When
+        runWorkerOnce();
+
+        // Then
+        assertThat(retries()).isEmpty();
+        assertThat(smsSender.batches).hasSize(1);
+        assertThat(lastStatus()).containsEntry("status", "FAILED").containsEntry("error", "timeout");
+    }
+
+    @Test
+    @DisplayName("Permanent failure - not retried")
+    void process_PermanentFailure_NotRetried() {
+        // Given
+        deliveryService.start();
+        deliveryService.enqueue("9000000001", "123456", VALIDITY);
+        smsSender.result = message -> SmsSendResult.failed(message.id(), "Invalid number");
+
+        // When
+        runWorkerOnce();
+
+        // Then
+        assertThat(retries()).isEmpty();
+        assertThat(lastStatus()).containsEntry("status", "FAILED").containsEntry("error", "Invalid number");
+    }
+
+    @Test
+    @DisplayName("Full queue - message is rejected without blocking")
+    void enqueue_QueueFull_Rejected() {
+        // Given
+        ReflectionTestUtils.setField(deliveryService, "queueCapacity", 1);
+        deliveryService.start();
+        deliveryService.enqueue("9000000001", "111111", VALIDITY);
+
+        // When
+        String messageId = deliveryService.enqueue("9000000002", "222222", VALIDITY);
+
+        // Then
+        assertThat(lastStatus()).containsEntry("messageId", messageId).containsEntry("status", "REJECTED")
+                .containsEntry("error", "Delivery queue full");
+        runWorkerOnce();
+        assertThat(smsSender.batches).hasSize(1);
+        assertThat(smsSender.batches.get(0)).extracting(SmsMessage::phoneNumber).containsExactly("9000000001");
+    }
+
+    @Test
+    @DisplayName("Shutdown - message is rejected as shutting down")
+    void enqueue_AfterStop_Rejected() throws InterruptedException {
+        // Given
+        deliveryService.start();
+        deliveryService.stop();
+
+        // When
+        deliveryService.enqueue("9000000001", "123456", VALIDITY);
+
+        // Then
+        assertThat(lastStatus()).containsEntry("status", "REJECTED").containsEntry("error", "Delivery shutting down");
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void runWorkerOnce() {
+        List<?> batch = ReflectionTestUtils.invokeMethod(deliveryService, "nextBatch");
+        assertThat(batch).isNotEmpty();
+        ReflectionTestUtils.invokeMethod(deliveryService, "process", batch);
+    }
+
+    private DelayQueue<?> retries() {
+        return (DelayQueue<?>) ReflectionTestUtils.getField(deliveryService, "retries");
+    }
+
+    private Map<String, String> lastStatus() {
+        List<Map<String, String>> statuses = recordedStatuses();
+        return statuses.get(statuses.size() - 1);
+    }
+
+    /**
+     * Replays every pipelined status write against a mock connection and returns the written hashes in order.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Map<String, String>> recordedStatuses() {
+        ArgumentCaptor<RedisCallback> callbacks = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate, atLeastOnce()).executePipelined(callbacks.capture());
+
+        RedisConnection connection = mock(RedisConnection.class, RETURNS_DEEP_STUBS);
+        callbacks.getAllValues().forEach(callback -> callback.doInRedis(connection));
+
+        ArgumentCaptor<Map> fields = ArgumentCaptor.forClass(Map.class);
+        verify(connection.hashCommands(), atLeastOnce()).hMSet(any(), fields.capture());
+
+        List<Map<String, String>> statuses = new ArrayList<>();
+        for (Map<byte[], byte[]> hash : fields.getAllValues()) {
+            Map<String, String> status = new HashMap<>();
+            hash.forEach((field, value) -> status.put(new String(field, StandardCharsets.UTF_8),
+                    new String(value, StandardCharsets.UTF_8)));
+            statuses.add(status);
+        }
+        return statuses;
+    }
+
+    private static class FakeSmsSender implements SmsSender {
+
+        private final List<List<SmsMessage>> batches = new ArrayList<>();
+        private Function<SmsMessage, SmsSendResult> result =
+                message -> SmsSendResult.accepted(message.id(), "provider-" + message.id());
+
+        @Override
+        public List<SmsSendResult> send(List<SmsMessage> messages) {
+            batches.add(List.copyOf(messages));
+            return messages.stream().map(result).toList();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.krushikranti.farmer.dto.ApiResponse;
 import com.krushikranti.farmer.dto.admin.AdminFarmerDetailDto;
 import com.krushikranti.farmer.dto.admin.AdminFarmerListResponse;
 import com.krushikranti.farmer.service.AdminFarmerService;
+import com.krushikranti.farmer.service.FarmerStatusProjectionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -23,22 +24,28 @@ import java.util.Optional;
 public class AdminFarmerController {
 
     private final AdminFarmerService adminFarmerService;
+    private final FarmerStatusProjectionService statusProjectionService;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     /**
-     * Get paginated list of all farmers with summary info
+     * Get paginated list of all farmers with summary info.
+     * With a {@code cursor} parameter (empty for the first page, then the previous response's
+     * {@code nextCursor}) the list is keyset-paginated and {@code page} is ignored.
      */
     @GetMapping
     public ResponseEntity<ApiResponse<AdminFarmerListResponse>> getAllFarmers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String kycStatus,
             @RequestParam(required = false) String subscriptionStatus,
             @RequestHeader(value = "X-User-Id", required = false) String adminUserId,
             @RequestHeader(value = "X-User-Roles", required = false) String roles) {
         
-        log.info("Admin {} fetching farmers list - page: {}, size: {}, search: {}, kyc: {}, sub: {}",
-                adminUserId, page, size, search, kycStatus, subscriptionStatus);
+        log.info("Admin {} fetching farmers list - page: {}, cursor: {}, size: {}, search: {}, kyc: {}, sub: {}",
+                adminUserId, page, cursor, size, search, kycStatus, subscriptionStatus);
         
         // Role validation (backup - gateway should already enforce)
         if (roles == null || !roles.contains("ADMIN")) {
@@ -47,10 +54,15 @@ public class AdminFarmerController {
         }
         
         try {
-            AdminFarmerListResponse response = adminFarmerService.getAllFarmers(
-                    page, size, search, kycStatus, subscriptionStatus);
+            // Offset mode keeps its original contract; only the new cursor mode caps the page size
+            AdminFarmerListResponse response = cursor != null
+                    ? adminFarmerService.getFarmersAfter(cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)),
+                            search, kycStatus, subscriptionStatus)
+                    : adminFarmerService.getAllFarmers(page, size, search, kycStatus, subscriptionStatus);
             
             return ResponseEntity.ok(new ApiResponse<>("Farmers fetched successfully", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(e.getMessage(), null));
         } catch (Exception e) {
             log.error("Error fetching farmers list: ", e);
             return ResponseEntity.internalServerError()
@@ -116,5 +128,31 @@ public class AdminFarmerController {
                     .body(new ApiResponse<>("Failed to fetch stats: " + e.getMessage(), null));
         }
     }
-}
 
+    /**
+     * Rebuild the local KYC/subscription status projection from kyc-service and subscription-service.
+     * Status-change events keep it current afterwards; use this after first deployment or an outage.
+     */
+    @PostMapping("/status-projection/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildStatusProjection(
+            @RequestHeader(value = "X-User-Id", required = false) String adminUserId,
+            @RequestHeader(value = "X-User-Roles", required = false) String roles) {
+        
+        log.info("Admin {} rebuilding farmer status projection", adminUserId);
+        
+        // Role validation
+        if (roles == null || !roles.contains("ADMIN")) {
+            return ResponseEntity.status(403)
+                    .body(new ApiResponse<>("Access denied. Admin role required.", null));
+        }
+        
+        try {
+            int processed = statusProjectionService.rebuild();
+            return ResponseEntity.ok(new ApiResponse<>("Status projection rebuilt for " + processed + " farmers", processed));
+        } catch (Exception e) {
+            log.error("Error rebuilding status projection: ", e);
+            return ResponseEntity.internalServerError()
+                    .body(new ApiResponse<>("Failed to rebuild status projection: " + e.getMessage(), null));
+        }
+    }
+}
@@ -3,10 +3,11 @@ package com.krushikranti.farmer.controller;
 import com.krushikranti.farmer.dto.ApiResponse;
 import com.krushikranti.farmer.dto.CropNameResponse;
 import com.krushikranti.farmer.dto.CropTypeResponse;
-import com.krushikranti.farmer.service.CropNameService;
-import com.krushikranti.farmer.service.CropTypeService;
+import com.krushikranti.farmer.service.CropCatalog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,6 +16,10 @@ import java.util.List;
 /**
  * REST Controller for farmer app to get crop master data (read-only).
  * Used for populating dropdowns in the farmer app.
+ *
+ * <p>Served from {@link CropCatalog}. Responses carry an ETag and {@code Cache-Control: no-cache},
+ * so the app can keep its copy and revalidate with {@code If-None-Match}; an unchanged catalog
+ * returns 304 Not Modified without a body.
  */
 @RestController
 @RequestMapping("/farmer/profile")
@@ -22,8 +27,9 @@ import java.util.List;
 @Slf4j
 public class CropMasterController {
 
-    private final CropTypeService cropTypeService;
-    private final CropNameService cropNameService;
+    private static final CacheControl CATALOG_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final CropCatalog cropCatalog;
 
     /**
      * Get all active crop types for dropdown (Dropdown 1).
@@ -35,11 +41,11 @@ public class CropMasterController {
             @RequestHeader(value = "Accept-Language", required = false, defaultValue = "en") String acceptLanguage) {
         String language = extractLanguage(acceptLanguage);
         log.debug("Getting active crop types for dropdown with language: {}", language);
-        List<CropTypeResponse> cropTypes = cropTypeService.getActiveCropTypes(language);
+        CropCatalog.Catalog catalog = cropCatalog.get(language);
         
-        return ResponseEntity.ok(new ApiResponse<>(
+        return catalogResponse(catalog, new ApiResponse<>(
                 "Crop types retrieved successfully",
-                cropTypes));
+                catalog.cropTypes()));
     }
 
     /**
@@ -53,9 +59,10 @@ public class CropMasterController {
             @RequestHeader(value = "Accept-Language", required = false, defaultValue = "en") String acceptLanguage) {
         String language = extractLanguage(acceptLanguage);
         log.debug("Getting active crop names for typeId: {} with language: {}", typeId, language);
-        List<CropNameResponse> cropNames = cropNameService.getActiveCropNamesByTypeId(typeId, language);
+        CropCatalog.Catalog catalog = cropCatalog.get(language);
+        List<CropNameResponse> cropNames = catalog.cropNamesByType(typeId);
         
-        return ResponseEntity.ok(new ApiResponse<>(
+        return catalogResponse(catalog, new ApiResponse<>(
                 "Crop names retrieved successfully",
                 cropNames));
     }
@@ -70,13 +77,25 @@ public class CropMasterController {
             @RequestHeader(value = "Accept-Language", required = false, defaultValue = "en") String acceptLanguage) {
         String language = extractLanguage(acceptLanguage);
         log.debug("Searching crop names with term: {} and language: {}", term, language);
-        List<CropNameResponse> cropNames = cropNameService.searchCropNames(term, language);
+        CropCatalog.Catalog catalog = cropCatalog.get(language);
+        List<CropNameResponse> cropNames = catalog.search(term);
         
-        return ResponseEntity.ok(new ApiResponse<>(
+        return catalogResponse(catalog, new ApiResponse<>(
                 "Crop names retrieved successfully",
                 cropNames));
     }
 
+    /**
+     * 200 with the catalog's ETag. Spring answers a matching If-None-Match with 304 and no body.
+     */
+    private <T> ResponseEntity<ApiResponse<T>> catalogResponse(CropCatalog.Catalog catalog, ApiResponse<T> body) {
+        return ResponseEntity.ok()
+                .eTag(catalog.etag())
+                .cacheControl(CATALOG_CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .body(body);
+    }
+
     /**
      * Extract language code from Accept-Language header.
      * Supports formats like "hi", "hi-IN", "en-US", etc.
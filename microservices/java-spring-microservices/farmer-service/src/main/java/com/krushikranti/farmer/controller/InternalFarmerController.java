@@ -0,0 +1,53 @@
+package com.krushikranti.farmer.controller;
+
+import com.krushikranti.farmer.dto.ApiResponse;
+import com.krushikranti.farmer.dto.internal.FarmerBatchLookupRequest;
+import com.krushikranti.farmer.dto.internal.FarmerWithFarmsDto;
+import com.krushikranti.farmer.service.FarmerLookupService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for inter-service farmer lookups.
+ * Not routed by the API Gateway - only reachable from other services.
+ */
+@RestController
+@RequestMapping("/internal/farmers")
+@RequiredArgsConstructor
+@Slf4j
+public class InternalFarmerController {
+
+    private final FarmerLookupService farmerLookupService;
+
+    /**
+     * Get a farmer and their farms by auth userId.
+     */
+    @GetMapping("/by-user/{userId}")
+    public ResponseEntity<ApiResponse<FarmerWithFarmsDto>> getFarmerByUserId(@PathVariable Long userId) {
+        log.debug("Internal lookup of farmer with farms for userId: {}", userId);
+
+        return farmerLookupService.getFarmerWithFarms(userId)
+                .map(farmer -> ResponseEntity.ok(new ApiResponse<>("Farmer fetched successfully", farmer)))
+                .orElseGet(() -> ResponseEntity.status(404)
+                        .body(new ApiResponse<>("Farmer not found with userId: " + userId, null)));
+    }
+
+    /**
+     * Get many farmers and their farms by auth userId in one call.
+     * Unknown userIds are left out of the result. With updatedSince, only changed farms are returned.
+     */
+    @PostMapping("/by-users")
+    public ResponseEntity<ApiResponse<List<FarmerWithFarmsDto>>> getFarmersByUserIds(
+            @Valid @RequestBody FarmerBatchLookupRequest request) {
+        log.debug("Internal batch lookup of farmers with farms for {} userIds", request.getUserIds().size());
+
+        List<FarmerWithFarmsDto> farmers = farmerLookupService.getFarmersWithFarms(
+                request.getUserIds(), request.getUpdatedSince());
+        return ResponseEntity.ok(new ApiResponse<>("Farmers fetched successfully", farmers));
+    }
+}
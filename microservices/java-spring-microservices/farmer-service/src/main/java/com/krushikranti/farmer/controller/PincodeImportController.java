@@ -1,12 +1,19 @@
 package com.krushikranti.farmer.controller;
 
 import com.krushikranti.farmer.dto.ApiResponse;
+import com.krushikranti.farmer.dto.PincodeImportJobResponse;
+import com.krushikranti.farmer.model.PincodeImportJob;
+import com.krushikranti.farmer.service.PincodeAddressIndex;
+import com.krushikranti.farmer.service.PincodeImportJobService;
 import com.krushikranti.farmer.service.PincodeImportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Controller for pincode data import (Admin/Development use only).
  * This should be secured or removed in production.
@@ -18,23 +25,71 @@ import org.springframework.web.bind.annotation.*;
 public class PincodeImportController {
 
     private final PincodeImportService pincodeImportService;
+    private final PincodeImportJobService pincodeImportJobService;
+    private final PincodeAddressIndex pincodeAddressIndex;
 
     /**
-     * Import pincode data from Excel file.
-     * This is a one-time operation to populate the pincode_master table.
+     * Submit a pincode Excel file for import.
+     * The import runs as a background job; poll {@code /pincode/import/jobs/{jobId}} for progress.
      * 
      * @param filePath Full path to the Excel file
-     * @return Number of records imported
+     * @return The queued import job
      */
     @PostMapping("/pincode/import")
-    public ResponseEntity<ApiResponse<Integer>> importPincodes(@RequestParam("filePath") String filePath) {
-        log.info("Importing pincodes from file: {}", filePath);
+    public ResponseEntity<ApiResponse<PincodeImportJobResponse>> importPincodes(@RequestParam("filePath") String filePath) {
+        log.info("Submitting pincode import for file: {}", filePath);
         
-        int importedCount = pincodeImportService.importFromExcel(filePath);
+        PincodeImportJob job = pincodeImportJobService.submit(filePath);
         
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new ApiResponse<>(
+                "Pincode import job submitted",
+                PincodeImportJobResponse.from(job)));
+    }
+
+    /**
+     * Get status, counts and throughput of an import job.
+     */
+    @GetMapping("/pincode/import/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<PincodeImportJobResponse>> getImportJob(@PathVariable Long jobId) {
+        PincodeImportJob job = pincodeImportJobService.getJob(jobId);
         return ResponseEntity.ok(new ApiResponse<>(
-                "Pincode import completed successfully",
-                importedCount));
+                "Import job retrieved",
+                PincodeImportJobResponse.from(job)));
+    }
+
+    /**
+     * List the most recent import jobs.
+     */
+    @GetMapping("/pincode/import/jobs")
+    public ResponseEntity<ApiResponse<List<PincodeImportJobResponse>>> getRecentImportJobs() {
+        List<PincodeImportJobResponse> jobs = pincodeImportJobService.getRecentJobs().stream()
+                .map(PincodeImportJobResponse::from)
+                .toList();
+        return ResponseEntity.ok(new ApiResponse<>(
+                "Import jobs retrieved",
+                jobs));
+    }
+
+    /**
+     * Cancel a queued or running import job. Rows already committed are kept.
+     */
+    @PostMapping("/pincode/import/jobs/{jobId}/cancel")
+    public ResponseEntity<ApiResponse<PincodeImportJobResponse>> cancelImportJob(@PathVariable Long jobId) {
+        PincodeImportJob job = pincodeImportJobService.cancel(jobId);
+        return ResponseEntity.ok(new ApiResponse<>(
+                "Import job cancellation requested",
+                PincodeImportJobResponse.from(job)));
+    }
+
+    /**
+     * Resume a failed or cancelled import job from its last committed chunk.
+     */
+    @PostMapping("/pincode/import/jobs/{jobId}/resume")
+    public ResponseEntity<ApiResponse<PincodeImportJobResponse>> resumeImportJob(@PathVariable Long jobId) {
+        PincodeImportJob job = pincodeImportJobService.resume(jobId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new ApiResponse<>(
+                "Import job resumed",
+                PincodeImportJobResponse.from(job)));
     }
 
     /**
@@ -47,5 +102,18 @@ public class PincodeImportController {
                 "Pincode count retrieved",
                 count));
     }
-}
 
+    /**
+     * Reload the in-memory pincode address index from the database.
+     * Only needed if pincode_master was changed outside of the import endpoint.
+     *
+     * @return Number of distinct pincodes indexed
+     */
+    @PostMapping("/pincode/index/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildPincodeIndex() {
+        int indexed = pincodeAddressIndex.rebuild();
+        return ResponseEntity.ok(new ApiResponse<>(
+                "Pincode index rebuilt",
+                indexed));
+    }
+}
@@ -0,0 +1,45 @@
+package com.krushikranti.farmer.dto;
+
+import com.krushikranti.farmer.model.PincodeImportJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PincodeImportJobResponse {
+    private Long jobId;
+    private String filePath;
+    private String status;         // QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    private Long rowsRead;
+    private Integer importedCount;
+    private Integer skippedCount;
+    private Integer lastCommittedRow;
+    private Double rowsPerSecond;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static PincodeImportJobResponse from(PincodeImportJob job) {
+        return PincodeImportJobResponse.builder()
+                .jobId(job.getId())
+                .filePath(job.getFilePath())
+                .status(job.getStatus().name())
+                .rowsRead(job.getRowsRead())
+                .importedCount(job.getImportedCount())
+                .skippedCount(job.getSkippedCount())
+                .lastCommittedRow(job.getLastCommittedRow())
+                .rowsPerSecond(job.getRowsPerSecond())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
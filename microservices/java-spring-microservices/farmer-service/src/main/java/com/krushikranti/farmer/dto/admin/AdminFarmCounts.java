@@ -0,0 +1,16 @@
+package com.krushikranti.farmer.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Total and verified farm counts of one farmer, from the grouped admin list query.
+ */
+@Data
+@AllArgsConstructor
+public class AdminFarmCounts {
+
+    private Long farmerId;
+    private Long farmCount;
+    private Long verifiedFarmCount;
+}
@@ -0,0 +1,51 @@
+package com.krushikranti.farmer.dto.admin;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Position in the admin farmer list (ordered by createdAt DESC, farmerId DESC) used for keyset
+ * pagination. Sent to clients as an opaque URL-safe string.
+ *
+ * @param createdAt created timestamp of the last farmer on the previous page
+ * @param farmerId  id of the last farmer on the previous page
+ */
+public record AdminFarmerCursor(LocalDateTime createdAt, Long farmerId) {
+
+    /** Positioned before the first row of the list. */
+    public static final AdminFarmerCursor START =
+            new AdminFarmerCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    /** Truncated to the microsecond precision of the timestamp column, so the row itself is excluded. */
+    public static AdminFarmerCursor of(AdminFarmerRow row) {
+        return new AdminFarmerCursor(row.getFarmer().getCreatedAt().truncatedTo(ChronoUnit.MICROS),
+                row.getFarmer().getId());
+    }
+
+    public String encode() {
+        String value = createdAt + "|" + farmerId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor an encoded cursor, or blank for the first page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static AdminFarmerCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            return new AdminFarmerCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.krushikranti.farmer.dto.admin;
 
+import com.krushikranti.farmer.model.Farm;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -132,7 +133,40 @@ public class AdminFarmerDetailDto {
         private String verifiedByOfficerName;
         private LocalDateTime verifiedAt;
         private String verificationRemarks;
+        private Boolean isActive;
         private LocalDateTime createdAt;
+
+        public static FarmInfo from(Farm farm) {
+            return FarmInfo.builder()
+                    .farmId(farm.getId())
+                    .farmName(farm.getFarmName())
+                    .farmType(farm.getFarmType() != null ? farm.getFarmType().name() : null)
+                    .totalAreaAcres(farm.getTotalAreaAcres())
+                    .pincode(farm.getPincode())
+                    .village(farm.getVillage())
+                    .district(farm.getDistrict())
+                    .taluka(farm.getTaluka())
+                    .state(farm.getState())
+                    .soilType(farm.getSoilType() != null ? farm.getSoilType().name() : null)
+                    .irrigationType(farm.getIrrigationType() != null ? farm.getIrrigationType().name() : null)
+                    .landOwnership(farm.getLandOwnership() != null ? farm.getLandOwnership().name() : null)
+                    .surveyNumber(farm.getSurveyNumber())
+                    .landRegistrationNumber(farm.getLandRegistrationNumber())
+                    .pattaNumber(farm.getPattaNumber())
+                    .estimatedLandValue(farm.getEstimatedLandValue())
+                    .encumbranceStatus(farm.getEncumbranceStatus() != null ? farm.getEncumbranceStatus().name() : null)
+                    .encumbranceRemarks(farm.getEncumbranceRemarks())
+                    .landDocumentUrl(farm.getLandDocumentUrl())
+                    .surveyMapUrl(farm.getSurveyMapUrl())
+                    .registrationCertificateUrl(farm.getRegistrationCertificateUrl())
+                    .isVerified(farm.getIsVerified())
+                    .verifiedByOfficerId(farm.getVerifiedBy())
+                    .verifiedAt(farm.getVerifiedAt())
+                    .verificationRemarks(farm.getVerificationRemarks())
+                    .isActive(farm.getIsActive())
+                    .createdAt(farm.getCreatedAt())
+                    .build();
+        }
     }
 
     @Data
@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 /**
- * Response DTO for paginated farmer list
+ * Response DTO for paginated farmer list (page-based or keyset/cursor-based)
  */
 @Data
 @Builder
@@ -17,12 +17,15 @@ import java.util.List;
 public class AdminFarmerListResponse {
     
     private List<AdminFarmerSummaryDto> farmers;
-    private int currentPage;
-    private int totalPages;
-    private long totalElements;
+    // Page number and totals are only set for page-based requests; keyset requests skip the count
+    private Integer currentPage;
+    private Integer totalPages;
+    private Long totalElements;
     private int pageSize;
     private boolean hasNext;
     private boolean hasPrevious;
+    // Cursor mode only: pass as "cursor" to fetch the rows after this page (null on the last page)
+    private String nextCursor;
     
     // Summary statistics
     private AdminDashboardStats stats;
@@ -0,0 +1,18 @@
+package com.krushikranti.farmer.dto.admin;
+
+import com.krushikranti.farmer.model.Farmer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One row of the admin farmer list query: the farmer plus its projected
+ * KYC and subscription status (null when no status event has been received).
+ */
+@Data
+@AllArgsConstructor
+public class AdminFarmerRow {
+
+    private Farmer farmer;
+    private String kycStatus;
+    private String subscriptionStatus;
+}
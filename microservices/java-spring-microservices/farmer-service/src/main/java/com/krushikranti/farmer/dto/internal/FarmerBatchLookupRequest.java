@@ -0,0 +1,26 @@
+package com.krushikranti.farmer.dto.internal;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Request DTO for looking up many farmers and their farms by userId at once.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FarmerBatchLookupRequest {
+
+    @NotEmpty(message = "At least one user ID is required")
+    @Size(max = 500, message = "At most 500 user IDs can be requested at once")
+    private List<Long> userIds;
+
+    /** When set, only farms changed after this time (and farmers whose profile changed) are returned. */
+    private LocalDateTime updatedSince;
+}
@@ -0,0 +1,33 @@
+package com.krushikranti.farmer.dto.internal;
+
+import com.krushikranti.farmer.dto.admin.AdminFarmerDetailDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Lean farmer + farms view for inter-service lookups by userId.
+ * Farm entries use the same shape as the admin farmer detail view.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FarmerWithFarmsDto {
+
+    private Long farmerId;
+    private Long userId;
+    private String firstName;
+    private String lastName;
+    private String fullName;
+    private String pincode;
+    private String village;
+    private String taluka;
+    private String district;
+    private String state;
+
+    private List<AdminFarmerDetailDto.FarmInfo> farms;
+}
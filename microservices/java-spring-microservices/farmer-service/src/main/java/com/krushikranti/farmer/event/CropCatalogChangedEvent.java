@@ -0,0 +1,11 @@
+package com.krushikranti.farmer.event;
+
+/**
+ * In-process event published when an admin creates, updates, deletes or restores
+ * a crop type or crop name.
+ *
+ * @param entity "crop_type" or "crop_name"
+ * @param id     id of the changed row
+ */
+public record CropCatalogChangedEvent(String entity, Long id) {
+}
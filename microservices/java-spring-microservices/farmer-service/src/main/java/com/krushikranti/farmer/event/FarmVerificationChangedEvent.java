@@ -0,0 +1,30 @@
+package com.krushikranti.farmer.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event published by field-officer-service when a field officer saves a farm verification.
+ * Mirrors com.krushikranti.fieldofficer.event.FarmVerificationChangedEvent (JSON payload).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FarmVerificationChangedEvent {
+
+    private String eventId;
+    private Long farmId;
+    private Long verificationId;
+    private Long fieldOfficerId;
+    private Long fieldOfficerUserId;
+    private String verificationStatus;
+    private String feedback;
+    private String rejectionReason;
+    private LocalDateTime verifiedAt;
+    private LocalDateTime occurredAt;
+}
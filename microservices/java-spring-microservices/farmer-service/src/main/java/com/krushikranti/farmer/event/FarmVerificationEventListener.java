@@ -0,0 +1,54 @@
+package com.krushikranti.farmer.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krushikranti.farmer.service.FarmVerificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consumes farm verification events from field-officer-service in batches and applies
+ * each batch to the farms in one transaction. Malformed payloads are logged and skipped
+ * so that a single bad message cannot block the partition.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FarmVerificationEventListener {
+
+    private final FarmVerificationService farmVerificationService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${events.topics.farm-verification-changed:field-officer.farm-verification-changed}",
+            batch = "true")
+    public void onFarmVerificationChanged(List<String> payloads) {
+        List<FarmVerificationChangedEvent> events = new ArrayList<>(payloads.size());
+        for (String payload : payloads) {
+            FarmVerificationChangedEvent event = parse(payload);
+            if (event != null && event.getFarmId() != null && event.getVerificationStatus() != null
+                    && event.getOccurredAt() != null) {
+                events.add(event);
+            }
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        int applied = farmVerificationService.applyVerifications(events);
+        log.debug("Applied {} of {} farm verification events", applied, payloads.size());
+    }
+
+    private FarmVerificationChangedEvent parse(String payload) {
+        try {
+            return objectMapper.readValue(payload, FarmVerificationChangedEvent.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping malformed FarmVerificationChangedEvent payload: {}", e.getMessage());
+            return null;
+        }
+    }
+}
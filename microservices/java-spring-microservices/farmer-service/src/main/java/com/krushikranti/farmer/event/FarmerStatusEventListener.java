@@ -0,0 +1,55 @@
+package com.krushikranti.farmer.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krushikranti.farmer.service.FarmerStatusProjectionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumes KYC and subscription status-change events and applies them to the
+ * local status projection. Malformed payloads are logged and skipped so that a
+ * single bad message cannot block the partition.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FarmerStatusEventListener {
+
+    private final FarmerStatusProjectionService projectionService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${events.topics.kyc-status-changed:kyc.status-changed}")
+    public void onKycStatusChanged(String payload) {
+        KycStatusChangedEvent event = parse(payload, KycStatusChangedEvent.class);
+        if (event == null || event.getUserId() == null || event.getKycStatus() == null) {
+            return;
+        }
+
+        log.debug("KYC status for userId {} is now {}", event.getUserId(), event.getKycStatus());
+        projectionService.applyKycStatus(event.getUserId(), event.getKycStatus(), event.getOccurredAt());
+    }
+
+    @KafkaListener(topics = "${events.topics.subscription-status-changed:subscription.status-changed}")
+    public void onSubscriptionStatusChanged(String payload) {
+        SubscriptionStatusChangedEvent event = parse(payload, SubscriptionStatusChangedEvent.class);
+        if (event == null || event.getUserId() == null || event.getSubscriptionStatus() == null) {
+            return;
+        }
+
+        log.debug("Subscription status for userId {} is now {}", event.getUserId(), event.getSubscriptionStatus());
+        projectionService.applySubscriptionStatus(
+                event.getUserId(), event.getSubscriptionStatus(), event.getOccurredAt());
+    }
+
+    private <T> T parse(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping malformed {} payload: {}", type.getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.krushikranti.farmer.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status-change event published by kyc-service when a KYC record is saved.
+ * Mirrors com.krushikranti.kyc.event.KycStatusChangedEvent (JSON payload).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KycStatusChangedEvent {
+
+    private Long userId;
+    private String kycStatus;
+    private LocalDateTime occurredAt;
+}
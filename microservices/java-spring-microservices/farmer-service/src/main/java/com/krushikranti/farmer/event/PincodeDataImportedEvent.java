@@ -0,0 +1,9 @@
+package com.krushikranti.farmer.event;
+
+/**
+ * In-process event published when a pincode import has written rows to pincode_master.
+ *
+ * @param importedCount number of rows inserted by the import
+ */
+public record PincodeDataImportedEvent(int importedCount) {
+}
@@ -0,0 +1,24 @@
+package com.krushikranti.farmer.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status-change event published by subscription-service.
+ * Mirrors com.krushikranti.subscription.event.SubscriptionStatusChangedEvent (JSON payload).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubscriptionStatusChangedEvent {
+
+    private Long userId;
+    private Long subscriptionId;
+    private String subscriptionStatus;
+    private LocalDateTime occurredAt;
+}
@@ -2,6 +2,7 @@ package com.krushikranti.farmer.exception;
 
 import com.krushikranti.farmer.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -17,6 +18,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    /** Seconds a client should wait before retrying a pincode import; imports run for minutes. */
+    private static final String PINCODE_IMPORT_RETRY_AFTER = "60";
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiResponse<Object>> handleIllegalArgumentException(IllegalArgumentException e) {
         log.warn("Illegal argument: {}", e.getMessage());
@@ -37,6 +41,14 @@ public class GlobalExceptionHandler {
                 .body(new ApiResponse<>("Validation failed: " + errors, null));
     }
 
+    @ExceptionHandler(PincodeImportBusyException.class)
+    public ResponseEntity<ApiResponse<Object>> handlePincodeImportBusyException(PincodeImportBusyException e) {
+        log.warn("Pincode import rejected: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, PINCODE_IMPORT_RETRY_AFTER)
+                .body(new ApiResponse<>(e.getMessage(), null));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiResponse<Object>> handleRuntimeException(RuntimeException e) {
         log.error("Runtime error: {}", e.getMessage(), e);
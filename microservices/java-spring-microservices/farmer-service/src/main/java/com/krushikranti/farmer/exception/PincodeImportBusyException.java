@@ -0,0 +1,12 @@
+package com.krushikranti.farmer.exception;
+
+/**
+ * Thrown when the pincode import queue is full. Mapped to 503 with a Retry-After header,
+ * since the request is valid and can succeed once a running import finishes.
+ */
+public class PincodeImportBusyException extends RuntimeException {
+
+    public PincodeImportBusyException(String message) {
+        super(message);
+    }
+}
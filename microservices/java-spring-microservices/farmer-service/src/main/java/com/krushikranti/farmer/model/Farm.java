@@ -124,6 +124,9 @@ public class Farm {
     @Column(name = "verification_remarks", columnDefinition = "TEXT")
     private String verificationRemarks;
 
+    @Column(name = "verification_updated_at")
+    private LocalDateTime verificationUpdatedAt; // Last verification event applied (field-officer-service)
+
     // ========================================
     // STATUS & METADATA
     // ========================================
@@ -0,0 +1,54 @@
+package com.krushikranti.farmer.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Local copy of a user's KYC and subscription status, maintained from the
+ * status-change events published by kyc-service and subscription-service.
+ * A missing row means no event has been received yet for that user.
+ */
+@Entity
+@Table(name = "farmer_status_projection")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FarmerStatusProjection {
+
+    /** Status reported by kyc-service for users without a KYC record. */
+    public static final String DEFAULT_KYC_STATUS = "PENDING";
+
+    /** Status reported by subscription-service for users without a subscription. */
+    public static final String DEFAULT_SUBSCRIPTION_STATUS = "NONE";
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "kyc_status", length = 20)
+    private String kycStatus;
+
+    @Column(name = "kyc_updated_at")
+    private LocalDateTime kycUpdatedAt;
+
+    @Column(name = "subscription_status", length = 20)
+    private String subscriptionStatus;
+
+    @Column(name = "subscription_updated_at")
+    private LocalDateTime subscriptionUpdatedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,95 @@
+package com.krushikranti.farmer.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A pincode import run in the background by PincodeImportJobService.
+ * Counts and {@code lastCommittedRow} are updated after every committed chunk,
+ * so a failed or cancelled job can be resumed where it stopped.
+ */
+@Entity
+@Table(name = "pincode_import_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PincodeImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long id;
+
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.QUEUED;
+
+    @Column(name = "rows_read", nullable = false)
+    @Builder.Default
+    private Long rowsRead = 0L;
+
+    @Column(name = "imported_count", nullable = false)
+    @Builder.Default
+    private Integer importedCount = 0;
+
+    @Column(name = "skipped_count", nullable = false)
+    @Builder.Default
+    private Integer skippedCount = 0;
+
+    /** Last sheet row (0-based, header is row 0) whose outcome is committed. */
+    @Column(name = "last_committed_row", nullable = false)
+    @Builder.Default
+    private Integer lastCommittedRow = 0;
+
+    /** Rows per second of the current (or last) run. */
+    @Column(name = "rows_per_second")
+    private Double rowsPerSecond;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+}
@@ -65,5 +65,10 @@ public interface CropNameRepository extends JpaRepository<CropName, Long> {
            "OR LOWER(cn.localName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
            "ORDER BY cn.cropType.displayOrder, cn.displayOrder")
     List<CropName> searchByNameContaining(@Param("searchTerm") String searchTerm);
-}
 
+    /**
+     * Find all crop names (including inactive) with their crop type, for the in-memory catalog.
+     */
+    @Query("SELECT cn FROM CropName cn JOIN FETCH cn.cropType")
+    List<CropName> findAllWithCropType();
+}
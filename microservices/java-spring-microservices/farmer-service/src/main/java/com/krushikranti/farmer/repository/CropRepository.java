@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -69,5 +70,49 @@ public interface CropRepository extends JpaRepository<Crop, Long> {
            "JOIN FETCH cn.cropType ct " +
            "WHERE f.farmer.userId = :userId AND c.isActive = true AND f.isActive = true")
     List<Crop> findByFarmerUserIdWithDetails(@Param("userId") Long userId);
-}
 
+    /**
+     * Find all active crops for a farm with farm, crop name and crop type details.
+     */
+    @Query("SELECT c FROM Crop c " +
+           "JOIN FETCH c.farm f " +
+           "JOIN FETCH c.cropName cn " +
+           "JOIN FETCH cn.cropType ct " +
+           "WHERE f.id = :farmId AND c.isActive = true")
+    List<Crop> findByFarmIdWithDetails(@Param("farmId") Long farmId);
+
+    /**
+     * Find crops by crop type for a farmer with farm, crop name and crop type details.
+     */
+    @Query("SELECT c FROM Crop c " +
+           "JOIN FETCH c.farm f " +
+           "JOIN FETCH c.cropName cn " +
+           "JOIN FETCH cn.cropType ct " +
+           "WHERE f.farmer.userId = :userId AND ct.id = :cropTypeId AND c.isActive = true")
+    List<Crop> findByFarmerUserIdAndCropTypeIdWithDetails(
+            @Param("userId") Long userId,
+            @Param("cropTypeId") Long cropTypeId);
+
+    /**
+     * Find a single active crop owned by a farmer, with farm, crop name and crop type details.
+     * Looks the crop up by primary key and checks ownership in the same statement.
+     */
+    @Query("SELECT c FROM Crop c " +
+           "JOIN FETCH c.farm f " +
+           "JOIN FETCH c.cropName cn " +
+           "JOIN FETCH cn.cropType ct " +
+           "WHERE c.id = :cropId AND f.farmer.userId = :userId AND c.isActive = true")
+    Optional<Crop> findByIdAndFarmerUserIdWithDetails(
+            @Param("cropId") Long cropId,
+            @Param("userId") Long userId);
+
+    /**
+     * Sum the area of a farm's active crops, optionally leaving one crop out (the one being updated).
+     */
+    @Query("SELECT COALESCE(SUM(c.areaAcres), 0) FROM Crop c " +
+           "WHERE c.farm.id = :farmId AND c.isActive = true " +
+           "AND (:excludeCropId IS NULL OR c.id <> :excludeCropId)")
+    BigDecimal sumActiveAreaAcresByFarmId(
+            @Param("farmId") Long farmId,
+            @Param("excludeCropId") Long excludeCropId);
+}
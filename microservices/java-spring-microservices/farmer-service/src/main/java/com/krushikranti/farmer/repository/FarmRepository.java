@@ -1,11 +1,14 @@
 package com.krushikranti.farmer.repository;
 
+import com.krushikranti.farmer.dto.admin.AdminFarmCounts;
 import com.krushikranti.farmer.model.Farm;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +29,29 @@ public interface FarmRepository extends JpaRepository<Farm, Long> {
      */
     List<Farm> findByFarmerId(Long farmerId);
 
+    /**
+     * Find all farms (including inactive) of the farmer with the given userId,
+     * fetching the farmer in the same statement.
+     */
+    @Query("SELECT f FROM Farm f JOIN FETCH f.farmer fr WHERE fr.userId = :userId ORDER BY f.id")
+    List<Farm> findByFarmerUserIdWithFarmer(@Param("userId") Long userId);
+
+    /**
+     * Find all farms (including inactive) of the farmers with the given userIds,
+     * fetching each farm's farmer in the same statement.
+     */
+    @Query("SELECT f FROM Farm f JOIN FETCH f.farmer fr WHERE fr.userId IN :userIds ORDER BY fr.userId, f.id")
+    List<Farm> findByFarmerUserIdsWithFarmer(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Like {@link #findByFarmerUserIdsWithFarmer}, but only farms changed after the given time,
+     * and all farms of farmers whose own profile changed after it.
+     */
+    @Query("SELECT f FROM Farm f JOIN FETCH f.farmer fr WHERE fr.userId IN :userIds " +
+           "AND (f.updatedAt > :since OR fr.updatedAt > :since) ORDER BY fr.userId, f.id")
+    List<Farm> findByFarmerUserIdsWithFarmerChangedSince(@Param("userIds") Collection<Long> userIds,
+                                                         @Param("since") LocalDateTime since);
+
     /**
      * Find a specific farm by ID and farmer ID (for ownership verification).
      */
@@ -97,6 +123,15 @@ public interface FarmRepository extends JpaRepository<Farm, Long> {
      */
     long countByFarmerIdAndIsVerifiedTrue(Long farmerId);
     
+    /**
+     * Count total and verified farms for many farmers in one grouped query.
+     * Farmers without farms are absent from the result.
+     */
+    @Query("SELECT new com.krushikranti.farmer.dto.admin.AdminFarmCounts(f.farmer.id, COUNT(f), " +
+           "SUM(CASE WHEN f.isVerified = true THEN 1L ELSE 0L END)) " +
+           "FROM Farm f WHERE f.farmer.id IN :farmerIds GROUP BY f.farmer.id")
+    List<AdminFarmCounts> countFarmsByFarmerIds(@Param("farmerIds") Collection<Long> farmerIds);
+
     /**
      * Count all verified farms
      */
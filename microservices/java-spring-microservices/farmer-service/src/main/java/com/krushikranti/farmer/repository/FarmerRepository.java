@@ -1,6 +1,8 @@
 package com.krushikranti.farmer.repository;
 
+import com.krushikranti.farmer.dto.admin.AdminFarmerRow;
 import com.krushikranti.farmer.model.Farmer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,23 +10,96 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FarmerRepository extends JpaRepository<Farmer, Long> {
+
+    String WITH_STATUS = "FROM Farmer f LEFT JOIN FarmerStatusProjection p ON p.userId = f.userId ";
+
+    // Farmers without a projection row count as KYC PENDING / subscription NONE; an empty status
+    // disables that filter. The search pattern is prepared by the caller ("%term%", lower-case, escaped)
+    // so each LOWER(column) LIKE matches the trigram indexes from V15. Search and no-search are separate
+    // queries so neither depends on the planner folding a constant-disable predicate. The keyset cursor
+    // condition is a range on the leading column of idx_farmers_created_at_id.
+    String STATUS_FILTER =
+           "(:kycStatus = '' OR p.kycStatus = :kycStatus OR " +
+           "(p.kycStatus IS NULL AND :kycStatus = 'PENDING')) AND " +
+           "(:subscriptionStatus = '' OR p.subscriptionStatus = :subscriptionStatus OR " +
+           "(p.subscriptionStatus IS NULL AND :subscriptionStatus = 'NONE')) ";
+    String SEARCH_FILTER =
+           "(LOWER(f.firstName) LIKE :pattern ESCAPE '!' OR " +
+           "LOWER(f.lastName) LIKE :pattern ESCAPE '!' OR " +
+           "LOWER(f.village) LIKE :pattern ESCAPE '!' OR " +
+           "LOWER(f.district) LIKE :pattern ESCAPE '!') ";
+    String AFTER_CURSOR =
+           "f.createdAt <= :createdAt AND (f.createdAt < :createdAt OR f.id < :farmerId) ";
+    String KEYSET_ORDER = "ORDER BY f.createdAt DESC, f.id DESC";
     
     Optional<Farmer> findByUserId(Long userId);
     
+    List<Farmer> findByUserIdIn(Collection<Long> userIds);
+    
     boolean existsByUserId(Long userId);
     
     /**
-     * Search farmers by name, village, district
+     * Admin farmer list: KYC/subscription status filter, sort and pagination
+     * in a single query against the local status projection.
      */
-    @Query("SELECT f FROM Farmer f WHERE " +
-           "LOWER(f.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(f.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(f.village) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(f.district) LIKE LOWER(CONCAT('%', :search, '%'))")
-    Page<Farmer> searchFarmers(@Param("search") String search, Pageable pageable);
-}
+    @Query(value = "SELECT new com.krushikranti.farmer.dto.admin.AdminFarmerRow(f, p.kycStatus, p.subscriptionStatus) " +
+                   WITH_STATUS + "WHERE " + STATUS_FILTER,
+           countQuery = "SELECT COUNT(f) " + WITH_STATUS + "WHERE " + STATUS_FILTER)
+    Page<AdminFarmerRow> findAdminFarmerRows(@Param("kycStatus") String kycStatus,
+                                             @Param("subscriptionStatus") String subscriptionStatus,
+                                             Pageable pageable);
 
+    /**
+     * Admin farmer search with status filter, sort and pagination.
+     *
+     * @param pattern lower-case LIKE pattern with {@code !} as escape character, e.g. {@code %pune%}
+     */
+    @Query(value = "SELECT new com.krushikranti.farmer.dto.admin.AdminFarmerRow(f, p.kycStatus, p.subscriptionStatus) " +
+                   WITH_STATUS + "WHERE " + SEARCH_FILTER + "AND " + STATUS_FILTER,
+           countQuery = "SELECT COUNT(f) " + WITH_STATUS + "WHERE " + SEARCH_FILTER + "AND " + STATUS_FILTER)
+    Page<AdminFarmerRow> searchAdminFarmerRows(@Param("pattern") String pattern,
+                                               @Param("kycStatus") String kycStatus,
+                                               @Param("subscriptionStatus") String subscriptionStatus,
+                                               Pageable pageable);
+
+    /**
+     * Admin farmer list, keyset-paginated: the next {@code limit} rows after the cursor position.
+     */
+    @Query("SELECT new com.krushikranti.farmer.dto.admin.AdminFarmerRow(f, p.kycStatus, p.subscriptionStatus) " +
+           WITH_STATUS + "WHERE " + AFTER_CURSOR + "AND " + STATUS_FILTER + KEYSET_ORDER)
+    List<AdminFarmerRow> findAdminFarmerRowsAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("farmerId") Long farmerId,
+                                                  @Param("kycStatus") String kycStatus,
+                                                  @Param("subscriptionStatus") String subscriptionStatus,
+                                                  Limit limit);
+
+    /**
+     * Admin farmer search, keyset-paginated.
+     *
+     * @param pattern lower-case LIKE pattern with {@code !} as escape character, e.g. {@code %pune%}
+     */
+    @Query("SELECT new com.krushikranti.farmer.dto.admin.AdminFarmerRow(f, p.kycStatus, p.subscriptionStatus) " +
+           WITH_STATUS + "WHERE " + SEARCH_FILTER + "AND " + AFTER_CURSOR + "AND " + STATUS_FILTER + KEYSET_ORDER)
+    List<AdminFarmerRow> searchAdminFarmerRowsAfter(@Param("pattern") String pattern,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("farmerId") Long farmerId,
+                                                    @Param("kycStatus") String kycStatus,
+                                                    @Param("subscriptionStatus") String subscriptionStatus,
+                                                    Limit limit);
+
+    @Query("SELECT COUNT(f) " + WITH_STATUS +
+           "WHERE p.kycStatus = :kycStatus OR (p.kycStatus IS NULL AND :kycStatus = 'PENDING')")
+    long countByKycStatus(@Param("kycStatus") String kycStatus);
+
+    @Query("SELECT COUNT(f) " + WITH_STATUS +
+           "WHERE p.subscriptionStatus = :subscriptionStatus " +
+           "OR (p.subscriptionStatus IS NULL AND :subscriptionStatus = 'NONE')")
+    long countBySubscriptionStatus(@Param("subscriptionStatus") String subscriptionStatus);
+}
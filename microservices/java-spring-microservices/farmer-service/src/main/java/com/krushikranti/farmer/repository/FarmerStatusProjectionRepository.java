@@ -0,0 +1,9 @@
+package com.krushikranti.farmer.repository;
+
+import com.krushikranti.farmer.model.FarmerStatusProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FarmerStatusProjectionRepository extends JpaRepository<FarmerStatusProjection, Long> {
+}
@@ -0,0 +1,16 @@
+package com.krushikranti.farmer.repository;
+
+import com.krushikranti.farmer.model.PincodeImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PincodeImportJobRepository extends JpaRepository<PincodeImportJob, Long> {
+
+    List<PincodeImportJob> findTop20ByOrderByCreatedAtDesc();
+
+    List<PincodeImportJob> findByStatusIn(Collection<PincodeImportJob.Status> statuses);
+}
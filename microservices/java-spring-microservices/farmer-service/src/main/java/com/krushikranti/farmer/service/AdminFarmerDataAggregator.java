@@ -0,0 +1,303 @@
+package com.krushikranti.farmer.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fans out the remote lookups needed by the admin farmer screens.
+ * Every dependency (KYC, subscription, auth, field-officer) is built as a Mono,
+ * all of them run concurrently, and the caller blocks once for the merged result.
+ * A slow or failing service only costs its own timeout and degrades to empty data.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdminFarmerDataAggregator {
+
+    /** Upper bound accepted by the kyc/subscription batch status endpoints. */
+    private static final int STATUS_BATCH_SIZE = 500;
+
+    private final WebClient.Builder webClientBuilder;
+    private final AuthServiceClient authServiceClient;
+
+    @Value("${services.kyc-service.url:http://localhost:4014}")
+    private String kycServiceUrl;
+
+    @Value("${services.subscription-service.url:http://localhost:4013}")
+    private String subscriptionServiceUrl;
+
+    @Value("${services.field-officer-service.url:http://localhost:4015}")
+    private String fieldOfficerServiceUrl;
+
+    @Value("${services.aggregation.max-concurrency:16}")
+    private int maxConcurrency;
+
+    @Value("${services.aggregation.kyc-timeout-ms:3000}")
+    private long kycTimeoutMs;
+
+    @Value("${services.aggregation.subscription-timeout-ms:3000}")
+    private long subscriptionTimeoutMs;
+
+    @Value("${services.aggregation.auth-timeout-ms:3000}")
+    private long authTimeoutMs;
+
+    @Value("${services.aggregation.field-officer-timeout-ms:3000}")
+    private long fieldOfficerTimeoutMs;
+
+    /**
+     * Remote data for one page of farmers, keyed by userId.
+     * assignedFarmCounts holds the number of non-cancelled farm assignments per farmer.
+     * KYC and subscription status come from the local status projection instead.
+     */
+    public record FarmerPageData(
+            Map<Long, Map<String, Object>> userDetails,
+            Map<Long, Integer> assignedFarmCounts
+    ) {
+        static FarmerPageData empty() {
+            return new FarmerPageData(Map.of(), Map.of());
+        }
+    }
+
+    /**
+     * KYC and subscription status records keyed by userId, as returned by the batch endpoints.
+     */
+    public record FarmerStatuses(
+            Map<Long, Map<String, Object>> kycStatuses,
+            Map<Long, Map<String, Object>> subscriptionStatuses
+    ) {}
+
+    /**
+     * Remote data for a single farmer's detail view.
+     */
+    public record FarmerDetailData(
+            Map<String, Object> userDetails,
+            Map<String, Object> kycStatus,
+            Map<String, Object> subscriptionStatus
+    ) {}
+
+    /**
+     * Fetch user and assignment data for a page of farmers concurrently.
+     */
+    public FarmerPageData fetchPageData(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return FarmerPageData.empty();
+        }
+
+        FarmerPageData data = Mono.zip(
+                        fetchUserDetailsBatch(userIds),
+                        fetchAssignedFarmCounts(userIds))
+                .map(t -> new FarmerPageData(t.getT1(), t.getT2()))
+                .block();
+
+        return data != null ? data : FarmerPageData.empty();
+    }
+
+    /**
+     * Fetch KYC and subscription status for many farmers concurrently.
+     * Used to (re)build the local status projection.
+     */
+    public FarmerStatuses fetchStatuses(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return new FarmerStatuses(Map.of(), Map.of());
+        }
+
+        FarmerStatuses statuses = Mono.zip(
+                        fetchKycStatusBatch(userIds),
+                        fetchSubscriptionStatusBatch(userIds))
+                .map(t -> new FarmerStatuses(t.getT1(), t.getT2()))
+                .block();
+
+        return statuses != null ? statuses : new FarmerStatuses(Map.of(), Map.of());
+    }
+
+    /**
+     * Fetch user, KYC and subscription data for one farmer concurrently.
+     */
+    public FarmerDetailData fetchDetailData(Long userId) {
+        FarmerDetailData data = Mono.zip(
+                        fetchUserDetails(userId),
+                        fetchKycStatus(userId),
+                        fetchSubscriptionStatus(userId))
+                .map(t -> new FarmerDetailData(t.getT1(), t.getT2(), t.getT3()))
+                .block();
+
+        return data != null ? data : new FarmerDetailData(Map.of(), Map.of(), Map.of());
+    }
+
+    // ==================== Single Lookups ====================
+
+    private Mono<Map<String, Object>> fetchKycStatus(Long userId) {
+        return webClientBuilder.build()
+                .get()
+                .uri(kycServiceUrl + "/kyc/status")
+                .header("X-User-Id", String.valueOf(userId))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .map(this::unwrapData)
+                .timeout(Duration.ofMillis(kycTimeoutMs))
+                .onErrorResume(e -> {
+                    log.warn("Failed to fetch KYC status for user {}: {}", userId, e.getMessage());
+                    return Mono.just(Map.of());
+                })
+                .defaultIfEmpty(Map.of());
+    }
+
+    private Mono<Map<String, Object>> fetchSubscriptionStatus(Long userId) {
+        return webClientBuilder.build()
+                .get()
+                .uri(subscriptionServiceUrl + "/subscription/status")
+                .header("X-User-Id", String.valueOf(userId))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .map(this::unwrapData)
+                .timeout(Duration.ofMillis(subscriptionTimeoutMs))
+                .onErrorResume(e -> {
+                    log.warn("Failed to fetch subscription status for user {}: {}", userId, e.getMessage());
+                    return Mono.just(Map.of());
+                })
+                .defaultIfEmpty(Map.of());
+    }
+
+    private Mono<Map<String, Object>> fetchUserDetails(Long userId) {
+        return fetchUserDetailsBatch(List.of(userId))
+                .map(users -> users.getOrDefault(userId, Map.of()));
+    }
+
+    // ==================== Batch Lookups ====================
+
+    private Mono<Map<Long, Map<String, Object>>> fetchKycStatusBatch(List<Long> userIds) {
+        return fetchStatusBatch(kycServiceUrl + "/kyc/status/batch", userIds,
+                Duration.ofMillis(kycTimeoutMs), "KYC status");
+    }
+
+    private Mono<Map<Long, Map<String, Object>>> fetchSubscriptionStatusBatch(List<Long> userIds) {
+        return fetchStatusBatch(subscriptionServiceUrl + "/subscription/status/batch", userIds,
+                Duration.ofMillis(subscriptionTimeoutMs), "subscription status");
+    }
+
+    /**
+     * Fetch per-user status records from a batch endpoint (one POST per chunk of
+     * {@value #STATUS_BATCH_SIZE} ids) and index them by userId.
+     * Users missing from the response are simply absent from the returned map.
+     */
+    private Mono<Map<Long, Map<String, Object>>> fetchStatusBatch(String url, List<Long> userIds,
+                                                               Duration timeout, String what) {
+        return Flux.fromIterable(chunk(userIds, STATUS_BATCH_SIZE))
+                .flatMap(chunk -> webClientBuilder.build()
+                        .post()
+                        .uri(url)
+                        .bodyValue(Map.of("userIds", chunk))
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                        .flatMapIterable(this::unwrapDataList)
+                        .timeout(timeout)
+                        .onErrorResume(e -> {
+                            log.warn("Failed to fetch {} for {} users: {}", what, chunk.size(), e.getMessage());
+                            return Flux.empty();
+                        }), maxConcurrency)
+                .filter(status -> status.get("userId") instanceof Number)
+                .collectMap(status -> ((Number) status.get("userId")).longValue(), status -> status);
+    }
+
+    /**
+     * User details come from the shared, cached AuthServiceClient (one GetUsersByIds call
+     * for whatever is not cached). The blocking gRPC stub runs on the bounded-elastic scheduler.
+     */
+    private Mono<Map<Long, Map<String, Object>>> fetchUserDetailsBatch(List<Long> userIds) {
+        return Mono.fromCallable(() -> authServiceClient.getUsersByIds(userIds))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(users -> {
+                    Map<Long, Map<String, Object>> details = new HashMap<>();
+                    users.forEach((userId, user) -> details.put(userId, Map.of(
+                            "username", user.getUsername(),
+                            "email", user.getEmail(),
+                            "phoneNumber", user.getPhoneNumber())));
+                    return details;
+                })
+                .timeout(Duration.ofMillis(authTimeoutMs))
+                .onErrorResume(e -> {
+                    log.warn("Failed to fetch user details for {} users: {}", userIds.size(), e.getMessage());
+                    return Mono.just(Map.of());
+                });
+    }
+
+    /**
+     * Count non-cancelled farm assignments per farmer from field-officer-service's batch summary
+     * endpoint (one grouped query per chunk of {@value #STATUS_BATCH_SIZE} ids).
+     * Farmers whose lookup fails are absent from the returned map.
+     */
+    private Mono<Map<Long, Integer>> fetchAssignedFarmCounts(List<Long> userIds) {
+        return Flux.fromIterable(chunk(userIds, STATUS_BATCH_SIZE))
+                .flatMap(chunk -> webClientBuilder.build()
+                        .post()
+                        .uri(fieldOfficerServiceUrl + "/admin/field-officers/assignments/summary")
+                        .header("X-User-Id", "1") // System admin user ID for inter-service calls
+                        .header("X-User-Roles", "ADMIN")
+                        .bodyValue(Map.of("farmerUserIds", chunk))
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                        .flatMapIterable(this::unwrapDataList)
+                        .timeout(Duration.ofMillis(fieldOfficerTimeoutMs))
+                        .onErrorResume(e -> {
+                            log.warn("Failed to fetch assignment summary for {} farmers: {}", chunk.size(), e.getMessage());
+                            return Flux.empty();
+                        }), maxConcurrency)
+                .filter(summary -> summary.get("farmerUserId") instanceof Number
+                        && summary.get("assignedFarmsCount") instanceof Number)
+                .collectMap(summary -> ((Number) summary.get("farmerUserId")).longValue(),
+                        summary -> ((Number) summary.get("assignedFarmsCount")).intValue());
+    }
+
+    // ==================== Helpers ====================
+
+    private static <T> List<List<T>> chunk(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Helper to unwrap our common ApiResponse<T> structure.
+     * If the map contains a "data" key with a nested map, returns that,
+     * otherwise returns the original map (so it also works with plain maps).
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> unwrapData(Map<String, Object> response) {
+        if (response == null || response.isEmpty()) {
+            return Map.of();
+        }
+
+        Object data = response.get("data");
+        if (data instanceof Map) {
+            return (Map<String, Object>) data;
+        }
+
+        return response;
+    }
+
+    /**
+     * Helper to unwrap an ApiResponse whose "data" is a list of objects.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> unwrapDataList(Map<String, Object> response) {
+        if (response == null || !(response.get("data") instanceof List)) {
+            return List.of();
+        }
+        return (List<Map<String, Object>>) response.get("data");
+    }
+}
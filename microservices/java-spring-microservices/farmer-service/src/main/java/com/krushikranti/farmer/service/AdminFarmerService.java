@@ -1,25 +1,26 @@
 package com.krushikranti.farmer.service;
 
+import com.krushikranti.farmer.dto.admin.AdminFarmCounts;
+import com.krushikranti.farmer.dto.admin.AdminFarmerCursor;
 import com.krushikranti.farmer.dto.admin.AdminFarmerDetailDto;
 import com.krushikranti.farmer.dto.admin.AdminFarmerListResponse;
+import com.krushikranti.farmer.dto.admin.AdminFarmerRow;
 import com.krushikranti.farmer.dto.admin.AdminFarmerSummaryDto;
 import com.krushikranti.farmer.model.Farm;
 import com.krushikranti.farmer.model.Crop;
 import com.krushikranti.farmer.model.Farmer;
+import com.krushikranti.farmer.model.FarmerStatusProjection;
 import com.krushikranti.farmer.repository.FarmerRepository;
 import com.krushikranti.farmer.repository.FarmRepository;
 import com.krushikranti.farmer.repository.CropRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -39,106 +40,24 @@ public class AdminFarmerService {
     private final FarmerRepository farmerRepository;
     private final FarmRepository farmRepository;
     private final CropRepository cropRepository;
-    private final WebClient.Builder webClientBuilder;
-
-    @Value("${services.kyc-service.url:http://localhost:4014}")
-    private String kycServiceUrl;
-
-    @Value("${services.subscription-service.url:http://localhost:4013}")
-    private String subscriptionServiceUrl;
-
-    @Value("${services.auth-service.url:http://localhost:4005}")
-    private String authServiceUrl;
-
-    @Value("${services.field-officer-service.url:http://localhost:4015}")
-    private String fieldOfficerServiceUrl;
+    private final AdminFarmerDataAggregator dataAggregator;
 
     /**
      * Get paginated list of all farmers with summary info
      */
     public AdminFarmerListResponse getAllFarmers(int page, int size, String search, String kycStatus, String subscriptionStatus) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        
-        Page<Farmer> farmerPage;
-        
-        if (search != null && !search.trim().isEmpty()) {
-            farmerPage = farmerRepository.searchFarmers(search.trim(), pageable);
-        } else {
-            farmerPage = farmerRepository.findAll(pageable);
-        }
-
-        List<Long> userIds = farmerPage.getContent().stream()
-                .map(Farmer::getUserId)
-                .collect(Collectors.toList());
-
-        // Fetch KYC status for all users
-        Map<Long, Map<String, Object>> kycMap = fetchKycStatusBatch(userIds);
+        Pageable pageable = PageRequest.of(page, size,
+                Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
         
-        // Fetch subscription status for all users
-        Map<Long, Map<String, Object>> subscriptionMap = fetchSubscriptionStatusBatch(userIds);
-        
-        // Fetch user details (username, email, phone) from auth service
-        Map<Long, Map<String, Object>> userMap = fetchUserDetailsBatch(userIds);
-
-        // Fetch assignment summaries for all farmers
-        Map<Long, AssignmentSummary> assignmentMap = fetchAssignmentSummariesBatch(userIds);
+        // Search, status filters and pagination run as one query against the local status projection
+        String term = normalizeFilter(search, false);
+        Page<AdminFarmerRow> farmerPage = term.isEmpty()
+                ? farmerRepository.findAdminFarmerRows(normalizeFilter(kycStatus, true),
+                        normalizeFilter(subscriptionStatus, true), pageable)
+                : farmerRepository.searchAdminFarmerRows(likePattern(term), normalizeFilter(kycStatus, true),
+                        normalizeFilter(subscriptionStatus, true), pageable);
 
-        List<AdminFarmerSummaryDto> summaries = new ArrayList<>();
-        
-        for (Farmer farmer : farmerPage.getContent()) {
-            Map<String, Object> kycInfo = kycMap.getOrDefault(farmer.getUserId(), Map.of());
-            Map<String, Object> subInfo = subscriptionMap.getOrDefault(farmer.getUserId(), Map.of());
-            Map<String, Object> userInfo = userMap.getOrDefault(farmer.getUserId(), Map.of());
-            
-            String currentKycStatus = (String) kycInfo.getOrDefault("kycStatus", "PENDING");
-            String currentSubStatus = (String) subInfo.getOrDefault("subscriptionStatus", "PENDING");
-            
-            // Apply filters
-            if (kycStatus != null && !kycStatus.isEmpty() && !kycStatus.equalsIgnoreCase(currentKycStatus)) {
-                continue;
-            }
-            if (subscriptionStatus != null && !subscriptionStatus.isEmpty() && !subscriptionStatus.equalsIgnoreCase(currentSubStatus)) {
-                continue;
-            }
-            
-            // Count farms
-            long farmCount = farmRepository.countByFarmerId(farmer.getId());
-            long verifiedFarmCount = farmRepository.countByFarmerIdAndIsVerifiedTrue(farmer.getId());
-            
-            // Get assignment summary
-            AssignmentSummary assignmentSummary = assignmentMap.getOrDefault(farmer.getUserId(), 
-                    AssignmentSummary.empty((int) farmCount));
-            
-            // Use farmCount from repository if assignment summary doesn't have it
-            int totalFarmsForAssignment = assignmentSummary.totalFarmsCount > 0 
-                    ? assignmentSummary.totalFarmsCount 
-                    : (int) farmCount;
-            
-            AdminFarmerSummaryDto summary = AdminFarmerSummaryDto.builder()
-                    .farmerId(farmer.getId())
-                    .userId(farmer.getUserId())
-                    .fullName(buildFullName(farmer.getFirstName(), farmer.getLastName()))
-                    .username((String) userInfo.getOrDefault("username", ""))
-                    .phoneNumber((String) userInfo.getOrDefault("phoneNumber", ""))
-                    .email((String) userInfo.getOrDefault("email", ""))
-                    .village(farmer.getVillage())
-                    .district(farmer.getDistrict())
-                    .state(farmer.getState())
-                    .isProfileComplete(isProfileComplete(farmer))
-                    .kycStatus(currentKycStatus)
-                    .subscriptionStatus(currentSubStatus)
-                    .farmCount((int) farmCount)
-                    .verifiedFarmCount((int) verifiedFarmCount)
-                    .assignedFarmsCount(assignmentSummary.assignedFarmsCount)
-                    .totalFarmsCount(totalFarmsForAssignment)
-                    .hasAllFarmsAssigned(assignmentSummary.hasAllFarmsAssigned)
-                    .hasPartialAssignment(assignmentSummary.hasPartialAssignment)
-                    .registeredAt(farmer.getCreatedAt())
-                    .lastUpdatedAt(farmer.getUpdatedAt())
-                    .build();
-            
-            summaries.add(summary);
-        }
+        List<AdminFarmerSummaryDto> summaries = buildSummaries(farmerPage.getContent());
 
         // Build stats
         AdminFarmerListResponse.AdminDashboardStats stats = buildDashboardStats();
@@ -155,6 +74,40 @@ public class AdminFarmerService {
                 .build();
     }
 
+    /**
+     * Get the farmers after a cursor (keyset pagination). Each page is an index seek, so deep pages
+     * cost the same as the first one; no total count is computed.
+     *
+     * @param cursor cursor from the previous page's {@code nextCursor}, or blank for the first page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public AdminFarmerListResponse getFarmersAfter(String cursor, int size, String search,
+                                                   String kycStatus, String subscriptionStatus) {
+        AdminFarmerCursor position = AdminFarmerCursor.decode(cursor);
+        String term = normalizeFilter(search, false);
+        // One extra row tells whether there is a next page
+        Limit limit = Limit.of(size + 1);
+
+        List<AdminFarmerRow> rows = term.isEmpty()
+                ? farmerRepository.findAdminFarmerRowsAfter(position.createdAt(), position.farmerId(),
+                        normalizeFilter(kycStatus, true), normalizeFilter(subscriptionStatus, true), limit)
+                : farmerRepository.searchAdminFarmerRowsAfter(likePattern(term),
+                        position.createdAt(), position.farmerId(),
+                        normalizeFilter(kycStatus, true), normalizeFilter(subscriptionStatus, true), limit);
+
+        boolean hasNext = rows.size() > size;
+        List<AdminFarmerRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        return AdminFarmerListResponse.builder()
+                .farmers(buildSummaries(pageRows))
+                .pageSize(size)
+                .hasNext(hasNext)
+                .hasPrevious(position != AdminFarmerCursor.START)
+                .nextCursor(hasNext ? nextCursor(pageRows) : null)
+                .stats(buildDashboardStats())
+                .build();
+    }
+
     /**
      * Get detailed information for a single farmer
      */
@@ -167,14 +120,11 @@ public class AdminFarmerService {
         
         Farmer farmer = farmerOpt.get();
         
-        // Fetch user details
-        Map<String, Object> userInfo = fetchUserDetails(farmer.getUserId());
-        
-        // Fetch KYC details
-        Map<String, Object> kycInfo = fetchKycStatus(farmer.getUserId());
-        
-        // Fetch subscription details
-        Map<String, Object> subInfo = fetchSubscriptionStatus(farmer.getUserId());
+        // Fetch user, KYC and subscription details concurrently
+        AdminFarmerDataAggregator.FarmerDetailData remote = dataAggregator.fetchDetailData(farmer.getUserId());
+        Map<String, Object> userInfo = remote.userDetails();
+        Map<String, Object> kycInfo = remote.kycStatus();
+        Map<String, Object> subInfo = remote.subscriptionStatus();
         
         // Fetch farms
         List<Farm> farms = farmRepository.findByFarmerId(farmer.getId());
@@ -211,7 +161,7 @@ public class AdminFarmerService {
         
         // Build farm list
         List<AdminFarmerDetailDto.FarmInfo> farmInfoList = farms.stream()
-                .map(this::buildFarmInfo)
+                .map(AdminFarmerDetailDto.FarmInfo::from)
                 .collect(Collectors.toList());
 
         // Build crop list
@@ -240,6 +190,90 @@ public class AdminFarmerService {
 
     // ==================== Helper Methods ====================
 
+    private List<AdminFarmerSummaryDto> buildSummaries(List<AdminFarmerRow> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> userIds = rows.stream()
+                .map(row -> row.getFarmer().getUserId())
+                .collect(Collectors.toList());
+        List<Long> farmerIds = rows.stream()
+                .map(row -> row.getFarmer().getId())
+                .collect(Collectors.toList());
+
+        // Fetch user details and assignment counts concurrently
+        AdminFarmerDataAggregator.FarmerPageData remote = dataAggregator.fetchPageData(userIds);
+        Map<Long, Map<String, Object>> userMap = remote.userDetails();
+
+        // Farm counts for the whole page in one grouped query
+        Map<Long, AdminFarmCounts> farmCounts = farmRepository.countFarmsByFarmerIds(farmerIds).stream()
+                .collect(Collectors.toMap(AdminFarmCounts::getFarmerId, counts -> counts));
+
+        List<AdminFarmerSummaryDto> summaries = new ArrayList<>();
+        
+        for (AdminFarmerRow row : rows) {
+            Farmer farmer = row.getFarmer();
+            Map<String, Object> userInfo = userMap.getOrDefault(farmer.getUserId(), Map.of());
+            
+            String currentKycStatus = row.getKycStatus() != null
+                    ? row.getKycStatus() : FarmerStatusProjection.DEFAULT_KYC_STATUS;
+            String currentSubStatus = row.getSubscriptionStatus() != null
+                    ? row.getSubscriptionStatus() : FarmerStatusProjection.DEFAULT_SUBSCRIPTION_STATUS;
+            
+            AdminFarmCounts counts = farmCounts.get(farmer.getId());
+            long farmCount = counts != null ? counts.getFarmCount() : 0;
+            long verifiedFarmCount = counts != null ? counts.getVerifiedFarmCount() : 0;
+            
+            // Get assignment summary
+            Integer assignedFarms = remote.assignedFarmCounts().get(farmer.getUserId());
+            AssignmentSummary assignmentSummary = assignedFarms != null
+                    ? AssignmentSummary.of(assignedFarms, (int) farmCount)
+                    : AssignmentSummary.empty((int) farmCount);
+            
+            AdminFarmerSummaryDto summary = AdminFarmerSummaryDto.builder()
+                    .farmerId(farmer.getId())
+                    .userId(farmer.getUserId())
+                    .fullName(buildFullName(farmer.getFirstName(), farmer.getLastName()))
+                    .username((String) userInfo.getOrDefault("username", ""))
+                    .phoneNumber((String) userInfo.getOrDefault("phoneNumber", ""))
+                    .email((String) userInfo.getOrDefault("email", ""))
+                    .village(farmer.getVillage())
+                    .district(farmer.getDistrict())
+                    .state(farmer.getState())
+                    .isProfileComplete(isProfileComplete(farmer))
+                    .kycStatus(currentKycStatus)
+                    .subscriptionStatus(currentSubStatus)
+                    .farmCount((int) farmCount)
+                    .verifiedFarmCount((int) verifiedFarmCount)
+                    .assignedFarmsCount(assignmentSummary.assignedFarmsCount)
+                    .totalFarmsCount(assignmentSummary.totalFarmsCount)
+                    .hasAllFarmsAssigned(assignmentSummary.hasAllFarmsAssigned)
+                    .hasPartialAssignment(assignmentSummary.hasPartialAssignment)
+                    .registeredAt(farmer.getCreatedAt())
+                    .lastUpdatedAt(farmer.getUpdatedAt())
+                    .build();
+            
+            summaries.add(summary);
+        }
+
+        return summaries;
+    }
+
+    private String nextCursor(List<AdminFarmerRow> rows) {
+        return rows.isEmpty() ? null : AdminFarmerCursor.of(rows.get(rows.size() - 1)).encode();
+    }
+
+    /**
+     * Lower-case "contains" LIKE pattern with '!' escaping the LIKE wildcards in the term.
+     */
+    private String likePattern(String term) {
+        String escaped = term.toLowerCase()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
     private String buildFullName(String firstName, String lastName) {
         String fn = firstName != null ? firstName : "";
         String ln = lastName != null ? lastName : "";
@@ -258,19 +292,28 @@ public class AdminFarmerService {
         long totalFarms = farmRepository.count();
         long verifiedFarms = farmRepository.countByIsVerifiedTrue();
         
-        // These would ideally come from KYC and Subscription services
-        // For now, we'll use placeholder values
+        // KYC and subscription counts come from the local status projection
         return AdminFarmerListResponse.AdminDashboardStats.builder()
                 .totalFarmers(totalFarmers)
-                .pendingKyc(0)      // Will be fetched from KYC service
-                .verifiedKyc(0)     // Will be fetched from KYC service
-                .activeSubscriptions(0) // Will be fetched from Subscription service
-                .pendingSubscriptions(0) // Will be fetched from Subscription service
+                .pendingKyc(farmerRepository.countByKycStatus("PENDING"))
+                .verifiedKyc(farmerRepository.countByKycStatus("VERIFIED"))
+                .activeSubscriptions(farmerRepository.countBySubscriptionStatus("ACTIVE"))
+                .pendingSubscriptions(farmerRepository.countBySubscriptionStatus("PENDING"))
                 .totalFarms(totalFarms)
                 .verifiedFarms(verifiedFarms)
                 .build();
     }
 
+    /**
+     * Empty string disables a filter in the admin list query; status values are stored upper-case.
+     */
+    private String normalizeFilter(String value, boolean upperCase) {
+        if (value == null || value.trim().isEmpty()) {
+            return "";
+        }
+        return upperCase ? value.trim().toUpperCase() : value.trim();
+    }
+
     private AdminFarmerDetailDto.KycInfo buildKycInfo(Map<String, Object> kycInfo) {
         return AdminFarmerDetailDto.KycInfo.builder()
                 .status((String) kycInfo.getOrDefault("kycStatus", "PENDING"))
@@ -297,37 +340,6 @@ public class AdminFarmerService {
                 .build();
     }
 
-    private AdminFarmerDetailDto.FarmInfo buildFarmInfo(Farm farm) {
-        return AdminFarmerDetailDto.FarmInfo.builder()
-                .farmId(farm.getId())
-                .farmName(farm.getFarmName())
-                .farmType(farm.getFarmType() != null ? farm.getFarmType().name() : null)
-                .totalAreaAcres(farm.getTotalAreaAcres())
-                .pincode(farm.getPincode())
-                .village(farm.getVillage())
-                .district(farm.getDistrict())
-                .taluka(farm.getTaluka())
-                .state(farm.getState())
-                .soilType(farm.getSoilType() != null ? farm.getSoilType().name() : null)
-                .irrigationType(farm.getIrrigationType() != null ? farm.getIrrigationType().name() : null)
-                .landOwnership(farm.getLandOwnership() != null ? farm.getLandOwnership().name() : null)
-                .surveyNumber(farm.getSurveyNumber())
-                .landRegistrationNumber(farm.getLandRegistrationNumber())
-                .pattaNumber(farm.getPattaNumber())
-                .estimatedLandValue(farm.getEstimatedLandValue())
-                .encumbranceStatus(farm.getEncumbranceStatus() != null ? farm.getEncumbranceStatus().name() : null)
-                .encumbranceRemarks(farm.getEncumbranceRemarks())
-                .landDocumentUrl(farm.getLandDocumentUrl())
-                .surveyMapUrl(farm.getSurveyMapUrl())
-                .registrationCertificateUrl(farm.getRegistrationCertificateUrl())
-                .isVerified(farm.getIsVerified())
-                .verifiedByOfficerId(farm.getVerifiedBy())
-                .verifiedAt(farm.getVerifiedAt())
-                .verificationRemarks(farm.getVerificationRemarks())
-                .createdAt(farm.getCreatedAt())
-                .build();
-    }
-
     private AdminFarmerDetailDto.CropInfo buildCropInfo(Crop crop) {
         return AdminFarmerDetailDto.CropInfo.builder()
                 .cropId(crop.getId())
@@ -351,172 +363,6 @@ public class AdminFarmerService {
                 .build();
     }
 
-    // ==================== Service Calls ====================
-
-    private Map<String, Object> fetchKycStatus(Long userId) {
-        try {
-            Map<String, Object> response = webClientBuilder.build()
-                    .get()
-                    .uri(kycServiceUrl + "/kyc/status")
-                    .header("X-User-Id", String.valueOf(userId))
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .onErrorReturn(Map.of())
-                    .block();
-            
-            return unwrapData(response);
-        } catch (Exception e) {
-            log.warn("Failed to fetch KYC status for user {}: {}", userId, e.getMessage());
-            return Map.of();
-        }
-    }
-    
-    private Map<String, Object> fetchSubscriptionStatus(Long userId) {
-        try {
-            Map<String, Object> response = webClientBuilder.build()
-                    .get()
-                    .uri(subscriptionServiceUrl + "/subscription/status")
-                    .header("X-User-Id", String.valueOf(userId))
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .onErrorReturn(Map.of())
-                    .block();
-            
-            return unwrapData(response);
-        } catch (Exception e) {
-            log.warn("Failed to fetch subscription status for user {}: {}", userId, e.getMessage());
-            return Map.of();
-        }
-    }
-    
-    private Map<String, Object> fetchUserDetails(Long userId) {
-        try {
-            Map<String, Object> response = webClientBuilder.build()
-                    .get()
-                    .uri(authServiceUrl + "/auth/user/" + userId)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .onErrorReturn(Map.of())
-                    .block();
-            
-            return unwrapData(response);
-        } catch (Exception e) {
-            log.warn("Failed to fetch user details for user {}: {}", userId, e.getMessage());
-            return Map.of();
-        }
-    }
-
-    private Map<Long, Map<String, Object>> fetchKycStatusBatch(List<Long> userIds) {
-        // For now, fetch individually - can be optimized with batch endpoint later
-        return userIds.stream()
-                .collect(Collectors.toMap(
-                        userId -> userId,
-                        this::fetchKycStatus,
-                        (a, b) -> a
-                ));
-    }
-
-    private Map<Long, Map<String, Object>> fetchSubscriptionStatusBatch(List<Long> userIds) {
-        // For now, fetch individually - can be optimized with batch endpoint later
-        return userIds.stream()
-                .collect(Collectors.toMap(
-                        userId -> userId,
-                        this::fetchSubscriptionStatus,
-                        (a, b) -> a
-                ));
-    }
-
-    private Map<Long, Map<String, Object>> fetchUserDetailsBatch(List<Long> userIds) {
-        // For now, fetch individually - can be optimized with batch endpoint later
-        return userIds.stream()
-                .collect(Collectors.toMap(
-                        userId -> userId,
-                        this::fetchUserDetails,
-                        (a, b) -> a
-                ));
-    }
-
-    /**
-     * Fetch assignment summaries for multiple farmers from field-officer-service
-     */
-    private Map<Long, AssignmentSummary> fetchAssignmentSummariesBatch(List<Long> userIds) {
-        return userIds.stream()
-                .collect(Collectors.toMap(
-                        userId -> userId,
-                        this::fetchAssignmentSummary,
-                        (a, b) -> a
-                ));
-    }
-
-    /**
-     * Fetch assignment summary for a single farmer
-     */
-    private AssignmentSummary fetchAssignmentSummary(Long farmerUserId) {
-        try {
-            String url = fieldOfficerServiceUrl + "/admin/field-officers/assignments?farmerUserId=" + farmerUserId;
-            log.debug("Fetching assignments for farmer userId: {} from {}", farmerUserId, url);
-            
-            Map<String, Object> response = webClientBuilder.build()
-                    .get()
-                    .uri(url)
-                    .header("X-User-Id", "1") // System admin user ID for inter-service calls
-                    .header("X-User-Roles", "ADMIN")
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .block();
-            
-            if (response == null) {
-                log.warn("No response from field-officer-service for farmer userId: {}", farmerUserId);
-                return AssignmentSummary.empty(0);
-            }
-            
-            Object data = response.get("data");
-            if (data == null) {
-                log.warn("No data in response from field-officer-service for farmer userId: {}", farmerUserId);
-                return AssignmentSummary.empty(0);
-            }
-            
-            List<Map<String, Object>> assignments;
-            if (data instanceof List) {
-                assignments = (List<Map<String, Object>>) data;
-            } else {
-                log.warn("Unexpected data type in assignment response for farmer userId: {}", farmerUserId);
-                return AssignmentSummary.empty(0);
-            }
-            
-            // Count assigned farms (assignments with farmId and status != CANCELLED)
-            long assignedFarmsCount = assignments.stream()
-                    .filter(assignment -> {
-                        Object farmId = assignment.get("farmId");
-                        Object status = assignment.get("status");
-                        return farmId != null && 
-                               !"CANCELLED".equalsIgnoreCase(String.valueOf(status));
-                    })
-                    .count();
-            
-            // Get total farms count from farm repository
-            Optional<Farmer> farmerOpt = farmerRepository.findByUserId(farmerUserId);
-            int totalFarmsCount = 0;
-            if (farmerOpt.isPresent()) {
-                totalFarmsCount = (int) farmRepository.countByFarmerId(farmerOpt.get().getId());
-            }
-            
-            boolean hasAllFarmsAssigned = totalFarmsCount > 0 && assignedFarmsCount == totalFarmsCount;
-            boolean hasPartialAssignment = assignedFarmsCount > 0 && assignedFarmsCount < totalFarmsCount;
-            
-            return new AssignmentSummary(
-                    (int) assignedFarmsCount,
-                    totalFarmsCount,
-                    hasAllFarmsAssigned,
-                    hasPartialAssignment
-            );
-            
-        } catch (Exception e) {
-            log.warn("Failed to fetch assignment summary for farmer userId {}: {}", farmerUserId, e.getMessage());
-            return AssignmentSummary.empty(0);
-        }
-    }
-
     /**
      * Helper class to hold assignment summary data
      */
@@ -537,25 +383,13 @@ public class AdminFarmerService {
         static AssignmentSummary empty(int totalFarmsCount) {
             return new AssignmentSummary(0, totalFarmsCount, false, false);
         }
-    }
 
-    /**
-     * Helper to unwrap our common ApiResponse<T> structure.
-     * If the map contains a "data" key with a nested map, returns that,
-     * otherwise returns the original map (so it also works with plain maps).
-     */
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> unwrapData(Map<String, Object> response) {
-        if (response == null || response.isEmpty()) {
-            return Map.of();
-        }
-        
-        Object data = response.get("data");
-        if (data instanceof Map) {
-            return (Map<String, Object>) data;
+        static AssignmentSummary of(int assignedFarmsCount, int totalFarmsCount) {
+            return new AssignmentSummary(
+                    assignedFarmsCount,
+                    totalFarmsCount,
+                    totalFarmsCount > 0 && assignedFarmsCount == totalFarmsCount,
+                    assignedFarmsCount > 0 && assignedFarmsCount < totalFarmsCount);
         }
-        
-        return response;
     }
 }
-
@@ -1,40 +1,80 @@
 package com.krushikranti.farmer.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.krushikranti.auth.grpc.AuthServiceGrpc;
 import com.krushikranti.auth.grpc.GetUserByIdRequest;
+import com.krushikranti.auth.grpc.GetUsersByIdsRequest;
 import com.krushikranti.auth.grpc.UserInfoResponse;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
 /**
  * gRPC Client to call Auth Service for user information.
+ * User info is cached (size-bounded, expiring after write) and shared by all callers,
+ * so repeated admin pages do not go back to auth-service for the same users.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuthServiceClient {
 
+    /** Upper bound accepted by GetUsersByIds. */
+    private static final int BATCH_SIZE = 500;
+
     @GrpcClient("auth-service")
     private AuthServiceGrpc.AuthServiceBlockingStub authServiceStub;
 
+    @Value("${auth-client.user-cache.max-size:10000}")
+    private long userCacheMaxSize = 10_000;
+
+    @Value("${auth-client.user-cache.ttl-seconds:300}")
+    private long userCacheTtlSeconds = 300;
+
+    private Cache<Long, UserInfoResponse> userCache;
+
+    @PostConstruct
+    void init() {
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(userCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(userCacheTtlSeconds))
+                .build();
+    }
+
     /**
      * Get user information by user ID from Auth Service.
-     * 
+     *
      * @param userId The user ID
      * @return UserInfoResponse containing email, phone, username, etc.
      * @throws RuntimeException if user not found or gRPC call fails
      */
     public UserInfoResponse getUserById(String userId) {
+        UserInfoResponse cached = userCache.getIfPresent(Long.parseLong(userId));
+        if (cached != null) {
+            return cached;
+        }
+
         try {
             GetUserByIdRequest request = GetUserByIdRequest.newBuilder()
                     .setUserId(userId)
                     .build();
 
             UserInfoResponse response = authServiceStub.getUserById(request);
+            userCache.put(Long.parseLong(userId), response);
             log.debug("Retrieved user info for userId: {}", userId);
             return response;
         } catch (StatusRuntimeException e) {
@@ -47,5 +87,40 @@ public class AuthServiceClient {
             }
         }
     }
-}
 
+    /**
+     * Get user information for many users. Cached users are served locally and the rest
+     * are fetched with GetUsersByIds in chunks of {@value #BATCH_SIZE}.
+     *
+     * @return user info keyed by userId; users unknown to Auth Service are absent
+     * @throws RuntimeException if the gRPC call fails
+     */
+    public Map<Long, UserInfoResponse> getUsersByIds(Collection<Long> userIds) {
+        Map<Long, UserInfoResponse> result = new HashMap<>(userCache.getAllPresent(userIds));
+        int cacheHits = result.size();
+
+        List<Long> missing = new ArrayList<>(new LinkedHashSet<>(userIds));
+        missing.removeAll(result.keySet());
+
+        for (int from = 0; from < missing.size(); from += BATCH_SIZE) {
+            List<Long> chunk = missing.subList(from, Math.min(from + BATCH_SIZE, missing.size()));
+            try {
+                GetUsersByIdsRequest request = GetUsersByIdsRequest.newBuilder()
+                        .addAllUserIds(chunk.stream().map(String::valueOf).toList())
+                        .build();
+
+                for (UserInfoResponse user : authServiceStub.getUsersByIds(request).getUsersList()) {
+                    Long id = Long.parseLong(user.getUserId());
+                    userCache.put(id, user);
+                    result.put(id, user);
+                }
+            } catch (StatusRuntimeException e) {
+                log.error("Error calling Auth Service for {} users: {}", chunk.size(), e.getMessage());
+                throw new RuntimeException("Failed to retrieve user information from Auth Service", e);
+            }
+        }
+
+        log.debug("Retrieved user info for {} users ({} from cache)", result.size(), cacheHits);
+        return result;
+    }
+}
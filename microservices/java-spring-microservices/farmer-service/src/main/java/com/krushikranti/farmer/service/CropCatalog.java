@@ -0,0 +1,294 @@
+package com.krushikranti.farmer.service;
+
+import com.krushikranti.farmer.dto.CropNameResponse;
+import com.krushikranti.farmer.dto.CropTypeResponse;
+import com.krushikranti.farmer.event.CropCatalogChangedEvent;
+import com.krushikranti.farmer.model.CropName;
+import com.krushikranti.farmer.model.CropType;
+import com.krushikranti.farmer.repository.CropNameRepository;
+import com.krushikranti.farmer.repository.CropTypeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Read-only, in-memory snapshot of the crop master data served to the farmer app dropdowns.
+ *
+ * <p>crop_types and crop_names only change through the admin endpoints, so both tables are loaded
+ * once and the responses are pre-built for each language ("en", "hi", "mr"). The snapshot is rebuilt
+ * after every admin write in this instance, and at most every {@code crop.catalog.refresh-interval}
+ * to pick up writes made through other instances.
+ *
+ * <p>Each language carries an ETag derived from its content, so every instance with the same data
+ * hands out the same ETag and clients can revalidate with {@code If-None-Match}. The version number
+ * increases whenever a rebuild changes the content. Returned DTOs are shared and must not be modified.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CropCatalog {
+
+    static final List<String> LANGUAGES = List.of("en", "hi", "mr");
+
+    private static final Comparator<CropType> TYPE_ORDER =
+            Comparator.comparingInt((CropType type) -> order(type.getDisplayOrder()))
+                    .thenComparing(CropType::getId);
+
+    /** Same order as the DB queries: crop type display order, then crop name display order. */
+    private static final Comparator<CropName> NAME_ORDER =
+            Comparator.comparingInt((CropName name) -> order(name.getCropType().getDisplayOrder()))
+                    .thenComparingInt(name -> order(name.getDisplayOrder()))
+                    .thenComparing(CropName::getId);
+
+    private final CropTypeRepository cropTypeRepository;
+    private final CropNameRepository cropNameRepository;
+
+    @Value("${crop.catalog.refresh-interval:PT5M}")
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Get the catalog for a language, loading it on first use.
+     *
+     * @param language one of "en", "hi", "mr" (already normalised by the caller)
+     */
+    public Catalog get(String language) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot;
+        } else if (isStale(current)) {
+            current = refresh(current);
+        }
+        Catalog catalog = current.catalogs().get(language);
+        return catalog != null ? catalog : current.catalogs().get("en");
+    }
+
+    public long version() {
+        Snapshot current = snapshot;
+        return current != null ? current.version() : 0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Failed to load crop catalog, it will be loaded on first request: {}", e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCropCatalogChanged(CropCatalogChangedEvent event) {
+        log.debug("Crop catalog changed ({} {}), rebuilding", event.entity(), event.id());
+        rebuild();
+    }
+
+    /**
+     * Reload crop types and crop names. Requests keep using the previous snapshot until the new one
+     * is complete.
+     *
+     * @return the catalog version after the rebuild
+     */
+    public synchronized long rebuild() {
+        long start = System.currentTimeMillis();
+        List<CropType> types = cropTypeRepository.findAll();
+        List<CropName> names = cropNameRepository.findAllWithCropType();
+
+        Snapshot previous = snapshot;
+        Map<String, Catalog> catalogs = build(types, names, previous != null ? previous.version() + 1 : 1);
+        if (previous != null && sameContent(previous.catalogs(), catalogs)) {
+            this.snapshot = new Snapshot(previous.version(), Instant.now(), previous.catalogs());
+            log.debug("Crop catalog unchanged at version {}", previous.version());
+            return previous.version();
+        }
+
+        long version = catalogs.get("en").version();
+        this.snapshot = new Snapshot(version, Instant.now(), catalogs);
+        log.info("Crop catalog version {} loaded: {} crop types, {} crop names in {} ms",
+                version, types.size(), names.size(), System.currentTimeMillis() - start);
+        return version;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean isStale(Snapshot current) {
+        return !refreshInterval.isZero()
+                && current.loadedAt().plus(refreshInterval).isBefore(Instant.now());
+    }
+
+    /** Single-flight periodic refresh; other requests keep serving the current snapshot meanwhile. */
+    private Snapshot refresh(Snapshot current) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return current;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Crop catalog refresh failed, serving version {}: {}", current.version(), e.getMessage());
+        } finally {
+            refreshing.set(false);
+        }
+        return snapshot;
+    }
+
+    private static Map<String, Catalog> build(List<CropType> types, List<CropName> names, long version) {
+        List<CropType> activeTypes = types.stream()
+                .filter(type -> Boolean.TRUE.equals(type.getIsActive()))
+                .sorted(TYPE_ORDER)
+                .toList();
+        List<CropName> activeNames = names.stream()
+                .filter(name -> Boolean.TRUE.equals(name.getIsActive()))
+                .sorted(NAME_ORDER)
+                .toList();
+
+        Map<Long, Boolean> typeActive = new HashMap<>();
+        types.forEach(type -> typeActive.put(type.getId(), Boolean.TRUE.equals(type.getIsActive())));
+
+        Map<Long, Long> nameCounts = new HashMap<>();
+        activeNames.forEach(name -> nameCounts.merge(name.getCropType().getId(), 1L, Long::sum));
+
+        CropNameSearchIndex searchIndex = CropNameSearchIndex.build(activeNames.stream()
+                .map(name -> new String[]{name.getDisplayName(), name.getLocalName()})
+                .toList());
+
+        Map<String, Catalog> catalogs = new LinkedHashMap<>();
+        for (String language : LANGUAGES) {
+            List<CropTypeResponse> cropTypes = activeTypes.stream()
+                    .map(type -> CropTypeService.toResponse(type, language, nameCounts.getOrDefault(type.getId(), 0L)))
+                    .toList();
+            List<CropNameResponse> cropNames = activeNames.stream()
+                    .map(name -> CropNameService.toResponse(name, language))
+                    .toList();
+
+            Map<Long, List<CropNameResponse>> byType = new HashMap<>();
+            for (CropNameResponse cropName : cropNames) {
+                byType.computeIfAbsent(cropName.getCropTypeId(), id -> new ArrayList<>()).add(cropName);
+            }
+            byType.replaceAll((id, list) -> List.copyOf(list));
+
+            String etag = "W/\"" + language + "-" + digest(cropTypes, cropNames) + "\"";
+            catalogs.put(language, new Catalog(version, etag, cropTypes, Map.copyOf(byType),
+                    Map.copyOf(typeActive), cropNames, searchIndex));
+        }
+        return catalogs;
+    }
+
+    private static boolean sameContent(Map<String, Catalog> previous, Map<String, Catalog> rebuilt) {
+        for (String language : LANGUAGES) {
+            if (!previous.get(language).etag().equals(rebuilt.get(language).etag())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String digest(List<CropTypeResponse> cropTypes, List<CropNameResponse> cropNames) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            cropTypes.forEach(type -> sha256.update(type.toString().getBytes(StandardCharsets.UTF_8)));
+            cropNames.forEach(name -> sha256.update(name.toString().getBytes(StandardCharsets.UTF_8)));
+            return HexFormat.of().formatHex(sha256.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static int order(Integer displayOrder) {
+        return displayOrder != null ? displayOrder : 0;
+    }
+
+    /**
+     * Crop master data in one language.
+     */
+    public static final class Catalog {
+
+        private final long version;
+        private final String etag;
+        private final List<CropTypeResponse> cropTypes;
+        private final Map<Long, List<CropNameResponse>> cropNamesByType;
+        private final Map<Long, Boolean> typeActive;
+        private final List<CropNameResponse> cropNames;
+        private final CropNameSearchIndex searchIndex;
+
+        private Catalog(long version, String etag, List<CropTypeResponse> cropTypes,
+                        Map<Long, List<CropNameResponse>> cropNamesByType, Map<Long, Boolean> typeActive,
+                        List<CropNameResponse> cropNames, CropNameSearchIndex searchIndex) {
+            this.version = version;
+            this.etag = etag;
+            this.cropTypes = cropTypes;
+            this.cropNamesByType = cropNamesByType;
+            this.typeActive = typeActive;
+            this.cropNames = cropNames;
+            this.searchIndex = searchIndex;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        /** Weak ETag of this language's content, already quoted. */
+        public String etag() {
+            return etag;
+        }
+
+        /** Active crop types ordered by display order. */
+        public List<CropTypeResponse> cropTypes() {
+            return cropTypes;
+        }
+
+        /**
+         * Active crop names of a crop type ordered by display order.
+         *
+         * @throws IllegalArgumentException if the crop type does not exist or is not active
+         */
+        public List<CropNameResponse> cropNamesByType(Long cropTypeId) {
+            Boolean active = typeActive.get(cropTypeId);
+            if (active == null) {
+                throw new IllegalArgumentException("Crop type not found with ID: " + cropTypeId);
+            }
+            if (!active) {
+                throw new IllegalArgumentException("Crop type is not active");
+            }
+            return cropNamesByType.getOrDefault(cropTypeId, List.of());
+        }
+
+        /**
+         * Active crop names whose display name or local name contains the term (case-insensitive),
+         * falling back to typo-tolerant prefix matches when none does. See {@link CropNameSearchIndex}.
+         */
+        public List<CropNameResponse> search(String term) {
+            int[] positions = searchIndex.search(term);
+            List<CropNameResponse> matches = new ArrayList<>(positions.length);
+            for (int position : positions) {
+                matches.add(cropNames.get(position));
+            }
+            return matches;
+        }
+    }
+
+    private record Snapshot(long version, Instant loadedAt, Map<String, Catalog> catalogs) {
+    }
+}
@@ -0,0 +1,242 @@
+package com.krushikranti.farmer.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable n-gram index over crop display names and local (Devanagari) names, used for type-ahead.
+ *
+ * <p>Every name is NFC-normalised and lower-cased, and each of its 1-, 2- and 3-character substrings
+ * maps to the ascending positions of the entries containing it. A query of up to three characters is
+ * answered by a single posting list; a longer query takes the shortest posting list among its trigrams
+ * and verifies the candidates. Positions follow the catalog order (crop type display order, then crop
+ * name display order), so results come out already ranked.
+ *
+ * <p>When nothing contains the query, it is retried as a typo-tolerant prefix match: a word (or the
+ * whole name) matches if some prefix of it is within one edit of the query (two for queries of six or
+ * more characters), counting a swap of adjacent characters as one edit. As in most type-ahead engines
+ * the first character has to be right (or swapped with the second), which limits the candidates to one
+ * or two ranges of the sorted vocabulary.
+ */
+final class CropNameSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final int MIN_FUZZY_LENGTH = 3;
+    private static final int[] NONE = new int[0];
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[\\s\\p{Punct}]+");
+
+    private final int[] all;
+    private final String[][] keys;
+    private final Map<String, int[]> postings;
+    /** Distinct words and whole names, sorted, with the entries each one occurs in. */
+    private final String[] vocabulary;
+    private final int[][] vocabularyEntries;
+
+    private CropNameSearchIndex(String[][] keys, Map<String, int[]> postings,
+                                String[] vocabulary, int[][] vocabularyEntries) {
+        this.all = IntStream.range(0, keys.length).toArray();
+        this.keys = keys;
+        this.postings = postings;
+        this.vocabulary = vocabulary;
+        this.vocabularyEntries = vocabularyEntries;
+    }
+
+    /**
+     * @param names for each entry, in catalog order, the names to index (null names are ignored)
+     */
+    static CropNameSearchIndex build(List<String[]> names) {
+        String[][] keys = new String[names.size()][];
+        Map<String, List<Integer>> grams = new HashMap<>();
+        Map<String, List<Integer>> words = new TreeMap<>();
+
+        for (int entry = 0; entry < names.size(); entry++) {
+            Set<String> entryKeys = new LinkedHashSet<>();
+            Set<String> entryWords = new LinkedHashSet<>();
+            for (String name : names.get(entry)) {
+                String key = normalize(name);
+                if (key.isEmpty()) {
+                    continue;
+                }
+                entryKeys.add(key);
+                entryWords.add(key);
+                for (String word : WORD_SEPARATOR.split(key)) {
+                    if (!word.isEmpty()) {
+                        entryWords.add(word);
+                    }
+                }
+            }
+
+            for (String key : entryKeys) {
+                for (int length = 1; length <= GRAM; length++) {
+                    for (int start = 0; start + length <= key.length(); start++) {
+                        List<Integer> posting = grams.computeIfAbsent(key.substring(start, start + length),
+                                gram -> new ArrayList<>());
+                        if (posting.isEmpty() || posting.get(posting.size() - 1) != entry) {
+                            posting.add(entry);
+                        }
+                    }
+                }
+            }
+            for (String word : entryWords) {
+                words.computeIfAbsent(word, w -> new ArrayList<>()).add(entry);
+            }
+            keys[entry] = entryKeys.toArray(String[]::new);
+        }
+
+        Map<String, int[]> postings = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, posting) -> postings.put(gram, toArray(posting)));
+        String[] vocabulary = words.keySet().toArray(String[]::new);
+        int[][] vocabularyEntries = words.values().stream().map(CropNameSearchIndex::toArray).toArray(int[][]::new);
+        return new CropNameSearchIndex(keys, postings, vocabulary, vocabularyEntries);
+    }
+
+    /**
+     * @return ascending positions of the matching entries; all entries for a blank term
+     */
+    int[] search(String term) {
+        String query = normalize(term);
+        if (query.isEmpty()) {
+            return all;
+        }
+
+        int[] matches = query.length() <= GRAM ? postings.getOrDefault(query, NONE) : containing(query);
+        if (matches.length > 0 || query.length() < MIN_FUZZY_LENGTH) {
+            return matches;
+        }
+        return fuzzy(query);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private int[] containing(String query) {
+        int[] candidates = null;
+        for (int start = 0; start + GRAM <= query.length(); start++) {
+            int[] posting = postings.get(query.substring(start, start + GRAM));
+            if (posting == null) {
+                return NONE;
+            }
+            if (candidates == null || posting.length < candidates.length) {
+                candidates = posting;
+            }
+        }
+
+        int[] matches = new int[candidates.length];
+        int count = 0;
+        for (int entry : candidates) {
+            for (String key : keys[entry]) {
+                if (key.contains(query)) {
+                    matches[count++] = entry;
+                    break;
+                }
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private int[] fuzzy(String query) {
+        int maxEdits = query.length() >= 6 ? 2 : 1;
+        int[][] rows = new int[3][query.length() + maxEdits + 1];
+        BitSet matches = new BitSet(keys.length);
+        fuzzyRange(query, query.charAt(0), maxEdits, rows, matches);
+        if (query.charAt(1) != query.charAt(0)) {
+            fuzzyRange(query, query.charAt(1), maxEdits, rows, matches);
+        }
+        return matches.stream().toArray();
+    }
+
+    /** Checks the vocabulary words starting with {@code first}. */
+    private void fuzzyRange(String query, char first, int maxEdits, int[][] rows, BitSet matches) {
+        int from = lowerBound(String.valueOf(first));
+        int to = first == Character.MAX_VALUE ? vocabulary.length : lowerBound(String.valueOf((char) (first + 1)));
+        for (int i = from; i < to; i++) {
+            if (prefixDistance(query, vocabulary[i], maxEdits, rows) <= maxEdits) {
+                for (int entry : vocabularyEntries[i]) {
+                    matches.set(entry);
+                }
+            }
+        }
+    }
+
+    private int lowerBound(String key) {
+        int index = Arrays.binarySearch(vocabulary, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    static int prefixDistance(String query, String word, int maxEdits) {
+        return prefixDistance(query, word, maxEdits, new int[3][query.length() + maxEdits + 1]);
+    }
+
+    /**
+     * Smallest edit distance (insert, delete, substitute, adjacent swap) between the query and any
+     * prefix of the word; stops early and returns {@code maxEdits + 1} once that bound is exceeded.
+     *
+     * @param rows three scratch rows of at least {@code query.length() + maxEdits + 1} elements
+     */
+    private static int prefixDistance(String query, String word, int maxEdits, int[][] rows) {
+        int m = query.length();
+        int n = Math.min(word.length(), m + maxEdits);
+        if (n < m - maxEdits) {
+            return maxEdits + 1;
+        }
+
+        int[] previous2 = rows[0];
+        int[] previous = rows[1];
+        int[] current = rows[2];
+        for (int j = 0; j <= n; j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= m; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            char q = query.charAt(i - 1);
+            for (int j = 1; j <= n; j++) {
+                char w = word.charAt(j - 1);
+                int cost = q == w ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && q == word.charAt(j - 2) && query.charAt(i - 2) == w) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+
+        int best = previous[0];
+        for (int j = 1; j <= n; j++) {
+            best = Math.min(best, previous[j]);
+        }
+        return best;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).trim();
+        return WHITESPACE.matcher(normalized).replaceAll(" ");
+    }
+}
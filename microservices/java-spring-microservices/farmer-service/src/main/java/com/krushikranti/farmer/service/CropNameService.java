@@ -2,12 +2,14 @@ package com.krushikranti.farmer.service;
 
 import com.krushikranti.farmer.dto.CropNameRequest;
 import com.krushikranti.farmer.dto.CropNameResponse;
+import com.krushikranti.farmer.event.CropCatalogChangedEvent;
 import com.krushikranti.farmer.model.CropName;
 import com.krushikranti.farmer.model.CropType;
 import com.krushikranti.farmer.repository.CropNameRepository;
 import com.krushikranti.farmer.repository.CropTypeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,7 @@ public class CropNameService {
 
     private final CropNameRepository cropNameRepository;
     private final CropTypeRepository cropTypeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get active crop names by crop type ID (for farmer app dropdown).
@@ -159,6 +162,7 @@ public class CropNameService {
 
         CropName savedCropName = cropNameRepository.save(cropName);
         log.info("Created crop name: {} under type: {}", savedCropName.getName(), cropType.getTypeName());
+        eventPublisher.publishEvent(new CropCatalogChangedEvent("crop_name", savedCropName.getId()));
 
         return mapToResponse(savedCropName);
     }
@@ -196,6 +200,7 @@ public class CropNameService {
 
         CropName updatedCropName = cropNameRepository.save(cropName);
         log.info("Updated crop name: {}", updatedCropName.getName());
+        eventPublisher.publishEvent(new CropCatalogChangedEvent("crop_name", updatedCropName.getId()));
 
         return mapToResponse(updatedCropName);
     }
@@ -211,6 +216,7 @@ public class CropNameService {
         cropName.setIsActive(false);
         cropNameRepository.save(cropName);
         log.info("Soft deleted crop name: {}", cropName.getName());
+        eventPublisher.publishEvent(new CropCatalogChangedEvent("crop_name", cropName.getId()));
     }
 
     /**
@@ -224,6 +230,7 @@ public class CropNameService {
         cropName.setIsActive(true);
         CropName restoredCropName = cropNameRepository.save(cropName);
         log.info("Restored crop name: {}", restoredCropName.getName());
+        eventPublisher.publishEvent(new CropCatalogChangedEvent("crop_name", restoredCropName.getId()));
 
         return mapToResponse(restoredCropName);
     }
@@ -233,6 +240,13 @@ public class CropNameService {
     }
 
     private CropNameResponse mapToResponse(CropName cropName, String language) {
+        return toResponse(cropName, language);
+    }
+
+    /**
+     * Map a crop name to its response in the given language. Shared with {@link CropCatalog}.
+     */
+    static CropNameResponse toResponse(CropName cropName, String language) {
         // Determine display name based on language
         String displayNameToUse = cropName.getDisplayName(); // Default to English
         if (("hi".equals(language) || "mr".equals(language)) && cropName.getLocalName() != null && !cropName.getLocalName().trim().isEmpty()) {
@@ -47,7 +47,7 @@ public class CropService {
     @Transactional(readOnly = true)
     public List<CropResponse> getCropsByFarmId(Long userId, Long farmId, String language) {
         Farm farm = getFarmByUserIdAndFarmId(userId, farmId);
-        List<Crop> crops = cropRepository.findByFarmIdAndIsActiveTrue(farm.getId());
+        List<Crop> crops = cropRepository.findByFarmIdWithDetails(farm.getId());
         
         // Normalize language code
         final String finalLanguage = normalizeLanguage(language);
@@ -220,7 +220,7 @@ public class CropService {
         // Normalize language code
         final String finalLanguage = normalizeLanguage(language);
         
-        List<Crop> crops = cropRepository.findByFarmerUserIdAndCropTypeId(userId, cropTypeId);
+        List<Crop> crops = cropRepository.findByFarmerUserIdAndCropTypeIdWithDetails(userId, cropTypeId);
         return crops.stream()
                 .map(crop -> mapToResponse(crop, finalLanguage))
                 .collect(Collectors.toList());
@@ -243,20 +243,17 @@ public class CropService {
     }
 
     private Crop getCropByUserIdAndCropId(Long userId, Long cropId) {
-        getFarmerByUserId(userId);
-        
-        return cropRepository.findByFarmerUserId(userId).stream()
-                .filter(crop -> crop.getId().equals(cropId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Crop not found with ID: " + cropId));
+        return cropRepository.findByIdAndFarmerUserIdWithDetails(cropId, userId)
+                .orElseThrow(() -> {
+                    // Only on a miss: report a missing profile before a missing crop
+                    getFarmerByUserId(userId);
+                    return new IllegalArgumentException("Crop not found with ID: " + cropId);
+                });
     }
 
     private void validateCropArea(Farm farm, BigDecimal newCropArea, Long excludeCropId) {
         // Get total area of all active crops for this farm (excluding current crop if updating)
-        BigDecimal totalCropArea = cropRepository.findByFarmIdAndIsActiveTrue(farm.getId()).stream()
-                .filter(crop -> excludeCropId == null || !crop.getId().equals(excludeCropId))
-                .map(Crop::getAreaAcres)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalCropArea = cropRepository.sumActiveAreaAcresByFarmId(farm.getId(), excludeCropId);
         
         BigDecimal newTotalArea = totalCropArea.add(newCropArea);
         if (newTotalArea.compareTo(farm.getTotalAreaAcres()) > 0) {
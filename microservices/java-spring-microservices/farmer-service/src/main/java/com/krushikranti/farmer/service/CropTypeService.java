@@ -2,11 +2,13 @@ package com.krushikranti.farmer.service;
 
 import com.krushikranti.farmer.dto.CropTypeRequest;
 import com.krushikranti.farmer.dto.CropTypeResponse;
+import com.krushikranti.farmer.event.CropCatalogChangedEvent;
 import com.krushikranti.farmer.model.CropType;
 import com.krushikranti.farmer.repository.CropNameRepository;
 import com.krushikranti.farmer.repository.CropTypeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class CropTypeService {
 
     private final CropTypeRepository cropTypeRepository;
     private final CropNameRepository cropNameRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all active crop types (for farmer app dropdown).
@@ -99,6 +102,7 @@ public class CropTypeService {
 
         CropType savedCropType = cropTypeRepository.save(cropType);
         log.info("Created crop type: {}", savedCropType.getTypeName());
+        eventPublisher.publishEvent(new CropCatalogChangedEvent("crop_type", savedCropType.getId()));
 
         return mapToResponse(savedCropType);
     }
@@ -129,6 +133,7 @@ public class CropTypeService {
 
         CropType updatedCropType = cropTypeRepository.save(cropType);
         log.info("Updated crop type: {}", updatedCropType.getTypeName());
+        eventPublisher.publishEvent(new CropCatalogChangedEvent("crop_type", updatedCropType.getId()));
 
         return mapToResponse(updatedCropType);
     }
@@ -144,6 +149,7 @@ public class CropTypeService {
         cropType.setIsActive(false);
         cropTypeRepository.save(cropType);
         log.info("Soft deleted crop type: {}", cropType.getTypeName());
+        eventPublisher.publishEvent(new CropCatalogChangedEvent("crop_type", cropType.getId()));
     }
 
     /**
@@ -157,6 +163,7 @@ public class CropTypeService {
         cropType.setIsActive(true);
         CropType restoredCropType = cropTypeRepository.save(cropType);
         log.info("Restored crop type: {}", restoredCropType.getTypeName());
+        eventPublisher.publishEvent(new CropCatalogChangedEvent("crop_type", restoredCropType.getId()));
 
         return mapToResponse(restoredCropType);
     }
@@ -167,7 +174,13 @@ public class CropTypeService {
 
     private CropTypeResponse mapToResponse(CropType cropType, String language) {
         long cropNameCount = cropNameRepository.countByCropTypeIdAndIsActiveTrue(cropType.getId());
-        
+        return toResponse(cropType, language, cropNameCount);
+    }
+
+    /**
+     * Map a crop type to its response in the given language. Shared with {@link CropCatalog}.
+     */
+    static CropTypeResponse toResponse(CropType cropType, String language, long cropNameCount) {
         // Select display name based on language
         String displayNameToUse = cropType.getDisplayName(); // Default to English
         if ("hi".equals(language) && cropType.getDisplayNameHi() != null && !cropType.getDisplayNameHi().trim().isEmpty()) {
@@ -0,0 +1,82 @@
+package com.krushikranti.farmer.service;
+
+import com.krushikranti.farmer.event.FarmVerificationChangedEvent;
+import com.krushikranti.farmer.model.Farm;
+import com.krushikranti.farmer.repository.FarmRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies farm verification outcomes from field-officer-service to the farms table, which is
+ * what the verified-farm counts of the admin views are computed from.
+ * Each event carries the time the verification was saved; an event that is not newer than the
+ * last one applied to the farm is ignored, so redelivered or reordered events are harmless.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FarmVerificationService {
+
+    private static final String VERIFIED = "VERIFIED";
+    private static final String REJECTED = "REJECTED";
+
+    private final FarmRepository farmRepository;
+
+    /**
+     * Apply a batch of verification events: one read of the affected farms and one write of the changed ones.
+     *
+     * @return number of farms updated
+     */
+    @Transactional
+    public int applyVerifications(Collection<FarmVerificationChangedEvent> events) {
+        // Only the newest event per farm matters
+        Map<Long, FarmVerificationChangedEvent> latest = new LinkedHashMap<>();
+        for (FarmVerificationChangedEvent event : events) {
+            latest.merge(event.getFarmId(), event,
+                    (current, incoming) -> incoming.getOccurredAt().isAfter(current.getOccurredAt()) ? incoming : current);
+        }
+
+        List<Farm> farms = farmRepository.findAllById(latest.keySet());
+        if (farms.size() < latest.size()) {
+            log.warn("Ignoring verification events for {} unknown farms", latest.size() - farms.size());
+        }
+
+        int applied = 0;
+        for (Farm farm : farms) {
+            FarmVerificationChangedEvent event = latest.get(farm.getId());
+            if (isStale(farm.getVerificationUpdatedAt(), event.getOccurredAt())) {
+                log.debug("Ignoring stale verification {} for farm {}", event.getVerificationStatus(), farm.getId());
+                continue;
+            }
+            apply(farm, event);
+            applied++;
+        }
+        farmRepository.saveAll(farms);
+        return applied;
+    }
+
+    private void apply(Farm farm, FarmVerificationChangedEvent event) {
+        String status = event.getVerificationStatus();
+        boolean decided = VERIFIED.equals(status) || REJECTED.equals(status);
+
+        farm.setIsVerified(VERIFIED.equals(status));
+        farm.setVerifiedBy(decided ? event.getFieldOfficerUserId() : null);
+        farm.setVerifiedAt(decided ? event.getVerifiedAt() : null);
+        farm.setVerificationRemarks(REJECTED.equals(status) && event.getRejectionReason() != null
+                ? event.getRejectionReason()
+                : event.getFeedback());
+        farm.setVerificationUpdatedAt(event.getOccurredAt());
+    }
+
+    private boolean isStale(LocalDateTime current, LocalDateTime incoming) {
+        return current != null && !incoming.isAfter(current);
+    }
+}
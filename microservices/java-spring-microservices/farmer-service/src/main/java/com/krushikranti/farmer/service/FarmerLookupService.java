@@ -0,0 +1,125 @@
+package com.krushikranti.farmer.service;
+
+import com.krushikranti.farmer.dto.admin.AdminFarmerDetailDto;
+import com.krushikranti.farmer.dto.internal.FarmerWithFarmsDto;
+import com.krushikranti.farmer.model.Farm;
+import com.krushikranti.farmer.model.Farmer;
+import com.krushikranti.farmer.repository.FarmRepository;
+import com.krushikranti.farmer.repository.FarmerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Point lookups of farmers and their farms for other microservices.
+ * Served from local tables only - no calls to KYC, subscription or auth.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FarmerLookupService {
+
+    private final FarmerRepository farmerRepository;
+    private final FarmRepository farmRepository;
+
+    /**
+     * Get a farmer and all of their farms by userId.
+     * Farmers with farms are resolved with a single query; the farmer table is
+     * only hit separately when the farmer has no farms yet.
+     */
+    @Transactional(readOnly = true)
+    public Optional<FarmerWithFarmsDto> getFarmerWithFarms(Long userId) {
+        List<Farm> farms = farmRepository.findByFarmerUserIdWithFarmer(userId);
+
+        Optional<Farmer> farmerOpt = farms.isEmpty()
+                ? farmerRepository.findByUserId(userId)
+                : Optional.of(farms.get(0).getFarmer());
+
+        log.debug("Internal lookup for userId {}: farmer found={}, farms={}", userId, farmerOpt.isPresent(), farms.size());
+
+        return farmerOpt.map(farmer -> toDto(farmer, farms));
+    }
+
+    /**
+     * Get many farmers and all of their farms by userId.
+     * Uses one query for all farms and one more only for farmers that have no farms yet.
+     *
+     * @return farmers in the order their userIds were first given; unknown userIds are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<FarmerWithFarmsDto> getFarmersWithFarms(Collection<Long> userIds) {
+        return getFarmersWithFarms(userIds, null);
+    }
+
+    /**
+     * Get many farmers and their farms by userId, optionally only what changed after a point in time.
+     * With {@code updatedSince} set, a farmer is returned with just the farms changed after it (or with all
+     * farms if the farmer's own profile changed), and farmers with nothing changed are left out.
+     *
+     * @return farmers in the order their userIds were first given; unknown userIds are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<FarmerWithFarmsDto> getFarmersWithFarms(Collection<Long> userIds, LocalDateTime updatedSince) {
+        Map<Long, Farmer> farmers = new LinkedHashMap<>();
+        Map<Long, List<Farm>> farmsByUserId = new LinkedHashMap<>();
+        userIds.forEach(userId -> farmsByUserId.put(userId, new ArrayList<>()));
+
+        List<Farm> farms = updatedSince == null
+                ? farmRepository.findByFarmerUserIdsWithFarmer(farmsByUserId.keySet())
+                : farmRepository.findByFarmerUserIdsWithFarmerChangedSince(farmsByUserId.keySet(), updatedSince);
+        for (Farm farm : farms) {
+            Farmer farmer = farm.getFarmer();
+            farmers.putIfAbsent(farmer.getUserId(), farmer);
+            farmsByUserId.get(farmer.getUserId()).add(farm);
+        }
+
+        List<Long> withoutFarms = farmsByUserId.keySet().stream()
+                .filter(userId -> !farmers.containsKey(userId))
+                .toList();
+        if (updatedSince == null && !withoutFarms.isEmpty()) {
+            farmerRepository.findByUserIdIn(withoutFarms)
+                    .forEach(farmer -> farmers.put(farmer.getUserId(), farmer));
+        }
+
+        log.debug("Internal batch lookup for {} userIds: {} farmers found", farmsByUserId.size(), farmers.size());
+
+        return farmsByUserId.entrySet().stream()
+                .filter(entry -> farmers.containsKey(entry.getKey()))
+                .map(entry -> toDto(farmers.get(entry.getKey()), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private FarmerWithFarmsDto toDto(Farmer farmer, List<Farm> farms) {
+        return FarmerWithFarmsDto.builder()
+                .farmerId(farmer.getId())
+                .userId(farmer.getUserId())
+                .firstName(farmer.getFirstName())
+                .lastName(farmer.getLastName())
+                .fullName(buildFullName(farmer.getFirstName(), farmer.getLastName()))
+                .pincode(farmer.getPincode())
+                .village(farmer.getVillage())
+                .taluka(farmer.getTaluka())
+                .district(farmer.getDistrict())
+                .state(farmer.getState())
+                .farms(farms.stream()
+                        .map(AdminFarmerDetailDto.FarmInfo::from)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private String buildFullName(String firstName, String lastName) {
+        String fn = firstName != null ? firstName : "";
+        String ln = lastName != null ? lastName : "";
+        return (fn + " " + ln).trim();
+    }
+}
@@ -0,0 +1,142 @@
+package com.krushikranti.farmer.service;
+
+import com.krushikranti.farmer.model.Farmer;
+import com.krushikranti.farmer.model.FarmerStatusProjection;
+import com.krushikranti.farmer.repository.FarmerRepository;
+import com.krushikranti.farmer.repository.FarmerStatusProjectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the local KYC/subscription status projection used by the admin farmer list.
+ * Updates carry the time the change happened upstream; an update older than the
+ * stored one is ignored, so redelivered or reordered events cannot roll a status back.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FarmerStatusProjectionService {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final FarmerStatusProjectionRepository projectionRepository;
+    private final FarmerRepository farmerRepository;
+    private final AdminFarmerDataAggregator dataAggregator;
+    private final TransactionTemplate transactionTemplate;
+
+    public void applyKycStatus(Long userId, String kycStatus, LocalDateTime occurredAt) {
+        apply(userId, projection -> {
+            if (isStale(projection.getKycUpdatedAt(), occurredAt)) {
+                log.debug("Ignoring stale KYC status {} for userId {}", kycStatus, userId);
+                return false;
+            }
+            projection.setKycStatus(kycStatus);
+            projection.setKycUpdatedAt(occurredAt);
+            return true;
+        });
+    }
+
+    public void applySubscriptionStatus(Long userId, String subscriptionStatus, LocalDateTime occurredAt) {
+        apply(userId, projection -> {
+            if (isStale(projection.getSubscriptionUpdatedAt(), occurredAt)) {
+                log.debug("Ignoring stale subscription status {} for userId {}", subscriptionStatus, userId);
+                return false;
+            }
+            projection.setSubscriptionStatus(subscriptionStatus);
+            projection.setSubscriptionUpdatedAt(occurredAt);
+            return true;
+        });
+    }
+
+    /**
+     * Re-seed the projection for every farmer from the kyc/subscription batch status endpoints.
+     * Used once after deployment and whenever events may have been missed.
+     *
+     * @return number of farmers processed
+     */
+    public int rebuild() {
+        int processed = 0;
+        Page<Farmer> page;
+        int pageNumber = 0;
+
+        do {
+            page = farmerRepository.findAll(PageRequest.of(pageNumber++, REBUILD_PAGE_SIZE, Sort.by("id")));
+            List<Long> userIds = page.getContent().stream()
+                    .map(Farmer::getUserId)
+                    .collect(Collectors.toList());
+
+            AdminFarmerDataAggregator.FarmerStatuses statuses = dataAggregator.fetchStatuses(userIds);
+            LocalDateTime now = LocalDateTime.now();
+
+            for (Long userId : userIds) {
+                applyStatus(statuses.kycStatuses(), userId, "kycStatus",
+                        status -> applyKycStatus(userId, status, now));
+                applyStatus(statuses.subscriptionStatuses(), userId, "subscriptionStatus",
+                        status -> applySubscriptionStatus(userId, status, now));
+            }
+            processed += userIds.size();
+        } while (page.hasNext());
+
+        log.info("Rebuilt farmer status projection for {} farmers", processed);
+        return processed;
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Run one projection update in its own transaction. The first KYC and subscription
+     * events for a user can race to insert the row; the loser hits the primary key,
+     * so it retries once and then sees the winner's row.
+     */
+    private void apply(Long userId, Predicate<FarmerStatusProjection> update) {
+        try {
+            applyInTransaction(userId, update);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Status projection for userId {} was inserted concurrently, retrying", userId);
+            applyInTransaction(userId, update);
+        }
+    }
+
+    private void applyInTransaction(Long userId, Predicate<FarmerStatusProjection> update) {
+        transactionTemplate.executeWithoutResult(status -> {
+            FarmerStatusProjection projection = getOrCreate(userId);
+            if (update.test(projection)) {
+                projectionRepository.saveAndFlush(projection);
+            }
+        });
+    }
+
+    private FarmerStatusProjection getOrCreate(Long userId) {
+        return projectionRepository.findById(userId)
+                .orElseGet(() -> FarmerStatusProjection.builder().userId(userId).build());
+    }
+
+    private boolean isStale(LocalDateTime current, LocalDateTime incoming) {
+        return current != null && incoming != null && incoming.isBefore(current);
+    }
+
+    /**
+     * Apply a status from a remote batch response; users the remote call did not
+     * return (e.g. because the service was down) are left untouched.
+     */
+    private void applyStatus(Map<Long, Map<String, Object>> statuses, Long userId, String field,
+                             Consumer<String> apply) {
+        Object status = statuses.getOrDefault(userId, Map.of()).get(field);
+        if (status != null) {
+            apply.accept(String.valueOf(status));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.krushikranti.farmer.service;
+
+import com.krushikranti.farmer.dto.AddressLookupResponse;
+import com.krushikranti.farmer.event.PincodeDataImportedEvent;
+import com.krushikranti.farmer.model.PincodeMaster;
+import com.krushikranti.farmer.repository.PincodeMasterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Read-only, in-memory index of pincode_master used to answer address lookups without a DB hit.
+ *
+ * <p>pincode_master is static reference data that only changes through {@link PincodeImportService},
+ * so the whole table is loaded once at startup and rebuilt after every import. Pincodes are kept as
+ * a sorted {@code int[]} with a parallel array of per-language addresses (binary search, no boxing),
+ * and the heavily repeated district/taluka/state names are de-duplicated so each distinct name is
+ * stored once. Until the first load finishes, {@link #isLoaded()} is false and callers use the DB.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PincodeAddressIndex {
+
+    private static final int EN = 0;
+    private static final int HI = 1;
+    private static final int MR = 2;
+
+    private final PincodeMasterRepository pincodeMasterRepository;
+
+    @Value("${pincode.index.enabled:true}")
+    private boolean enabled = true;
+
+    private volatile Snapshot snapshot;
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * Look up the address for a pincode in the given language.
+     *
+     * @param language one of "en", "hi", "mr" (already normalised by the caller)
+     * @return the address, or empty if the pincode is unknown or the index is not loaded
+     */
+    public Optional<AddressLookupResponse> find(String pincode, String language) {
+        Snapshot current = snapshot;
+        int key = parsePincode(pincode);
+        if (current == null || key < 0) {
+            return Optional.empty();
+        }
+
+        int index = Arrays.binarySearch(current.pincodes(), key);
+        if (index < 0) {
+            return Optional.empty();
+        }
+
+        LocalizedAddress address = current.addresses()[index][languageIndex(language)];
+        return Optional.of(AddressLookupResponse.builder()
+                .pincode(pincode)
+                .district(address.district())
+                .taluka(address.taluka())
+                .state(address.state())
+                .villages(address.villages())
+                .build());
+    }
+
+    public boolean contains(String pincode) {
+        Snapshot current = snapshot;
+        int key = parsePincode(pincode);
+        return current != null && key >= 0 && Arrays.binarySearch(current.pincodes(), key) >= 0;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current != null ? current.pincodes().length : 0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            log.info("Pincode address index disabled, lookups will query the database");
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Failed to load pincode address index, lookups will query the database: {}", e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPincodeDataImported(PincodeDataImportedEvent event) {
+        if (enabled && event.importedCount() > 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reload the index from pincode_master. Lookups keep using the previous
+     * snapshot until the new one is complete.
+     *
+     * @return number of distinct pincodes indexed
+     */
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        Snapshot rebuilt = build(pincodeMasterRepository.findAll());
+        this.snapshot = rebuilt;
+        log.info("Pincode address index loaded: {} pincodes in {} ms",
+                rebuilt.pincodes().length, System.currentTimeMillis() - start);
+        return rebuilt.pincodes().length;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static Snapshot build(List<PincodeMaster> rows) {
+        Map<Integer, List<PincodeMaster>> byPincode = new TreeMap<>();
+        for (PincodeMaster row : rows) {
+            int key = parsePincode(row.getPincode());
+            if (key >= 0) {
+                byPincode.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+            }
+        }
+
+        Map<String, String> names = new HashMap<>();
+        int[] pincodes = new int[byPincode.size()];
+        LocalizedAddress[][] addresses = new LocalizedAddress[byPincode.size()][];
+        int i = 0;
+        for (Map.Entry<Integer, List<PincodeMaster>> entry : byPincode.entrySet()) {
+            List<PincodeMaster> group = entry.getValue();
+            LocalizedAddress en = localize(group, names, PincodeMaster::getVillage, PincodeMaster::getTaluka,
+                    PincodeMaster::getDistrict, PincodeMaster::getState);
+            LocalizedAddress hi = dedupe(en, localize(group, names,
+                    fallback(PincodeMaster::getVillageHi, PincodeMaster::getVillage),
+                    fallback(PincodeMaster::getTalukaHi, PincodeMaster::getTaluka),
+                    fallback(PincodeMaster::getDistrictHi, PincodeMaster::getDistrict),
+                    fallback(PincodeMaster::getStateHi, PincodeMaster::getState)));
+            LocalizedAddress mr = dedupe(en, localize(group, names,
+                    fallback(PincodeMaster::getVillageMr, PincodeMaster::getVillage),
+                    fallback(PincodeMaster::getTalukaMr, PincodeMaster::getTaluka),
+                    fallback(PincodeMaster::getDistrictMr, PincodeMaster::getDistrict),
+                    fallback(PincodeMaster::getStateMr, PincodeMaster::getState)));
+
+            pincodes[i] = entry.getKey();
+            addresses[i++] = new LocalizedAddress[]{en, hi, mr};
+        }
+        return new Snapshot(pincodes, addresses);
+    }
+
+    /**
+     * Mirrors the DB lookup: first distinct district/taluka/state, distinct villages in sorted order.
+     */
+    private static LocalizedAddress localize(List<PincodeMaster> group, Map<String, String> names,
+                                             Function<PincodeMaster, String> village,
+                                             Function<PincodeMaster, String> taluka,
+                                             Function<PincodeMaster, String> district,
+                                             Function<PincodeMaster, String> state) {
+        Set<String> villages = new TreeSet<>();
+        Set<String> talukas = new LinkedHashSet<>();
+        Set<String> districts = new LinkedHashSet<>();
+        Set<String> states = new LinkedHashSet<>();
+        for (PincodeMaster row : group) {
+            villages.add(village.apply(row));
+            talukas.add(taluka.apply(row));
+            districts.add(district.apply(row));
+            states.add(state.apply(row));
+        }
+
+        if (districts.size() > 1 || talukas.size() > 1 || states.size() > 1) {
+            log.debug("Pincode {} has multiple districts/talukas/states: {} / {} / {}. Using first",
+                    group.get(0).getPincode(), districts, talukas, states);
+        }
+
+        return new LocalizedAddress(
+                intern(names, districts.iterator().next()),
+                intern(names, talukas.iterator().next()),
+                intern(names, states.iterator().next()),
+                List.copyOf(villages));
+    }
+
+    /** Share the English entry when a translation adds nothing (no translated columns filled). */
+    private static LocalizedAddress dedupe(LocalizedAddress en, LocalizedAddress translated) {
+        return translated.equals(en) ? en : translated;
+    }
+
+    private static Function<PincodeMaster, String> fallback(Function<PincodeMaster, String> translated,
+                                                            Function<PincodeMaster, String> english) {
+        return row -> {
+            String value = translated.apply(row);
+            return value != null ? value : english.apply(row);
+        };
+    }
+
+    private static String intern(Map<String, String> names, String name) {
+        return names.computeIfAbsent(name, Function.identity());
+    }
+
+    /**
+     * @return the pincode as an int, or -1 if it is not exactly six digits
+     */
+    private static int parsePincode(String pincode) {
+        if (pincode == null || pincode.length() != 6) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < 6; i++) {
+            char c = pincode.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int languageIndex(String language) {
+        return switch (language) {
+            case "hi" -> HI;
+            case "mr" -> MR;
+            default -> EN;
+        };
+    }
+
+    private record LocalizedAddress(String district, String taluka, String state, List<String> villages) {
+    }
+
+    private record Snapshot(int[] pincodes, LocalizedAddress[][] addresses) {
+    }
+}
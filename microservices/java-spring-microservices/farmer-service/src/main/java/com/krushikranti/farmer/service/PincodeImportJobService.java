@@ -0,0 +1,251 @@
+package com.krushikranti.farmer.service;
+
+import com.krushikranti.farmer.exception.PincodeImportBusyException;
+import com.krushikranti.farmer.model.PincodeImportJob;
+import com.krushikranti.farmer.repository.PincodeImportJobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs pincode imports as background jobs so the HTTP request only submits the file.
+ * Jobs run on a small bounded pool; when its queue is full new submissions are rejected
+ * instead of piling up. Progress is written to the job row after every committed chunk,
+ * which is also the point a failed, cancelled or interrupted job resumes from.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PincodeImportJobService {
+
+    private static final List<PincodeImportJob.Status> IN_PROGRESS =
+            List.of(PincodeImportJob.Status.QUEUED, PincodeImportJob.Status.RUNNING);
+
+    private final PincodeImportJobRepository jobRepository;
+    private final PincodeImportService pincodeImportService;
+
+    @Value("${pincode.import.jobs.pool-size:1}")
+    private int poolSize = 1;
+
+    @Value("${pincode.import.jobs.queue-capacity:10}")
+    private int queueCapacity = 10;
+
+    /** Cancel flags of jobs that are queued or running in this instance. */
+    private final Map<Long, AtomicBoolean> cancelFlags = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "pincode-import-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        cancelFlags.values().forEach(flag -> flag.set(true));
+        executor.shutdown();
+    }
+
+    /**
+     * Jobs left queued or running by a previous instance cannot still be running;
+     * mark them failed so they can be resumed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        for (PincodeImportJob job : jobRepository.findByStatusIn(IN_PROGRESS)) {
+            log.warn("Pincode import job {} was interrupted by a restart (last committed row {})",
+                    job.getId(), job.getLastCommittedRow());
+            job.setStatus(PincodeImportJob.Status.FAILED);
+            job.setErrorMessage("Interrupted by service restart");
+            job.setFinishedAt(LocalDateTime.now());
+            jobRepository.save(job);
+        }
+    }
+
+    /**
+     * Submit a pincode file for import.
+     *
+     * @throws IllegalArgumentException if the file cannot be read
+     * @throws IllegalStateException if the import queue is full
+     */
+    public PincodeImportJob submit(String filePath) {
+        if (filePath == null || !Files.isReadable(Path.of(filePath))) {
+            throw new IllegalArgumentException("File not found or not readable: " + filePath);
+        }
+
+        PincodeImportJob job = jobRepository.save(PincodeImportJob.builder()
+                .filePath(filePath)
+                .build());
+        log.info("Pincode import job {} submitted for file: {}", job.getId(), filePath);
+        return enqueue(job);
+    }
+
+    public PincodeImportJob getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Import job not found: " + jobId));
+    }
+
+    public List<PincodeImportJob> getRecentJobs() {
+        return jobRepository.findTop20ByOrderByCreatedAtDesc();
+    }
+
+    /**
+     * Request cancellation. A running job stops after committing the rows read so far.
+     */
+    public PincodeImportJob cancel(Long jobId) {
+        PincodeImportJob job = getJob(jobId);
+        AtomicBoolean flag = cancelFlags.get(jobId);
+        if (flag == null || job.isFinished()) {
+            throw new IllegalArgumentException("Import job " + jobId + " is not queued or running");
+        }
+
+        flag.set(true);
+        if (job.getStatus() == PincodeImportJob.Status.QUEUED) {
+            job.setStatus(PincodeImportJob.Status.CANCELLED);
+            job.setFinishedAt(LocalDateTime.now());
+            job = jobRepository.save(job);
+        }
+        log.info("Cancellation requested for pincode import job {}", jobId);
+        return job;
+    }
+
+    /**
+     * Re-queue a failed or cancelled job; it continues after its last committed row.
+     */
+    public PincodeImportJob resume(Long jobId) {
+        PincodeImportJob job = getJob(jobId);
+        if (job.getStatus() != PincodeImportJob.Status.FAILED && job.getStatus() != PincodeImportJob.Status.CANCELLED) {
+            throw new IllegalArgumentException("Only failed or cancelled jobs can be resumed, job " + jobId
+                    + " is " + job.getStatus());
+        }
+
+        job.setStatus(PincodeImportJob.Status.QUEUED);
+        job.setErrorMessage(null);
+        job.setFinishedAt(null);
+        log.info("Resuming pincode import job {} after row {}", jobId, job.getLastCommittedRow());
+        return enqueue(jobRepository.save(job));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private PincodeImportJob enqueue(PincodeImportJob job) {
+        Long jobId = job.getId();
+        cancelFlags.put(jobId, new AtomicBoolean());
+        try {
+            executor.execute(() -> runJob(jobId));
+            return job;
+        } catch (RejectedExecutionException e) {
+            cancelFlags.remove(jobId);
+            job.setStatus(PincodeImportJob.Status.FAILED);
+            job.setErrorMessage("Import queue is full");
+            job.setFinishedAt(LocalDateTime.now());
+            jobRepository.save(job);
+            throw new PincodeImportBusyException("Too many pincode imports in progress, try again later");
+        }
+    }
+
+    void runJob(Long jobId) {
+        AtomicBoolean cancelled = cancelFlags.computeIfAbsent(jobId, id -> new AtomicBoolean());
+        PincodeImportJob job = getJob(jobId);
+        try {
+            if (cancelled.get() || job.getStatus() != PincodeImportJob.Status.QUEUED) {
+                return;
+            }
+
+            job.setStatus(PincodeImportJob.Status.RUNNING);
+            job.setStartedAt(LocalDateTime.now());
+            job = jobRepository.save(job);
+
+            JobProgress progress = new JobProgress(job, cancelled);
+            pincodeImportService.importFromExcel(job.getFilePath(), job.getLastCommittedRow(), progress);
+
+            job.setStatus(PincodeImportJob.Status.COMPLETED);
+            log.info("Pincode import job {} completed: {} imported, {} skipped",
+                    jobId, job.getImportedCount(), job.getSkippedCount());
+        } catch (CancellationException e) {
+            job.setStatus(PincodeImportJob.Status.CANCELLED);
+        } catch (RuntimeException e) {
+            log.error("Pincode import job {} failed: {}", jobId, e.getMessage(), e);
+            job.setStatus(PincodeImportJob.Status.FAILED);
+            job.setErrorMessage(truncate(e.getMessage()));
+        } finally {
+            cancelFlags.remove(jobId);
+            if (job.getStatus() != PincodeImportJob.Status.QUEUED) {
+                job.setFinishedAt(LocalDateTime.now());
+                jobRepository.save(job);
+            }
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return "Import failed";
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    /**
+     * Adds the progress of the current run to the counts the job already had when it started
+     * (non-zero when resuming) and persists them after every committed chunk.
+     */
+    private class JobProgress implements PincodeImportService.ImportListener {
+
+        private final PincodeImportJob job;
+        private final AtomicBoolean cancelled;
+        private final long baseRowsRead;
+        private final int baseImported;
+        private final int baseSkipped;
+        private final long startNanos = System.nanoTime();
+
+        private JobProgress(PincodeImportJob job, AtomicBoolean cancelled) {
+            this.job = job;
+            this.cancelled = cancelled;
+            this.baseRowsRead = job.getRowsRead();
+            this.baseImported = job.getImportedCount();
+            this.baseSkipped = job.getSkippedCount();
+        }
+
+        @Override
+        public void onChunkCommitted(PincodeImportService.ImportProgress progress) {
+            double seconds = Duration.ofNanos(System.nanoTime() - startNanos).toMillis() / 1000.0;
+            job.setRowsRead(baseRowsRead + progress.rowsRead());
+            job.setImportedCount(baseImported + progress.imported());
+            job.setSkippedCount(baseSkipped + progress.skipped());
+            job.setLastCommittedRow(progress.lastCommittedRow());
+            job.setRowsPerSecond(seconds > 0 ? Math.round(progress.rowsRead() / seconds * 10) / 10.0 : null);
+            jobRepository.save(job);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+    }
+}
@@ -1,29 +1,71 @@
 package com.krushikranti.farmer.service;
 
-import com.krushikranti.farmer.model.PincodeMaster;
+import com.krushikranti.farmer.event.PincodeDataImportedEvent;
 import com.krushikranti.farmer.repository.PincodeMasterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
-import java.io.FileInputStream;
+import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 
 /**
  * Service for importing pincode data from Excel file.
  * This service reads the Excel file and populates the pincode_master table.
+ *
+ * <p>The first sheet is streamed with the POI event (SAX) model, so memory use does not grow
+ * with the file. Rows are de-duplicated against keys pre-loaded from pincode_master and written
+ * with JDBC batch inserts, committing every {@code pincode.import.batch-size} rows.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PincodeImportService {
 
+    /** Data rows (after the header) inspected to detect the column layout. */
+    private static final int SAMPLE_ROWS = 20;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO pincode_master (pincode, village, taluka, district, state, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    /** Rows inserted concurrently by another import are skipped rather than failing the chunk. */
+    private static final String POSTGRES_INSERT_SQL = INSERT_SQL + " ON CONFLICT DO NOTHING";
+
     private final PincodeMasterRepository pincodeMasterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${pincode.import.batch-size:1000}")
+    private int batchSize = 1000;
 
     /**
      * Import pincode data from Excel file.
@@ -32,122 +74,309 @@ public class PincodeImportService {
      * @param filePath Path to the Excel file
      * @return Number of records imported
      */
-    @Transactional
     public int importFromExcel(String filePath) {
-        log.info("Starting pincode import from file: {}", filePath);
-        
-        int importedCount = 0;
-        int skippedCount = 0;
-        Set<String> uniqueKeys = new HashSet<>();
-        int[] columnMapping = null; // Will store: [pincodeIndex, villageIndex, talukaIndex, districtIndex, stateIndex]
+        return importFromExcel(filePath, progress -> { });
+    }
 
-        try (FileInputStream fis = new FileInputStream(filePath);
-             Workbook workbook = new XSSFWorkbook(fis)) {
+    /**
+     * Import pincode data from Excel file, reporting progress after every committed chunk.
+     *
+     * @param filePath Path to the Excel file
+     * @param listener Receives running totals after each chunk is committed
+     * @return Number of records imported
+     */
+    public int importFromExcel(String filePath, ImportListener listener) {
+        return importFromExcel(filePath, 0, listener);
+    }
 
-            Sheet sheet = workbook.getSheetAt(0); // First sheet
-            
+    /**
+     * Import pincode data from Excel file, skipping sheet rows up to and including {@code resumeAfterRow}.
+     * Used to resume an import from the last committed chunk ({@link ImportProgress#lastCommittedRow()}).
+     * When {@link ImportListener#isCancelled()} turns true, rows read so far are committed and a
+     * {@link CancellationException} is thrown.
+     *
+     * @param filePath Path to the Excel file
+     * @param resumeAfterRow Last sheet row (0-based, header is row 0) already imported; 0 to start from the top
+     * @param listener Receives running totals after each chunk is committed
+     * @return Number of records imported
+     */
+    public int importFromExcel(String filePath, int resumeAfterRow, ImportListener listener) {
+        log.info("Starting pincode import from file: {} (resuming after row {})", filePath, resumeAfterRow);
+
+        RowImporter importer = new RowImporter(insertSql(), loadExistingKeys(), resumeAfterRow, listener);
+
+        try (OPCPackage pkg = OPCPackage.open(filePath, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new RuntimeException("Excel file has no sheets");
+            }
+
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), null,
+                    new ReadOnlySharedStringsTable(pkg), importer, new DataFormatter(), false));
+
+            try (InputStream sheet = sheets.next()) { // First sheet
+                parser.parse(new InputSource(sheet));
+            }
+            importer.finish();
+
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            log.error("Error reading Excel file: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to read Excel file: " + filePath, e);
+        } finally {
+            // Rebuilds the address index for every committed chunk, even if the import stopped early
+            eventPublisher.publishEvent(new PincodeDataImportedEvent(importer.progress().imported()));
+        }
+
+        ImportProgress result = importer.progress();
+        log.info("Pincode import completed. Imported: {}, Skipped: {}", result.imported(), result.skipped());
+        return result.imported();
+    }
+
+    /**
+     * Callback for import progress and cancellation.
+     */
+    @FunctionalInterface
+    public interface ImportListener {
+
+        /** Called after each chunk has been committed. */
+        void onChunkCommitted(ImportProgress progress);
+
+        /** Checked before every row; returning true stops the import after committing pending rows. */
+        default boolean isCancelled() {
+            return false;
+        }
+    }
+
+    /**
+     * Running totals of an import.
+     *
+     * @param rowsRead data rows read from the sheet so far
+     * @param imported rows inserted into pincode_master
+     * @param skipped rows skipped as invalid or duplicate
+     * @param lastCommittedRow last sheet row whose outcome is committed; resume point for the next run
+     */
+    public record ImportProgress(long rowsRead, int imported, int skipped, int lastCommittedRow) {
+    }
+
+    /**
+     * Receives sheet rows from the SAX parser. The first rows are buffered until the
+     * column layout can be detected; after that each row is validated, de-duplicated
+     * and queued, and the queue is flushed in its own transaction once it reaches the batch size.
+     */
+    private class RowImporter implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final String insertSql;
+        private final Set<String> knownKeys;
+        private final int resumeAfterRow;
+        private final ImportListener listener;
+        private final List<String[]> sampleRows = new ArrayList<>();
+        private final List<Object[]> pending = new ArrayList<>(batchSize);
+
+        private int[] columnMapping; // [pincodeIndex, villageIndex, talukaIndex, districtIndex, stateIndex]
+        private List<String> currentRow = new ArrayList<>();
+        private long rowsRead;
+        private int importedCount;
+        private int skippedCount;
+        private int lastProcessedRow;
+        private int lastCommittedRow;
+
+        private RowImporter(String insertSql, Set<String> knownKeys, int resumeAfterRow, ImportListener listener) {
+            this.insertSql = insertSql;
+            this.knownKeys = knownKeys;
+            this.resumeAfterRow = resumeAfterRow;
+            this.lastCommittedRow = resumeAfterRow;
+            this.listener = listener;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            currentRow = new ArrayList<>();
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : currentRow.size();
+            while (currentRow.size() < column) {
+                currentRow.add(null);
+            }
+            currentRow.add(formattedValue);
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            String[] row = currentRow.toArray(new String[0]);
+            if (columnMapping != null) {
+                processRow(rowNum, row);
+                return;
+            }
+
+            while (sampleRows.size() < rowNum) {
+                sampleRows.add(null);
+            }
+            sampleRows.add(row);
+            if (rowNum >= SAMPLE_ROWS) {
+                detectColumnsAndDrainSample();
+            }
+        }
+
+        private void finish() {
+            if (columnMapping == null) {
+                detectColumnsAndDrainSample();
+            }
+            flush();
+        }
+
+        private ImportProgress progress() {
+            return new ImportProgress(rowsRead, importedCount, skippedCount, lastCommittedRow);
+        }
+
+        private void detectColumnsAndDrainSample() {
             // Detect column order from header row or sample rows
-            columnMapping = detectColumnOrder(sheet);
+            columnMapping = detectColumnOrder(sampleRows);
             if (columnMapping == null) {
                 log.error("Could not detect column order. Please check Excel file structure.");
                 throw new RuntimeException("Could not detect column order in Excel file");
             }
-            
+
             log.info("Detected column order - Pincode: {}, Village: {}, Taluka: {}, District: {}, State: {}",
                     columnMapping[0], columnMapping[1], columnMapping[2], columnMapping[3], columnMapping[4]);
-            
+
             // Skip header row (row 0) and start from row 1
-            for (int rowIndex = 1; rowIndex <= sheet.getLastRowNum(); rowIndex++) {
-                Row row = sheet.getRow(rowIndex);
-                if (row == null) continue;
-
-                try {
-                    // Read columns using detected mapping
-                    String pincode = getCellValueAsString(row.getCell(columnMapping[0]));
-                    String village = getCellValueAsString(row.getCell(columnMapping[1]));
-                    String taluka = getCellValueAsString(row.getCell(columnMapping[2]));
-                    String district = getCellValueAsString(row.getCell(columnMapping[3]));
-                    String state = getCellValueAsString(row.getCell(columnMapping[4]));
-
-                    // Validate required fields
-                    if (pincode == null || pincode.trim().isEmpty() ||
-                        village == null || village.trim().isEmpty() ||
-                        taluka == null || taluka.trim().isEmpty() ||
-                        district == null || district.trim().isEmpty() ||
-                        state == null || state.trim().isEmpty()) {
-                        skippedCount++;
-                        continue;
-                    }
+            for (int rowIndex = 1; rowIndex < sampleRows.size(); rowIndex++) {
+                if (sampleRows.get(rowIndex) != null) {
+                    processRow(rowIndex, sampleRows.get(rowIndex));
+                }
+            }
+            sampleRows.clear();
+        }
 
-                    // Normalize pincode (remove spaces, ensure 6 digits)
-                    pincode = pincode.trim().replaceAll("\\s+", "");
-                    // Check if pincode is a valid 6-digit number
-                    if (!pincode.matches("^[0-9]{6}$")) {
-                        log.warn("Invalid pincode format at row {}: {}", rowIndex + 1, pincode);
-                        skippedCount++;
-                        continue;
-                    }
+        private void processRow(int rowIndex, String[] row) {
+            if (rowIndex <= resumeAfterRow) {
+                return;
+            }
+            if (listener.isCancelled()) {
+                flush();
+                log.info("Pincode import cancelled after row {}", lastCommittedRow);
+                throw new CancellationException("Import cancelled");
+            }
+            rowsRead++;
+            lastProcessedRow = rowIndex;
+            try {
+                // Read columns using detected mapping
+                String pincode = cellValue(row, columnMapping[0]);
+                String village = cellValue(row, columnMapping[1]);
+                String taluka = cellValue(row, columnMapping[2]);
+                String district = cellValue(row, columnMapping[3]);
+                String state = cellValue(row, columnMapping[4]);
 
-                    // Create unique key to avoid duplicates
-                    String uniqueKey = pincode + "|" + village.trim();
-                    if (uniqueKeys.contains(uniqueKey)) {
-                        skippedCount++;
-                        continue;
-                    }
-                    uniqueKeys.add(uniqueKey);
-
-                    // Check if already exists in database
-                    boolean exists = pincodeMasterRepository.findByPincode(pincode)
-                            .stream()
-                            .anyMatch(p -> p.getVillage().equalsIgnoreCase(village.trim()));
-
-                    if (!exists) {
-                        PincodeMaster pincodeMaster = PincodeMaster.builder()
-                                .pincode(pincode)
-                                .village(village.trim())
-                                .taluka(taluka.trim())
-                                .district(district.trim())
-                                .state(state.trim())
-                                .build();
-
-                        pincodeMasterRepository.save(pincodeMaster);
-                        importedCount++;
-
-                        if (importedCount % 1000 == 0) {
-                            log.info("Imported {} records so far...", importedCount);
-                        }
-                    } else {
-                        skippedCount++;
-                    }
+                // Validate required fields
+                if (pincode == null || pincode.trim().isEmpty() ||
+                    village == null || village.trim().isEmpty() ||
+                    taluka == null || taluka.trim().isEmpty() ||
+                    district == null || district.trim().isEmpty() ||
+                    state == null || state.trim().isEmpty()) {
+                    skippedCount++;
+                    return;
+                }
+
+                // Normalize pincode (remove spaces, ensure 6 digits)
+                pincode = pincode.trim().replaceAll("\\s+", "");
+                // Check if pincode is a valid 6-digit number
+                if (!pincode.matches("^[0-9]{6}$")) {
+                    log.warn("Invalid pincode format at row {}: {}", rowIndex + 1, pincode);
+                    skippedCount++;
+                    return;
+                }
 
-                } catch (Exception e) {
-                    log.warn("Error processing row {}: {}", rowIndex + 1, e.getMessage());
+                // Skip rows already in the file or the database
+                if (!knownKeys.add(uniqueKey(pincode, village.trim()))) {
                     skippedCount++;
+                    return;
                 }
+
+                pending.add(new Object[]{pincode, village.trim(), taluka.trim(), district.trim(), state.trim(),
+                        Timestamp.valueOf(LocalDateTime.now())});
+                if (pending.size() >= batchSize) {
+                    flush();
+                }
+
+            } catch (RuntimeException e) {
+                log.warn("Error processing row {}: {}", rowIndex + 1, e.getMessage());
+                skippedCount++;
             }
+        }
 
-            log.info("Pincode import completed. Imported: {}, Skipped: {}", importedCount, skippedCount);
-            return importedCount;
+        private void flush() {
+            if (pending.isEmpty()) {
+                if (lastProcessedRow > lastCommittedRow) {
+                    // Only skipped rows since the last chunk; nothing to write, but they are done
+                    lastCommittedRow = lastProcessedRow;
+                    listener.onChunkCommitted(progress());
+                }
+                return;
+            }
 
-        } catch (IOException e) {
-            log.error("Error reading Excel file: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to read Excel file: " + filePath, e);
+            int[] results = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(insertSql, pending));
+            int inserted = 0;
+            for (int result : results) {
+                // SUCCESS_NO_INFO is reported when the driver rewrites the batch into multi-row inserts
+                if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+                    inserted++;
+                }
+            }
+            importedCount += inserted;
+            skippedCount += pending.size() - inserted;
+            lastCommittedRow = lastProcessedRow;
+            pending.clear();
+
+            log.info("Imported {} records so far ({} rows read)...", importedCount, rowsRead);
+            listener.onChunkCommitted(progress());
         }
     }
 
+    /**
+     * Load the (pincode, village) keys already in pincode_master so duplicates are
+     * skipped in memory instead of with a query per row.
+     */
+    private Set<String> loadExistingKeys() {
+        Set<String> keys = new HashSet<>();
+        jdbcTemplate.query("SELECT pincode, village FROM pincode_master",
+                rs -> {
+                    keys.add(uniqueKey(rs.getString(1), rs.getString(2)));
+                });
+        log.info("Loaded {} existing pincode/village keys", keys.size());
+        return keys;
+    }
+
+    /**
+     * ON CONFLICT is PostgreSQL syntax; other databases (H2 in tests) rely on the pre-loaded key set alone.
+     */
+    private String insertSql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product) ? POSTGRES_INSERT_SQL : INSERT_SQL;
+    }
+
+    private static String uniqueKey(String pincode, String village) {
+        return pincode + "|" + village.toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Detect column order by analyzing header row and sample data rows.
+     * {@code sampleRows} holds the first rows of the sheet by row index (header at 0, missing rows null).
      * Returns array: [pincodeIndex, villageIndex, talukaIndex, districtIndex, stateIndex]
      */
-    private int[] detectColumnOrder(Sheet sheet) {
-        Row headerRow = sheet.getRow(0);
+    private int[] detectColumnOrder(List<String[]> sampleRows) {
+        String[] headerRow = sampleRows.isEmpty() ? null : sampleRows.get(0);
+        int lastRowNum = sampleRows.size() - 1;
         int maxColumns = 0;
         
         // Find maximum number of columns
-        for (int i = 0; i <= Math.min(10, sheet.getLastRowNum()); i++) {
-            Row row = sheet.getRow(i);
+        for (int i = 0; i <= Math.min(10, lastRowNum); i++) {
+            String[] row = sampleRows.get(i);
             if (row != null) {
-                maxColumns = Math.max(maxColumns, row.getLastCellNum());
+                maxColumns = Math.max(maxColumns, row.length);
             }
         }
         
@@ -160,12 +389,12 @@ public class PincodeImportService {
         int[] pincodeColumnCandidates = new int[maxColumns];
         
         // Analyze first 20 data rows (after header) to find pincode column
-        for (int rowIndex = 1; rowIndex <= Math.min(20, sheet.getLastRowNum()); rowIndex++) {
-            Row row = sheet.getRow(rowIndex);
+        for (int rowIndex = 1; rowIndex <= Math.min(SAMPLE_ROWS, lastRowNum); rowIndex++) {
+            String[] row = sampleRows.get(rowIndex);
             if (row == null) continue;
             
             for (int colIndex = 0; colIndex < maxColumns; colIndex++) {
-                String cellValue = getCellValueAsString(row.getCell(colIndex));
+                String cellValue = cellValue(row, colIndex);
                 if (cellValue != null && cellValue.trim().matches("^[0-9]{6}$")) {
                     pincodeColumnCandidates[colIndex]++;
                 }
@@ -193,7 +422,7 @@ public class PincodeImportService {
         if (headerRow != null) {
             String[] headerValues = new String[maxColumns];
             for (int i = 0; i < maxColumns; i++) {
-                headerValues[i] = getCellValueAsString(headerRow.getCell(i));
+                headerValues[i] = cellValue(headerRow, i);
                 if (headerValues[i] != null) {
                     headerValues[i] = headerValues[i].trim().toLowerCase();
                 }
@@ -322,37 +551,8 @@ public class PincodeImportService {
         return false;
     }
 
-    /**
-     * Get cell value as string, handling different cell types.
-     */
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null) {
-            return null;
-        }
-
-        CellType cellType = cell.getCellType();
-        
-        if (cellType == CellType.STRING) {
-            return cell.getStringCellValue();
-        } else if (cellType == CellType.NUMERIC) {
-            if (DateUtil.isCellDateFormatted(cell)) {
-                return cell.getDateCellValue().toString();
-            } else {
-                // Convert numeric to string without decimal if it's a whole number
-                double numericValue = cell.getNumericCellValue();
-                if (numericValue == Math.floor(numericValue)) {
-                    return String.valueOf((long) numericValue);
-                } else {
-                    return String.valueOf(numericValue);
-                }
-            }
-        } else if (cellType == CellType.BOOLEAN) {
-            return String.valueOf(cell.getBooleanCellValue());
-        } else if (cellType == CellType.FORMULA) {
-            return cell.getCellFormula();
-        } else {
-            return null;
-        }
+    private static String cellValue(String[] row, int column) {
+        return row != null && column < row.length ? row[column] : null;
     }
 
     /**
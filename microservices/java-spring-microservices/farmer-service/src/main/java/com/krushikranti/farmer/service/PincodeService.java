@@ -10,6 +10,8 @@ import java.util.List;
 
 /**
  * Service for pincode-based address lookup.
+ * Lookups are served from {@link PincodeAddressIndex} once it is loaded; the
+ * pincode_master queries are only used until then (or when the index is disabled).
  */
 @Service
 @RequiredArgsConstructor
@@ -17,6 +19,7 @@ import java.util.List;
 public class PincodeService {
 
     private final PincodeMasterRepository pincodeMasterRepository;
+    private final PincodeAddressIndex pincodeAddressIndex;
 
     /**
      * Get address details (district, taluka, state, villages) by pincode.
@@ -51,6 +54,13 @@ public class PincodeService {
             language = "en"; // Default to English
         }
 
+        if (pincodeAddressIndex.isLoaded()) {
+            return pincodeAddressIndex.find(pincode, language).orElseThrow(() -> {
+                log.warn("Pincode not found: {}", pincode);
+                return new IllegalArgumentException("Pincode not found: " + pincode);
+            });
+        }
+
         // Get distinct district, taluka, state, villages based on language
         List<String> districts;
         List<String> talukas;
@@ -114,6 +124,9 @@ public class PincodeService {
      * @return true if pincode exists, false otherwise
      */
     public boolean pincodeExists(String pincode) {
+        if (pincodeAddressIndex.isLoaded()) {
+            return pincodeAddressIndex.contains(pincode);
+        }
         return !pincodeMasterRepository.findDistrictsByPincode(pincode).isEmpty();
     }
 }
@@ -0,0 +1,21 @@
+-- ============================================
+-- Local projection of KYC and subscription status per user
+-- Kept up to date from kyc-service / subscription-service status-change events
+-- so the admin farmer list can filter and count in a single query.
+-- ============================================
+CREATE TABLE IF NOT EXISTS farmer_status_projection (
+    user_id BIGINT PRIMARY KEY,
+    kyc_status VARCHAR(20),
+    kyc_updated_at TIMESTAMP,
+    subscription_status VARCHAR(20),
+    subscription_updated_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_farmer_status_projection_kyc_status
+    ON farmer_status_projection(kyc_status);
+CREATE INDEX IF NOT EXISTS idx_farmer_status_projection_subscription_status
+    ON farmer_status_projection(subscription_status);
+
+-- Default list ordering for the admin farmer list
+CREATE INDEX IF NOT EXISTS idx_farmers_created_at ON farmers(created_at DESC);
@@ -0,0 +1,23 @@
+-- ============================================
+-- Background pincode import jobs
+-- Progress is recorded after every committed chunk so a failed or
+-- cancelled job can resume from last_committed_row.
+-- ============================================
+CREATE TABLE IF NOT EXISTS pincode_import_jobs (
+    job_id BIGSERIAL PRIMARY KEY,
+    file_path VARCHAR(500) NOT NULL,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED', 'CANCELLED')),
+    rows_read BIGINT NOT NULL DEFAULT 0,
+    imported_count INTEGER NOT NULL DEFAULT 0,
+    skipped_count INTEGER NOT NULL DEFAULT 0,
+    last_committed_row INTEGER NOT NULL DEFAULT 0,
+    rows_per_second DOUBLE PRECISION,
+    error_message VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_pincode_import_jobs_status ON pincode_import_jobs(status);
+CREATE INDEX IF NOT EXISTS idx_pincode_import_jobs_created_at ON pincode_import_jobs(created_at DESC);
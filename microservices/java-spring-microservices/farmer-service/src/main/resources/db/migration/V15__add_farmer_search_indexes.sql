@@ -0,0 +1,20 @@
+-- ============================================
+-- Indexes for the admin farmer list: trigram search and keyset pagination
+-- ============================================
+
+-- LOWER(column) LIKE '%term%' can use a GIN trigram index on the same expression
+-- (terms of three or more characters); the four indexes are combined with a BitmapOr.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_farmers_first_name_trgm
+    ON farmers USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_farmers_last_name_trgm
+    ON farmers USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_farmers_village_trgm
+    ON farmers USING gin (lower(village) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_farmers_district_trgm
+    ON farmers USING gin (lower(district) gin_trgm_ops);
+
+-- Keyset pagination seeks on (created_at, farmer_id) in list order
+DROP INDEX IF EXISTS idx_farmers_created_at;
+CREATE INDEX IF NOT EXISTS idx_farmers_created_at_id ON farmers(created_at DESC, farmer_id DESC);
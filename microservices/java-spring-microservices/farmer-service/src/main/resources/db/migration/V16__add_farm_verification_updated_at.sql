@@ -0,0 +1,6 @@
+-- ============================================
+-- Time of the last field officer verification event applied to the farm.
+-- Verification outcomes arrive asynchronously from field-officer-service; events that are
+-- not newer than this are ignored, so redelivered or reordered events cannot roll a farm back.
+-- ============================================
+ALTER TABLE farms ADD COLUMN IF NOT EXISTS verification_updated_at TIMESTAMP;
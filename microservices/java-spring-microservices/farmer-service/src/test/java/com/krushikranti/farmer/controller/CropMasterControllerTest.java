@@ -0,0 +1,75 @@
+package com.krushikranti.farmer.controller;
+
+import com.krushikranti.farmer.model.CropType;
+import com.krushikranti.farmer.repository.CropNameRepository;
+import com.krushikranti.farmer.repository.CropTypeRepository;
+import com.krushikranti.farmer.service.CropCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CropMasterController.class)
+@Import(CropCatalog.class)
+@DisplayName("CropMasterController Tests")
+class CropMasterControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CropCatalog cropCatalog;
+
+    @MockBean
+    private CropTypeRepository cropTypeRepository;
+
+    @MockBean
+    private CropNameRepository cropNameRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(cropTypeRepository.findAll()).thenReturn(List.of(
+                CropType.builder().id(1L).typeName("VEGETABLES").displayName("Vegetables")
+                        .displayNameHi("सब्जियां").build()));
+        when(cropNameRepository.findAllWithCropType()).thenReturn(List.of());
+        cropCatalog.rebuild();
+    }
+
+    @Test
+    @DisplayName("GET /farmer/profile/crop-types - returns ETag and cache headers")
+    void getActiveCropTypes_ReturnsETag() throws Exception {
+        mockMvc.perform(get("/farmer/profile/crop-types").header("Accept-Language", "hi-IN"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", cropCatalog.get("hi").etag()))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(header().string("Vary", "Accept-Language"))
+                .andExpect(jsonPath("$.data[0].displayName").value("सब्जियां"));
+    }
+
+    @Test
+    @DisplayName("GET /farmer/profile/crop-types - matching If-None-Match returns 304 without body")
+    void getActiveCropTypes_MatchingETag_Returns304() throws Exception {
+        mockMvc.perform(get("/farmer/profile/crop-types")
+                        .header("If-None-Match", cropCatalog.get("en").etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /farmer/profile/crop-names - inactive or unknown type returns 400")
+    void getActiveCropNamesByType_UnknownType_Returns400() throws Exception {
+        mockMvc.perform(get("/farmer/profile/crop-names").param("typeId", "99"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Crop type not found with ID: 99"));
+    }
+}
@@ -183,7 +183,7 @@ class FarmerControllerIntegrationTest {
                 .villages(List.of("Village1", "Village2", "Village3"))
                 .build();
 
-        when(pincodeService.getAddressByPincode("411001")).thenReturn(addressLookup);
+        when(pincodeService.getAddressByPincode("411001", "en")).thenReturn(addressLookup);
 
         // When/Then
         mockMvc.perform(get("/farmer/profile/address/lookup")
@@ -203,7 +203,7 @@ class FarmerControllerIntegrationTest {
     @DisplayName("GET /farmer/profile/address/lookup - pincode not found")
     void lookupAddress_PincodeNotFound_Returns400() throws Exception {
         // Given
-        when(pincodeService.getAddressByPincode("999999"))
+        when(pincodeService.getAddressByPincode("999999", "en"))
                 .thenThrow(new IllegalArgumentException("Pincode not found: 999999"));
 
         // When/Then
@@ -1,5 +1,8 @@
 package com.krushikranti.farmer.controller;
 
+import com.krushikranti.farmer.model.PincodeImportJob;
+import com.krushikranti.farmer.service.PincodeAddressIndex;
+import com.krushikranti.farmer.service.PincodeImportJobService;
 import com.krushikranti.farmer.service.PincodeImportService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,22 +27,58 @@ class PincodeImportControllerTest {
     @MockBean
     private PincodeImportService pincodeImportService;
 
+    @MockBean
+    private PincodeImportJobService pincodeImportJobService;
+
+    @MockBean
+    private PincodeAddressIndex pincodeAddressIndex;
+
     @Test
-    @DisplayName("POST /farmer/admin/pincode/import - success")
-    void importPincodes_Success_Returns200() throws Exception {
+    @DisplayName("POST /farmer/admin/pincode/import - job submitted")
+    void importPincodes_Success_Returns202WithJob() throws Exception {
         // Given
         String filePath = "/path/to/excel.xlsx";
-        int importedCount = 100;
+        PincodeImportJob job = PincodeImportJob.builder()
+                .id(7L)
+                .filePath(filePath)
+                .build();
 
-        when(pincodeImportService.importFromExcel(filePath)).thenReturn(importedCount);
+        when(pincodeImportJobService.submit(filePath)).thenReturn(job);
 
         // When/Then
         mockMvc.perform(post("/farmer/admin/pincode/import")
                         .param("filePath", filePath)
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.message").value("Pincode import job submitted"))
+                .andExpect(jsonPath("$.data.jobId").value(7))
+                .andExpect(jsonPath("$.data.status").value("QUEUED"));
+    }
+
+    @Test
+    @DisplayName("GET /farmer/admin/pincode/import/jobs/{jobId} - progress")
+    void getImportJob_Running_ReturnsProgress() throws Exception {
+        // Given
+        PincodeImportJob job = PincodeImportJob.builder()
+                .id(7L)
+                .filePath("/path/to/excel.xlsx")
+                .status(PincodeImportJob.Status.RUNNING)
+                .rowsRead(5000L)
+                .importedCount(4900)
+                .skippedCount(100)
+                .lastCommittedRow(5000)
+                .rowsPerSecond(12500.0)
+                .build();
+
+        when(pincodeImportJobService.getJob(7L)).thenReturn(job);
+
+        // When/Then
+        mockMvc.perform(get("/farmer/admin/pincode/import/jobs/7")
+                        .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.message").value("Pincode import completed successfully"))
-                .andExpect(jsonPath("$.data").value(importedCount));
+                .andExpect(jsonPath("$.data.status").value("RUNNING"))
+                .andExpect(jsonPath("$.data.importedCount").value(4900))
+                .andExpect(jsonPath("$.data.rowsPerSecond").value(12500.0));
     }
 
     @Test
@@ -59,18 +98,32 @@ class PincodeImportControllerTest {
 
     @Test
     @DisplayName("POST /farmer/admin/pincode/import - file not found")
-    void importPincodes_FileNotFound_Returns500() throws Exception {
+    void importPincodes_FileNotFound_Returns400() throws Exception {
         // Given
         String filePath = "/path/to/nonexistent.xlsx";
 
-        when(pincodeImportService.importFromExcel(filePath))
-                .thenThrow(new RuntimeException("Failed to read Excel file: " + filePath));
+        when(pincodeImportJobService.submit(filePath))
+                .thenThrow(new IllegalArgumentException("File not found or not readable: " + filePath));
 
         // When/Then
         mockMvc.perform(post("/farmer/admin/pincode/import")
                         .param("filePath", filePath)
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isInternalServerError());
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("File not found or not readable: " + filePath));
     }
-}
 
+    @Test
+    @DisplayName("POST /farmer/admin/pincode/index/rebuild - success")
+    void rebuildPincodeIndex_Success_Returns200() throws Exception {
+        // Given
+        when(pincodeAddressIndex.rebuild()).thenReturn(1200);
+
+        // When/Then
+        mockMvc.perform(post("/farmer/admin/pincode/index/rebuild")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Pincode index rebuilt"))
+                .andExpect(jsonPath("$.data").value(1200));
+    }
+}
@@ -0,0 +1,143 @@
+package com.krushikranti.farmer.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krushikranti.farmer.model.Farm;
+import com.krushikranti.farmer.model.Farmer;
+import com.krushikranti.farmer.repository.FarmRepository;
+import com.krushikranti.farmer.repository.FarmerRepository;
+import com.krushikranti.farmer.service.FarmVerificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(FarmVerificationService.class)
+@DisplayName("FarmVerificationEventListener Tests")
+class FarmVerificationEventListenerTest {
+
+    private static final String TOPIC = "field-officer.farm-verification-changed";
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+    @Autowired
+    private FarmRepository farmRepository;
+
+    @Autowired
+    private FarmerRepository farmerRepository;
+
+    @Autowired
+    private FarmVerificationService farmVerificationService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final LocalEventBroker broker = new LocalEventBroker();
+
+    private FarmVerificationEventListener listener;
+    private Farmer farmer;
+    private Farm farm1;
+    private Farm farm2;
+
+    @BeforeEach
+    void setUp() {
+        listener = new FarmVerificationEventListener(farmVerificationService, objectMapper);
+
+        farmer = farmerRepository.save(Farmer.builder()
+                .userId(100L)
+                .firstName("John")
+                .lastName("Doe")
+                .build());
+        farm1 = farmRepository.save(farm("Main Farm"));
+        farm2 = farmRepository.save(farm("North Field"));
+    }
+
+    @Test
+    @DisplayName("Batches - latest outcome per farm wins and verified counts follow")
+    void onFarmVerificationChanged_Batches_ApplyLatestOutcome() throws Exception {
+        // Given - farm2 is rejected, then verified; a malformed message sits in between
+        publish(farm1.getId(), "VERIFIED", null, T0);
+        publish(farm2.getId(), "REJECTED", "Survey number mismatch", T0);
+        broker.publish(TOPIC, "not-json");
+        publish(farm2.getId(), "VERIFIED", null, T0.plusHours(1));
+
+        // When
+        broker.deliver(TOPIC, 2, listener::onFarmVerificationChanged);
+
+        // Then
+        assertThat(farmRepository.countByFarmerIdAndIsVerifiedTrue(farmer.getId())).isEqualTo(2);
+        Farm verified = farmRepository.findById(farm2.getId()).orElseThrow();
+        assertThat(verified.getVerifiedBy()).isEqualTo(7L);
+        assertThat(verified.getVerifiedAt()).isEqualTo(T0.plusHours(1));
+        assertThat(verified.getVerificationUpdatedAt()).isEqualTo(T0.plusHours(1));
+    }
+
+    @Test
+    @DisplayName("Redelivery and reordering - older events do not roll a farm back")
+    void onFarmVerificationChanged_RedeliveredAndStaleEvents_AreIgnored() throws Exception {
+        // Given
+        publish(farm1.getId(), "VERIFIED", null, T0.plusHours(1));
+        broker.deliver(TOPIC, 10, listener::onFarmVerificationChanged);
+
+        // When - everything is delivered again, plus an event that was saved earlier but arrives late
+        broker.rewind(TOPIC);
+        publish(farm1.getId(), "REJECTED", "Boundary unclear", T0);
+        broker.deliver(TOPIC, 10, listener::onFarmVerificationChanged);
+
+        // Then
+        Farm farm = farmRepository.findById(farm1.getId()).orElseThrow();
+        assertThat(farm.getIsVerified()).isTrue();
+        assertThat(farm.getVerificationRemarks()).isNull();
+        assertThat(farmRepository.countByIsVerifiedTrue()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Rejection - clears verified flag and keeps the reason")
+    void onFarmVerificationChanged_Rejected_StoresReason() throws Exception {
+        // Given
+        publish(farm1.getId(), "VERIFIED", null, T0);
+        publish(farm1.getId(), "REJECTED", "Land documents missing", T0.plusMinutes(5));
+
+        // When
+        broker.deliver(TOPIC, 1, listener::onFarmVerificationChanged);
+
+        // Then
+        Farm farm = farmRepository.findById(farm1.getId()).orElseThrow();
+        assertThat(farm.getIsVerified()).isFalse();
+        assertThat(farm.getVerificationRemarks()).isEqualTo("Land documents missing");
+        assertThat(farmRepository.countByFarmerIdAndIsVerifiedTrue(farmer.getId())).isZero();
+    }
+
+    private void publish(Long farmId, String status, String rejectionReason, LocalDateTime occurredAt) throws Exception {
+        broker.publish(TOPIC, objectMapper.writeValueAsString(FarmVerificationChangedEvent.builder()
+                .eventId(farmId + "-" + occurredAt)
+                .farmId(farmId)
+                .fieldOfficerId(3L)
+                .fieldOfficerUserId(7L)
+                .verificationStatus(status)
+                .rejectionReason(rejectionReason)
+                .verifiedAt(occurredAt)
+                .occurredAt(occurredAt)
+                .build()));
+    }
+
+    private Farm farm(String name) {
+        return Farm.builder()
+                .farmer(farmer)
+                .farmName(name)
+                .totalAreaAcres(new BigDecimal("2.00"))
+                .pincode("411001")
+                .village("Shivajinagar")
+                .district("Pune")
+                .taluka("Pune")
+                .state("Maharashtra")
+                .landOwnership(Farm.LandOwnership.OWNED)
+                .build();
+    }
+}
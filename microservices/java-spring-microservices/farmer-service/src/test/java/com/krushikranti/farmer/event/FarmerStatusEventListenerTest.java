@@ -0,0 +1,63 @@
+package com.krushikranti.farmer.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krushikranti.farmer.service.FarmerStatusProjectionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FarmerStatusEventListener Unit Tests")
+class FarmerStatusEventListenerTest {
+
+    @Mock
+    private FarmerStatusProjectionService projectionService;
+
+    private FarmerStatusEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new FarmerStatusEventListener(projectionService, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("KYC event - applied to projection")
+    void onKycStatusChanged_ValidPayload_AppliesStatus() {
+        // When
+        listener.onKycStatusChanged(
+                "{\"userId\":7,\"kycStatus\":\"VERIFIED\",\"occurredAt\":\"2024-05-01T10:15:30\"}");
+
+        // Then
+        verify(projectionService).applyKycStatus(7L, "VERIFIED", LocalDateTime.of(2024, 5, 1, 10, 15, 30));
+    }
+
+    @Test
+    @DisplayName("Subscription event - applied to projection")
+    void onSubscriptionStatusChanged_ValidPayload_AppliesStatus() {
+        // When
+        listener.onSubscriptionStatusChanged(
+                "{\"userId\":7,\"subscriptionId\":3,\"subscriptionStatus\":\"ACTIVE\",\"occurredAt\":\"2024-05-01T10:15:30\"}");
+
+        // Then
+        verify(projectionService).applySubscriptionStatus(7L, "ACTIVE", LocalDateTime.of(2024, 5, 1, 10, 15, 30));
+    }
+
+    @Test
+    @DisplayName("Malformed event - skipped without touching projection")
+    void onKycStatusChanged_MalformedPayload_IsSkipped() {
+        // When
+        listener.onKycStatusChanged("not-json");
+        listener.onKycStatusChanged("{\"kycStatus\":\"VERIFIED\"}");
+
+        // Then
+        verify(projectionService, never()).applyKycStatus(any(), any(), any());
+    }
+}
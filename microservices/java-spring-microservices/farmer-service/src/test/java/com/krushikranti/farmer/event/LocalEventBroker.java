@@ -0,0 +1,42 @@
+package com.krushikranti.farmer.event;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * In-memory stand-in for Kafka in tests: an append-only log per topic with one consumer offset.
+ * Delivers records to a batch listener in chunks and can rewind to simulate at-least-once redelivery.
+ */
+class LocalEventBroker {
+
+    private final Map<String, List<String>> logs = new HashMap<>();
+    private final Map<String, Integer> offsets = new HashMap<>();
+
+    void publish(String topic, String payload) {
+        logs.computeIfAbsent(topic, t -> new ArrayList<>()).add(payload);
+    }
+
+    /**
+     * Deliver all records after the committed offset, {@code batchSize} at a time, committing after each batch.
+     */
+    void deliver(String topic, int batchSize, Consumer<List<String>> listener) {
+        List<String> log = logs.getOrDefault(topic, List.of());
+        int offset = offsets.getOrDefault(topic, 0);
+        while (offset < log.size()) {
+            int end = Math.min(offset + batchSize, log.size());
+            listener.accept(List.copyOf(log.subList(offset, end)));
+            offset = end;
+            offsets.put(topic, offset);
+        }
+    }
+
+    /**
+     * Reset the committed offset, e.g. as after a consumer crash before committing.
+     */
+    void rewind(String topic) {
+        offsets.put(topic, 0);
+    }
+}
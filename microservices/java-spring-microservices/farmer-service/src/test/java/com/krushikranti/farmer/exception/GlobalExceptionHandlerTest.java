@@ -4,6 +4,7 @@ import com.krushikranti.farmer.dto.ApiResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -66,6 +67,23 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).contains("email");
     }
 
+    @Test
+    @DisplayName("Handle PincodeImportBusyException - returns 503 with Retry-After")
+    void handlePincodeImportBusyException_ReturnsServiceUnavailable() {
+        // Given
+        PincodeImportBusyException exception =
+                new PincodeImportBusyException("Too many pincode imports in progress, try again later");
+
+        // When
+        ResponseEntity<ApiResponse<Object>> response = exceptionHandler.handlePincodeImportBusyException(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Too many pincode imports in progress, try again later");
+    }
+
     @Test
     @DisplayName("Handle RuntimeException - returns 500")
     void handleRuntimeException_ReturnsInternalServerError() {
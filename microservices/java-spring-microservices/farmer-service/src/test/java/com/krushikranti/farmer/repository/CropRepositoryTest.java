@@ -0,0 +1,160 @@
+package com.krushikranti.farmer.repository;
+
+import com.krushikranti.farmer.model.Crop;
+import com.krushikranti.farmer.model.CropName;
+import com.krushikranti.farmer.model.CropType;
+import com.krushikranti.farmer.model.Farm;
+import com.krushikranti.farmer.model.Farmer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("CropRepository Tests")
+class CropRepositoryTest {
+
+    @Autowired
+    private CropRepository cropRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Farm farm;
+    private CropName tomato;
+    private CropName wheat;
+    private Crop tomatoCrop;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Farmer farmer = entityManager.persist(Farmer.builder()
+                .userId(100L)
+                .firstName("John")
+                .lastName("Doe")
+                .pincode("411001")
+                .village("Shivajinagar")
+                .district("Pune")
+                .taluka("Pune")
+                .state("Maharashtra")
+                .gender(Farmer.Gender.MALE)
+                .build());
+
+        farm = entityManager.persist(Farm.builder()
+                .farmer(farmer)
+                .farmName("Main Farm")
+                .farmType(Farm.FarmType.ORGANIC)
+                .totalAreaAcres(new BigDecimal("10.00"))
+                .pincode("411001")
+                .village("Shivajinagar")
+                .district("Pune")
+                .taluka("Pune")
+                .state("Maharashtra")
+                .landOwnership(Farm.LandOwnership.OWNED)
+                .isActive(true)
+                .build());
+
+        CropType vegetables = entityManager.persist(CropType.builder()
+                .typeName("VEGETABLES").displayName("Vegetables").build());
+        CropType grains = entityManager.persist(CropType.builder()
+                .typeName("GRAINS").displayName("Grains").build());
+        tomato = entityManager.persist(CropName.builder()
+                .cropType(vegetables).name("TOMATO").displayName("Tomato").localName("टोमॅटो").build());
+        wheat = entityManager.persist(CropName.builder()
+                .cropType(grains).name("WHEAT").displayName("Wheat").build());
+
+        tomatoCrop = entityManager.persist(crop(tomato, "2.50", true));
+        entityManager.persist(crop(wheat, "3.00", true));
+        entityManager.persist(crop(wheat, "4.00", false));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Find by farm with details - loads crops and their associations in one statement")
+    void findByFarmIdWithDetails_LoadsAssociationsInOneQuery() {
+        // When
+        List<Crop> crops = cropRepository.findByFarmIdWithDetails(farm.getId());
+        List<String> summaries = crops.stream()
+                .map(c -> c.getFarm().getFarmName() + "/" + c.getCropName().getCropType().getTypeName()
+                        + "/" + c.getCropName().getDisplayName())
+                .toList();
+
+        // Then
+        assertThat(summaries).containsExactlyInAnyOrder("Main Farm/VEGETABLES/Tomato", "Main Farm/GRAINS/Wheat");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Find by crop type with details - filters by type in one statement")
+    void findByFarmerUserIdAndCropTypeIdWithDetails_FiltersByType() {
+        // When
+        List<Crop> crops = cropRepository.findByFarmerUserIdAndCropTypeIdWithDetails(
+                100L, wheat.getCropType().getId());
+        crops.forEach(c -> c.getCropName().getCropType().getDisplayName());
+
+        // Then
+        assertThat(crops).hasSize(1);
+        assertThat(crops.get(0).getAreaAcres()).isEqualByComparingTo("3.00");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Find by ID and owner - returns crop only for its owner")
+    void findByIdAndFarmerUserIdWithDetails_ChecksOwnership() {
+        // When
+        Optional<Crop> owned = cropRepository.findByIdAndFarmerUserIdWithDetails(tomatoCrop.getId(), 100L);
+        Optional<Crop> notOwned = cropRepository.findByIdAndFarmerUserIdWithDetails(tomatoCrop.getId(), 200L);
+
+        // Then
+        assertThat(owned).isPresent();
+        assertThat(owned.get().getCropName().getLocalName()).isEqualTo("टोमॅटो");
+        assertThat(owned.get().getFarm().getFarmName()).isEqualTo("Main Farm");
+        assertThat(notOwned).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Sum active area - ignores inactive crops and the excluded crop")
+    void sumActiveAreaAcresByFarmId_ExcludesCrop() {
+        // When
+        BigDecimal total = cropRepository.sumActiveAreaAcresByFarmId(farm.getId(), null);
+        BigDecimal withoutTomato = cropRepository.sumActiveAreaAcresByFarmId(farm.getId(), tomatoCrop.getId());
+        BigDecimal emptyFarm = cropRepository.sumActiveAreaAcresByFarmId(-1L, null);
+
+        // Then
+        assertThat(total).isEqualByComparingTo("5.50");
+        assertThat(withoutTomato).isEqualByComparingTo("3.00");
+        assertThat(emptyFarm).isEqualByComparingTo("0");
+    }
+
+    private Crop crop(CropName cropName, String areaAcres, boolean active) {
+        return Crop.builder()
+                .farm(farm)
+                .cropName(cropName)
+                .areaAcres(new BigDecimal(areaAcres))
+                .isActive(active)
+                .build();
+    }
+}
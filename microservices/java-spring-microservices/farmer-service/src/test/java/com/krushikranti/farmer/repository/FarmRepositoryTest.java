@@ -1,5 +1,6 @@
 package com.krushikranti.farmer.repository;
 
+import com.krushikranti.farmer.dto.admin.AdminFarmCounts;
 import com.krushikranti.farmer.model.Farm;
 import com.krushikranti.farmer.model.Farmer;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -129,6 +131,74 @@ class FarmRepositoryTest {
         assertThat(result).hasSize(3);
     }
 
+    @Test
+    @DisplayName("Find farms with farmer by farmer userId")
+    void findByFarmerUserIdWithFarmer_ReturnsAllFarmsWithFarmer() {
+        // Given
+        farmRepository.saveAll(List.of(farm1, farm2, farm3));
+
+        // When
+        List<Farm> result = farmRepository.findByFarmerUserIdWithFarmer(100L);
+        List<Farm> unknown = farmRepository.findByFarmerUserIdWithFarmer(999L);
+
+        // Then
+        assertThat(result).hasSize(3);
+        assertThat(result).extracting(Farm::getFarmName)
+                .containsExactly("Main Farm", "North Field", "Deleted Farm");
+        assertThat(result.get(0).getFarmer().getUserId()).isEqualTo(100L);
+        assertThat(unknown).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Find farms with farmer for many farmer userIds in one query")
+    void findByFarmerUserIdsWithFarmer_ReturnsFarmsOfAllFarmers() {
+        // Given
+        Farmer otherFarmer = farmerRepository.save(Farmer.builder()
+                .userId(50L)
+                .firstName("Jane")
+                .lastName("Doe")
+                .build());
+        Farm otherFarm = Farm.builder()
+                .farmer(otherFarmer)
+                .farmName("River Plot")
+                .totalAreaAcres(new BigDecimal("1.00"))
+                .pincode("411004")
+                .village("Aundh")
+                .district("Pune")
+                .taluka("Pune")
+                .state("Maharashtra")
+                .landOwnership(Farm.LandOwnership.OWNED)
+                .build();
+        farmRepository.saveAll(List.of(farm1, farm2, otherFarm));
+
+        // When
+        List<Farm> result = farmRepository.findByFarmerUserIdsWithFarmer(List.of(100L, 50L, 999L));
+
+        // Then
+        assertThat(result).extracting(Farm::getFarmName)
+                .containsExactly("River Plot", "Main Farm", "North Field");
+        assertThat(result).extracting(farm -> farm.getFarmer().getUserId())
+                .containsExactly(50L, 100L, 100L);
+    }
+
+    @Test
+    @DisplayName("Find farms with farmer changed after a point in time")
+    void findByFarmerUserIdsWithFarmerChangedSince_ReturnsOnlyChangedFarms() {
+        // Given
+        farmRepository.saveAll(List.of(farm1, farm2, farm3));
+
+        // When
+        List<Farm> changedSinceYesterday = farmRepository.findByFarmerUserIdsWithFarmerChangedSince(
+                List.of(100L, 999L), LocalDateTime.now().minusDays(1));
+        List<Farm> changedSinceTomorrow = farmRepository.findByFarmerUserIdsWithFarmerChangedSince(
+                List.of(100L), LocalDateTime.now().plusDays(1));
+
+        // Then
+        assertThat(changedSinceYesterday).extracting(Farm::getFarmName)
+                .containsExactly("Main Farm", "North Field", "Deleted Farm");
+        assertThat(changedSinceTomorrow).isEmpty();
+    }
+
     @Test
     @DisplayName("Find farm by ID and farmer ID")
     void findByIdAndFarmerId_ReturnsFarm() {
@@ -237,6 +307,28 @@ class FarmRepositoryTest {
         assertThat(count).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("Count farms for many farmers in one grouped query")
+    void countFarmsByFarmerIds_ReturnsTotalAndVerifiedPerFarmer() {
+        // Given
+        farmRepository.saveAll(List.of(farm1, farm2, farm3));
+        Farmer farmerWithoutFarms = farmerRepository.save(Farmer.builder()
+                .userId(200L)
+                .firstName("Jane")
+                .lastName("Doe")
+                .build());
+
+        // When
+        List<AdminFarmCounts> counts = farmRepository.countFarmsByFarmerIds(
+                List.of(testFarmer.getId(), farmerWithoutFarms.getId()));
+
+        // Then
+        assertThat(counts).hasSize(1);
+        assertThat(counts.get(0).getFarmerId()).isEqualTo(testFarmer.getId());
+        assertThat(counts.get(0).getFarmCount()).isEqualTo(3);
+        assertThat(counts.get(0).getVerifiedFarmCount()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Find farms by encumbrance status")
     void findByEncumbranceStatus_ReturnsFarmsWithStatus() {
@@ -1,14 +1,23 @@
 package com.krushikranti.farmer.repository;
 
+import com.krushikranti.farmer.dto.admin.AdminFarmerCursor;
+import com.krushikranti.farmer.dto.admin.AdminFarmerRow;
 import com.krushikranti.farmer.model.Farmer;
+import com.krushikranti.farmer.model.FarmerStatusProjection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,10 +30,14 @@ class FarmerRepositoryTest {
     @Autowired
     private FarmerRepository farmerRepository;
 
+    @Autowired
+    private FarmerStatusProjectionRepository projectionRepository;
+
     private Farmer testFarmer;
 
     @BeforeEach
     void setUp() {
+        projectionRepository.deleteAll();
         farmerRepository.deleteAll();
         
         testFarmer = Farmer.builder()
@@ -115,5 +128,135 @@ class FarmerRepositoryTest {
         // Then
         assertThat(farmerRepository.findById(id)).isEmpty();
     }
-}
 
+    @Test
+    @DisplayName("Admin list - filters by projected status with correct totals")
+    void findAdminFarmerRows_StatusFilter_ReturnsMatchingPageAndTotal() {
+        // Given: three farmers, two with projected statuses, one without any event yet
+        farmerRepository.save(testFarmer);
+        farmerRepository.save(farmer(2L, "Ram", "Village2"));
+        farmerRepository.save(farmer(3L, "Shyam", "Village3"));
+        projectionRepository.save(FarmerStatusProjection.builder()
+                .userId(1L).kycStatus("VERIFIED").subscriptionStatus("ACTIVE").build());
+        projectionRepository.save(FarmerStatusProjection.builder()
+                .userId(2L).kycStatus("PARTIAL").subscriptionStatus("PENDING").build());
+        PageRequest pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "userId"));
+
+        // When
+        Page<AdminFarmerRow> verified = farmerRepository.findAdminFarmerRows("VERIFIED", "", pageable);
+        Page<AdminFarmerRow> pendingKyc = farmerRepository.findAdminFarmerRows("PENDING", "", pageable);
+        Page<AdminFarmerRow> noSubscription = farmerRepository.findAdminFarmerRows("", "NONE", pageable);
+        Page<AdminFarmerRow> all = farmerRepository.findAdminFarmerRows("", "", pageable);
+
+        // Then
+        assertThat(verified.getTotalElements()).isEqualTo(1);
+        assertThat(verified.getContent().get(0).getFarmer().getUserId()).isEqualTo(1L);
+        assertThat(verified.getContent().get(0).getSubscriptionStatus()).isEqualTo("ACTIVE");
+        assertThat(pendingKyc.getTotalElements()).isEqualTo(1);
+        assertThat(pendingKyc.getContent().get(0).getFarmer().getUserId()).isEqualTo(3L);
+        assertThat(pendingKyc.getContent().get(0).getKycStatus()).isNull();
+        assertThat(noSubscription.getTotalElements()).isEqualTo(1);
+        assertThat(all.getTotalElements()).isEqualTo(3);
+        assertThat(all.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Admin list - combines search with status filter")
+    void searchAdminFarmerRows_SearchAndStatus_ReturnsIntersection() {
+        // Given
+        farmerRepository.save(testFarmer);
+        farmerRepository.save(farmer(2L, "Johnny", "Village2"));
+        projectionRepository.save(FarmerStatusProjection.builder().userId(2L).kycStatus("VERIFIED").build());
+
+        // When
+        List<AdminFarmerRow> rows = farmerRepository
+                .searchAdminFarmerRows("%john%", "PENDING", "", PageRequest.of(0, 20)).getContent();
+
+        // Then
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getFarmer().getFirstName()).isEqualTo("John");
+    }
+
+    @Test
+    @DisplayName("Count by projected status - missing rows use defaults")
+    void countByStatus_UsesProjectionAndDefaults() {
+        // Given
+        farmerRepository.save(testFarmer);
+        farmerRepository.save(farmer(2L, "Ram", "Village2"));
+        projectionRepository.save(FarmerStatusProjection.builder()
+                .userId(1L).kycStatus("VERIFIED").subscriptionStatus("ACTIVE").build());
+
+        // Then
+        assertThat(farmerRepository.countByKycStatus("VERIFIED")).isEqualTo(1);
+        assertThat(farmerRepository.countByKycStatus("PENDING")).isEqualTo(1);
+        assertThat(farmerRepository.countBySubscriptionStatus("ACTIVE")).isEqualTo(1);
+        assertThat(farmerRepository.countBySubscriptionStatus("NONE")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Admin rows after cursor - keyset pages cover the list without overlap")
+    void findAdminFarmerRowsAfter_Pages_MatchOffsetOrder() {
+        // Given
+        for (long userId = 1; userId <= 5; userId++) {
+            farmerRepository.save(farmer(userId, "Farmer" + userId, "Village" + userId));
+        }
+        List<Long> expected = farmerRepository.findAdminFarmerRows("", "", PageRequest.of(0, 20,
+                        Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"))))
+                .map(row -> row.getFarmer().getId()).getContent();
+
+        // When
+        List<Long> keyset = new ArrayList<>();
+        AdminFarmerCursor cursor = AdminFarmerCursor.START;
+        List<AdminFarmerRow> page;
+        do {
+            page = farmerRepository.findAdminFarmerRowsAfter(
+                    cursor.createdAt(), cursor.farmerId(), "", "", Limit.of(2));
+            page.forEach(row -> keyset.add(row.getFarmer().getId()));
+            if (!page.isEmpty()) {
+                cursor = AdminFarmerCursor.decode(AdminFarmerCursor.of(page.get(page.size() - 1)).encode());
+            }
+        } while (page.size() == 2);
+
+        // Then
+        assertThat(keyset).hasSize(5).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Admin search after cursor - matches any field, LIKE wildcards escaped")
+    void searchAdminFarmerRowsAfter_PatternAndCursor() {
+        // Given
+        farmerRepository.save(testFarmer);
+        farmerRepository.save(farmer(2L, "Ram", "Shirur"));
+        farmerRepository.save(farmer(3L, "Shyam", "Baramati"));
+        farmerRepository.save(farmer(4L, "Dev_a", "Wai"));
+        AdminFarmerCursor start = AdminFarmerCursor.START;
+
+        // When
+        List<AdminFarmerRow> shi = farmerRepository.searchAdminFarmerRowsAfter(
+                "%sh%", start.createdAt(), start.farmerId(), "", "", Limit.of(10));
+        List<AdminFarmerRow> afterFirst = farmerRepository.searchAdminFarmerRowsAfter(
+                "%sh%", AdminFarmerCursor.of(shi.get(0)).createdAt(), shi.get(0).getFarmer().getId(), "", "",
+                Limit.of(10));
+        List<AdminFarmerRow> underscore = farmerRepository.searchAdminFarmerRowsAfter(
+                "%!_%", start.createdAt(), start.farmerId(), "", "", Limit.of(10));
+
+        // Then
+        assertThat(shi).extracting(row -> row.getFarmer().getFirstName()).containsExactlyInAnyOrder("Ram", "Shyam");
+        assertThat(afterFirst).hasSize(1);
+        assertThat(afterFirst.get(0).getFarmer().getId()).isNotEqualTo(shi.get(0).getFarmer().getId());
+        assertThat(underscore).extracting(row -> row.getFarmer().getFirstName()).containsExactly("Dev_a");
+    }
+
+    private Farmer farmer(Long userId, String firstName, String village) {
+        return Farmer.builder()
+                .userId(userId)
+                .firstName(firstName)
+                .lastName("Patil")
+                .pincode("411001")
+                .village(village)
+                .district("Pune")
+                .taluka("Pune")
+                .state("Maharashtra")
+                .build();
+    }
+}
@@ -2,6 +2,8 @@ package com.krushikranti.farmer.service;
 
 import com.krushikranti.auth.grpc.AuthServiceGrpc;
 import com.krushikranti.auth.grpc.GetUserByIdRequest;
+import com.krushikranti.auth.grpc.GetUsersByIdsRequest;
+import com.krushikranti.auth.grpc.GetUsersByIdsResponse;
 import com.krushikranti.auth.grpc.UserInfoResponse;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
@@ -14,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -43,6 +46,7 @@ class AuthServiceClientTest {
         } catch (Exception e) {
             throw new RuntimeException("Failed to set mock stub", e);
         }
+        authServiceClient.init();
 
         userId = "1";
         userInfoResponse = UserInfoResponse.newBuilder()
@@ -113,5 +117,46 @@ class AuthServiceClientTest {
 
         verify(authServiceStub).getUserById(any(GetUserByIdRequest.class));
     }
-}
 
+    @Test
+    @DisplayName("Get user by id - second call served from cache")
+    void getUserById_CalledTwice_CallsAuthServiceOnce() {
+        // Given
+        when(authServiceStub.getUserById(any(GetUserByIdRequest.class)))
+                .thenReturn(userInfoResponse);
+
+        // When
+        authServiceClient.getUserById(userId);
+        UserInfoResponse response = authServiceClient.getUserById(userId);
+
+        // Then
+        assertThat(response.getUsername()).isEqualTo("farmer1");
+        verify(authServiceStub, times(1)).getUserById(any(GetUserByIdRequest.class));
+    }
+
+    @Test
+    @DisplayName("Get users by ids - only uncached users are requested")
+    void getUsersByIds_PartiallyCached_RequestsOnlyMissingUsers() {
+        // Given: user 1 is cached by a previous single lookup
+        when(authServiceStub.getUserById(any(GetUserByIdRequest.class)))
+                .thenReturn(userInfoResponse);
+        authServiceClient.getUserById(userId);
+
+        UserInfoResponse user2 = userInfoResponse.toBuilder().setUserId("2").setUsername("farmer2").build();
+        when(authServiceStub.getUsersByIds(any(GetUsersByIdsRequest.class)))
+                .thenReturn(GetUsersByIdsResponse.newBuilder().addUsers(user2).build());
+
+        // When
+        Map<Long, UserInfoResponse> users = authServiceClient.getUsersByIds(List.of(1L, 2L, 3L));
+
+        // Then: unknown user 3 is absent, and the RPC only asked for 2 and 3
+        assertThat(users).containsOnlyKeys(1L, 2L);
+        assertThat(users.get(2L).getUsername()).isEqualTo("farmer2");
+        verify(authServiceStub).getUsersByIds(GetUsersByIdsRequest.newBuilder()
+                .addUserIds("2").addUserIds("3").build());
+
+        // And a repeat call is served entirely from cache
+        authServiceClient.getUsersByIds(List.of(1L, 2L));
+        verify(authServiceStub, times(1)).getUsersByIds(any(GetUsersByIdsRequest.class));
+    }
+}
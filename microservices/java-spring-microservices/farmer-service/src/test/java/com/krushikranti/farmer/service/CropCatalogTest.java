@@ -0,0 +1,136 @@
+package com.krushikranti.farmer.service;
+
+import com.krushikranti.farmer.dto.CropNameResponse;
+import com.krushikranti.farmer.dto.CropTypeResponse;
+import com.krushikranti.farmer.model.CropName;
+import com.krushikranti.farmer.model.CropType;
+import com.krushikranti.farmer.repository.CropNameRepository;
+import com.krushikranti.farmer.repository.CropTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CropCatalog Unit Tests")
+class CropCatalogTest {
+
+    @Mock
+    private CropTypeRepository cropTypeRepository;
+
+    @Mock
+    private CropNameRepository cropNameRepository;
+
+    @InjectMocks
+    private CropCatalog cropCatalog;
+
+    private CropType vegetables;
+    private CropType grains;
+    private CropType flowers;
+
+    @BeforeEach
+    void setUp() {
+        vegetables = CropType.builder().id(1L).typeName("VEGETABLES").displayName("Vegetables")
+                .displayNameHi("सब्जियां").displayNameMr("भाजीपाला").displayOrder(2).build();
+        grains = CropType.builder().id(2L).typeName("GRAINS").displayName("Grains").displayOrder(1).build();
+        flowers = CropType.builder().id(3L).typeName("FLOWERS").displayName("Flowers").isActive(false).build();
+
+        when(cropTypeRepository.findAll()).thenReturn(List.of(vegetables, grains, flowers));
+        when(cropNameRepository.findAllWithCropType()).thenReturn(List.of(
+                name(10L, vegetables, "ONION", "Onion", "कांदा", 2, true),
+                name(11L, vegetables, "TOMATO", "Tomato", "टोमॅटो", 1, true),
+                name(12L, vegetables, "POTATO", "Potato", null, 3, false),
+                name(20L, grains, "WHEAT", "Wheat", "गहू", 1, true)));
+    }
+
+    @Test
+    @DisplayName("Get - builds ordered, translated dropdown data per language")
+    void get_BuildsTranslatedCatalog() {
+        // When
+        CropCatalog.Catalog english = cropCatalog.get("en");
+        CropCatalog.Catalog marathi = cropCatalog.get("mr");
+
+        // Then
+        assertThat(english.cropTypes()).extracting(CropTypeResponse::getDisplayName)
+                .containsExactly("Grains", "Vegetables");
+        assertThat(english.cropTypes()).extracting(CropTypeResponse::getCropNameCount)
+                .containsExactly(1L, 2L);
+        assertThat(marathi.cropTypes()).extracting(CropTypeResponse::getDisplayName)
+                .containsExactly("Grains", "भाजीपाला");
+        assertThat(english.cropNamesByType(1L)).extracting(CropNameResponse::getDisplayName)
+                .containsExactly("Tomato", "Onion");
+        assertThat(marathi.cropNamesByType(1L)).extracting(CropNameResponse::getDisplayName)
+                .containsExactly("टोमॅटो", "कांदा");
+        assertThat(english.version()).isEqualTo(1L);
+        assertThat(english.etag()).startsWith("W/\"en-").isNotEqualTo(marathi.etag());
+    }
+
+    @Test
+    @DisplayName("Crop names by type - unknown or inactive type is rejected")
+    void cropNamesByType_UnknownOrInactiveType_ThrowsException() {
+        // Given
+        CropCatalog.Catalog catalog = cropCatalog.get("en");
+
+        // When/Then
+        assertThatThrownBy(() -> catalog.cropNamesByType(99L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Crop type not found with ID: 99");
+        assertThatThrownBy(() -> catalog.cropNamesByType(3L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Crop type is not active");
+    }
+
+    @Test
+    @DisplayName("Search - matches display or local name, case-insensitive, active only")
+    void search_MatchesDisplayOrLocalName() {
+        // Given
+        CropCatalog.Catalog catalog = cropCatalog.get("en");
+
+        // Then
+        assertThat(catalog.search("TO")).extracting(CropNameResponse::getName)
+                .containsExactly("TOMATO");
+        assertThat(catalog.search("गहू")).extracting(CropNameResponse::getName)
+                .containsExactly("WHEAT");
+        assertThat(catalog.search("")).extracting(CropNameResponse::getName)
+                .containsExactly("WHEAT", "TOMATO", "ONION");
+    }
+
+    @Test
+    @DisplayName("Rebuild - version and ETag change only when content changes")
+    void rebuild_ChangesVersionOnlyWhenContentChanges() {
+        // Given
+        CropCatalog.Catalog before = cropCatalog.get("en");
+
+        // When
+        long unchanged = cropCatalog.rebuild();
+        vegetables.setDisplayName("Veggies");
+        long changed = cropCatalog.rebuild();
+
+        // Then
+        assertThat(unchanged).isEqualTo(1L);
+        assertThat(changed).isEqualTo(2L);
+        CropCatalog.Catalog after = cropCatalog.get("en");
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(after.cropTypes()).extracting(CropTypeResponse::getDisplayName).contains("Veggies");
+        verify(cropTypeRepository, times(3)).findAll();
+    }
+
+    private static CropName name(Long id, CropType type, String name, String displayName, String localName,
+                                 int displayOrder, boolean active) {
+        return CropName.builder()
+                .id(id).cropType(type).name(name).displayName(displayName).localName(localName)
+                .displayOrder(displayOrder).isActive(active)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.krushikranti.farmer.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CropNameSearchIndex Unit Tests")
+class CropNameSearchIndexTest {
+
+    private CropNameSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // Positions are in catalog order
+        index = CropNameSearchIndex.build(List.of(
+                new String[]{"Wheat", "गहू"},            // 0
+                new String[]{"Tomato", "टोमॅटो"},         // 1
+                new String[]{"Sweet Corn", "मका"},        // 2
+                new String[]{"Potato", null},             // 3
+                new String[]{"Green Chilli", "हिरवी मिरची"} // 4
+        ));
+    }
+
+    @Test
+    @DisplayName("Search - prefix and substring matches in catalog order")
+    void search_PrefixAndSubstring() {
+        assertThat(index.search("to")).containsExactly(1, 3);
+        assertThat(index.search("TOM")).containsExactly(1);
+        assertThat(index.search("tato")).containsExactly(3);
+        assertThat(index.search("corn")).containsExactly(2);
+        assertThat(index.search("sweet c")).containsExactly(2);
+        assertThat(index.search("  Sweet   Corn ")).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Search - Devanagari local names")
+    void search_DevanagariLocalNames() {
+        assertThat(index.search("टोम")).containsExactly(1);
+        assertThat(index.search("मिरची")).containsExactly(4);
+        assertThat(index.search("म")).containsExactly(1, 2, 4);
+    }
+
+    @Test
+    @DisplayName("Search - typo-tolerant only when nothing matches exactly")
+    void search_TypoTolerance() {
+        assertThat(index.search("tomtao")).containsExactly(1);   // adjacent swap
+        assertThat(index.search("whaet")).containsExactly(0);
+        assertThat(index.search("chilly")).containsExactly(4);
+        assertThat(index.search("टोमटो")).containsExactly(1);      // missing vowel sign
+        assertThat(index.search("tomato")).containsExactly(1);   // exact hit, potato not added
+        assertThat(index.search("xyz")).isEmpty();
+        assertThat(index.search("qq")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Search - blank term returns everything")
+    void search_BlankTerm_ReturnsAll() {
+        assertThat(index.search("")).containsExactly(0, 1, 2, 3, 4);
+        assertThat(index.search(null)).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("Prefix distance - bounded edit distance against word prefixes")
+    void prefixDistance_BoundedEdits() {
+        assertThat(CropNameSearchIndex.prefixDistance("tom", "tomato", 1)).isZero();
+        assertThat(CropNameSearchIndex.prefixDistance("tmo", "tomato", 1)).isEqualTo(1);
+        assertThat(CropNameSearchIndex.prefixDistance("onoin", "onion", 1)).isEqualTo(1);
+        assertThat(CropNameSearchIndex.prefixDistance("carrot", "tomato", 2)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,133 @@
+package com.krushikranti.farmer.service;
+
+import com.krushikranti.farmer.model.FarmerStatusProjection;
+import com.krushikranti.farmer.repository.FarmerRepository;
+import com.krushikranti.farmer.repository.FarmerStatusProjectionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FarmerStatusProjectionService Unit Tests")
+class FarmerStatusProjectionServiceTest {
+
+    @Mock
+    private FarmerStatusProjectionRepository projectionRepository;
+
+    @Mock
+    private FarmerRepository farmerRepository;
+
+    @Mock
+    private AdminFarmerDataAggregator dataAggregator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private FarmerStatusProjectionService projectionService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("Apply KYC status - creates projection row for new user")
+    void applyKycStatus_NewUser_CreatesRow() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(projectionRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When
+        projectionService.applyKycStatus(1L, "VERIFIED", now);
+
+        // Then
+        ArgumentCaptor<FarmerStatusProjection> captor = ArgumentCaptor.forClass(FarmerStatusProjection.class);
+        verify(projectionRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getUserId()).isEqualTo(1L);
+        assertThat(captor.getValue().getKycStatus()).isEqualTo("VERIFIED");
+        assertThat(captor.getValue().getKycUpdatedAt()).isEqualTo(now);
+        assertThat(captor.getValue().getSubscriptionStatus()).isNull();
+    }
+
+    @Test
+    @DisplayName("Apply KYC status - older event is ignored")
+    void applyKycStatus_StaleEvent_IsIgnored() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        FarmerStatusProjection existing = FarmerStatusProjection.builder()
+                .userId(1L).kycStatus("VERIFIED").kycUpdatedAt(now).build();
+        when(projectionRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        // When
+        projectionService.applyKycStatus(1L, "PARTIAL", now.minusMinutes(1));
+
+        // Then
+        assertThat(existing.getKycStatus()).isEqualTo("VERIFIED");
+        verify(projectionRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Apply subscription status - newer event updates only subscription fields")
+    void applySubscriptionStatus_NewerEvent_UpdatesRow() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        FarmerStatusProjection existing = FarmerStatusProjection.builder()
+                .userId(1L).kycStatus("VERIFIED").kycUpdatedAt(now)
+                .subscriptionStatus("PENDING").subscriptionUpdatedAt(now.minusDays(1)).build();
+        when(projectionRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        // When
+        projectionService.applySubscriptionStatus(1L, "ACTIVE", now);
+
+        // Then
+        assertThat(existing.getSubscriptionStatus()).isEqualTo("ACTIVE");
+        assertThat(existing.getSubscriptionUpdatedAt()).isEqualTo(now);
+        assertThat(existing.getKycStatus()).isEqualTo("VERIFIED");
+        verify(projectionRepository).saveAndFlush(existing);
+    }
+
+    @Test
+    @DisplayName("Apply KYC status - concurrent insert of the same user is retried against the existing row")
+    void applyKycStatus_ConcurrentInsert_RetriesWithExistingRow() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        FarmerStatusProjection inserted = FarmerStatusProjection.builder()
+                .userId(1L).subscriptionStatus("ACTIVE").subscriptionUpdatedAt(now).build();
+        when(projectionRepository.findById(1L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(inserted));
+        when(projectionRepository.saveAndFlush(any(FarmerStatusProjection.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        projectionService.applyKycStatus(1L, "VERIFIED", now);
+
+        // Then
+        assertThat(inserted.getKycStatus()).isEqualTo("VERIFIED");
+        assertThat(inserted.getSubscriptionStatus()).isEqualTo("ACTIVE");
+        verify(projectionRepository, times(2)).saveAndFlush(any(FarmerStatusProjection.class));
+        verify(projectionRepository).saveAndFlush(inserted);
+    }
+}
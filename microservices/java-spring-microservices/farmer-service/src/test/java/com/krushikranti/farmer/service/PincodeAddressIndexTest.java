@@ -0,0 +1,99 @@
+package com.krushikranti.farmer.service;
+
+import com.krushikranti.farmer.dto.AddressLookupResponse;
+import com.krushikranti.farmer.model.PincodeMaster;
+import com.krushikranti.farmer.repository.PincodeMasterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PincodeAddressIndex Unit Tests")
+class PincodeAddressIndexTest {
+
+    @Mock
+    private PincodeMasterRepository pincodeMasterRepository;
+
+    @InjectMocks
+    private PincodeAddressIndex pincodeAddressIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(pincodeMasterRepository.findAll()).thenReturn(List.of(
+                row("411001", "Shivajinagar", "शिवाजीनगर", null),
+                row("411001", "Deccan", "डेक्कन", "डेक्कन गाव"),
+                PincodeMaster.builder().pincode("413001").village("Solapur").taluka("North Solapur")
+                        .district("Solapur").state("Maharashtra").build()));
+    }
+
+    @Test
+    @DisplayName("Rebuild - indexes distinct pincodes with sorted villages")
+    void rebuild_GroupsRowsByPincode() {
+        // When
+        int indexed = pincodeAddressIndex.rebuild();
+
+        // Then
+        assertThat(indexed).isEqualTo(2);
+        assertThat(pincodeAddressIndex.isLoaded()).isTrue();
+
+        AddressLookupResponse response = pincodeAddressIndex.find("411001", "en").orElseThrow();
+        assertThat(response.getPincode()).isEqualTo("411001");
+        assertThat(response.getDistrict()).isEqualTo("Pune");
+        assertThat(response.getTaluka()).isEqualTo("Haveli");
+        assertThat(response.getState()).isEqualTo("Maharashtra");
+        assertThat(response.getVillages()).containsExactly("Deccan", "Shivajinagar");
+    }
+
+    @Test
+    @DisplayName("Find - translated values fall back to English when missing")
+    void find_Translations_FallBackToEnglish() {
+        // Given
+        pincodeAddressIndex.rebuild();
+
+        // When
+        AddressLookupResponse hindi = pincodeAddressIndex.find("411001", "hi").orElseThrow();
+        AddressLookupResponse marathi = pincodeAddressIndex.find("411001", "mr").orElseThrow();
+        AddressLookupResponse untranslated = pincodeAddressIndex.find("413001", "mr").orElseThrow();
+
+        // Then
+        assertThat(hindi.getDistrict()).isEqualTo("पुणे");
+        assertThat(hindi.getVillages()).containsExactly("डेक्कन", "शिवाजीनगर");
+        assertThat(marathi.getDistrict()).isEqualTo("पुणे");
+        assertThat(marathi.getVillages()).containsExactly("Shivajinagar", "डेक्कन गाव");
+        assertThat(untranslated.getDistrict()).isEqualTo("Solapur");
+        assertThat(untranslated.getVillages()).containsExactly("Solapur");
+    }
+
+    @Test
+    @DisplayName("Find - unknown or malformed pincode returns empty")
+    void find_UnknownPincode_ReturnsEmpty() {
+        // Given
+        pincodeAddressIndex.rebuild();
+
+        // Then
+        assertThat(pincodeAddressIndex.find("999999", "en")).isEmpty();
+        assertThat(pincodeAddressIndex.find("41100", "en")).isEmpty();
+        assertThat(pincodeAddressIndex.find("41100a", "en")).isEmpty();
+        assertThat(pincodeAddressIndex.contains("413001")).isTrue();
+        assertThat(pincodeAddressIndex.contains("413002")).isFalse();
+    }
+
+    private static PincodeMaster row(String pincode, String village, String villageHi, String villageMr) {
+        return PincodeMaster.builder()
+                .pincode(pincode)
+                .village(village).villageHi(villageHi).villageMr(villageMr)
+                .taluka("Haveli")
+                .district("Pune").districtHi("पुणे").districtMr("पुणे")
+                .state("Maharashtra")
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.krushikranti.farmer.service;
+
+import com.krushikranti.farmer.model.PincodeImportJob;
+import com.krushikranti.farmer.repository.PincodeImportJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PincodeImportJobService Unit Tests")
+class PincodeImportJobServiceTest {
+
+    private static final String FILE_PATH = "/data/pincodes.xlsx";
+
+    @Mock
+    private PincodeImportJobRepository jobRepository;
+
+    @Mock
+    private PincodeImportService pincodeImportService;
+
+    @InjectMocks
+    private PincodeImportJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(jobRepository.save(any(PincodeImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Run job - progress is accumulated onto counts from the previous run")
+    void runJob_ResumedJob_ContinuesFromLastCommittedRow() {
+        // Given
+        PincodeImportJob job = PincodeImportJob.builder()
+                .id(1L).filePath(FILE_PATH)
+                .rowsRead(1000L).importedCount(990).skippedCount(10).lastCommittedRow(1000)
+                .build();
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(pincodeImportService.importFromExcel(eq(FILE_PATH), eq(1000), any())).thenAnswer(invocation -> {
+            PincodeImportService.ImportListener listener = invocation.getArgument(2);
+            listener.onChunkCommitted(new PincodeImportService.ImportProgress(500, 495, 5, 1500));
+            return 495;
+        });
+
+        // When
+        jobService.runJob(1L);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(PincodeImportJob.Status.COMPLETED);
+        assertThat(job.getRowsRead()).isEqualTo(1500L);
+        assertThat(job.getImportedCount()).isEqualTo(1485);
+        assertThat(job.getSkippedCount()).isEqualTo(15);
+        assertThat(job.getLastCommittedRow()).isEqualTo(1500);
+        assertThat(job.getStartedAt()).isNotNull();
+        assertThat(job.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Run job - cancellation marks job cancelled")
+    void runJob_Cancelled_MarksCancelled() {
+        // Given
+        PincodeImportJob job = PincodeImportJob.builder().id(2L).filePath(FILE_PATH).build();
+        when(jobRepository.findById(2L)).thenReturn(Optional.of(job));
+        when(pincodeImportService.importFromExcel(eq(FILE_PATH), anyInt(), any()))
+                .thenThrow(new CancellationException("Import cancelled"));
+
+        // When
+        jobService.runJob(2L);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(PincodeImportJob.Status.CANCELLED);
+        assertThat(job.getErrorMessage()).isNull();
+    }
+
+    @Test
+    @DisplayName("Run job - failure records the error")
+    void runJob_ImportFails_MarksFailed() {
+        // Given
+        PincodeImportJob job = PincodeImportJob.builder().id(3L).filePath(FILE_PATH).build();
+        when(jobRepository.findById(3L)).thenReturn(Optional.of(job));
+        when(pincodeImportService.importFromExcel(eq(FILE_PATH), anyInt(), any()))
+                .thenThrow(new RuntimeException("Could not detect column order in Excel file"));
+
+        // When
+        jobService.runJob(3L);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(PincodeImportJob.Status.FAILED);
+        assertThat(job.getErrorMessage()).isEqualTo("Could not detect column order in Excel file");
+    }
+
+    @Test
+    @DisplayName("Resume - completed job is rejected")
+    void resume_CompletedJob_ThrowsException() {
+        // Given
+        PincodeImportJob job = PincodeImportJob.builder()
+                .id(4L).filePath(FILE_PATH).status(PincodeImportJob.Status.COMPLETED).build();
+        when(jobRepository.findById(4L)).thenReturn(Optional.of(job));
+
+        // When/Then
+        assertThatThrownBy(() -> jobService.resume(4L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Only failed or cancelled jobs can be resumed");
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Submit - unreadable file is rejected")
+    void submit_MissingFile_ThrowsException() {
+        // When/Then
+        assertThatThrownBy(() -> jobService.submit("/no/such/file.xlsx"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("File not found or not readable");
+        verifyNoInteractions(jobRepository);
+    }
+}
@@ -0,0 +1,151 @@
+package com.krushikranti.farmer.service;
+
+import com.krushikranti.farmer.model.PincodeMaster;
+import com.krushikranti.farmer.repository.PincodeMasterRepository;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PincodeImportService.class)
+@TestPropertySource(properties = "pincode.import.batch-size=2")
+@DisplayName("PincodeImportService Tests")
+class PincodeImportServiceTest {
+
+    @Autowired
+    private PincodeImportService pincodeImportService;
+
+    @Autowired
+    private PincodeMasterRepository pincodeMasterRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Import from Excel - streams rows, skips invalid and duplicate rows, commits in chunks")
+    void importFromExcel_MixedRows_ImportsValidUniqueRows() throws Exception {
+        // Given
+        pincodeMasterRepository.saveAndFlush(PincodeMaster.builder()
+                .pincode("411001").village("Shivajinagar").taluka("Haveli").district("Pune").state("Maharashtra")
+                .build());
+
+        Path file = writeSheet(
+                new Object[]{"Office Name", "Pincode", "Taluk", "District", "State"},
+                new Object[]{"Shivajinagar", 411001, "Haveli", "Pune", "Maharashtra"},  // already in DB
+                new Object[]{"Deccan", 411004, "Haveli", "Pune", "Maharashtra"},
+                new Object[]{"Kothrud", "411038", "Haveli", "Pune", "Maharashtra"},
+                new Object[]{"KOTHRUD", "411038", "Haveli", "Pune", "Maharashtra"},    // duplicate in file
+                new Object[]{"Nowhere", "41100", "Haveli", "Pune", "Maharashtra"},     // invalid pincode
+                new Object[]{"Solapur", 413001, "North Solapur", "Solapur", "Maharashtra"},
+                new Object[]{"", 413002, "North Solapur", "Solapur", "Maharashtra"}); // missing village
+        List<PincodeImportService.ImportProgress> progress = new ArrayList<>();
+
+        // When
+        int imported = pincodeImportService.importFromExcel(file.toString(), progress::add);
+
+        // Then
+        assertThat(imported).isEqualTo(3);
+        assertThat(pincodeMasterRepository.count()).isEqualTo(4);
+        assertThat(pincodeMasterRepository.findByPincode("411038"))
+                .extracting(PincodeMaster::getVillage).containsExactly("Kothrud");
+        assertThat(pincodeMasterRepository.findByPincode("413001"))
+                .extracting(PincodeMaster::getTaluka).containsExactly("North Solapur");
+
+        assertThat(progress).hasSize(2);
+        PincodeImportService.ImportProgress last = progress.get(progress.size() - 1);
+        assertThat(last.rowsRead()).isEqualTo(7);
+        assertThat(last.imported()).isEqualTo(3);
+        assertThat(last.skipped()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Import from Excel - resumes after the last committed row")
+    void importFromExcel_ResumeAfterRow_SkipsCommittedRows() throws Exception {
+        // Given
+        Path file = writeSheet(
+                new Object[]{"Office Name", "Pincode", "Taluk", "District", "State"},
+                new Object[]{"Deccan", 411004, "Haveli", "Pune", "Maharashtra"},
+                new Object[]{"Kothrud", 411038, "Haveli", "Pune", "Maharashtra"},
+                new Object[]{"Solapur", 413001, "North Solapur", "Solapur", "Maharashtra"});
+        List<PincodeImportService.ImportProgress> progress = new ArrayList<>();
+
+        // When
+        int imported = pincodeImportService.importFromExcel(file.toString(), 2, progress::add);
+
+        // Then
+        assertThat(imported).isEqualTo(1);
+        assertThat(pincodeMasterRepository.findByPincode("411004")).isEmpty();
+        assertThat(pincodeMasterRepository.findByPincode("413001")).hasSize(1);
+        assertThat(progress.get(progress.size() - 1).lastCommittedRow()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Import from Excel - cancellation commits rows read so far and stops")
+    void importFromExcel_Cancelled_CommitsPendingAndStops() throws Exception {
+        // Given
+        Path file = writeSheet(
+                new Object[]{"Office Name", "Pincode", "Taluk", "District", "State"},
+                new Object[]{"Deccan", 411004, "Haveli", "Pune", "Maharashtra"},
+                new Object[]{"Kothrud", 411038, "Haveli", "Pune", "Maharashtra"},
+                new Object[]{"Solapur", 413001, "North Solapur", "Solapur", "Maharashtra"});
+        List<PincodeImportService.ImportProgress> progress = new ArrayList<>();
+        PincodeImportService.ImportListener cancelAfterFirstRow = new PincodeImportService.ImportListener() {
+            private int checks;
+
+            @Override
+            public void onChunkCommitted(PincodeImportService.ImportProgress chunk) {
+                progress.add(chunk);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return ++checks > 1;
+            }
+        };
+
+        // When/Then
+        assertThatThrownBy(() -> pincodeImportService.importFromExcel(file.toString(), cancelAfterFirstRow))
+                .isInstanceOf(CancellationException.class);
+        assertThat(pincodeMasterRepository.count()).isEqualTo(1);
+        assertThat(progress).extracting(PincodeImportService.ImportProgress::lastCommittedRow).containsExactly(1);
+    }
+
+    private Path writeSheet(Object[]... rows) throws Exception {
+        Path file = tempDir.resolve("pincodes.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            for (int r = 0; r < rows.length; r++) {
+                Row row = sheet.createRow(r);
+                for (int c = 0; c < rows[r].length; c++) {
+                    Object value = rows[r][c];
+                    if (value instanceof Number number) {
+                        row.createCell(c).setCellValue(number.doubleValue());
+                    } else {
+                        row.createCell(c).setCellValue((String) value);
+                    }
+                }
+            }
+            workbook.write(out);
+        }
+        return file;
+    }
+}
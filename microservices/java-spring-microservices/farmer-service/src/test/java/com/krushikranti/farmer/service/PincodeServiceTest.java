@@ -11,6 +11,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -24,6 +25,9 @@ class PincodeServiceTest {
     @Mock
     private PincodeMasterRepository pincodeMasterRepository;
 
+    @Mock
+    private PincodeAddressIndex pincodeAddressIndex;
+
     @InjectMocks
     private PincodeService pincodeService;
 
@@ -112,6 +116,38 @@ class PincodeServiceTest {
         verify(pincodeMasterRepository, never()).findDistrictsByPincode(anyString());
     }
 
+    @Test
+    @DisplayName("Get address by pincode - served from loaded index without DB hit")
+    void getAddressByPincode_IndexLoaded_UsesIndex() {
+        // Given
+        AddressLookupResponse indexed = AddressLookupResponse.builder()
+                .pincode(validPincode).district("पुणे").taluka("पुणे").state("महाराष्ट्र")
+                .villages(List.of("गाव1")).build();
+        when(pincodeAddressIndex.isLoaded()).thenReturn(true);
+        when(pincodeAddressIndex.find(validPincode, "mr")).thenReturn(Optional.of(indexed));
+
+        // When
+        AddressLookupResponse response = pincodeService.getAddressByPincode(validPincode, "MR");
+
+        // Then
+        assertThat(response).isSameAs(indexed);
+        verifyNoInteractions(pincodeMasterRepository);
+    }
+
+    @Test
+    @DisplayName("Get address by pincode - unknown pincode in loaded index")
+    void getAddressByPincode_IndexLoadedPincodeNotFound_ThrowsException() {
+        // Given
+        when(pincodeAddressIndex.isLoaded()).thenReturn(true);
+        when(pincodeAddressIndex.find(invalidPincode, "en")).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> pincodeService.getAddressByPincode(invalidPincode))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Pincode not found: " + invalidPincode);
+        verifyNoInteractions(pincodeMasterRepository);
+    }
+
     @Test
     @DisplayName("Pincode exists - returns true")
     void pincodeExists_ValidPincode_ReturnsTrue() {
@@ -3,6 +3,8 @@ package com.krushikranti.fieldofficer.controller;
 import com.krushikranti.fieldofficer.dto.*;
 import com.krushikranti.fieldofficer.service.FieldOfficerAssignmentService;
 import com.krushikranti.fieldofficer.service.FieldOfficerService;
+import com.krushikranti.fieldofficer.service.FieldOfficerSuggestionEngine;
+import com.krushikranti.fieldofficer.service.FieldOfficerWorkloadService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +30,8 @@ public class AdminFieldOfficerController {
 
     private final FieldOfficerService fieldOfficerService;
     private final FieldOfficerAssignmentService assignmentService;
+    private final FieldOfficerWorkloadService workloadService;
+    private final FieldOfficerSuggestionEngine suggestionEngine;
 
     /**
      * Create a new field officer
@@ -88,16 +92,17 @@ public class AdminFieldOfficerController {
     }
 
     /**
-     * Get suggested field officers for a farmer based on pincode matching.
-     * If farmId is provided, only field officers matching that specific farm's pincode are returned.
-     * If farmId is null, field officers matching any of the farmer's farm pincodes are returned.
+     * Get suggested field officers for a farmer, ranked by distance and current workload.
+     * If farmId is provided, officers are ranked for that specific farm.
+     * If farmId is null, officers are ranked by distance to the nearest of the farmer's farms.
      */
     @GetMapping("/suggestions/{farmerUserId}")
     public ResponseEntity<ApiResponse<List<SuggestedFieldOfficerDto>>> getSuggestedFieldOfficers(
             @PathVariable Long farmerUserId,
-            @RequestParam(required = false) Long farmId) {
+            @RequestParam(required = false) Long farmId,
+            @RequestParam(required = false) Integer limit) {
         try {
-            List<SuggestedFieldOfficerDto> suggestions = assignmentService.getSuggestedFieldOfficers(farmerUserId, farmId);
+            List<SuggestedFieldOfficerDto> suggestions = assignmentService.getSuggestedFieldOfficers(farmerUserId, farmId, limit);
             return ResponseEntity.ok(new ApiResponse<>(
                     "Suggested field officers retrieved successfully", suggestions));
         } catch (Exception e) {
@@ -108,6 +113,17 @@ public class AdminFieldOfficerController {
         }
     }
 
+    /**
+     * Seed pincode centroids used to rank suggestions by distance.
+     * Centroids also build up from the GPS points of verified farms.
+     */
+    @PutMapping("/pincode-centroids")
+    public ResponseEntity<ApiResponse<Integer>> savePincodeCentroids(
+            @Valid @RequestBody PincodeCentroidRequest request) {
+        int saved = suggestionEngine.saveCentroids(request.getCentroids());
+        return ResponseEntity.ok(new ApiResponse<>("Pincode centroids saved successfully", saved));
+    }
+
     /**
      * Assign a field officer to a farmer
      */
@@ -137,6 +153,43 @@ public class AdminFieldOfficerController {
         }
     }
 
+    /**
+     * Cancel an assignment
+     */
+    @PostMapping("/assignments/{assignmentId}/cancel")
+    public ResponseEntity<ApiResponse<AssignmentResponseDto>> cancelAssignment(@PathVariable Long assignmentId) {
+        try {
+            AssignmentResponseDto cancelled = assignmentService.cancelAssignment(assignmentId);
+            return ResponseEntity.ok(new ApiResponse<>("Assignment cancelled successfully", cancelled));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid cancel request for assignment {}: {}", assignmentId, e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(e.getMessage(), null));
+        }
+    }
+
+    /**
+     * Recompute all field officers' workload counters from assignments and verifications.
+     * Only needed after assignments or verifications were changed outside this service.
+     */
+    @PostMapping("/workload/recount")
+    public ResponseEntity<ApiResponse<Integer>> recountWorkload() {
+        int updated = workloadService.recount();
+        return ResponseEntity.ok(new ApiResponse<>("Workload recounted successfully", updated));
+    }
+
+    /**
+     * Get the number of active farm assignments for many farmers at once (one grouped query).
+     * Used by farmer-service to fill the assignment columns of the admin farmer list.
+     */
+    @PostMapping("/assignments/summary")
+    public ResponseEntity<ApiResponse<List<FarmerAssignmentSummaryDto>>> getAssignmentSummaries(
+            @Valid @RequestBody AssignmentSummaryBatchRequest request) {
+        log.debug("Fetching assignment summaries for {} farmers", request.getFarmerUserIds().size());
+        List<FarmerAssignmentSummaryDto> summaries = assignmentService.getAssignmentSummaries(request.getFarmerUserIds());
+        return ResponseEntity.ok(new ApiResponse<>("Assignment summaries retrieved successfully", summaries));
+    }
+
     /**
      * Get all assignments for a farmer
      */
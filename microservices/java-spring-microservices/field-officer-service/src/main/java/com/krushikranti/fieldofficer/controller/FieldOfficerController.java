@@ -3,11 +3,13 @@ package com.krushikranti.fieldofficer.controller;
 import com.krushikranti.fieldofficer.dto.ApiResponse;
 import com.krushikranti.fieldofficer.dto.AssignmentResponseDto;
 import com.krushikranti.fieldofficer.dto.FieldOfficerAssignmentDto;
+import com.krushikranti.fieldofficer.dto.FieldOfficerSyncDto;
 import com.krushikranti.fieldofficer.dto.VerifyFarmRequest;
 import com.krushikranti.fieldofficer.dto.VerifyFarmResponse;
 import com.krushikranti.fieldofficer.service.FarmVerificationService;
 import com.krushikranti.fieldofficer.service.FieldOfficerAssignmentService;
 import com.krushikranti.fieldofficer.service.FieldOfficerProfileService;
+import com.krushikranti.fieldofficer.service.FieldOfficerSyncService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +32,7 @@ public class FieldOfficerController {
     private final FieldOfficerProfileService fieldOfficerProfileService;
     private final FieldOfficerAssignmentService assignmentService;
     private final FarmVerificationService verificationService;
+    private final FieldOfficerSyncService syncService;
 
     /**
      * Get field officer's own profile
@@ -110,6 +113,39 @@ public class FieldOfficerController {
         }
     }
 
+    /**
+     * Get changes to the logged-in field officer's assignments, farms and verifications since the
+     * previous sync. Without a changeToken (or with an unusable one) the whole dataset is returned.
+     */
+    @GetMapping("/sync")
+    public ResponseEntity<ApiResponse<FieldOfficerSyncDto>> sync(
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
+            @RequestParam(required = false) String changeToken) {
+        try {
+            if (userIdHeader == null || userIdHeader.trim().isEmpty()) {
+                log.error("Missing X-User-Id header for sync request");
+                return ResponseEntity.status(org.springframework.http.HttpStatus.UNAUTHORIZED)
+                        .body(new ApiResponse<>("Unauthorized: Missing user identification", null));
+            }
+
+            Long userId = Long.parseLong(userIdHeader.trim());
+            FieldOfficerSyncDto changes = syncService.sync(userId, changeToken);
+            return ResponseEntity.ok(new ApiResponse<>("Changes retrieved successfully", changes));
+        } catch (NumberFormatException e) {
+            log.error("Invalid user ID format: {}", userIdHeader, e);
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>("Invalid user ID format: " + userIdHeader, null));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("Unexpected error syncing assignments for userId {}: {}", userIdHeader, e.getMessage(), e);
+            return ResponseEntity.status(org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>("An unexpected error occurred: " + e.getMessage(), null));
+        }
+    }
+
     /**
      * Test endpoint to verify API Gateway authentication
      * Returns the headers received from API Gateway
@@ -0,0 +1,22 @@
+package com.krushikranti.fieldofficer.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for looking up the farm assignment summary of many farmers at once.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignmentSummaryBatchRequest {
+
+    @NotEmpty(message = "At least one farmer user ID is required")
+    @Size(max = 500, message = "At most 500 farmer user IDs can be requested at once")
+    private List<Long> farmerUserIds;
+}
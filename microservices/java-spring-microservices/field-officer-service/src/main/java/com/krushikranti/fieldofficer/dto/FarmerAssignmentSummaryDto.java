@@ -0,0 +1,17 @@
+package com.krushikranti.fieldofficer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of active (non-cancelled) farm-level assignments of one farmer.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FarmerAssignmentSummaryDto {
+
+    private Long farmerUserId;
+    private Long assignedFarmsCount;
+}
@@ -34,6 +34,9 @@ public class FieldOfficerSummaryDto {
     
     // Assignment Summary
     private Integer assignedFarmsCount; // Number of farms assigned to this field officer
+    private Integer pendingFarmsCount; // Assigned farms awaiting verification
+    private Integer completedFarmsCount; // Assigned farms verified or rejected
+    private Integer verifiedFarmsCount; // Assigned farms verified
     
     // Timestamps
     private LocalDateTime createdAt;
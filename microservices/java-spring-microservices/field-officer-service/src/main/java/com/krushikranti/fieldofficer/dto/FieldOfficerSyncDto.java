@@ -0,0 +1,50 @@
+package com.krushikranti.fieldofficer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for a delta sync of the field officer app's assignment list.
+ * The app upserts assignments, farms (by farmId) and verification changes, drops removed
+ * assignments and farms, and sends changeToken with its next sync.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FieldOfficerSyncDto {
+
+    /** Opaque token to send as changeToken on the next sync. */
+    private String changeToken;
+
+    /** True when this is the whole dataset (no or unusable token) and local data must be replaced. */
+    private boolean fullSync;
+
+    /** New or changed assignments, and assignments with changed farms (carrying only those farms). */
+    private List<FieldOfficerAssignmentDto> assignments;
+
+    private List<VerificationChange> verifications;
+
+    /** Assignments that were cancelled, together with their farms. */
+    private List<Long> removedAssignmentIds;
+
+    /** Farms that were deleted by the farmer. */
+    private List<Long> removedFarmIds;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class VerificationChange {
+        private Long farmId;
+        private String status;
+        private Boolean isVerified;
+        private LocalDateTime verifiedAt;
+        private LocalDateTime updatedAt;
+    }
+}
@@ -0,0 +1,47 @@
+package com.krushikranti.fieldofficer.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for seeding pincode centroids (e.g. from a pincode directory with coordinates).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PincodeCentroidRequest {
+
+    @NotEmpty(message = "At least one centroid is required")
+    @Size(max = 20000, message = "At most 20000 centroids can be saved at once")
+    private List<@Valid Centroid> centroids;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Centroid {
+
+        @NotNull(message = "Pincode is required")
+        @Pattern(regexp = "\\d{6}", message = "Pincode must be 6 digits")
+        private String pincode;
+
+        @NotNull(message = "Latitude is required")
+        @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+        @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+        private Double latitude;
+
+        @NotNull(message = "Longitude is required")
+        @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+        @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+        private Double longitude;
+    }
+}
@@ -37,8 +37,13 @@ public class SuggestedFieldOfficerDto {
     // Matching Info
     private List<String> matchingPincodes; // List of farm pincodes that match this FO's pincode
     private Integer matchingFarmCount; // Number of farms with matching pincode
+    private Double distanceKm; // Distance to the nearest requested farm; null when no location is known
+    private Double score; // Ranking score (0-1) combining distance and current workload, higher is better
     
     // Assignment Info
     private Integer assignedFarmsCount; // Number of farms currently assigned to this field officer
+    private Integer pendingFarmsCount; // Assigned farms awaiting verification
+    private Integer completedFarmsCount; // Assigned farms verified or rejected
+    private Integer verifiedFarmsCount; // Assigned farms verified
 }
 
@@ -0,0 +1,32 @@
+package com.krushikranti.fieldofficer.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event published when a field officer saves a farm verification.
+ * Consumed by farmer-service to update the farm's verification fields (JSON payload).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FarmVerificationChangedEvent {
+
+    private String eventId;
+    private Long farmId;
+    private Long verificationId;
+    private Long fieldOfficerId;
+    private Long fieldOfficerUserId;
+    private String verificationStatus;
+    private String feedback;
+    private String rejectionReason;
+    private LocalDateTime verifiedAt;
+
+    /** When the verification was saved; consumers ignore events older than the last one applied. */
+    private LocalDateTime occurredAt;
+}
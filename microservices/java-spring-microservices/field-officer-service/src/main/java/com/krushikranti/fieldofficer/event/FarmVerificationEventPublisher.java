@@ -0,0 +1,67 @@
+package com.krushikranti.fieldofficer.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krushikranti.fieldofficer.model.FarmVerification;
+import com.krushikranti.fieldofficer.model.OutboxEvent;
+import com.krushikranti.fieldofficer.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Publishes {@link FarmVerificationChangedEvent}s through the transactional outbox.
+ * The event row is written in the caller's transaction and sent to Kafka by {@link OutboxRelay}
+ * after commit, so the officer's request never waits for (or fails because of) the broker.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FarmVerificationEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${events.topics.farm-verification-changed:field-officer.farm-verification-changed}")
+    private String topic;
+
+    /**
+     * Record that a farm verification was saved by the given field officer.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void verificationSaved(FarmVerification verification, Long fieldOfficerUserId) {
+        FarmVerificationChangedEvent event = FarmVerificationChangedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .farmId(verification.getFarmId())
+                .verificationId(verification.getId())
+                .fieldOfficerId(verification.getFieldOfficerId())
+                .fieldOfficerUserId(fieldOfficerUserId)
+                .verificationStatus(verification.getVerificationStatus().name())
+                .feedback(verification.getFeedback())
+                .rejectionReason(verification.getRejectionReason())
+                .verifiedAt(verification.getVerifiedAt())
+                .occurredAt(LocalDateTime.now())
+                .build();
+
+        try {
+            // Keyed by farmId so events for one farm stay ordered within a partition
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .topic(topic)
+                    .eventKey(String.valueOf(event.getFarmId()))
+                    .payload(objectMapper.writeValueAsString(event))
+                    .build());
+        } catch (JsonProcessingException e) {
+            // Losing the event would leave farmer-service out of sync, so fail the verification instead
+            throw new IllegalStateException("Failed to serialize farm verification event for farm "
+                    + event.getFarmId(), e);
+        }
+        log.debug("Queued farm verification event {} for farm {} ({})",
+                event.getEventId(), event.getFarmId(), event.getVerificationStatus());
+    }
+}
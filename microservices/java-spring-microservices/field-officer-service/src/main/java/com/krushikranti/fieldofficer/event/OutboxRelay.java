@@ -0,0 +1,160 @@
+package com.krushikranti.fieldofficer.event;
+
+import com.krushikranti.fieldofficer.model.OutboxEvent;
+import com.krushikranti.fieldofficer.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Relays outbox events to Kafka in batches.
+ *
+ * <p>Each batch is locked with {@code FOR UPDATE SKIP LOCKED}, sent without waiting between messages,
+ * and marked published once the broker has acknowledged it. Delivery is at least once: an event whose
+ * acknowledgement is lost is sent again, so consumers must be idempotent. Events that fail stay
+ * unpublished and are retried on the next poll; later events are still sent, which is safe because
+ * consumers ignore events older than the last one they applied. An event that has failed
+ * {@code events.outbox.max-attempts} times is parked: it is kept but no longer relayed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${events.kafka.enabled:true}")
+    private boolean kafkaEnabled;
+
+    @Value("${events.outbox.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${events.outbox.send-timeout:PT10S}")
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    @Value("${events.outbox.retention:P7D}")
+    private Duration retention = Duration.ofDays(7);
+
+    @Value("${events.outbox.max-attempts:20}")
+    private int maxAttempts = 20;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("outbox.events.pending", outboxEventRepository,
+                OutboxEventRepository::countByPublishedAtIsNullAndParkedAtIsNull).register(meterRegistry);
+        Gauge.builder("outbox.events.parked", outboxEventRepository,
+                OutboxEventRepository::countByParkedAtIsNotNull).register(meterRegistry);
+    }
+
+    /**
+     * Relay pending events until the backlog is empty or a send fails.
+     */
+    @Scheduled(fixedDelayString = "${events.outbox.poll-interval:PT1S}")
+    public void relayPending() {
+        if (!kafkaEnabled) {
+            return;
+        }
+
+        Integer published;
+        do {
+            published = transactionTemplate.execute(status -> relayBatch());
+        } while (published != null && published == batchSize);
+    }
+
+    /**
+     * Delete events that were relayed more than {@code events.outbox.retention} ago.
+     */
+    @Scheduled(fixedDelayString = "${events.outbox.cleanup-interval:PT1H}")
+    public void deletePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} relayed outbox events", deleted);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * @return number of events published from this batch
+     */
+    private int relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.lockUnpublished(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            try {
+                sends.add(kafkaTemplate.send(event.getTopic(), event.getEventKey(), event.getPayload()));
+            } catch (RuntimeException e) {
+                sends.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        LocalDateTime now = LocalDateTime.now();
+        int published = 0;
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                event.setPublishedAt(now);
+                published++;
+            } catch (ExecutionException | TimeoutException e) {
+                Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+                markFailed(event, cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                markFailed(event, e);
+            }
+        }
+        outboxEventRepository.saveAll(events);
+
+        if (published < events.size()) {
+            log.warn("Relayed {} of {} outbox events; the rest will be retried: {}",
+                    published, events.size(), events.stream()
+                            .filter(event -> event.getPublishedAt() == null)
+                            .findFirst()
+                            .map(OutboxEvent::getLastError)
+                            .orElse(""));
+        } else {
+            log.debug("Relayed {} outbox events", published);
+        }
+        return published;
+    }
+
+    private void markFailed(OutboxEvent event, Throwable cause) {
+        String message = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        if (event.getAttempts() >= maxAttempts) {
+            event.setParkedAt(LocalDateTime.now());
+            log.error("Parked outbox event {} (topic {}, key {}) after {} failed attempts: {}",
+                    event.getId(), event.getTopic(), event.getEventKey(), event.getAttempts(), event.getLastError());
+        }
+    }
+}
@@ -60,6 +60,24 @@ public class FieldOfficer {
     @Builder.Default
     private Boolean isActive = true;
 
+    // Workload counters over active (non-cancelled) farm assignments. They are only changed
+    // through FieldOfficerRepository.adjustWorkload, never by saving the entity.
+    @Column(name = "active_farms_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer activeFarmsCount = 0;
+
+    @Column(name = "pending_farms_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer pendingFarmsCount = 0; // No final verification yet
+
+    @Column(name = "completed_farms_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer completedFarmsCount = 0; // Verified or rejected
+
+    @Column(name = "verified_farms_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer verifiedFarmsCount = 0;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
@@ -34,6 +34,9 @@ public class FieldOfficerAssignment {
     @Column(name = "farm_id")
     private Long farmId; // Links to farmer-service farms table. If NULL, assignment is for all farms of the farmer.
 
+    @Column(name = "farm_pincode", length = 6)
+    private String farmPincode; // Pincode of the farm at assignment time
+
     @Column(name = "status", length = 20)
     @Enumerated(EnumType.STRING)
     @Builder.Default
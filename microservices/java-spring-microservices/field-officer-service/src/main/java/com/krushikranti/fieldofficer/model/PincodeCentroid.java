@@ -0,0 +1,45 @@
+package com.krushikranti.fieldofficer.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Approximate location of a pincode area, used to rank field officers by distance.
+ * Kept as a running mean of the GPS points recorded when farms in the pincode are verified.
+ */
+@Entity
+@Table(name = "pincode_centroids")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PincodeCentroid {
+
+    @Id
+    @Column(name = "pincode", length = 6)
+    private String pincode;
+
+    @Column(name = "latitude", nullable = false)
+    private Double latitude;
+
+    @Column(name = "longitude", nullable = false)
+    private Double longitude;
+
+    @Column(name = "sample_count", nullable = false)
+    @Builder.Default
+    private Integer sampleCount = 0; // Verification GPS points averaged in; a seed counts as several
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
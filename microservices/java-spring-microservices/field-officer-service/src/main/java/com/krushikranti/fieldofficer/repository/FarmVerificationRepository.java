@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,16 @@ public interface FarmVerificationRepository extends JpaRepository<FarmVerificati
      */
     Optional<FarmVerification> findByFarmIdAndFieldOfficerId(Long farmId, Long fieldOfficerId);
     
+    /**
+     * Find a field officer's verifications of the given farms (one query for a whole task list)
+     */
+    List<FarmVerification> findByFieldOfficerIdAndFarmIdIn(Long fieldOfficerId, Collection<Long> farmIds);
+    
+    /**
+     * Find a field officer's verifications changed after a point in time (for delta sync)
+     */
+    List<FarmVerification> findByFieldOfficerIdAndUpdatedAtAfter(Long fieldOfficerId, LocalDateTime updatedAt);
+    
     /**
      * Find all verifications for a farm
      */
@@ -39,6 +51,14 @@ public interface FarmVerificationRepository extends JpaRepository<FarmVerificati
      */
     long countByFieldOfficerIdAndVerificationStatus(Long fieldOfficerId, FarmVerification.VerificationStatus status);
     
+    /**
+     * Mean GPS location of each field officer's verifications (field officer id, latitude, longitude).
+     */
+    @Query("SELECT v.fieldOfficerId, AVG(v.latitude), AVG(v.longitude) FROM FarmVerification v " +
+           "WHERE v.latitude IS NOT NULL AND v.longitude IS NOT NULL " +
+           "GROUP BY v.fieldOfficerId")
+    List<Object[]> findMeanLocationByFieldOfficer();
+    
     /**
      * Find verifications for farms assigned to a field officer.
      * Note: This method will need to be implemented by calling farmer-service
@@ -1,5 +1,6 @@
 package com.krushikranti.fieldofficer.repository;
 
+import com.krushikranti.fieldofficer.dto.FarmerAssignmentSummaryDto;
 import com.krushikranti.fieldofficer.model.FieldOfficerAssignment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,6 +49,18 @@ public interface FieldOfficerAssignmentRepository extends JpaRepository<FieldOff
      */
     long countByFieldOfficerIdAndStatusNot(Long fieldOfficerId, FieldOfficerAssignment.AssignmentStatus status);
     
+    /**
+     * Find all assignments for a field officer except those with the given status
+     */
+    List<FieldOfficerAssignment> findByFieldOfficerIdAndStatusNot(Long fieldOfficerId,
+                                                                 FieldOfficerAssignment.AssignmentStatus status);
+    
+    /**
+     * Find a field officer's assignments with the given status changed after a point in time (for delta sync)
+     */
+    List<FieldOfficerAssignment> findByFieldOfficerIdAndStatusAndUpdatedAtAfter(
+        Long fieldOfficerId, FieldOfficerAssignment.AssignmentStatus status, LocalDateTime updatedAt);
+    
     /**
      * Find active assignment for a specific farm
      * Used to check if a farm is already assigned to another field officer
@@ -68,5 +83,18 @@ public interface FieldOfficerAssignmentRepository extends JpaRepository<FieldOff
         @Param("fieldOfficerId") Long fieldOfficerId,
         @Param("farmId") Long farmId
     );
-}
 
+    /**
+     * Count active farm-level assignments per farmer in one grouped query.
+     * Farmers without any active farm assignment are absent from the result.
+     */
+    @Query("SELECT new com.krushikranti.fieldofficer.dto.FarmerAssignmentSummaryDto(a.farmerUserId, COUNT(a)) " +
+           "FROM FieldOfficerAssignment a WHERE " +
+           "a.farmerUserId IN :farmerUserIds AND " +
+           "a.farmId IS NOT NULL AND " +
+           "a.status != 'CANCELLED' " +
+           "GROUP BY a.farmerUserId")
+    List<FarmerAssignmentSummaryDto> countActiveFarmAssignmentsByFarmerUserIds(
+        @Param("farmerUserIds") Collection<Long> farmerUserIds
+    );
+}
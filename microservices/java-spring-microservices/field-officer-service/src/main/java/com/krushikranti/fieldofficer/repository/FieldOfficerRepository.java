@@ -4,6 +4,7 @@ import com.krushikranti.fieldofficer.model.FieldOfficer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -34,5 +35,51 @@ public interface FieldOfficerRepository extends JpaRepository<FieldOfficer, Long
      * Find field officers by pincode list and active status
      */
     List<FieldOfficer> findByPincodeInAndIsActiveTrue(List<String> pincodes);
-}
 
+    /**
+     * Id and pincode of every active field officer, for the suggestion spatial index.
+     */
+    @Query("SELECT f.id, f.pincode FROM FieldOfficer f WHERE f.isActive = true")
+    List<Object[]> findActivePincodes();
+
+    /**
+     * Apply deltas to a field officer's workload counters in place (no read-modify-write),
+     * so concurrent assignments and verifications cannot lose updates.
+     */
+    @Modifying
+    @Query(value = "UPDATE field_officers SET " +
+           "active_farms_count = active_farms_count + :active, " +
+           "pending_farms_count = pending_farms_count + :pending, " +
+           "completed_farms_count = completed_farms_count + :completed, " +
+           "verified_farms_count = verified_farms_count + :verified " +
+           "WHERE field_officer_id = :fieldOfficerId", nativeQuery = true)
+    int adjustWorkload(
+        @Param("fieldOfficerId") Long fieldOfficerId,
+        @Param("active") int active,
+        @Param("pending") int pending,
+        @Param("completed") int completed,
+        @Param("verified") int verified
+    );
+
+    /**
+     * Recompute every field officer's workload counters from assignments and verifications.
+     * Same definition as the V7 backfill; only needed after data was changed outside the service.
+     */
+    @Modifying
+    @Query(value = "UPDATE field_officers fo SET " +
+           "active_farms_count = w.active, " +
+           "pending_farms_count = w.active - w.completed, " +
+           "completed_farms_count = w.completed, " +
+           "verified_farms_count = w.verified " +
+           "FROM (SELECT o.field_officer_id, " +
+           "  COUNT(a.assignment_id) AS active, " +
+           "  COUNT(a.assignment_id) FILTER (WHERE v.verification_status IN ('VERIFIED', 'REJECTED')) AS completed, " +
+           "  COUNT(a.assignment_id) FILTER (WHERE v.verification_status = 'VERIFIED') AS verified " +
+           "  FROM field_officers o " +
+           "  LEFT JOIN field_officer_assignments a ON a.field_officer_id = o.field_officer_id " +
+           "    AND a.farm_id IS NOT NULL AND a.status != 'CANCELLED' " +
+           "  LEFT JOIN farm_verifications v ON v.farm_id = a.farm_id AND v.field_officer_id = a.field_officer_id " +
+           "  GROUP BY o.field_officer_id) w " +
+           "WHERE fo.field_officer_id = w.field_officer_id", nativeQuery = true)
+    int recountWorkload();
+}
@@ -0,0 +1,40 @@
+package com.krushikranti.fieldofficer.repository;
+
+import com.krushikranti.fieldofficer.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Lock the oldest unpublished, unparked events for relaying. Rows locked by another instance's relay
+     * are skipped, so several instances can relay concurrently without sending an event twice.
+     */
+    @Query(value = "SELECT * FROM outbox_events WHERE published_at IS NULL AND parked_at IS NULL " +
+           "ORDER BY outbox_event_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockUnpublished(@Param("limit") int limit);
+
+    /**
+     * Count events still waiting to be relayed
+     */
+    long countByPublishedAtIsNullAndParkedAtIsNull();
+
+    /**
+     * Count events parked after too many failed attempts
+     */
+    long countByParkedAtIsNotNull();
+
+    /**
+     * Delete events relayed before the given time
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,31 @@
+package com.krushikranti.fieldofficer.repository;
+
+import com.krushikranti.fieldofficer.model.PincodeCentroid;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PincodeCentroidRepository extends JpaRepository<PincodeCentroid, String> {
+
+    /**
+     * Fold one GPS point into the pincode's running mean, creating the row on first use.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO pincode_centroids (pincode, latitude, longitude, sample_count, updated_at) " +
+           "VALUES (:pincode, :latitude, :longitude, 1, CURRENT_TIMESTAMP) " +
+           "ON CONFLICT (pincode) DO UPDATE SET " +
+           "latitude = pincode_centroids.latitude + " +
+           "  (EXCLUDED.latitude - pincode_centroids.latitude) / (pincode_centroids.sample_count + 1), " +
+           "longitude = pincode_centroids.longitude + " +
+           "  (EXCLUDED.longitude - pincode_centroids.longitude) / (pincode_centroids.sample_count + 1), " +
+           "sample_count = pincode_centroids.sample_count + 1, " +
+           "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int recordSample(
+        @Param("pincode") String pincode,
+        @Param("latitude") double latitude,
+        @Param("longitude") double longitude
+    );
+}
@@ -2,6 +2,7 @@ package com.krushikranti.fieldofficer.service;
 
 import com.krushikranti.fieldofficer.dto.VerifyFarmRequest;
 import com.krushikranti.fieldofficer.dto.VerifyFarmResponse;
+import com.krushikranti.fieldofficer.event.FarmVerificationEventPublisher;
 import com.krushikranti.fieldofficer.model.FarmVerification;
 import com.krushikranti.fieldofficer.model.FieldOfficer;
 import com.krushikranti.fieldofficer.model.FieldOfficerAssignment;
@@ -28,6 +29,9 @@ public class FarmVerificationService {
     private final FarmVerificationRepository verificationRepository;
     private final FieldOfficerRepository fieldOfficerRepository;
     private final FieldOfficerAssignmentRepository assignmentRepository;
+    private final FieldOfficerWorkloadService workloadService;
+    private final FieldOfficerSuggestionEngine suggestionEngine;
+    private final FarmVerificationEventPublisher eventPublisher;
 
     /**
      * Verify or reject a farm.
@@ -79,9 +83,11 @@ public class FarmVerificationService {
                         request.getFarmId(), fieldOfficer.getId());
 
         FarmVerification verification;
+        FarmVerification.VerificationStatus previousStatus = null;
         if (existingVerification.isPresent()) {
             // Update existing verification
             verification = existingVerification.get();
+            previousStatus = verification.getVerificationStatus();
             verification.setVerificationStatus(status);
             verification.setFeedback(request.getFeedback());
             verification.setRejectionReason(request.getRejectionReason());
@@ -111,6 +117,16 @@ public class FarmVerificationService {
         }
 
         FarmVerification saved = verificationRepository.save(verification);
+        workloadService.onVerificationChanged(fieldOfficer.getId(), previousStatus, status);
+        // farmer-service applies the outcome to the farm asynchronously (transactional outbox)
+        eventPublisher.verificationSaved(saved, fieldOfficerUserId);
+
+        // The first final verification with GPS places the farm's pincode on the map
+        String farmPincode = assignmentOpt.get().getFarmPincode();
+        if (farmPincode != null && request.getLatitude() != null && request.getLongitude() != null
+                && !FieldOfficerWorkloadService.isFinal(previousStatus) && FieldOfficerWorkloadService.isFinal(status)) {
+            suggestionEngine.recordFarmLocation(farmPincode, request.getLatitude(), request.getLongitude());
+        }
         log.info("Farm verification saved successfully - ID: {}, Farm: {}, Status: {}", 
                 saved.getId(), request.getFarmId(), status);
 
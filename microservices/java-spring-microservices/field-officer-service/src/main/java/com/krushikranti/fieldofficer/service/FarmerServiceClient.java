@@ -0,0 +1,100 @@
+package com.krushikranti.fieldofficer.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST client for farmer-service's internal batch farmer lookup.
+ * Farmers come back as maps with the farmer-service field names (userId, fullName, farms, ...).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FarmerServiceClient {
+
+    /** Upper bound accepted by farmer-service's internal batch lookup. */
+    private static final int BATCH_SIZE = 500;
+
+    private final WebClient.Builder webClientBuilder;
+
+    @Value("${services.farmer-service.url:http://localhost:4000}")
+    private String farmerServiceUrl;
+
+    /**
+     * Fetch many farmers with all of their farms, in chunks of {@value #BATCH_SIZE} userIds.
+     *
+     * @return farmers keyed by userId; farmers that are unknown, or whose chunk failed, are absent
+     */
+    public Map<Long, Map<String, Object>> getFarmersWithFarms(Collection<Long> farmerUserIds) {
+        return getFarmersWithFarms(farmerUserIds, null);
+    }
+
+    /**
+     * Fetch many farmers with the farms changed after {@code updatedSince} (all farms when null).
+     * Farmers with nothing changed are absent.
+     */
+    public Map<Long, Map<String, Object>> getFarmersWithFarms(Collection<Long> farmerUserIds,
+                                                              LocalDateTime updatedSince) {
+        List<Long> userIds = new ArrayList<>(farmerUserIds);
+        Map<Long, Map<String, Object>> farmers = new HashMap<>();
+        for (int from = 0; from < userIds.size(); from += BATCH_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + BATCH_SIZE, userIds.size()));
+            Map<String, Object> body = new HashMap<>();
+            body.put("userIds", chunk);
+            if (updatedSince != null) {
+                body.put("updatedSince", updatedSince.toString());
+            }
+            try {
+                Map<String, Object> response = webClientBuilder.build()
+                        .post()
+                        .uri(farmerServiceUrl + "/internal/farmers/by-users")
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                        .block();
+                if (response == null || !(response.get("data") instanceof List<?> data)) {
+                    continue;
+                }
+                for (Object farmerObj : data) {
+                    if (farmerObj instanceof Map<?, ?> farmer && farmer.get("userId") instanceof Number userId) {
+                        @SuppressWarnings("unchecked")
+                        Map<String, Object> farmerMap = (Map<String, Object>) farmer;
+                        farmers.put(userId.longValue(), farmerMap);
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Failed to fetch farms for {} farmers: {}", chunk.size(), e.getMessage());
+            }
+        }
+        return farmers;
+    }
+
+    /**
+     * The farms of a farmer returned by this client, or an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    static List<Map<String, Object>> farmsOf(Map<String, Object> farmer) {
+        if (farmer == null || !(farmer.get("farms") instanceof List<?> farms)) {
+            return Collections.emptyList();
+        }
+        List<Map<String, Object>> farmMaps = new ArrayList<>(farms.size());
+        for (Object farm : farms) {
+            if (farm instanceof Map) {
+                farmMaps.add((Map<String, Object>) farm);
+            }
+        }
+        return farmMaps;
+    }
+}
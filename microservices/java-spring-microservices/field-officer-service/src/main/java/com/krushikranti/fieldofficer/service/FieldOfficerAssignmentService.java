@@ -2,6 +2,7 @@ package com.krushikranti.fieldofficer.service;
 
 import com.krushikranti.fieldofficer.dto.AssignFieldOfficerRequest;
 import com.krushikranti.fieldofficer.dto.AssignmentResponseDto;
+import com.krushikranti.fieldofficer.dto.FarmerAssignmentSummaryDto;
 import com.krushikranti.fieldofficer.dto.FieldOfficerAssignmentDto;
 import com.krushikranti.fieldofficer.dto.FieldOfficerSummaryDto;
 import com.krushikranti.fieldofficer.dto.SuggestedFieldOfficerDto;
@@ -21,6 +22,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -38,252 +40,77 @@ public class FieldOfficerAssignmentService {
     private final FieldOfficerAssignmentRepository assignmentRepository;
     private final FarmVerificationRepository verificationRepository;
     private final WebClient.Builder webClientBuilder;
+    private final AuthServiceClient authServiceClient;
+    private final FarmerServiceClient farmerServiceClient;
+    private final FieldOfficerWorkloadService workloadService;
+    private final FieldOfficerSuggestionEngine suggestionEngine;
+
+    /** Upper bound for the suggestion limit requested by clients. */
+    private static final int MAX_SUGGESTIONS = 100;
 
     @Value("${services.farmer-service.url:http://localhost:4000}")
     private String farmerServiceUrl;
 
-    @Value("${services.auth-service.url:http://localhost:4005}")
-    private String authServiceUrl;
+    @Value("${suggestions.default-limit:20}")
+    private int defaultSuggestions = 20;
 
     /**
-     * Get suggested field officers for a farmer based on pincode matching.
-     * - If farmId is provided: show ONLY field officers matching that specific farm's pincode
-     * - If farmId is null but farms have pincodes: show field officers matching any farm's pincode
-     * - If no matches found (but farms have pincodes): show all field officers
-     * - If no farms or no pincodes: show all field officers for manual selection
+     * Get suggested field officers for a farmer, ranked by distance to the farm(s) and current workload.
+     * - If farmId is provided: rank by distance to that farm only
+     * - Otherwise: rank by distance to the nearest of the farmer's farms
+     * - If no farm can be located: suggest the least loaded active officers for manual selection
      * 
      * @param farmerUserId The farmer's user ID
-     * @param farmId Optional farm ID to filter by specific farm's pincode
-     * @return List of suggested field officers with assignment info
+     * @param farmId Optional farm ID to rank for a specific farm
+     * @param limit Maximum number of suggestions, or null for the default
+     * @return Suggested field officers, best first, with distance, score and assignment info
      */
-    public List<SuggestedFieldOfficerDto> getSuggestedFieldOfficers(Long farmerUserId, Long farmId) {
+    public List<SuggestedFieldOfficerDto> getSuggestedFieldOfficers(Long farmerUserId, Long farmId, Integer limit) {
         log.info("Getting suggested field officers for farmer userId: {}, farmId: {}", farmerUserId, farmId);
         
-        // Step 1: Get all farms for the farmer
         List<Map<String, Object>> farms = fetchFarmerFarms(farmerUserId);
-        List<FieldOfficer> fieldOfficersToReturn;
-        boolean isManualSelection = false;
-        
-        // Step 2: Extract pincodes based on farmId parameter
-        Set<String> farmPincodes = Collections.emptySet();
-        Map<String, Object> selectedFarm = null;
-        
+        List<Map<String, Object>> targetFarms = farms;
         if (farmId != null && farmId > 0) {
-            // If farmId is provided, filter by that specific farm's pincode only
-            if (farms != null && !farms.isEmpty()) {
-                Optional<Map<String, Object>> farmOpt = farms.stream()
-                        .filter(farm -> {
-                            Object farmIdObj = farm.get("farmId");
-                            if (farmIdObj == null) {
-                                farmIdObj = farm.get("id");
-                            }
-                            if (farmIdObj instanceof Number) {
-                                return ((Number) farmIdObj).longValue() == farmId;
-                            }
-                            return String.valueOf(farmIdObj).equals(String.valueOf(farmId));
-                        })
-                        .findFirst();
-                
-                if (farmOpt.isPresent()) {
-                    selectedFarm = farmOpt.get();
-                    Object pincodeObj = selectedFarm.get("pincode");
-                    if (pincodeObj != null) {
-                        String pincode;
-                        if (pincodeObj instanceof String) {
-                            pincode = ((String) pincodeObj).trim();
-                        } else if (pincodeObj instanceof Number) {
-                            pincode = String.valueOf(pincodeObj).trim();
-                        } else {
-                            pincode = pincodeObj.toString().trim();
-                        }
-                        if (!pincode.isEmpty()) {
-                            farmPincodes = Collections.singleton(pincode);
-                            log.info("Filtering by specific farm ID {} with pincode: {}", farmId, pincode);
-                        } else {
-                            log.warn("Selected farm ID {} has empty pincode", farmId);
-                        }
-                    } else {
-                        log.warn("Selected farm ID {} has null pincode", farmId);
-                    }
-                } else {
-                    log.warn("Farm ID {} not found for farmer userId {}", farmId, farmerUserId);
-                }
-            }
-        } else {
-            // If no farmId provided, extract pincodes from all farms (original behavior)
-            if (farms != null && !farms.isEmpty()) {
-                log.debug("Processing {} farms for pincode extraction", farms.size());
-                farmPincodes = farms.stream()
-                        .map(farm -> {
-                            Object pincodeObj = farm.get("pincode");
-                            if (pincodeObj == null) {
-                                log.debug("Farm {} has null pincode", farm.get("farmName"));
-                                return null;
-                            }
-                            // Handle both String and Number types
-                            String pincode;
-                            if (pincodeObj instanceof String) {
-                                pincode = ((String) pincodeObj).trim();
-                            } else if (pincodeObj instanceof Number) {
-                                pincode = String.valueOf(pincodeObj).trim();
-                            } else {
-                                pincode = pincodeObj.toString().trim();
-                            }
-                            log.debug("Extracted pincode: {} from farm: {}", pincode, farm.get("farmName"));
-                            return pincode.isEmpty() ? null : pincode;
-                        })
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toSet());
-                
-                log.info("Extracted {} unique pincodes from all farms: {}", farmPincodes.size(), farmPincodes);
+            targetFarms = farms.stream()
+                    .filter(farm -> farmId.equals(farmIdOf(farm)))
+                    .collect(Collectors.toList());
+            if (targetFarms.isEmpty()) {
+                log.warn("Farm ID {} not found for farmer userId {}", farmId, farmerUserId);
             }
         }
         
-        // Step 3: Determine which field officers to return
-        if (farmPincodes.isEmpty()) {
-            // No farms or no pincodes - return all field officers for manual selection
-            log.info("No farms or no pincodes found for farmer userId: {}. Returning all active field officers for manual selection.", farmerUserId);
-            fieldOfficersToReturn = fieldOfficerRepository.findByIsActive(true, 
-                    PageRequest.of(0, 1000)).getContent();
-            isManualSelection = true;
-        } else {
-            // Farms have pincodes - try to find matching field officers first
-            log.info("Searching for field officers with pincodes: {}", farmPincodes);
-            
-            // Step 4: Find field officers with matching pincodes
-            List<String> pincodeList = new ArrayList<>(farmPincodes);
-            fieldOfficersToReturn = fieldOfficerRepository.findByPincodeInAndIsActiveTrue(pincodeList);
-            
-            log.info("Found {} field officers with matching pincodes. Searched for: {}", 
-                    fieldOfficersToReturn.size(), pincodeList);
-            
-            // Log the pincodes of found field officers for debugging
-            if (!fieldOfficersToReturn.isEmpty()) {
-                List<String> foundPincodes = fieldOfficersToReturn.stream()
-                        .map(FieldOfficer::getPincode)
-                        .collect(Collectors.toList());
-                log.info("Found field officers with pincodes: {}", foundPincodes);
-            }
-            
-            // If no matching field officers found, return all active ones for manual selection
-            if (fieldOfficersToReturn.isEmpty()) {
-                log.warn("No field officers found with matching pincodes {}. Returning all active field officers for manual selection.", pincodeList);
-                // Verify: Let's check if there are any field officers with these pincodes at all (for debugging)
-                List<FieldOfficer> allFieldOfficers = fieldOfficerRepository.findAll();
-                Map<String, Long> pincodeCounts = allFieldOfficers.stream()
-                        .filter(FieldOfficer::getIsActive)
-                        .collect(Collectors.groupingBy(
-                                fo -> fo.getPincode() != null ? fo.getPincode() : "NULL",
-                                Collectors.counting()));
-                log.warn("Available field officer pincodes and counts: {}", pincodeCounts);
-                
-                fieldOfficersToReturn = fieldOfficerRepository.findByIsActive(true, 
-                        PageRequest.of(0, 1000)).getContent();
-                isManualSelection = true;
-            } else {
-                // We have matching field officers - return ONLY those (not all)
-                // CRITICAL: Do NOT return all field officers here - only return the matching ones
-                log.info("SUCCESS: Found {} matching field officers. Returning ONLY these (not all field officers).", 
-                        fieldOfficersToReturn.size());
-                // isManualSelection remains false - we have matches
-            }
-        }
+        List<String> farmPincodes = targetFarms.stream()
+                .map(this::farmPincode)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
         
-        if (fieldOfficersToReturn.isEmpty()) {
+        int maxResults = limit != null && limit > 0 ? Math.min(limit, MAX_SUGGESTIONS) : defaultSuggestions;
+        List<FieldOfficerSuggestionEngine.RankedOfficer> ranked =
+                suggestionEngine.rank(farmPincodes.stream().distinct().collect(Collectors.toList()), maxResults);
+        if (ranked.isEmpty()) {
             log.warn("No active field officers found in the system");
             return Collections.emptyList();
         }
         
-        // Final verification: Log what we're about to return
-        if (!isManualSelection) {
-            log.info("FINAL: Returning {} field officers with matching pincodes (NOT all field officers)", 
-                    fieldOfficersToReturn.size());
-        } else {
-            log.info("FINAL: Returning {} field officers (all active - manual selection mode)", 
-                    fieldOfficersToReturn.size());
-        }
-        
-        // Step 4: Build suggested field officers with matching info
-        List<Long> userIds = fieldOfficersToReturn.stream()
-                .map(FieldOfficer::getUserId)
+        List<Long> userIds = ranked.stream()
+                .map(r -> r.officer().getUserId())
                 .collect(Collectors.toList());
+        Map<Long, Map<String, Object>> userMap = authServiceClient.getUserDetailsBatch(userIds);
         
-        Map<Long, Map<String, Object>> userMap = fetchUserDetailsBatch(userIds);
-        
-        // Create final copies for use in lambda
-        final boolean finalIsManualSelection = isManualSelection;
-        final List<Map<String, Object>> finalFarms = farms;
-        final Map<String, Object> finalSelectedFarm = selectedFarm;
-        
-        return fieldOfficersToReturn.stream()
-                .filter(fo -> {
-                    if (fo.getId() == null || fo.getId() <= 0) {
-                        log.error("Field officer has invalid ID: {}", fo);
-                        return false;
-                    }
-                    return true;
-                })
-                .map(fo -> {
+        log.info("Returning {} suggested field officers for {} farm pincodes", ranked.size(), farmPincodes.size());
+        return ranked.stream()
+                .map(r -> {
+                    FieldOfficer fo = r.officer();
                     Map<String, Object> userDetails = userMap.getOrDefault(fo.getUserId(), new HashMap<>());
                     
-                    // Find which farm pincodes match this field officer's pincode
-                    List<String> matchingPincodes = Collections.emptyList();
-                    int matchingFarmCount = 0;
-                    
-                    if (!finalIsManualSelection) {
-                        if (finalSelectedFarm != null) {
-                            // If a specific farm is selected, check if it matches
-                            Object pincodeObj = finalSelectedFarm.get("pincode");
-                            String farmPincode = null;
-                            if (pincodeObj instanceof String) {
-                                farmPincode = ((String) pincodeObj).trim();
-                            } else if (pincodeObj instanceof Number) {
-                                farmPincode = String.valueOf(pincodeObj).trim();
-                            } else if (pincodeObj != null) {
-                                farmPincode = pincodeObj.toString().trim();
-                            }
-                            
-                            if (farmPincode != null && !farmPincode.isEmpty() && farmPincode.equals(fo.getPincode())) {
-                                matchingPincodes = Collections.singletonList(farmPincode);
-                                matchingFarmCount = 1;
-                            }
-                        } else if (finalFarms != null && !finalFarms.isEmpty()) {
-                            // Original behavior: check all farms
-                            matchingPincodes = finalFarms.stream()
-                                    .map(farm -> {
-                                        Object pincodeObj = farm.get("pincode");
-                                        if (pincodeObj instanceof String) {
-                                            return ((String) pincodeObj).trim();
-                                        } else if (pincodeObj instanceof Number) {
-                                            return String.valueOf(pincodeObj).trim();
-                                        } else if (pincodeObj != null) {
-                                            return pincodeObj.toString().trim();
-                                        }
-                                        return null;
-                                    })
-                                    .filter(pincode -> pincode != null && !pincode.isEmpty() && pincode.equals(fo.getPincode()))
-                                    .distinct()
-                                    .collect(Collectors.toList());
-                            
-                            matchingFarmCount = (int) finalFarms.stream()
-                                    .map(farm -> {
-                                        Object pincodeObj = farm.get("pincode");
-                                        if (pincodeObj instanceof String) {
-                                            return ((String) pincodeObj).trim();
-                                        } else if (pincodeObj instanceof Number) {
-                                            return String.valueOf(pincodeObj).trim();
-                                        } else if (pincodeObj != null) {
-                                            return pincodeObj.toString().trim();
-                                        }
-                                        return null;
-                                    })
-                                    .filter(pincode -> pincode != null && !pincode.isEmpty() && pincode.equals(fo.getPincode()))
-                                    .count();
-                        }
-                    }
-                    
-                    // Count assigned farms for this field officer
-                    Integer assignedFarmsCount = countAssignedFarms(fo.getId());
+                    // Farms in the officer's own pincode
+                    List<String> matchingPincodes = farmPincodes.stream()
+                            .filter(pincode -> pincode.equals(fo.getPincode()))
+                            .distinct()
+                            .collect(Collectors.toList());
+                    int matchingFarmCount = (int) farmPincodes.stream()
+                            .filter(pincode -> pincode.equals(fo.getPincode()))
+                            .count();
                     
                     return SuggestedFieldOfficerDto.builder()
                             .fieldOfficerId(fo.getId())
@@ -299,7 +126,12 @@ public class FieldOfficerAssignmentService {
                             .isActive(fo.getIsActive())
                             .matchingPincodes(matchingPincodes)
                             .matchingFarmCount(matchingFarmCount)
-                            .assignedFarmsCount(assignedFarmsCount)
+                            .distanceKm(r.distanceKm() != null ? Math.round(r.distanceKm() * 10) / 10.0 : null)
+                            .score(Math.round(r.score() * 1000) / 1000.0)
+                            .assignedFarmsCount(fo.getActiveFarmsCount())
+                            .pendingFarmsCount(fo.getPendingFarmsCount())
+                            .completedFarmsCount(fo.getCompletedFarmsCount())
+                            .verifiedFarmsCount(fo.getVerifiedFarmsCount())
                             .build();
                 })
                 .collect(Collectors.toList());
@@ -413,17 +245,19 @@ public class FieldOfficerAssignmentService {
                 .fieldOfficerId(request.getFieldOfficerId())
                 .farmerUserId(request.getFarmerUserId())
                 .farmId(request.getFarmId())
+                .farmPincode(farmPincode(farmDetails))
                 .status(FieldOfficerAssignment.AssignmentStatus.ASSIGNED)
                 .assignedByUserId(adminUserId)
                 .notes(request.getNotes())
                 .build();
         
         FieldOfficerAssignment saved = assignmentRepository.save(assignment);
+        workloadService.onAssigned(saved);
         log.info("Assignment created successfully - ID: {}, Field Officer: {}, Farm: {}", 
                 saved.getId(), request.getFieldOfficerId(), request.getFarmId());
         
         // Fetch field officer details for response
-        Map<String, Object> userDetails = fetchUserDetails(fieldOfficer.getUserId());
+        Map<String, Object> userDetails = authServiceClient.getUserDetails(fieldOfficer.getUserId());
         
         return AssignmentResponseDto.fromEntity(
                 saved,
@@ -441,59 +275,15 @@ public class FieldOfficerAssignmentService {
         log.info("Validating farm ID: {} for farmer userId: {}", farmId, farmerUserId);
         
         try {
-            // First, get farmer details to find farmerId
-            Map<String, Object> farmerListResponse = webClientBuilder.build()
-                    .get()
-                    .uri(farmerServiceUrl + "/admin/farmers?page=0&size=1000")
-                    .header("X-User-Id", "1")
-                    .header("X-User-Roles", "ADMIN")
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .block();
-            
-            if (farmerListResponse == null) {
-                throw new IllegalArgumentException("Failed to fetch farmer information");
-            }
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = (Map<String, Object>) farmerListResponse.get("data");
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> farmers = (List<Map<String, Object>>) data.get("farmers");
-            
-            Optional<Map<String, Object>> farmerOpt = farmers.stream()
-                    .filter(f -> {
-                        Object userIdObj = f.get("userId");
-                        if (userIdObj instanceof Number) {
-                            return ((Number) userIdObj).longValue() == farmerUserId;
-                        }
-                        return String.valueOf(userIdObj).equals(String.valueOf(farmerUserId));
-                    })
-                    .findFirst();
+            // Single indexed lookup of the farmer and their farms
+            Map<String, Object> farmer = fetchFarmerWithFarms(farmerUserId);
             
-            if (farmerOpt.isEmpty()) {
+            if (farmer == null) {
                 throw new IllegalArgumentException("Farmer not found with userId: " + farmerUserId);
             }
             
-            Long farmerId = ((Number) farmerOpt.get().get("farmerId")).longValue();
-            
-            // Get farmer detail with farms
-            Map<String, Object> farmerDetailResponse = webClientBuilder.build()
-                    .get()
-                    .uri(farmerServiceUrl + "/admin/farmers/" + farmerId)
-                    .header("X-User-Id", "1")
-                    .header("X-User-Roles", "ADMIN")
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .block();
-            
-            if (farmerDetailResponse == null) {
-                throw new IllegalArgumentException("Failed to fetch farmer details");
-            }
-            
             @SuppressWarnings("unchecked")
-            Map<String, Object> detailData = (Map<String, Object>) ((Map<String, Object>) farmerDetailResponse.get("data"));
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> farms = (List<Map<String, Object>>) detailData.get("farms");
+            List<Map<String, Object>> farms = (List<Map<String, Object>>) farmer.get("farms");
             
             if (farms == null || farms.isEmpty()) {
                 throw new IllegalArgumentException("Farmer has no farms. Cannot assign field officer.");
@@ -555,40 +345,14 @@ public class FieldOfficerAssignmentService {
         log.info("Validating KYC and subscription for farmer userId: {}", farmerUserId);
         
         try {
-            // Get farmer list to find farmerId
-            Map<String, Object> farmerListResponse = webClientBuilder.build()
-                    .get()
-                    .uri(farmerServiceUrl + "/admin/farmers?page=0&size=1000")
-                    .header("X-User-Id", "1")
-                    .header("X-User-Roles", "ADMIN")
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .block();
-            
-            if (farmerListResponse == null) {
-                throw new IllegalArgumentException("Failed to fetch farmer information for KYC/subscription validation");
-            }
+            // Resolve farmerId with the internal lookup by userId
+            Map<String, Object> farmer = fetchFarmerWithFarms(farmerUserId);
             
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = (Map<String, Object>) farmerListResponse.get("data");
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> farmers = (List<Map<String, Object>>) data.get("farmers");
-            
-            Optional<Map<String, Object>> farmerOpt = farmers.stream()
-                    .filter(f -> {
-                        Object userIdObj = f.get("userId");
-                        if (userIdObj instanceof Number) {
-                            return ((Number) userIdObj).longValue() == farmerUserId;
-                        }
-                        return String.valueOf(userIdObj).equals(String.valueOf(farmerUserId));
-                    })
-                    .findFirst();
-            
-            if (farmerOpt.isEmpty()) {
+            if (farmer == null) {
                 throw new IllegalArgumentException("Farmer not found with userId: " + farmerUserId);
             }
             
-            Long farmerId = ((Number) farmerOpt.get().get("farmerId")).longValue();
+            Long farmerId = ((Number) farmer.get("farmerId")).longValue();
             
             // Get farmer detail with KYC and subscription info
             Map<String, Object> farmerDetailResponse = webClientBuilder.build()
@@ -651,6 +415,49 @@ public class FieldOfficerAssignmentService {
         }
     }
 
+    /**
+     * Cancel an assignment and release the farm for another field officer.
+     */
+    @Transactional
+    public AssignmentResponseDto cancelAssignment(Long assignmentId) {
+        FieldOfficerAssignment assignment = assignmentRepository.findById(assignmentId)
+                .orElseThrow(() -> new IllegalArgumentException("Assignment not found with ID: " + assignmentId));
+        
+        if (assignment.getStatus() == FieldOfficerAssignment.AssignmentStatus.CANCELLED) {
+            throw new IllegalArgumentException("Assignment " + assignmentId + " is already cancelled");
+        }
+        
+        assignment.setStatus(FieldOfficerAssignment.AssignmentStatus.CANCELLED);
+        FieldOfficerAssignment saved = assignmentRepository.save(assignment);
+        workloadService.onCancelled(saved);
+        log.info("Assignment cancelled - ID: {}, Field Officer: {}, Farm: {}", 
+                saved.getId(), saved.getFieldOfficerId(), saved.getFarmId());
+        
+        return fieldOfficerRepository.findById(saved.getFieldOfficerId())
+                .map(fo -> AssignmentResponseDto.fromEntity(saved,
+                        buildFullName(fo.getFirstName(), fo.getLastName()), "", fo.getPincode()))
+                .orElseGet(() -> AssignmentResponseDto.fromEntity(saved, "Unknown", "", ""));
+    }
+
+    /**
+     * Get the number of active farm-level assignments for each of the given farmers.
+     * Every farmer in the request is present in the result, with 0 when nothing is assigned.
+     *
+     * @param farmerUserIds The farmers' user IDs
+     * @return One summary per distinct farmer user ID, in request order
+     */
+    @Transactional(readOnly = true)
+    public List<FarmerAssignmentSummaryDto> getAssignmentSummaries(List<Long> farmerUserIds) {
+        Set<Long> ids = new LinkedHashSet<>(farmerUserIds);
+        Map<Long, Long> counts = assignmentRepository.countActiveFarmAssignmentsByFarmerUserIds(ids).stream()
+                .collect(Collectors.toMap(FarmerAssignmentSummaryDto::getFarmerUserId,
+                        FarmerAssignmentSummaryDto::getAssignedFarmsCount));
+
+        return ids.stream()
+                .map(id -> new FarmerAssignmentSummaryDto(id, counts.getOrDefault(id, 0L)))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Get all assignments for a farmer.
      */
@@ -669,7 +476,7 @@ public class FieldOfficerAssignmentService {
                         return AssignmentResponseDto.fromEntity(assignment, "Unknown", "", "", null, null, null, null);
                     }
                     
-                    Map<String, Object> userDetails = fetchUserDetails(fieldOfficer.getUserId());
+                    Map<String, Object> userDetails = authServiceClient.getUserDetails(fieldOfficer.getUserId());
                     
                     return AssignmentResponseDto.fromEntity(
                             assignment,
@@ -702,10 +509,10 @@ public class FieldOfficerAssignmentService {
                 return AssignmentResponseDto.fromEntity(assignment, "Unknown", "", "", null, null, null, null);
             }
             
-            Map<String, Object> userDetails = fetchUserDetails(fieldOfficer.getUserId());
+            Map<String, Object> userDetails = authServiceClient.getUserDetails(fieldOfficer.getUserId());
             
             // Fetch farmer details
-            Map<String, Object> farmerUserDetails = fetchUserDetails(assignment.getFarmerUserId());
+            Map<String, Object> farmerUserDetails = authServiceClient.getUserDetails(assignment.getFarmerUserId());
             String farmerName = buildFullName(
                     (String) farmerUserDetails.getOrDefault("firstName", ""),
                     (String) farmerUserDetails.getOrDefault("lastName", ""));
@@ -766,199 +573,55 @@ public class FieldOfficerAssignmentService {
     /**
      * Get assignments with farm details for a field officer (by userId).
      * Used by field officer app to see their assigned farms.
+     * Farmers and their farms are resolved with one batched call to auth-service and one to
+     * farmer-service, and verification status with a single query, whatever the number of assignments.
      */
-    public List<com.krushikranti.fieldofficer.dto.FieldOfficerAssignmentDto> getAssignmentsWithFarmsForFieldOfficer(Long fieldOfficerUserId) {
-        log.info("Getting assignments with farms for field officer userId: {}", fieldOfficerUserId);
-        
+    public List<FieldOfficerAssignmentDto> getAssignmentsWithFarmsForFieldOfficer(Long fieldOfficerUserId) {
+        long start = System.currentTimeMillis();
+
         // Find field officer by userId
         FieldOfficer fieldOfficer = fieldOfficerRepository.findByUserId(fieldOfficerUserId)
                 .orElseThrow(() -> new IllegalArgumentException("Field officer not found with userId: " + fieldOfficerUserId));
-        
-        // Get all assignments for this field officer
-        // Use PageRequest to get all assignments (no pagination needed for field officer view)
-        Page<FieldOfficerAssignment> assignmentPage = assignmentRepository.findByFieldOfficerId(
-                fieldOfficer.getId(), 
-                PageRequest.of(0, 1000)); // Get up to 1000 assignments
-        List<FieldOfficerAssignment> assignments = assignmentPage.getContent();
-        
-        log.info("Found {} assignments for field officer userId: {}", assignments.size(), fieldOfficerUserId);
-        
-        List<FieldOfficerAssignmentDto> result = assignments.stream()
-                .map(assignment -> {
-                    try {
-                        // Fetch farmer details
-                        Map<String, Object> farmerUserDetails = fetchUserDetails(assignment.getFarmerUserId());
-                        String farmerNameTemp = buildFullName(
-                                (String) farmerUserDetails.getOrDefault("firstName", ""),
-                                (String) farmerUserDetails.getOrDefault("lastName", ""));
-                        if (farmerNameTemp.trim().isEmpty()) {
-                            farmerNameTemp = (String) farmerUserDetails.getOrDefault("username", "Unknown Farmer");
-                        }
-                        final String farmerName = farmerNameTemp; // Make final for lambda
-                        String farmerPhone = (String) farmerUserDetails.getOrDefault("phoneNumber", "");
-                        
-                        // Fetch farms for this farmer
-                        List<Map<String, Object>> farms;
-                        try {
-                            log.info("About to fetch farms for farmer userId: {} (assignment {})", 
-                                    assignment.getFarmerUserId(), assignment.getId());
-                            farms = fetchFarmerFarms(assignment.getFarmerUserId());
-                            log.info("Fetched {} farms for farmer userId: {} (assignment {})", 
-                                    farms.size(), assignment.getFarmerUserId(), assignment.getId());
-                            
-                            // Filter farms by assignment.farmId if specified
-                            if (assignment.getFarmId() != null) {
-                                log.info("Assignment {} has specific farmId: {}. Filtering farms to show only this farm.", 
-                                        assignment.getId(), assignment.getFarmId());
-                                farms = farms.stream()
-                                        .filter(farm -> {
-                                            Object farmIdObj = farm.get("farmId");
-                                            if (farmIdObj == null) {
-                                                farmIdObj = farm.get("id");
-                                            }
-                                            if (farmIdObj instanceof Number) {
-                                                return ((Number) farmIdObj).longValue() == assignment.getFarmId();
-                                            }
-                                            return String.valueOf(farmIdObj).equals(String.valueOf(assignment.getFarmId()));
-                                        })
-                                        .collect(Collectors.toList());
-                                log.info("After filtering by farmId {}, {} farms remain", assignment.getFarmId(), farms.size());
-                            } else {
-                                log.info("Assignment {} has no specific farmId (null). Showing all farms for farmer.", assignment.getId());
-                            }
-                            
-                            if (farms.isEmpty()) {
-                                log.warn("WARNING: No farms returned for farmer userId: {} (assignment {}). " +
-                                        "This could mean: 1) Farmer has no farms in database, 2) API call failed silently, " +
-                                        "3) Response structure mismatch, 4) FarmId filter removed all farms. Check detailed logs above.", 
-                                        assignment.getFarmerUserId(), assignment.getId());
-                            } else {
-                                log.info("SUCCESS: Found {} farms for farmer userId: {} (after filtering)", 
-                                        farms.size(), assignment.getFarmerUserId());
-                            }
-                        } catch (Exception e) {
-                            log.error("EXCEPTION: Error fetching farms for farmer userId {} (assignment {}): {}", 
-                                    assignment.getFarmerUserId(), assignment.getId(), e.getMessage(), e);
-                            farms = Collections.emptyList(); // Return empty list if farms can't be fetched
-                        }
-                        
-                        // Build location string for each farm and add assignment info
-                        // Also check verification status from farm_verifications table
-                        final Long fieldOfficerId = fieldOfficer.getId(); // Make final for lambda
-                        List<Map<String, Object>> farmsWithLocation = farms.stream()
-                                .map(farm -> {
-                                    try {
-                                        Map<String, Object> farmWithLocation = new java.util.HashMap<>(farm);
-                                        String location = String.format("%s, %s, %s - %s",
-                                                farm.getOrDefault("village", ""),
-                                                farm.getOrDefault("district", ""),
-                                                farm.getOrDefault("state", ""),
-                                                farm.getOrDefault("pincode", ""));
-                                        farmWithLocation.put("location", location.trim());
-                                        farmWithLocation.put("farmerName", farmerName);
-                                        
-                                        // Get farm ID for verification lookup
-                                        Object farmIdObj = farmWithLocation.get("farmId");
-                                        if (farmIdObj == null) {
-                                            farmIdObj = farmWithLocation.get("id");
-                                        }
-                                        
-                                        // Check verification status from farm_verifications table
-                                        boolean isVerified = false;
-                                        String verificationStatus = "PENDING";
-                                        
-                                        if (farmIdObj != null) {
-                                            Long farmId;
-                                            if (farmIdObj instanceof Number) {
-                                                farmId = ((Number) farmIdObj).longValue();
-                                            } else {
-                                                try {
-                                                    farmId = Long.parseLong(farmIdObj.toString());
-                                                } catch (NumberFormatException e) {
-                                                    farmId = null;
-                                                }
-                                            }
-                                            
-                                            if (farmId != null) {
-                                                Optional<FarmVerification> verificationOpt = 
-                                                        verificationRepository.findByFarmIdAndFieldOfficerId(farmId, fieldOfficerId);
-                                                
-                                                if (verificationOpt.isPresent()) {
-                                                    FarmVerification verification = verificationOpt.get();
-                                                    FarmVerification.VerificationStatus status = verification.getVerificationStatus();
-                                                    verificationStatus = status.name();
-                                                    
-                                                    if (status == FarmVerification.VerificationStatus.VERIFIED || 
-                                                        status == FarmVerification.VerificationStatus.REJECTED) {
-                                                        isVerified = true;
-                                                    }
-                                                    
-                                                    log.debug("Found verification for farm {}: status={}, isVerified={}", 
-                                                            farmId, verificationStatus, isVerified);
-                                                } else {
-                                                    log.debug("No verification found for farm {} by field officer {}", 
-                                                            farmId, fieldOfficerId);
-                                                }
-                                            }
-                                        }
-                                        
-                                        farmWithLocation.put("status", verificationStatus);
-                                        farmWithLocation.put("isVerified", isVerified);
-                                        // Add assignment ID for reference
-                                        farmWithLocation.put("assignmentId", assignment.getId());
-                                        // Ensure farmName field exists (handle both farmName and farm_name)
-                                        if (!farmWithLocation.containsKey("farmName") && farmWithLocation.containsKey("farm_name")) {
-                                            farmWithLocation.put("farmName", farmWithLocation.get("farm_name"));
-                                        }
-                                        // Also handle id vs farmId
-                                        if (!farmWithLocation.containsKey("farmId") && farmWithLocation.containsKey("id")) {
-                                            farmWithLocation.put("farmId", farmWithLocation.get("id"));
-                                        }
-                                        return farmWithLocation;
-                                    } catch (Exception e) {
-                                        log.error("Error processing farm data: {}", e.getMessage(), e);
-                                        return null;
-                                    }
-                                })
-                                .filter(Objects::nonNull)
-                                .collect(Collectors.toList());
-                        
-                        FieldOfficerAssignmentDto dto = FieldOfficerAssignmentDto.builder()
-                                .assignmentId(assignment.getId())
-                                .farmerUserId(assignment.getFarmerUserId())
-                                .status(assignment.getStatus().name())
-                                .notes(assignment.getNotes())
-                                .assignedAt(assignment.getAssignedAt())
-                                .assignedByUserId(assignment.getAssignedByUserId())
-                                .farmerName(farmerName)
-                                .farmerPhoneNumber(farmerPhone)
-                                .farms(farmsWithLocation)
-                                .build();
-                        
-                        log.debug("Created assignment DTO with {} farms for assignment {}", 
-                                farmsWithLocation.size(), assignment.getId());
-                        return dto;
-                    } catch (Exception e) {
-                        log.error("Error processing assignment {}: {}", assignment.getId(), e.getMessage(), e);
-                        // Return a minimal assignment DTO even if there's an error
-                        return FieldOfficerAssignmentDto.builder()
-                                .assignmentId(assignment.getId())
-                                .farmerUserId(assignment.getFarmerUserId())
-                                .status(assignment.getStatus().name())
-                                .notes(assignment.getNotes())
-                                .assignedAt(assignment.getAssignedAt())
-                                .assignedByUserId(assignment.getAssignedByUserId())
-                                .farmerName("Unknown")
-                                .farmerPhoneNumber("")
-                                .farms(Collections.emptyList())
-                                .build();
-                    }
-                })
-                .collect(Collectors.toList());
-        
-        log.info("Returning {} assignments with total farms: {}", 
-                result.size(), 
-                result.stream().mapToInt(dto -> dto.getFarms() != null ? dto.getFarms().size() : 0).sum());
+
+        // Get all assignments for this field officer (no pagination needed for field officer view)
+        List<FieldOfficerAssignment> assignments = assignmentRepository.findByFieldOfficerId(
+                fieldOfficer.getId(),
+                PageRequest.of(0, 1000)).getContent(); // Get up to 1000 assignments
+        if (assignments.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> farmerUserIds = assignments.stream()
+                .map(FieldOfficerAssignment::getFarmerUserId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, Map<String, Object>> userDetails = authServiceClient.getUserDetailsBatch(farmerUserIds);
+        Map<Long, Map<String, Object>> farmers = farmerServiceClient.getFarmersWithFarms(farmerUserIds);
+
+        // Verification status of every farm on the list, from farm_verifications
+        Set<Long> farmIds = new HashSet<>();
+        for (Map<String, Object> farmer : farmers.values()) {
+            for (Map<String, Object> farm : FarmerServiceClient.farmsOf(farmer)) {
+                Long farmId = farmIdOf(farm);
+                if (farmId != null) {
+                    farmIds.add(farmId);
+                }
+            }
+        }
+        Map<Long, FarmVerification.VerificationStatus> verificationStatuses = new HashMap<>();
+        if (!farmIds.isEmpty()) {
+            verificationRepository.findByFieldOfficerIdAndFarmIdIn(fieldOfficer.getId(), farmIds)
+                    .forEach(v -> verificationStatuses.put(v.getFarmId(), v.getVerificationStatus()));
+        }
+
+        List<FieldOfficerAssignmentDto> result = new ArrayList<>(assignments.size());
+        for (FieldOfficerAssignment assignment : assignments) {
+            result.add(toTaskAssignment(assignment, farmers.get(assignment.getFarmerUserId()),
+                    userDetails.getOrDefault(assignment.getFarmerUserId(), Map.of()), verificationStatuses));
+        }
+
+        log.info("Returning {} assignments ({} farmers, {} farms) for field officer userId {} in {} ms",
+                result.size(), farmerUserIds.size(), farmIds.size(), fieldOfficerUserId,
+                System.currentTimeMillis() - start);
         return result;
     }
 
@@ -966,311 +629,160 @@ public class FieldOfficerAssignmentService {
 
     /**
      * Fetch all farms for a farmer from farmer-service.
-     * Uses the admin endpoint to get farmer detail which includes farms.
+     * Uses the internal by-userId lookup, so the cost does not depend on how many farmers exist.
      */
     private List<Map<String, Object>> fetchFarmerFarms(Long farmerUserId) {
         try {
-            log.info("=== Starting to fetch farms for farmer userId: {} ===", farmerUserId);
-            log.info("Using farmer-service URL: {}", farmerServiceUrl);
-            
-            // Call admin endpoint to get farmer list and find the one with matching userId
-            Map<String, Object> response;
-            try {
-                String url = farmerServiceUrl + "/admin/farmers?page=0&size=1000";
-                log.info("Calling farmer-service list endpoint: {}", url);
-                response = webClientBuilder.build()
-                        .get()
-                        .uri(url)
-                        .header("X-User-Id", "1") // System admin user ID for inter-service calls
-                        .header("X-User-Roles", "ADMIN") // Admin role for inter-service calls
-                        .retrieve()
-                        .onStatus(status -> status.isError(), clientResponse -> {
-                            log.error("ERROR: HTTP {} from farmer-service list endpoint for userId: {}", 
-                                    clientResponse.statusCode(), farmerUserId);
-                            return clientResponse.bodyToMono(String.class)
-                                    .doOnNext(body -> log.error("Error response body from list endpoint: {}", body))
-                                    .map(body -> new RuntimeException("Farmer service error: " + 
-                                            clientResponse.statusCode() + " - " + body));
-                        })
-                        .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                        .doOnNext(resp -> log.info("Successfully received response from farmer-service list endpoint"))
-                        .doOnError(error -> log.error("Error in WebClient call to farmer-service list: {}", error.getMessage(), error))
-                        .block();
-                log.info("Response received from farmer-service list endpoint, response is null: {}", response == null);
-            } catch (org.springframework.web.reactive.function.client.WebClientResponseException e) {
-                log.error("WebClientResponseException fetching farmers list for userId {}: Status: {}, Body: {}", 
-                        farmerUserId, e.getStatusCode(), e.getResponseBodyAsString(), e);
-                log.error("Full exception stack trace: ", e);
-                return Collections.emptyList();
-            } catch (Exception e) {
-                log.error("Unexpected error calling farmer-service for userId {}: {}", farmerUserId, e.getMessage(), e);
-                log.error("Full exception stack trace: ", e);
-                return Collections.emptyList();
-            }
-            
-            if (response == null) {
-                log.error("ERROR: No response from farmer-service for userId: {}", farmerUserId);
-                return Collections.emptyList();
-            }
-            
-            log.info("Received response from farmer-service list endpoint. Response keys: {}", response.keySet());
-            
-            // Unwrap ApiResponse
-            Object dataObj = response.get("data");
-            if (!(dataObj instanceof Map)) {
-                log.error("Unexpected response structure from farmer-service. Response type: {}, Response: {}", 
-                        dataObj != null ? dataObj.getClass().getName() : "null", response);
-                return Collections.emptyList();
-            }
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = (Map<String, Object>) dataObj;
-            log.info("Data object keys: {}", data.keySet());
-            
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> farmers = (List<Map<String, Object>>) data.get("farmers");
-            
-            if (farmers == null || farmers.isEmpty()) {
-                log.error("No farmers in response for userId: {}. Data keys: {}", farmerUserId, data.keySet());
-                return Collections.emptyList();
-            }
-            
-            log.info("Found {} farmers in list response", farmers.size());
-            
-            // Find farmer with matching userId
-            Optional<Map<String, Object>> farmerOpt = farmers.stream()
-                    .filter(farmer -> {
-                        Object userIdObj = farmer.get("userId");
-                        if (userIdObj instanceof Number) {
-                            return ((Number) userIdObj).longValue() == farmerUserId;
-                        }
-                        return String.valueOf(userIdObj).equals(String.valueOf(farmerUserId));
-                    })
-                    .findFirst();
-            
-            if (farmerOpt.isEmpty()) {
+            Map<String, Object> farmer = fetchFarmerWithFarms(farmerUserId);
+            if (farmer == null) {
                 log.warn("Farmer not found with userId: {}", farmerUserId);
                 return Collections.emptyList();
             }
             
-            Map<String, Object> farmer = farmerOpt.get();
-            Object farmerIdObj = farmer.get("farmerId");
-            if (farmerIdObj == null) {
-                log.warn("Farmer ID not found in farmer data for userId: {}", farmerUserId);
-                return Collections.emptyList();
-            }
-            
-            Long farmerId = ((Number) farmerIdObj).longValue();
-            log.info("Found farmerId {} for userId {}", farmerId, farmerUserId);
-            
-            // Now get farmer detail with farms
-            String detailUrl = farmerServiceUrl + "/admin/farmers/" + farmerId;
-            log.info("Calling farmer detail endpoint: {}", detailUrl);
-            Map<String, Object> detailResponse;
-            try {
-                detailResponse = webClientBuilder.build()
-                        .get()
-                        .uri(detailUrl)
-                        .header("X-User-Id", "1") // System admin user ID for inter-service calls
-                        .header("X-User-Roles", "ADMIN") // Admin role for inter-service calls
-                        .retrieve()
-                        .onStatus(status -> status.isError(), clientResponse -> {
-                            log.error("ERROR: HTTP {} from farmer-service detail endpoint for farmerId: {}", 
-                                    clientResponse.statusCode(), farmerId);
-                            return clientResponse.bodyToMono(String.class)
-                                    .doOnNext(body -> log.error("Error response body: {}", body))
-                                    .map(body -> new RuntimeException("Farmer service error: " + 
-                                            clientResponse.statusCode() + " - " + body));
-                        })
-                        .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                        .doOnNext(detailResp -> log.info("Successfully received response from farmer-service detail endpoint"))
-                        .doOnError(error -> log.error("Error in WebClient call to farmer-service detail: {}", error.getMessage(), error))
-                        .block();
-            } catch (org.springframework.web.reactive.function.client.WebClientResponseException e) {
-                log.error("WebClientResponseException fetching farmer detail for farmerId {}: Status: {}, Body: {}", 
-                        farmerId, e.getStatusCode(), e.getResponseBodyAsString(), e);
-                log.error("Full exception details: ", e);
-                // Don't throw - return empty list instead
-                return Collections.emptyList();
-            } catch (Exception e) {
-                log.error("Unexpected error calling farmer-service detail for farmerId {}: {}", farmerId, e.getMessage(), e);
-                // Don't throw - return empty list instead
-                return Collections.emptyList();
-            }
-            
-            if (detailResponse == null) {
-                log.error("No detail response from farmer-service for farmerId: {}", farmerId);
-                return Collections.emptyList();
-            }
-            
-            log.info("Received detail response. Response keys: {}", detailResponse.keySet());
-            
-            // Unwrap ApiResponse
-            Object detailDataObj = detailResponse.get("data");
-            if (!(detailDataObj instanceof Map)) {
-                log.error("Unexpected detail response structure. Data type: {}, Response: {}", 
-                        detailDataObj != null ? detailDataObj.getClass().getName() : "null", detailResponse);
-                return Collections.emptyList();
-            }
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> detailData = (Map<String, Object>) detailDataObj;
-            log.info("Detail data keys: {}", detailData.keySet());
-            log.info("Full detail data structure: {}", detailData);
-            
-            // Extract farms from the response - AdminFarmerDetailDto has farms as a list of FarmInfo objects
-            Object farmsObj = detailData.get("farms");
-            
-            if (farmsObj == null) {
-                log.error("ERROR: Farms key is null in detail data for farmer userId: {}. Available keys: {}", 
-                        farmerUserId, detailData.keySet());
-                log.error("Full detail data: {}", detailData);
-                return Collections.emptyList();
-            }
-            
-            log.info("Farms object type: {}, value: {}", farmsObj.getClass().getName(), farmsObj);
-            
+            Object farmsObj = farmer.get("farms");
             if (!(farmsObj instanceof List)) {
-                log.error("ERROR: Farms is not a List for farmer userId: {}. Type: {}, Value: {}", 
-                        farmerUserId, farmsObj.getClass().getName(), farmsObj);
+                log.warn("No farms list in farmer-service response for userId: {}", farmerUserId);
                 return Collections.emptyList();
             }
             
-            // Convert farms list to proper format - handle different response types
-            @SuppressWarnings("unchecked")
-            List<Object> farmsList = (List<Object>) farmsObj;
-            
-            log.info("Farms list size: {} for farmer userId: {}", farmsList.size(), farmerUserId);
-            
-            if (farmsList.isEmpty()) {
-                log.warn("WARNING: Farms array is empty for farmer userId: {}. " +
-                        "This means the farmer has NO farms in the database. " +
-                        "To verify, check the database: SELECT * FROM farms WHERE farmer_id = " +
-                        "(SELECT id FROM farmers WHERE user_id = {});", 
-                        farmerUserId, farmerUserId);
-                return Collections.emptyList();
-            }
-            
-            // Convert each farm object to Map<String, Object>
-            List<Map<String, Object>> farmMaps = new java.util.ArrayList<>();
-            for (Object farmObj : farmsList) {
-                try {
-                    Map<String, Object> farmMap;
-                    if (farmObj instanceof Map) {
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> tempMap = (Map<String, Object>) farmObj;
-                        farmMap = new java.util.HashMap<>(tempMap);
-                    } else {
-                        log.warn("Farm object is not a Map, type: {}, value: {}", 
-                                farmObj != null ? farmObj.getClass().getName() : "null", farmObj);
-                        continue; // Skip this farm
-                    }
-                    
-                    // Ensure farmName is present (handle both farmName and farm_name)
-                    if (!farmMap.containsKey("farmName") && farmMap.containsKey("farm_name")) {
-                        farmMap.put("farmName", farmMap.get("farm_name"));
-                    }
-                    // Ensure farmId is present (handle both farmId and id)
-                    if (!farmMap.containsKey("farmId")) {
-                        if (farmMap.containsKey("id")) {
-                            farmMap.put("farmId", farmMap.get("id"));
-                        } else if (farmMap.containsKey("farm_id")) {
-                            farmMap.put("farmId", farmMap.get("farm_id"));
-                        }
-                    }
-                    
-                    farmMaps.add(farmMap);
-                    log.debug("Converted farm: farmId={}, farmName={}, pincode={}", 
-                            farmMap.get("farmId"), farmMap.get("farmName"), farmMap.get("pincode"));
-                } catch (Exception e) {
-                    log.error("Error converting farm object to Map: {}", e.getMessage(), e);
-                    // Continue with next farm
+            // Copy each farm so callers can enrich it, and normalise the id key
+            List<Map<String, Object>> farmMaps = new ArrayList<>();
+            for (Object farmObj : (List<?>) farmsObj) {
+                if (!(farmObj instanceof Map)) {
+                    continue;
                 }
+                @SuppressWarnings("unchecked")
+                Map<String, Object> farmMap = new HashMap<>((Map<String, Object>) farmObj);
+                if (!farmMap.containsKey("farmId") && farmMap.containsKey("id")) {
+                    farmMap.put("farmId", farmMap.get("id"));
+                }
+                farmMaps.add(farmMap);
             }
             
-            log.info("=== SUCCESS: Converted {} farms for farmer userId: {} ===", farmMaps.size(), farmerUserId);
-            // Log first farm details for verification
-            if (!farmMaps.isEmpty()) {
-                Map<String, Object> firstFarm = farmMaps.get(0);
-                log.info("Sample farm data - farmId: {}, farmName: {}, pincode: {}, all keys: {}", 
-                        firstFarm.get("farmId"), firstFarm.get("farmName"), firstFarm.get("pincode"), 
-                        firstFarm.keySet());
-            }
-            
-            log.info("Converted {} farms to map format for farmer userId: {}", farmMaps.size(), farmerUserId);
+            log.debug("Fetched {} farms for farmer userId: {}", farmMaps.size(), farmerUserId);
             return farmMaps;
             
         } catch (Exception e) {
             // Log error but return empty list to avoid breaking the suggestions endpoint
-            log.error("EXCEPTION in fetchFarmerFarms for farmer userId {}: {}", farmerUserId, e.getMessage(), e);
-            log.error("Exception type: {}, Cause: {}", e.getClass().getName(), e.getCause());
-            if (e.getStackTrace() != null && e.getStackTrace().length > 0) {
-                log.error("Exception at: {}", e.getStackTrace()[0]);
-            }
+            log.error("Failed to fetch farms for farmer userId {}: {}", farmerUserId, e.getMessage());
             return Collections.emptyList();
         }
     }
 
-    private Map<String, Object> fetchUserDetails(Long userId) {
-        try {
-            return webClientBuilder.build()
-                    .get()
-                    .uri(authServiceUrl + "/auth/user/{userId}", userId)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .block();
-        } catch (Exception e) {
-            log.warn("Failed to fetch user details for userId {}: {}", userId, e.getMessage());
-            return new HashMap<>();
+    /**
+     * Assignment entry of the field officer task list, with the farms of the farmer that it covers
+     * (only the assigned farm for a farm-specific assignment).
+     *
+     * @param farmer farmer-service farmer with farms, or null if unknown
+     * @param verificationStatuses this officer's verification status by farm ID
+     */
+    static FieldOfficerAssignmentDto toTaskAssignment(FieldOfficerAssignment assignment, Map<String, Object> farmer,
+                                                      Map<String, Object> farmerUserDetails,
+                                                      Map<Long, FarmVerification.VerificationStatus> verificationStatuses) {
+        String farmerName = farmer != null ? (String) farmer.get("fullName") : null;
+        if (farmerName == null || farmerName.isBlank()) {
+            farmerName = (String) farmerUserDetails.getOrDefault("username", "Unknown Farmer");
         }
+
+        List<Map<String, Object>> farms = new ArrayList<>();
+        for (Map<String, Object> farm : FarmerServiceClient.farmsOf(farmer)) {
+            Long farmId = farmIdOf(farm);
+            // A farm-specific assignment shows only that farm
+            if (assignment.getFarmId() != null && !assignment.getFarmId().equals(farmId)) {
+                continue;
+            }
+            farms.add(toTaskFarm(farm, farmerName, assignment.getId(), verificationStatuses.get(farmId)));
+        }
+
+        return FieldOfficerAssignmentDto.builder()
+                .assignmentId(assignment.getId())
+                .farmerUserId(assignment.getFarmerUserId())
+                .status(assignment.getStatus().name())
+                .notes(assignment.getNotes())
+                .assignedAt(assignment.getAssignedAt())
+                .assignedByUserId(assignment.getAssignedByUserId())
+                .farmerName(farmerName)
+                .farmerPhoneNumber((String) farmerUserDetails.getOrDefault("phoneNumber", ""))
+                .farms(farms)
+                .build();
     }
 
-    private Map<Long, Map<String, Object>> fetchUserDetailsBatch(List<Long> userIds) {
-        Map<Long, Map<String, Object>> userMap = new HashMap<>();
-        
-        for (Long userId : userIds) {
-            try {
-                Map<String, Object> userDetails = fetchUserDetails(userId);
-                userMap.put(userId, userDetails);
-            } catch (Exception e) {
-                log.warn("Failed to fetch user details for userId {}: {}", userId, e.getMessage());
-            }
+    /**
+     * Farm entry of the field officer task list: the farmer-service farm plus location, farmer name,
+     * assignment and this officer's verification status (PENDING when not verified yet).
+     */
+    static Map<String, Object> toTaskFarm(Map<String, Object> farm, String farmerName, Long assignmentId,
+                                          FarmVerification.VerificationStatus verificationStatus) {
+        Map<String, Object> taskFarm = new HashMap<>(farm);
+        String location = String.format("%s, %s, %s - %s",
+                farm.getOrDefault("village", ""),
+                farm.getOrDefault("district", ""),
+                farm.getOrDefault("state", ""),
+                farm.getOrDefault("pincode", ""));
+        taskFarm.put("location", location.trim());
+        taskFarm.put("farmerName", farmerName);
+        taskFarm.put("status", verificationStatus != null ? verificationStatus.name() : "PENDING");
+        taskFarm.put("isVerified", FieldOfficerWorkloadService.isFinal(verificationStatus));
+        taskFarm.put("assignmentId", assignmentId);
+        if (!taskFarm.containsKey("farmId") && taskFarm.containsKey("id")) {
+            taskFarm.put("farmId", taskFarm.get("id"));
+        }
+        return taskFarm;
+    }
+
+    /**
+     * Fetch a farmer and their farms from farmer-service's internal lookup by userId.
+     * Returns null when farmer-service has no farmer for this userId.
+     */
+    private Map<String, Object> fetchFarmerWithFarms(Long farmerUserId) {
+        Map<String, Object> response = webClientBuilder.build()
+                .get()
+                .uri(farmerServiceUrl + "/internal/farmers/by-user/{userId}", farmerUserId)
+                .retrieve()
+                // 404 means "no such farmer" - handle it as a normal response with empty data
+                .onStatus(status -> status.value() == 404, clientResponse -> Mono.empty())
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .block();
+        
+        if (response == null || !(response.get("data") instanceof Map)) {
+            return null;
         }
         
-        return userMap;
+        @SuppressWarnings("unchecked")
+        Map<String, Object> farmer = (Map<String, Object>) response.get("data");
+        return farmer;
     }
 
-    private String buildFullName(String firstName, String lastName) {
-        String fn = firstName != null ? firstName : "";
-        String ln = lastName != null ? lastName : "";
-        return (fn + " " + ln).trim();
+    static Long farmIdOf(Map<String, Object> farm) {
+        Object farmIdObj = farm.get("farmId");
+        if (farmIdObj == null) {
+            farmIdObj = farm.get("id");
+        }
+        if (farmIdObj instanceof Number) {
+            return ((Number) farmIdObj).longValue();
+        }
+        try {
+            return farmIdObj != null ? Long.parseLong(farmIdObj.toString()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     /**
-     * Count the number of farms assigned to a field officer.
-     * Only counts assignments with farmId (not null) and status != CANCELLED.
-     * This matches the logic used in FieldOfficerService for consistency.
+     * Farm pincode as a trimmed string (farmer-service may send it as a number), or null if missing.
      */
-    private Integer countAssignedFarms(Long fieldOfficerId) {
-        try {
-            List<FieldOfficerAssignment> assignments = assignmentRepository.findByFieldOfficerId(
-                    fieldOfficerId, 
-                    PageRequest.of(0, 10000)
-            ).getContent();
-            
-            // Count only assignments with farmId (specific farm assignments) and status != CANCELLED
-            long count = assignments.stream()
-                    .filter(assignment -> 
-                            assignment.getFarmId() != null && 
-                            assignment.getStatus() != FieldOfficerAssignment.AssignmentStatus.CANCELLED
-                    )
-                    .count();
-            
-            return (int) count;
-        } catch (Exception e) {
-            log.warn("Failed to count assigned farms for field officer ID {}: {}", fieldOfficerId, e.getMessage());
-            return 0;
+    private String farmPincode(Map<String, Object> farm) {
+        Object pincodeObj = farm.get("pincode");
+        if (pincodeObj == null) {
+            return null;
         }
+        String pincode = pincodeObj.toString().trim();
+        return pincode.isEmpty() ? null : pincode;
     }
-}
 
+    private String buildFullName(String firstName, String lastName) {
+        String fn = firstName != null ? firstName : "";
+        String ln = lastName != null ? lastName : "";
+        return (fn + " " + ln).trim();
+    }
+}
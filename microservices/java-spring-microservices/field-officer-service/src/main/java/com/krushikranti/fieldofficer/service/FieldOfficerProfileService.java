@@ -4,10 +4,7 @@ import com.krushikranti.fieldofficer.model.FieldOfficer;
 import com.krushikranti.fieldofficer.repository.FieldOfficerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -21,10 +18,7 @@ import java.util.Map;
 public class FieldOfficerProfileService {
 
     private final FieldOfficerRepository fieldOfficerRepository;
-    private final WebClient.Builder webClientBuilder;
-
-    @Value("${services.auth-service.url:http://localhost:4005}")
-    private String authServiceUrl;
+    private final AuthServiceClient authServiceClient;
 
     /**
      * Get field officer profile by userId
@@ -44,7 +38,7 @@ public class FieldOfficerProfileService {
                 fieldOfficer.getFirstName(), fieldOfficer.getLastName(), fieldOfficer.getId());
 
         // Step 2: Get user details from auth-service (username, email, phoneNumber)
-        Map<String, Object> userDetails = fetchUserDetails(userId);
+        Map<String, Object> userDetails = authServiceClient.getUserDetails(userId);
         log.info("Fetched user details from auth-service: {}", userDetails);
 
         // Step 3: Combine both into a single response
@@ -79,45 +73,4 @@ public class FieldOfficerProfileService {
                 profile.get("email"), profile.get("phoneNumber"), profile.get("username"));
         return profile;
     }
-
-    private Map<String, Object> fetchUserDetails(Long userId) {
-        try {
-            log.info("Calling auth-service to fetch user details for userId: {}", userId);
-            log.info("Auth service URL: {}", authServiceUrl);
-            
-            Map<String, Object> response = webClientBuilder.build()
-                    .get()
-                    .uri(authServiceUrl + "/auth/user/{userId}", userId)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .block();
-            
-            log.info("Received response from auth-service: {}", response);
-            
-            if (response == null) {
-                log.warn("Received null response from auth-service for userId: {}", userId);
-                return new HashMap<>();
-            }
-            
-            // The response is a UserInfo object with fields: id, username, email, phoneNumber, role, isVerified
-            // Map it to our expected format
-            Map<String, Object> userDetails = new HashMap<>();
-            userDetails.put("username", response.getOrDefault("username", ""));
-            userDetails.put("email", response.getOrDefault("email", ""));
-            userDetails.put("phoneNumber", response.getOrDefault("phoneNumber", ""));
-            
-            log.info("Extracted user details: username={}, email={}, phoneNumber={}", 
-                    userDetails.get("username"), userDetails.get("email"), userDetails.get("phoneNumber"));
-            
-            return userDetails;
-        } catch (org.springframework.web.reactive.function.client.WebClientResponseException e) {
-            log.error("WebClient error fetching user details for userId {}: Status={}, Body={}", 
-                    userId, e.getStatusCode(), e.getResponseBodyAsString());
-            return new HashMap<>();
-        } catch (Exception e) {
-            log.error("Failed to fetch user details for userId {}: {}", userId, e.getMessage(), e);
-            return new HashMap<>();
-        }
-    }
 }
-
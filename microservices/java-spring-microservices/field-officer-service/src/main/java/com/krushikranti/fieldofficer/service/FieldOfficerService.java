@@ -3,9 +3,7 @@ package com.krushikranti.fieldofficer.service;
 import com.krushikranti.fieldofficer.dto.CreateFieldOfficerRequest;
 import com.krushikranti.fieldofficer.dto.FieldOfficerSummaryDto;
 import com.krushikranti.fieldofficer.model.FieldOfficer;
-import com.krushikranti.fieldofficer.model.FieldOfficerAssignment;
 import com.krushikranti.fieldofficer.repository.FieldOfficerRepository;
-import com.krushikranti.fieldofficer.repository.FieldOfficerAssignmentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,8 +30,9 @@ import java.util.stream.Collectors;
 public class FieldOfficerService {
 
     private final FieldOfficerRepository fieldOfficerRepository;
-    private final FieldOfficerAssignmentRepository assignmentRepository;
     private final WebClient.Builder webClientBuilder;
+    private final AuthServiceClient authServiceClient;
+    private final FieldOfficerSuggestionEngine suggestionEngine;
 
     @Value("${services.auth-service.url:http://localhost:4005}")
     private String authServiceUrl;
@@ -66,14 +65,12 @@ public class FieldOfficerService {
         
         FieldOfficer saved = fieldOfficerRepository.save(fieldOfficer);
         log.info("Field officer created: {} (ID: {})", saved.getId(), userId);
+        suggestionEngine.invalidateAfterCommit();
         
         // Fetch user details to build summary
-        Map<String, Object> userDetails = fetchUserDetails(userId);
+        Map<String, Object> userDetails = authServiceClient.getUserDetails(userId);
         
-        // Count assigned farms (initially 0 for new field officer)
-        Integer assignedFarmsCount = countAssignedFarms(saved.getId());
-        
-        return buildSummaryDto(saved, userDetails, assignedFarmsCount);
+        return buildSummaryDto(saved, userDetails);
     }
 
     /**
@@ -97,20 +94,12 @@ public class FieldOfficerService {
                 .collect(Collectors.toList());
 
         // Fetch user details (username, email, phone) from auth service
-        Map<Long, Map<String, Object>> userMap = fetchUserDetailsBatch(userIds);
-
-        // Fetch assignment counts for all field officers
-        Map<Long, Integer> assignmentCountMap = fieldOfficerPage.getContent().stream()
-                .collect(Collectors.toMap(
-                        FieldOfficer::getId,
-                        fo -> countAssignedFarms(fo.getId())
-                ));
+        Map<Long, Map<String, Object>> userMap = authServiceClient.getUserDetailsBatch(userIds);
 
         List<FieldOfficerSummaryDto> summaries = fieldOfficerPage.getContent().stream()
                 .map(fo -> {
                     Map<String, Object> userDetails = userMap.getOrDefault(fo.getUserId(), new HashMap<>());
-                    Integer assignedFarmsCount = assignmentCountMap.getOrDefault(fo.getId(), 0);
-                    return buildSummaryDto(fo, userDetails, assignedFarmsCount);
+                    return buildSummaryDto(fo, userDetails);
                 })
                 .collect(Collectors.toList());
         
@@ -189,36 +178,10 @@ public class FieldOfficerService {
         }
     }
 
-    private Map<String, Object> fetchUserDetails(Long userId) {
-        try {
-            return webClientBuilder.build()
-                    .get()
-                    .uri(authServiceUrl + "/auth/user/{userId}", userId)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .block();
-        } catch (Exception e) {
-            log.warn("Failed to fetch user details for userId {}: {}", userId, e.getMessage());
-            return new HashMap<>();
-        }
-    }
-
-    private Map<Long, Map<String, Object>> fetchUserDetailsBatch(List<Long> userIds) {
-        Map<Long, Map<String, Object>> userMap = new HashMap<>();
-        
-        for (Long userId : userIds) {
-            try {
-                Map<String, Object> userDetails = fetchUserDetails(userId);
-                userMap.put(userId, userDetails);
-            } catch (Exception e) {
-                log.warn("Failed to fetch user details for userId {}: {}", userId, e.getMessage());
-            }
-        }
-        
-        return userMap;
-    }
-
-    private FieldOfficerSummaryDto buildSummaryDto(FieldOfficer fieldOfficer, Map<String, Object> userDetails, Integer assignedFarmsCount) {
+    /**
+     * Workload counts come from the counters stored on the field officer row.
+     */
+    private FieldOfficerSummaryDto buildSummaryDto(FieldOfficer fieldOfficer, Map<String, Object> userDetails) {
         String fullName = buildFullName(fieldOfficer.getFirstName(), fieldOfficer.getLastName());
         
         // Log pincode retrieval to verify it's being fetched from database
@@ -238,43 +201,20 @@ public class FieldOfficerService {
                 .district(fieldOfficer.getDistrict())
                 .state(fieldOfficer.getState())
                 .isActive(fieldOfficer.getIsActive())
-                .assignedFarmsCount(assignedFarmsCount)
+                .assignedFarmsCount(fieldOfficer.getActiveFarmsCount())
+                .pendingFarmsCount(fieldOfficer.getPendingFarmsCount())
+                .completedFarmsCount(fieldOfficer.getCompletedFarmsCount())
+                .verifiedFarmsCount(fieldOfficer.getVerifiedFarmsCount())
                 .createdAt(fieldOfficer.getCreatedAt())
                 .lastUpdatedAt(fieldOfficer.getUpdatedAt())
                 .build();
         
         log.info("DTO created - FieldOfficerId: {}, Pincode in DTO: {}, Assigned Farms: {}", 
-                dto.getFieldOfficerId(), dto.getPincode() != null ? dto.getPincode() : "NULL", assignedFarmsCount);
+                dto.getFieldOfficerId(), dto.getPincode() != null ? dto.getPincode() : "NULL", dto.getAssignedFarmsCount());
         
         return dto;
     }
 
-    /**
-     * Count the number of farms assigned to a field officer.
-     * Only counts assignments with farmId (not null) and status != CANCELLED.
-     */
-    private Integer countAssignedFarms(Long fieldOfficerId) {
-        try {
-            List<FieldOfficerAssignment> assignments = assignmentRepository.findByFieldOfficerId(
-                    fieldOfficerId, 
-                    org.springframework.data.domain.PageRequest.of(0, 10000)
-            ).getContent();
-            
-            // Count only assignments with farmId (specific farm assignments) and status != CANCELLED
-            long count = assignments.stream()
-                    .filter(assignment -> 
-                            assignment.getFarmId() != null && 
-                            assignment.getStatus() != FieldOfficerAssignment.AssignmentStatus.CANCELLED
-                    )
-                    .count();
-            
-            return (int) count;
-        } catch (Exception e) {
-            log.warn("Failed to count assigned farms for field officer ID {}: {}", fieldOfficerId, e.getMessage());
-            return 0;
-        }
-    }
-
     private String buildFullName(String firstName, String lastName) {
         String fn = firstName != null ? firstName : "";
         String ln = lastName != null ? lastName : "";
@@ -0,0 +1,334 @@
+package com.krushikranti.fieldofficer.service;
+
+import com.krushikranti.fieldofficer.dto.PincodeCentroidRequest;
+import com.krushikranti.fieldofficer.model.FieldOfficer;
+import com.krushikranti.fieldofficer.model.PincodeCentroid;
+import com.krushikranti.fieldofficer.repository.FarmVerificationRepository;
+import com.krushikranti.fieldofficer.repository.FieldOfficerRepository;
+import com.krushikranti.fieldofficer.repository.PincodeCentroidRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Ranks field officers for a set of farms by distance and current workload.
+ *
+ * <p>Locations are approximate: a farm is placed at the centroid of its pincode, and an officer at the
+ * centroid of their own pincode or, when that is unknown, at the mean of their verification GPS points.
+ * A pincode without a centroid falls back to the mean of the known centroids sharing its first three
+ * (then two) digits, which in the Indian pincode scheme roughly means the same sorting district (region).
+ *
+ * <p>Officer locations are kept in an in-memory {@link OfficerSpatialIndex} that is rebuilt at most every
+ * {@code suggestions.index.refresh-interval}, or on the next request after {@link #invalidate()}.
+ * Only the nearest candidates are then loaded from the database, so workload counts are always current.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FieldOfficerSuggestionEngine {
+
+    private final FieldOfficerRepository fieldOfficerRepository;
+    private final FarmVerificationRepository verificationRepository;
+    private final PincodeCentroidRepository centroidRepository;
+
+    @Value("${suggestions.index.refresh-interval:PT10M}")
+    private Duration refreshInterval = Duration.ofMinutes(10);
+
+    @Value("${suggestions.index.cell-degrees:0.25}")
+    private double cellDegrees = 0.25;
+
+    @Value("${suggestions.max-radius-km:150}")
+    private double maxRadiusKm = 150;
+
+    /** Distance at which the proximity part of the score drops to one half. */
+    @Value("${suggestions.distance-half-km:25}")
+    private double distanceHalfKm = 25;
+
+    /** Pending farm count at which the workload part of the score drops to one half. */
+    @Value("${suggestions.workload-half:10}")
+    private double workloadHalf = 10;
+
+    /** Share of the score given to proximity; the rest goes to workload. */
+    @Value("${suggestions.distance-weight:0.7}")
+    private double distanceWeight = 0.7;
+
+    /** Number of verification GPS points a seeded centroid counts as in the pincode's running mean. */
+    @Value("${suggestions.centroid-seed-weight:20}")
+    private int centroidSeedWeight = 20;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * A suggested officer. distanceKm is null when the farms or the officer could not be located.
+     */
+    public record RankedOfficer(FieldOfficer officer, Double distanceKm, double score) {
+    }
+
+    /**
+     * Rank active field officers for the given farm pincodes, best first. Officers whose own pincode
+     * matches a farm's are always candidates, at distance 0. Falls back to the least loaded active
+     * officers when no farm can be located or nobody is within {@code suggestions.max-radius-km}.
+     */
+    public List<RankedOfficer> rank(List<String> farmPincodes, int limit) {
+        Snapshot current = current();
+
+        List<double[]> targets = new ArrayList<>();
+        for (String pincode : farmPincodes) {
+            current.locate(pincode).ifPresent(targets::add);
+        }
+
+        // Nearest candidates per farm; an officer's distance is to the closest farm
+        int candidateLimit = Math.max(limit * 5, 50);
+        Map<Long, Double> distances = new LinkedHashMap<>();
+        for (double[] target : targets) {
+            for (OfficerSpatialIndex.Hit hit : current.index().nearest(target[0], target[1], maxRadiusKm, candidateLimit)) {
+                distances.merge(hit.officerId(), hit.distanceKm(), Math::min);
+            }
+        }
+
+        // Officers in a farm's own pincode are at distance 0 even when the pincode has no centroid yet
+        // (e.g. right after deployment); this lookup is live, so it also sees officers added since the last rebuild
+        List<String> exactPincodes = farmPincodes.stream()
+                .filter(pincode -> pincode != null && !pincode.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        if (!exactPincodes.isEmpty()) {
+            for (FieldOfficer officer : fieldOfficerRepository.findByPincodeInAndIsActiveTrue(exactPincodes)) {
+                distances.put(officer.getId(), 0.0);
+            }
+        }
+
+        if (distances.isEmpty()) {
+            log.debug("No located officers near pincodes {}, suggesting least loaded officers", farmPincodes);
+            return leastLoaded(limit);
+        }
+
+        List<RankedOfficer> ranked = new ArrayList<>();
+        for (FieldOfficer officer : fieldOfficerRepository.findAllById(distances.keySet())) {
+            if (!Boolean.TRUE.equals(officer.getIsActive())) {
+                continue;
+            }
+            double distance = distances.get(officer.getId());
+            double proximity = 1 / (1 + distance / distanceHalfKm);
+            ranked.add(new RankedOfficer(officer, distance,
+                    distanceWeight * proximity + (1 - distanceWeight) * workloadScore(officer)));
+        }
+        ranked.sort(Comparator.comparingDouble(RankedOfficer::score).reversed()
+                .thenComparing(r -> r.officer().getId()));
+        return ranked.size() > limit ? ranked.subList(0, limit) : ranked;
+    }
+
+    /**
+     * Save seeded pincode centroids, replacing existing ones. A seed counts as
+     * {@code suggestions.centroid-seed-weight} samples, so a single mis-placed farm pin cannot move
+     * the pincode; verified farms shift it gradually. The index is rebuilt on the next request after
+     * the transaction commits.
+     *
+     * @return number of centroids saved
+     */
+    @Transactional
+    public int saveCentroids(List<PincodeCentroidRequest.Centroid> centroids) {
+        List<PincodeCentroid> entities = centroids.stream()
+                .map(c -> PincodeCentroid.builder()
+                        .pincode(c.getPincode())
+                        .latitude(c.getLatitude())
+                        .longitude(c.getLongitude())
+                        .sampleCount(centroidSeedWeight)
+                        .build())
+                .toList();
+        centroidRepository.saveAll(entities);
+        invalidateAfterCommit();
+        log.info("Saved {} pincode centroids", entities.size());
+        return entities.size();
+    }
+
+    /**
+     * Record the GPS point of a verified farm in its pincode's centroid.
+     */
+    @Transactional
+    public void recordFarmLocation(String pincode, double latitude, double longitude) {
+        centroidRepository.recordSample(pincode, latitude, longitude);
+    }
+
+    /**
+     * Make the next request rebuild the officer index, e.g. after an officer was created, moved to
+     * another pincode or deactivated.
+     */
+    public void invalidate() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            snapshot = new Snapshot(current.index(), current.centroids(), current.regionCentroids(), Instant.EPOCH);
+        }
+    }
+
+    /**
+     * Like {@link #invalidate()}, but waits for the current transaction (if any) to commit so the
+     * rebuild sees its changes.
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Failed to build field officer index, it will be built on first request: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reload pincode centroids and officer locations.
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+
+        Map<String, double[]> centroids = new HashMap<>();
+        for (PincodeCentroid centroid : centroidRepository.findAll()) {
+            centroids.put(centroid.getPincode(), new double[]{centroid.getLatitude(), centroid.getLongitude()});
+        }
+        Map<String, double[]> regionCentroids = regionCentroids(centroids);
+
+        Map<Long, double[]> verificationMeans = new HashMap<>();
+        for (Object[] row : verificationRepository.findMeanLocationByFieldOfficer()) {
+            verificationMeans.put(((Number) row[0]).longValue(),
+                    new double[]{((Number) row[1]).doubleValue(), ((Number) row[2]).doubleValue()});
+        }
+
+        List<OfficerSpatialIndex.Point> points = new ArrayList<>();
+        int unlocated = 0;
+        for (Object[] row : fieldOfficerRepository.findActivePincodes()) {
+            long officerId = ((Number) row[0]).longValue();
+            String pincode = (String) row[1];
+            double[] location = pincode != null ? centroids.get(pincode.trim()) : null;
+            if (location == null) {
+                location = verificationMeans.get(officerId);
+            }
+            if (location == null) {
+                location = regionLocation(pincode, regionCentroids).orElse(null);
+            }
+            if (location == null) {
+                unlocated++;
+                continue;
+            }
+            points.add(new OfficerSpatialIndex.Point(officerId, location[0], location[1]));
+        }
+
+        this.snapshot = new Snapshot(OfficerSpatialIndex.build(points, cellDegrees), centroids, regionCentroids,
+                Instant.now());
+        log.info("Field officer index built: {} officers located, {} without location, {} pincode centroids in {} ms",
+                points.size(), unlocated, centroids.size(), System.currentTimeMillis() - start);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            return snapshot;
+        }
+        if (current.loadedAt().plus(refreshInterval).isBefore(Instant.now()) && refreshing.compareAndSet(false, true)) {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("Field officer index refresh failed, using previous index: {}", e.getMessage());
+            } finally {
+                refreshing.set(false);
+            }
+            return snapshot;
+        }
+        return current;
+    }
+
+    private List<RankedOfficer> leastLoaded(int limit) {
+        PageRequest page = PageRequest.of(0, limit,
+                Sort.by("pendingFarmsCount", "activeFarmsCount", "id"));
+        return fieldOfficerRepository.findByIsActive(true, page).getContent().stream()
+                .map(officer -> new RankedOfficer(officer, null, (1 - distanceWeight) * workloadScore(officer)))
+                .toList();
+    }
+
+    private double workloadScore(FieldOfficer officer) {
+        int pending = officer.getPendingFarmsCount() != null ? officer.getPendingFarmsCount() : 0;
+        return 1 / (1 + pending / workloadHalf);
+    }
+
+    /**
+     * Mean centroid per 3-digit and 2-digit pincode prefix.
+     */
+    private static Map<String, double[]> regionCentroids(Map<String, double[]> centroids) {
+        Map<String, double[]> sums = new HashMap<>();
+        centroids.forEach((pincode, location) -> {
+            for (int length = 2; length <= 3 && length < pincode.length(); length++) {
+                double[] sum = sums.computeIfAbsent(pincode.substring(0, length), prefix -> new double[3]);
+                sum[0] += location[0];
+                sum[1] += location[1];
+                sum[2]++;
+            }
+        });
+        Map<String, double[]> regions = new HashMap<>(sums.size() * 2);
+        sums.forEach((prefix, sum) -> regions.put(prefix, new double[]{sum[0] / sum[2], sum[1] / sum[2]}));
+        return regions;
+    }
+
+    private static Optional<double[]> regionLocation(String pincode, Map<String, double[]> regionCentroids) {
+        if (pincode == null) {
+            return Optional.empty();
+        }
+        String trimmed = pincode.trim();
+        for (int length = 3; length >= 2; length--) {
+            if (trimmed.length() > length) {
+                double[] location = regionCentroids.get(trimmed.substring(0, length));
+                if (location != null) {
+                    return Optional.of(location);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private record Snapshot(OfficerSpatialIndex index, Map<String, double[]> centroids,
+                            Map<String, double[]> regionCentroids, Instant loadedAt) {
+
+        Optional<double[]> locate(String pincode) {
+            if (pincode == null || pincode.isBlank()) {
+                return Optional.empty();
+            }
+            double[] exact = centroids.get(pincode.trim());
+            return exact != null ? Optional.of(exact) : regionLocation(pincode, regionCentroids);
+        }
+    }
+}
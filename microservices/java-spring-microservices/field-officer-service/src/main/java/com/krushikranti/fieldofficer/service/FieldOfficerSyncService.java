@@ -0,0 +1,201 @@
+package com.krushikranti.fieldofficer.service;
+
+import com.krushikranti.fieldofficer.dto.FieldOfficerAssignmentDto;
+import com.krushikranti.fieldofficer.dto.FieldOfficerSyncDto;
+import com.krushikranti.fieldofficer.model.FarmVerification;
+import com.krushikranti.fieldofficer.model.FieldOfficer;
+import com.krushikranti.fieldofficer.model.FieldOfficerAssignment;
+import com.krushikranti.fieldofficer.repository.FarmVerificationRepository;
+import com.krushikranti.fieldofficer.repository.FieldOfficerAssignmentRepository;
+import com.krushikranti.fieldofficer.repository.FieldOfficerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Delta sync of the field officer app's assignment list.
+ *
+ * <p>The change token carries the time the previous sync started. A sync returns the assignments and
+ * verifications updated after that time, and the farms farmer-service reports as changed after it, each
+ * built only for what changed. Rows are timestamped before their transaction commits, so the window
+ * starts {@code sync.overlap} earlier to pick up late commits; the app applies everything as upserts,
+ * so records re-sent from the overlap are harmless.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FieldOfficerSyncService {
+
+    private static final String TOKEN_VERSION = "v1:";
+
+    private final FieldOfficerRepository fieldOfficerRepository;
+    private final FieldOfficerAssignmentRepository assignmentRepository;
+    private final FarmVerificationRepository verificationRepository;
+    private final AuthServiceClient authServiceClient;
+    private final FarmerServiceClient farmerServiceClient;
+
+    @Value("${sync.overlap:PT30S}")
+    private Duration overlap = Duration.ofSeconds(30);
+
+    /**
+     * Get what changed for a field officer since the given change token.
+     *
+     * @param changeToken token from the previous sync, or null for a full sync
+     */
+    public FieldOfficerSyncDto sync(Long fieldOfficerUserId, String changeToken) {
+        long start = System.currentTimeMillis();
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+
+        FieldOfficer fieldOfficer = fieldOfficerRepository.findByUserId(fieldOfficerUserId)
+                .orElseThrow(() -> new IllegalArgumentException("Field officer not found with userId: " + fieldOfficerUserId));
+        Long fieldOfficerId = fieldOfficer.getId();
+
+        LocalDateTime since = decodeToken(changeToken)
+                .map(tokenTime -> tokenTime.minus(overlap))
+                .orElse(null);
+        boolean fullSync = since == null;
+
+        List<FieldOfficerAssignment> active = assignmentRepository.findByFieldOfficerIdAndStatusNot(
+                fieldOfficerId, FieldOfficerAssignment.AssignmentStatus.CANCELLED);
+
+        // Changed assignments are sent with all their farms; for the others only changed farms are needed
+        Set<Long> changedFarmerIds = new LinkedHashSet<>();
+        Set<Long> otherFarmerIds = new LinkedHashSet<>();
+        for (FieldOfficerAssignment assignment : active) {
+            if (fullSync || isChangedSince(assignment, since)) {
+                changedFarmerIds.add(assignment.getFarmerUserId());
+            } else {
+                otherFarmerIds.add(assignment.getFarmerUserId());
+            }
+        }
+        otherFarmerIds.removeAll(changedFarmerIds);
+
+        Map<Long, Map<String, Object>> farmers = new HashMap<>();
+        if (!changedFarmerIds.isEmpty()) {
+            farmers.putAll(farmerServiceClient.getFarmersWithFarms(changedFarmerIds));
+        }
+        if (!otherFarmerIds.isEmpty()) {
+            farmers.putAll(farmerServiceClient.getFarmersWithFarms(otherFarmerIds, since));
+        }
+
+        Set<Long> farmerIdsToSend = new LinkedHashSet<>(changedFarmerIds);
+        farmerIdsToSend.addAll(farmers.keySet());
+        Map<Long, Map<String, Object>> userDetails = farmerIdsToSend.isEmpty()
+                ? Map.of()
+                : authServiceClient.getUserDetailsBatch(farmerIdsToSend);
+        Map<Long, FarmVerification.VerificationStatus> verificationStatuses = verificationStatuses(fieldOfficerId, farmers);
+
+        List<FieldOfficerAssignmentDto> assignments = new ArrayList<>();
+        List<Long> removedFarmIds = new ArrayList<>();
+        for (FieldOfficerAssignment assignment : active) {
+            Map<String, Object> farmer = farmers.get(assignment.getFarmerUserId());
+            boolean changed = fullSync || isChangedSince(assignment, since);
+            if (!changed && farmer == null) {
+                continue;
+            }
+
+            FieldOfficerAssignmentDto dto = FieldOfficerAssignmentService.toTaskAssignment(assignment, farmer,
+                    userDetails.getOrDefault(assignment.getFarmerUserId(), Map.of()), verificationStatuses);
+            // Farms deleted by the farmer are tombstones, not entries
+            dto.getFarms().removeIf(farm -> {
+                if (Boolean.FALSE.equals(farm.get("isActive"))) {
+                    removedFarmIds.add(FieldOfficerAssignmentService.farmIdOf(farm));
+                    return true;
+                }
+                return false;
+            });
+            if (changed || !dto.getFarms().isEmpty()) {
+                assignments.add(dto);
+            }
+        }
+
+        List<Long> removedAssignmentIds = new ArrayList<>();
+        List<FieldOfficerSyncDto.VerificationChange> verifications = new ArrayList<>();
+        if (!fullSync) {
+            assignmentRepository.findByFieldOfficerIdAndStatusAndUpdatedAtAfter(
+                            fieldOfficerId, FieldOfficerAssignment.AssignmentStatus.CANCELLED, since)
+                    .forEach(assignment -> removedAssignmentIds.add(assignment.getId()));
+            verificationRepository.findByFieldOfficerIdAndUpdatedAtAfter(fieldOfficerId, since)
+                    .forEach(verification -> verifications.add(FieldOfficerSyncDto.VerificationChange.builder()
+                            .farmId(verification.getFarmId())
+                            .status(verification.getVerificationStatus().name())
+                            .isVerified(FieldOfficerWorkloadService.isFinal(verification.getVerificationStatus()))
+                            .verifiedAt(verification.getVerifiedAt())
+                            .updatedAt(verification.getUpdatedAt())
+                            .build()));
+        }
+
+        log.info("Sync for field officer userId {} (full={}): {} assignments, {} verifications, {} removed assignments, " +
+                        "{} removed farms in {} ms",
+                fieldOfficerUserId, fullSync, assignments.size(), verifications.size(), removedAssignmentIds.size(),
+                removedFarmIds.size(), System.currentTimeMillis() - start);
+
+        return FieldOfficerSyncDto.builder()
+                .changeToken(encodeToken(syncStartedAt))
+                .fullSync(fullSync)
+                .assignments(assignments)
+                .verifications(verifications)
+                .removedAssignmentIds(removedAssignmentIds)
+                .removedFarmIds(removedFarmIds)
+                .build();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Map<Long, FarmVerification.VerificationStatus> verificationStatuses(Long fieldOfficerId,
+                                                                             Map<Long, Map<String, Object>> farmers) {
+        Set<Long> farmIds = new HashSet<>();
+        for (Map<String, Object> farmer : farmers.values()) {
+            for (Map<String, Object> farm : FarmerServiceClient.farmsOf(farmer)) {
+                Long farmId = FieldOfficerAssignmentService.farmIdOf(farm);
+                if (farmId != null) {
+                    farmIds.add(farmId);
+                }
+            }
+        }
+
+        Map<Long, FarmVerification.VerificationStatus> statuses = new HashMap<>();
+        if (!farmIds.isEmpty()) {
+            verificationRepository.findByFieldOfficerIdAndFarmIdIn(fieldOfficerId, farmIds)
+                    .forEach(v -> statuses.put(v.getFarmId(), v.getVerificationStatus()));
+        }
+        return statuses;
+    }
+
+    private static boolean isChangedSince(FieldOfficerAssignment assignment, LocalDateTime since) {
+        return assignment.getUpdatedAt() == null || assignment.getUpdatedAt().isAfter(since);
+    }
+
+    static String encodeToken(LocalDateTime time) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_VERSION + time).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the time carried by the token, or empty (full sync) if the token is missing or unusable
+     */
+    static Optional<LocalDateTime> decodeToken(String changeToken) {
+        if (changeToken == null || changeToken.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(changeToken.trim()), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(TOKEN_VERSION)) {
+                return Optional.empty();
+            }
+            LocalDateTime time = LocalDateTime.parse(decoded.substring(TOKEN_VERSION.length()));
+            // A token from the future (e.g. clock moved back) could skip changes
+            return time.isAfter(LocalDateTime.now()) ? Optional.empty() : Optional.of(time);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            log.debug("Ignoring unusable change token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
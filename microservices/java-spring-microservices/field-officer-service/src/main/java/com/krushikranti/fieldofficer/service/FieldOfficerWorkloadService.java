@@ -0,0 +1,111 @@
+package com.krushikranti.fieldofficer.service;
+
+import com.krushikranti.fieldofficer.model.FarmVerification;
+import com.krushikranti.fieldofficer.model.FieldOfficerAssignment;
+import com.krushikranti.fieldofficer.repository.FarmVerificationRepository;
+import com.krushikranti.fieldofficer.repository.FieldOfficerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the workload counters stored on each field officer.
+ * Every counter covers the officer's active (non-cancelled) farm assignments:
+ * - active: all of them
+ * - pending: no final verification (VERIFIED or REJECTED) yet
+ * - completed: final verification recorded
+ * - verified: verified (subset of completed)
+ *
+ * Callers invoke these methods inside the transaction that changes the assignment or
+ * verification, so the counters commit or roll back together with it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FieldOfficerWorkloadService {
+
+    private final FieldOfficerRepository fieldOfficerRepository;
+    private final FarmVerificationRepository verificationRepository;
+
+    /**
+     * Count a new farm assignment. A verification recorded by the same officer under an
+     * earlier (cancelled) assignment of this farm still counts.
+     */
+    @Transactional
+    public void onAssigned(FieldOfficerAssignment assignment) {
+        if (assignment.getFarmId() == null) {
+            return;
+        }
+        FarmVerification.VerificationStatus status = currentVerificationStatus(assignment);
+        adjust(assignment.getFieldOfficerId(), 1, status, 1);
+    }
+
+    /**
+     * Remove a cancelled farm assignment from the counters.
+     */
+    @Transactional
+    public void onCancelled(FieldOfficerAssignment assignment) {
+        if (assignment.getFarmId() == null) {
+            return;
+        }
+        FarmVerification.VerificationStatus status = currentVerificationStatus(assignment);
+        adjust(assignment.getFieldOfficerId(), -1, status, -1);
+    }
+
+    /**
+     * Move an assigned farm between pending, completed and verified after its verification changed.
+     *
+     * @param previous status before the change, or null if there was no verification
+     */
+    @Transactional
+    public void onVerificationChanged(Long fieldOfficerId, FarmVerification.VerificationStatus previous,
+                                      FarmVerification.VerificationStatus current) {
+        int wasCompleted = isFinal(previous) ? 1 : 0;
+        int nowCompleted = isFinal(current) ? 1 : 0;
+        int wasVerified = previous == FarmVerification.VerificationStatus.VERIFIED ? 1 : 0;
+        int nowVerified = current == FarmVerification.VerificationStatus.VERIFIED ? 1 : 0;
+        if (wasCompleted == nowCompleted && wasVerified == nowVerified) {
+            return;
+        }
+        fieldOfficerRepository.adjustWorkload(fieldOfficerId, 0,
+                wasCompleted - nowCompleted, nowCompleted - wasCompleted, nowVerified - wasVerified);
+    }
+
+    /**
+     * Recompute all counters from assignments and verifications.
+     *
+     * @return number of field officers updated
+     */
+    @Transactional
+    public int recount() {
+        int updated = fieldOfficerRepository.recountWorkload();
+        log.info("Recounted workload for {} field officers", updated);
+        return updated;
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Add or remove one active assignment, counted as pending or completed by its verification status.
+     */
+    private void adjust(Long fieldOfficerId, int active, FarmVerification.VerificationStatus status, int sign) {
+        boolean completed = isFinal(status);
+        boolean verified = status == FarmVerification.VerificationStatus.VERIFIED;
+        fieldOfficerRepository.adjustWorkload(fieldOfficerId, active,
+                completed ? 0 : sign,
+                completed ? sign : 0,
+                verified ? sign : 0);
+    }
+
+    private FarmVerification.VerificationStatus currentVerificationStatus(FieldOfficerAssignment assignment) {
+        return verificationRepository.findByFarmIdAndFieldOfficerId(assignment.getFarmId(), assignment.getFieldOfficerId())
+                .map(FarmVerification::getVerificationStatus)
+                .orElse(null);
+    }
+
+    static boolean isFinal(FarmVerification.VerificationStatus status) {
+        return status == FarmVerification.VerificationStatus.VERIFIED
+                || status == FarmVerification.VerificationStatus.REJECTED;
+    }
+}
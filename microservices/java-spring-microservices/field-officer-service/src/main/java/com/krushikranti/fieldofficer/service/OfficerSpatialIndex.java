@@ -0,0 +1,168 @@
+package com.krushikranti.fieldofficer.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable grid index of field officer locations for nearest-officer queries.
+ *
+ * <p>Points are bucketed into square latitude/longitude cells. A query scans rings of cells around
+ * the query point, nearest first, and stops once it has enough officers and the next ring cannot hold
+ * anything closer, or once the ring is beyond the search radius. The work per query therefore depends
+ * on the officers near the point, not on the total number of officers. Longitude does not wrap around
+ * at +/-180 degrees, which is irrelevant for Indian coordinates.
+ */
+final class OfficerSpatialIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+    /** Keeps the ring lower bound below the true great-circle distance. */
+    private static final double BOUND_SAFETY = 0.95;
+    private static final long ROW_STRIDE = 1L << 32;
+
+    record Point(long officerId, double latitude, double longitude) {
+    }
+
+    record Hit(long officerId, double distanceKm) {
+    }
+
+    private final double cellDegrees;
+    private final long[] officerIds;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final Map<Long, int[]> cells;
+
+    private OfficerSpatialIndex(double cellDegrees, long[] officerIds, double[] latitudes, double[] longitudes,
+                                Map<Long, int[]> cells) {
+        this.cellDegrees = cellDegrees;
+        this.officerIds = officerIds;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.cells = cells;
+    }
+
+    static OfficerSpatialIndex build(List<Point> points, double cellDegrees) {
+        long[] ids = new long[points.size()];
+        double[] lats = new double[points.size()];
+        double[] lons = new double[points.size()];
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+        for (int i = 0; i < points.size(); i++) {
+            Point point = points.get(i);
+            ids[i] = point.officerId();
+            lats[i] = point.latitude();
+            lons[i] = point.longitude();
+            long key = key(row(point.latitude(), cellDegrees), column(point.longitude(), cellDegrees));
+            buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+
+        Map<Long, int[]> cells = new HashMap<>(buckets.size() * 2);
+        buckets.forEach((key, members) -> cells.put(key, members.stream().mapToInt(Integer::intValue).toArray()));
+        return new OfficerSpatialIndex(cellDegrees, ids, lats, lons, cells);
+    }
+
+    int size() {
+        return officerIds.length;
+    }
+
+    /**
+     * @return up to {@code limit} officers within {@code maxKm} of the point, nearest first
+     */
+    List<Hit> nearest(double latitude, double longitude, double maxKm, int limit) {
+        if (limit <= 0 || officerIds.length == 0) {
+            return List.of();
+        }
+
+        // Max-heap on distance holding the best hits so far
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(Hit::distanceKm).reversed());
+        int centerRow = row(latitude, cellDegrees);
+        int centerColumn = column(longitude, cellDegrees);
+
+        for (int ring = 0; ; ring++) {
+            double ringBound = ringLowerBoundKm(latitude, ring);
+            if (ringBound > maxKm) {
+                break;
+            }
+            if (best.size() == limit && best.peek().distanceKm() <= ringBound) {
+                break;
+            }
+            if (ring * cellDegrees > 360) {
+                break; // The whole grid has been scanned (only reachable near the poles)
+            }
+            scanRing(centerRow, centerColumn, ring, latitude, longitude, maxKm, limit, best);
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits;
+    }
+
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void scanRing(int centerRow, int centerColumn, int ring, double latitude, double longitude,
+                          double maxKm, int limit, PriorityQueue<Hit> best) {
+        for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+            boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+            int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+            for (int column = centerColumn - ring; column <= centerColumn + ring; column += step) {
+                int[] members = cells.get(key(row, column));
+                if (members == null) {
+                    continue;
+                }
+                for (int member : members) {
+                    double distance = distanceKm(latitude, longitude, latitudes[member], longitudes[member]);
+                    if (distance > maxKm) {
+                        continue;
+                    }
+                    if (best.size() < limit) {
+                        best.add(new Hit(officerIds[member], distance));
+                    } else if (distance < best.peek().distanceKm()) {
+                        best.poll();
+                        best.add(new Hit(officerIds[member], distance));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Lower bound on the distance from the query point to any point in the given ring: such a point
+     * is at least {@code ring - 1} whole cells away in latitude or in longitude.
+     */
+    private double ringLowerBoundKm(double latitude, int ring) {
+        if (ring <= 1) {
+            return 0;
+        }
+        double cells = ring - 1;
+        double northSouth = cells * cellDegrees * KM_PER_DEGREE;
+        // Longitude degrees shrink towards the poles; use the highest latitude the ring reaches
+        double farthestLatitude = Math.min(90, Math.abs(latitude) + (ring + 1) * cellDegrees);
+        double eastWest = cells * cellDegrees * KM_PER_DEGREE * Math.cos(Math.toRadians(farthestLatitude));
+        return Math.min(northSouth, eastWest) * BOUND_SAFETY;
+    }
+
+    private static int row(double latitude, double cellDegrees) {
+        return (int) Math.floor((latitude + 90) / cellDegrees);
+    }
+
+    private static int column(double longitude, double cellDegrees) {
+        return (int) Math.floor((longitude + 180) / cellDegrees);
+    }
+
+    private static long key(int row, int column) {
+        return row * ROW_STRIDE + column;
+    }
+}
@@ -0,0 +1,18 @@
+-- Transactional outbox: events are written in the same transaction as the change they describe
+-- and relayed to Kafka afterwards, so a committed change is never lost and a rolled-back one never sent.
+CREATE TABLE IF NOT EXISTS outbox_events (
+    outbox_event_id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    event_key VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(500)
+);
+
+-- The relay only ever scans unpublished events, oldest first
+CREATE INDEX IF NOT EXISTS idx_outbox_events_unpublished
+    ON outbox_events(outbox_event_id) WHERE published_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_published_at
+    ON outbox_events(published_at) WHERE published_at IS NOT NULL;
@@ -0,0 +1,9 @@
+-- Events that keep failing are parked after events.outbox.max-attempts instead of being retried forever.
+-- A parked event stays in the table for inspection; set parked_at back to NULL to relay it again.
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS parked_at TIMESTAMP;
+
+DROP INDEX IF EXISTS idx_outbox_events_unpublished;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_unpublished
+    ON outbox_events(outbox_event_id) WHERE published_at IS NULL AND parked_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_parked_at
+    ON outbox_events(parked_at) WHERE parked_at IS NOT NULL;
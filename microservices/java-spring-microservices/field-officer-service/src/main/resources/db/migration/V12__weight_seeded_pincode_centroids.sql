@@ -0,0 +1,4 @@
+-- Seeded centroids were stored with sample_count 0, so the first verified farm GPS point replaced them
+-- outright. Give existing seeds the default suggestions.centroid-seed-weight; rows built only from
+-- verification points start at 1 and are unaffected.
+UPDATE pincode_centroids SET sample_count = 20 WHERE sample_count = 0;
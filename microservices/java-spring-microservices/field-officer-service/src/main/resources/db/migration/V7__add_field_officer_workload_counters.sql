@@ -0,0 +1,32 @@
+-- Per-officer workload counters, maintained by the service on assign, cancel and verify
+-- so officer lists and suggestions read them with the officer row instead of counting assignments.
+-- All counters cover active (non-cancelled) farm assignments:
+--   active    = all of them
+--   pending   = no final verification (VERIFIED/REJECTED) by this officer yet
+--   completed = final verification recorded
+--   verified  = verification status VERIFIED (subset of completed)
+ALTER TABLE field_officers
+ADD COLUMN IF NOT EXISTS active_farms_count INTEGER NOT NULL DEFAULT 0,
+ADD COLUMN IF NOT EXISTS pending_farms_count INTEGER NOT NULL DEFAULT 0,
+ADD COLUMN IF NOT EXISTS completed_farms_count INTEGER NOT NULL DEFAULT 0,
+ADD COLUMN IF NOT EXISTS verified_farms_count INTEGER NOT NULL DEFAULT 0;
+
+-- Backfill from existing assignments and verifications
+UPDATE field_officers fo
+SET active_farms_count = w.active,
+    pending_farms_count = w.active - w.completed,
+    completed_farms_count = w.completed,
+    verified_farms_count = w.verified
+FROM (
+    SELECT a.field_officer_id,
+           COUNT(*) AS active,
+           COUNT(*) FILTER (WHERE v.verification_status IN ('VERIFIED', 'REJECTED')) AS completed,
+           COUNT(*) FILTER (WHERE v.verification_status = 'VERIFIED') AS verified
+    FROM field_officer_assignments a
+    LEFT JOIN farm_verifications v
+           ON v.farm_id = a.farm_id AND v.field_officer_id = a.field_officer_id
+    WHERE a.farm_id IS NOT NULL AND a.status != 'CANCELLED'
+    GROUP BY a.field_officer_id
+) w
+WHERE fo.field_officer_id = w.field_officer_id;
+
@@ -0,0 +1,16 @@
+-- Approximate location of each pincode, used to rank field officers by distance.
+-- Rows are a running mean of verification GPS points of farms in the pincode and can be
+-- seeded from a pincode directory through the admin API.
+CREATE TABLE IF NOT EXISTS pincode_centroids (
+    pincode VARCHAR(6) PRIMARY KEY,
+    latitude DOUBLE PRECISION NOT NULL,
+    longitude DOUBLE PRECISION NOT NULL,
+    sample_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP
+);
+
+-- Pincode of the assigned farm, captured at assignment time so verifications can update its centroid
+ALTER TABLE field_officer_assignments
+ADD COLUMN IF NOT EXISTS farm_pincode VARCHAR(6);
+
+COMMENT ON COLUMN field_officer_assignments.farm_pincode IS 'Pincode of the farm when it was assigned (from farmer-service).';
@@ -0,0 +1,5 @@
+-- Delta sync for the field officer app reads each officer's rows changed after a point in time
+CREATE INDEX IF NOT EXISTS idx_assignments_field_officer_updated_at
+    ON field_officer_assignments(field_officer_id, updated_at);
+CREATE INDEX IF NOT EXISTS idx_verifications_field_officer_updated_at
+    ON farm_verifications(field_officer_id, updated_at);
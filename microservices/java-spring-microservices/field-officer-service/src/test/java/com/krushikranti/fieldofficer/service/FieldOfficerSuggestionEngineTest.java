@@ -0,0 +1,227 @@
+package com.krushikranti.fieldofficer.service;
+
+import com.krushikranti.fieldofficer.model.FieldOfficer;
+import com.krushikranti.fieldofficer.model.PincodeCentroid;
+import com.krushikranti.fieldofficer.repository.FarmVerificationRepository;
+import com.krushikranti.fieldofficer.repository.FieldOfficerRepository;
+import com.krushikranti.fieldofficer.repository.PincodeCentroidRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FieldOfficerSuggestionEngine Unit Tests")
+class FieldOfficerSuggestionEngineTest {
+
+    @Mock
+    private FieldOfficerRepository fieldOfficerRepository;
+
+    @Mock
+    private FarmVerificationRepository verificationRepository;
+
+    @Mock
+    private PincodeCentroidRepository centroidRepository;
+
+    @InjectMocks
+    private FieldOfficerSuggestionEngine engine;
+
+    private final List<Object[]> activePincodes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(centroidRepository.findAll()).thenReturn(List.of(
+                centroid("411001", 18.52, 73.85),
+                centroid("411038", 18.51, 73.81),
+                centroid("400001", 18.94, 72.83)));
+        lenient().when(verificationRepository.findMeanLocationByFieldOfficer()).thenReturn(List.of());
+        lenient().when(fieldOfficerRepository.findActivePincodes()).thenReturn(activePincodes);
+        lenient().when(fieldOfficerRepository.findByPincodeInAndIsActiveTrue(anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Rank - nearer officer ranks first at equal workload")
+    void rank_EqualWorkload_NearerFirst() {
+        // Given
+        FieldOfficer near = officer(1L, "411038", 0);
+        FieldOfficer far = officer(2L, "400001", 0);
+        located(near, far);
+
+        // When
+        List<FieldOfficerSuggestionEngine.RankedOfficer> ranked = engine.rank(List.of("411001"), 5);
+
+        // Then
+        assertThat(ranked).extracting(r -> r.officer().getId()).containsExactly(1L, 2L);
+        assertThat(ranked.get(0).distanceKm()).isBetween(1.0, 10.0);
+        assertThat(ranked.get(1).distanceKm()).isGreaterThan(100.0);
+        assertThat(ranked.get(0).score()).isGreaterThan(ranked.get(1).score());
+    }
+
+    @Test
+    @DisplayName("Rank - officer in the farm's own pincode is at distance 0 even without a centroid")
+    void rank_ExactPincodeMatch_DistanceZero() {
+        // Given
+        FieldOfficer local = officer(1L, "413001", 0);
+        when(fieldOfficerRepository.findByPincodeInAndIsActiveTrue(List.of("413001"))).thenReturn(List.of(local));
+        when(fieldOfficerRepository.findAllById(any())).thenReturn(List.of(local));
+
+        // When
+        List<FieldOfficerSuggestionEngine.RankedOfficer> ranked = engine.rank(List.of(" 413001 "), 5);
+
+        // Then
+        assertThat(ranked).hasSize(1);
+        assertThat(ranked.get(0).officer()).isSameAs(local);
+        assertThat(ranked.get(0).distanceKm()).isZero();
+        assertThat(ranked.get(0).score()).isCloseTo(1.0, within(1e-9));
+        verify(fieldOfficerRepository, never()).findByIsActive(any(), any());
+    }
+
+    @Test
+    @DisplayName("Rank - exact-pincode officer overrides its index distance")
+    void rank_ExactPincodeMatchAlsoIndexed_DistanceZero() {
+        // Given
+        FieldOfficer local = officer(1L, "411001", 0);
+        located(local);
+        when(fieldOfficerRepository.findByPincodeInAndIsActiveTrue(List.of("411001"))).thenReturn(List.of(local));
+
+        // When
+        List<FieldOfficerSuggestionEngine.RankedOfficer> ranked = engine.rank(List.of("411001"), 5);
+
+        // Then
+        assertThat(ranked).extracting(FieldOfficerSuggestionEngine.RankedOfficer::distanceKm).containsExactly(0.0);
+    }
+
+    @Test
+    @DisplayName("Rank - heavy workload can outweigh a small distance advantage")
+    void rank_HeavyWorkload_RanksBelowIdleNeighbour() {
+        // Given
+        FieldOfficer busy = officer(1L, "411001", 40);
+        FieldOfficer idle = officer(2L, "411038", 0);
+        located(busy, idle);
+
+        // When
+        List<FieldOfficerSuggestionEngine.RankedOfficer> ranked = engine.rank(List.of("411001"), 5);
+
+        // Then
+        assertThat(ranked).extracting(r -> r.officer().getId()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Rank - officers deactivated since the last rebuild are skipped")
+    void rank_DeactivatedOfficer_Skipped() {
+        // Given
+        FieldOfficer active = officer(1L, "411038", 0);
+        FieldOfficer deactivated = officer(2L, "411001", 0);
+        located(active, deactivated);
+        deactivated.setIsActive(false);
+
+        // When
+        List<FieldOfficerSuggestionEngine.RankedOfficer> ranked = engine.rank(List.of("411001"), 5);
+
+        // Then
+        assertThat(ranked).extracting(r -> r.officer().getId()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Rank - unknown farm pincode falls back to the least loaded active officers")
+    void rank_FarmNotLocated_FallsBackToLeastLoaded() {
+        // Given
+        FieldOfficer idle = officer(1L, "400001", 0);
+        FieldOfficer busy = officer(2L, "400001", 10);
+        located(idle, busy);
+        when(fieldOfficerRepository.findByIsActive(eq(true), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(idle, busy)));
+
+        // When
+        List<FieldOfficerSuggestionEngine.RankedOfficer> ranked = engine.rank(List.of("999999"), 2);
+
+        // Then
+        assertThat(ranked).extracting(r -> r.officer().getId()).containsExactly(1L, 2L);
+        assertThat(ranked).extracting(FieldOfficerSuggestionEngine.RankedOfficer::distanceKm).containsOnlyNulls();
+        assertThat(ranked.get(0).score()).isCloseTo(0.3, within(1e-9));
+        assertThat(ranked.get(1).score()).isCloseTo(0.15, within(1e-9));
+
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(fieldOfficerRepository).findByIsActive(eq(true), page.capture());
+        assertThat(page.getValue()).isEqualTo(
+                PageRequest.of(0, 2, Sort.by("pendingFarmsCount", "activeFarmsCount", "id")));
+        verify(fieldOfficerRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Rank - nobody within the search radius falls back to the least loaded active officers")
+    void rank_NobodyWithinRadius_FallsBackToLeastLoaded() {
+        // Given
+        FieldOfficer distant = officer(1L, "400001", 0);
+        activePincodes.add(new Object[]{1L, "400001"});
+        when(centroidRepository.findAll()).thenReturn(List.of(
+                centroid("400001", 18.94, 72.83),
+                centroid("440001", 21.15, 79.09)));
+        when(fieldOfficerRepository.findByIsActive(eq(true), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(distant)));
+
+        // When
+        List<FieldOfficerSuggestionEngine.RankedOfficer> ranked = engine.rank(List.of("440001"), 5);
+
+        // Then
+        assertThat(ranked).extracting(FieldOfficerSuggestionEngine.RankedOfficer::distanceKm).containsExactly((Double) null);
+    }
+
+    @Test
+    @DisplayName("Rank - farm pincode without a centroid is placed at its region's mean")
+    void rank_FarmPincodeWithoutCentroid_UsesRegion() {
+        // Given
+        FieldOfficer officer = officer(1L, "411038", 0);
+        located(officer);
+
+        // When
+        List<FieldOfficerSuggestionEngine.RankedOfficer> ranked = engine.rank(List.of("411045"), 5);
+
+        // Then
+        assertThat(ranked).hasSize(1);
+        assertThat(ranked.get(0).distanceKm()).isNotNull().isLessThan(10.0);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static PincodeCentroid centroid(String pincode, double latitude, double longitude) {
+        return PincodeCentroid.builder().pincode(pincode).latitude(latitude).longitude(longitude).sampleCount(1).build();
+    }
+
+    private static FieldOfficer officer(long id, String pincode, int pendingFarms) {
+        return FieldOfficer.builder().id(id).userId(100 + id).pincode(pincode).pendingFarmsCount(pendingFarms).build();
+    }
+
+    /**
+     * Put the officers in the index at their pincode centroids and return them from findAllById.
+     */
+    @SuppressWarnings("unchecked")
+    private void located(FieldOfficer... officers) {
+        for (FieldOfficer officer : officers) {
+            activePincodes.add(new Object[]{officer.getId(), officer.getPincode()});
+        }
+        lenient().when(fieldOfficerRepository.findAllById(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return List.of(officers).stream().filter(officer -> ids.contains(officer.getId())).toList();
+        });
+    }
+}
@@ -0,0 +1,271 @@
+package com.krushikranti.fieldofficer.service;
+
+import com.krushikranti.fieldofficer.dto.FieldOfficerAssignmentDto;
+import com.krushikranti.fieldofficer.dto.FieldOfficerSyncDto;
+import com.krushikranti.fieldofficer.model.FarmVerification;
+import com.krushikranti.fieldofficer.model.FieldOfficer;
+import com.krushikranti.fieldofficer.model.FieldOfficerAssignment;
+import com.krushikranti.fieldofficer.repository.FarmVerificationRepository;
+import com.krushikranti.fieldofficer.repository.FieldOfficerAssignmentRepository;
+import com.krushikranti.fieldofficer.repository.FieldOfficerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FieldOfficerSyncService Unit Tests")
+class FieldOfficerSyncServiceTest {
+
+    private static final Long OFFICER_USER_ID = 500L;
+    private static final Long OFFICER_ID = 5L;
+
+    @Mock
+    private FieldOfficerRepository fieldOfficerRepository;
+
+    @Mock
+    private FieldOfficerAssignmentRepository assignmentRepository;
+
+    @Mock
+    private FarmVerificationRepository verificationRepository;
+
+    @Mock
+    private AuthServiceClient authServiceClient;
+
+    @Mock
+    private FarmerServiceClient farmerServiceClient;
+
+    @InjectMocks
+    private FieldOfficerSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(fieldOfficerRepository.findByUserId(OFFICER_USER_ID))
+                .thenReturn(Optional.of(FieldOfficer.builder().id(OFFICER_ID).userId(OFFICER_USER_ID).build()));
+        lenient().when(authServiceClient.getUserDetailsBatch(anyCollection()))
+                .thenReturn(Map.of(10L, Map.of("username", "farmer10", "phoneNumber", "9876543210")));
+    }
+
+    // ==================== Change Token ====================
+
+    @Test
+    @DisplayName("Change token - round-trips the sync start time")
+    void encodeDecodeToken_RoundTrip() {
+        // Given
+        LocalDateTime time = LocalDateTime.now().minusMinutes(5);
+
+        // When
+        String token = FieldOfficerSyncService.encodeToken(time);
+
+        // Then
+        assertThat(token).doesNotContain("=").doesNotContain("+").doesNotContain("/");
+        assertThat(FieldOfficerSyncService.decodeToken(token)).contains(time);
+        assertThat(FieldOfficerSyncService.decodeToken(" " + token + " ")).contains(time);
+    }
+
+    @Test
+    @DisplayName("Change token - missing, malformed, unsupported or future tokens mean a full sync")
+    void decodeToken_Unusable_ReturnsEmpty() {
+        String futureToken = FieldOfficerSyncService.encodeToken(LocalDateTime.now().plusHours(1));
+
+        assertThat(FieldOfficerSyncService.decodeToken(null)).isEmpty();
+        assertThat(FieldOfficerSyncService.decodeToken("  ")).isEmpty();
+        assertThat(FieldOfficerSyncService.decodeToken("not base64!")).isEmpty();
+        assertThat(FieldOfficerSyncService.decodeToken(base64("v1:yesterday"))).isEmpty();
+        assertThat(FieldOfficerSyncService.decodeToken(base64("v2:" + LocalDateTime.now().minusMinutes(1)))).isEmpty();
+        assertThat(FieldOfficerSyncService.decodeToken(base64(LocalDateTime.now().minusMinutes(1).toString()))).isEmpty();
+        assertThat(FieldOfficerSyncService.decodeToken(futureToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Sync - unusable token falls back to a full sync with a new token")
+    void sync_MalformedToken_FullSync() {
+        // Given
+        FieldOfficerAssignment assignment = assignment(1L, 10L, LocalDateTime.now().minusDays(3));
+        when(assignmentRepository.findByFieldOfficerIdAndStatusNot(OFFICER_ID, FieldOfficerAssignment.AssignmentStatus.CANCELLED))
+                .thenReturn(List.of(assignment));
+        when(farmerServiceClient.getFarmersWithFarms(Set.of(10L))).thenReturn(Map.of(10L, farmer(farm(100L, true))));
+
+        // When
+        FieldOfficerSyncDto result = syncService.sync(OFFICER_USER_ID, "garbage");
+
+        // Then
+        assertThat(result.isFullSync()).isTrue();
+        assertThat(result.getAssignments()).extracting(FieldOfficerAssignmentDto::getAssignmentId).containsExactly(1L);
+        assertThat(FieldOfficerSyncService.decodeToken(result.getChangeToken())).isPresent();
+        verify(assignmentRepository, never()).findByFieldOfficerIdAndStatusAndUpdatedAtAfter(anyLong(), any(), any());
+        verify(verificationRepository, never()).findByFieldOfficerIdAndUpdatedAtAfter(anyLong(), any());
+    }
+
+    // ==================== Overlap Window ====================
+
+    @Test
+    @DisplayName("Overlap - changes are looked up from 30 seconds before the token time")
+    void sync_DeltaToken_QueriesFromTokenTimeMinusOverlap() {
+        // Given
+        LocalDateTime tokenTime = LocalDateTime.now().minusMinutes(10);
+        LocalDateTime since = tokenTime.minusSeconds(30);
+        when(assignmentRepository.findByFieldOfficerIdAndStatusNot(OFFICER_ID, FieldOfficerAssignment.AssignmentStatus.CANCELLED))
+                .thenReturn(List.of());
+
+        // When
+        FieldOfficerSyncDto result = syncService.sync(OFFICER_USER_ID, FieldOfficerSyncService.encodeToken(tokenTime));
+
+        // Then
+        assertThat(result.isFullSync()).isFalse();
+        verify(assignmentRepository).findByFieldOfficerIdAndStatusAndUpdatedAtAfter(
+                OFFICER_ID, FieldOfficerAssignment.AssignmentStatus.CANCELLED, since);
+        verify(verificationRepository).findByFieldOfficerIdAndUpdatedAtAfter(OFFICER_ID, since);
+    }
+
+    @Test
+    @DisplayName("Overlap - assignment updated just before the token time is re-sent, an older one only with changed farms")
+    void sync_AssignmentWithinOverlap_Resent() {
+        // Given
+        LocalDateTime tokenTime = LocalDateTime.now().minusMinutes(10);
+        FieldOfficerAssignment lateCommit = assignment(1L, 10L, tokenTime.minusSeconds(10));
+        FieldOfficerAssignment unchanged = assignment(2L, 20L, tokenTime.minusMinutes(5));
+        when(assignmentRepository.findByFieldOfficerIdAndStatusNot(OFFICER_ID, FieldOfficerAssignment.AssignmentStatus.CANCELLED))
+                .thenReturn(List.of(lateCommit, unchanged));
+        when(farmerServiceClient.getFarmersWithFarms(Set.of(10L))).thenReturn(Map.of(10L, farmer(farm(100L, true))));
+        when(farmerServiceClient.getFarmersWithFarms(Set.of(20L), tokenTime.minusSeconds(30))).thenReturn(Map.of());
+
+        // When
+        FieldOfficerSyncDto result = syncService.sync(OFFICER_USER_ID, FieldOfficerSyncService.encodeToken(tokenTime));
+
+        // Then
+        assertThat(result.getAssignments()).extracting(FieldOfficerAssignmentDto::getAssignmentId).containsExactly(1L);
+        assertThat(result.getAssignments().get(0).getFarms()).hasSize(1);
+    }
+
+    // ==================== Tombstones ====================
+
+    @Test
+    @DisplayName("Tombstones - assignments cancelled since the token are reported as removed")
+    void sync_CancelledAssignment_Tombstoned() {
+        // Given
+        LocalDateTime tokenTime = LocalDateTime.now().minusMinutes(10);
+        FieldOfficerAssignment cancelled = assignment(7L, 10L, tokenTime.plusMinutes(1));
+        cancelled.setStatus(FieldOfficerAssignment.AssignmentStatus.CANCELLED);
+        when(assignmentRepository.findByFieldOfficerIdAndStatusNot(OFFICER_ID, FieldOfficerAssignment.AssignmentStatus.CANCELLED))
+                .thenReturn(List.of());
+        when(assignmentRepository.findByFieldOfficerIdAndStatusAndUpdatedAtAfter(
+                eq(OFFICER_ID), eq(FieldOfficerAssignment.AssignmentStatus.CANCELLED), any()))
+                .thenReturn(List.of(cancelled));
+
+        // When
+        FieldOfficerSyncDto result = syncService.sync(OFFICER_USER_ID, FieldOfficerSyncService.encodeToken(tokenTime));
+
+        // Then
+        assertThat(result.getRemovedAssignmentIds()).containsExactly(7L);
+        assertThat(result.getAssignments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Tombstones - farms deactivated by the farmer are reported as removed, not as entries")
+    void sync_DeactivatedFarm_Tombstoned() {
+        // Given
+        LocalDateTime tokenTime = LocalDateTime.now().minusMinutes(10);
+        FieldOfficerAssignment unchanged = assignment(1L, 10L, tokenTime.minusHours(1));
+        when(assignmentRepository.findByFieldOfficerIdAndStatusNot(OFFICER_ID, FieldOfficerAssignment.AssignmentStatus.CANCELLED))
+                .thenReturn(List.of(unchanged));
+        when(farmerServiceClient.getFarmersWithFarms(Set.of(10L), tokenTime.minusSeconds(30)))
+                .thenReturn(Map.of(10L, farmer(farm(100L, false), farm(101L, true))));
+
+        // When
+        FieldOfficerSyncDto result = syncService.sync(OFFICER_USER_ID, FieldOfficerSyncService.encodeToken(tokenTime));
+
+        // Then
+        assertThat(result.getRemovedFarmIds()).containsExactly(100L);
+        assertThat(result.getAssignments()).hasSize(1);
+        assertThat(result.getAssignments().get(0).getFarms())
+                .extracting(FieldOfficerAssignmentService::farmIdOf).containsExactly(101L);
+    }
+
+    @Test
+    @DisplayName("Tombstones - unchanged assignment whose only changed farm was deactivated is not re-sent")
+    void sync_OnlyDeactivatedFarmChanged_AssignmentNotResent() {
+        // Given
+        LocalDateTime tokenTime = LocalDateTime.now().minusMinutes(10);
+        FieldOfficerAssignment unchanged = assignment(1L, 10L, tokenTime.minusHours(1));
+        when(assignmentRepository.findByFieldOfficerIdAndStatusNot(OFFICER_ID, FieldOfficerAssignment.AssignmentStatus.CANCELLED))
+                .thenReturn(List.of(unchanged));
+        when(farmerServiceClient.getFarmersWithFarms(Set.of(10L), tokenTime.minusSeconds(30)))
+                .thenReturn(Map.of(10L, farmer(farm(100L, false))));
+
+        // When
+        FieldOfficerSyncDto result = syncService.sync(OFFICER_USER_ID, FieldOfficerSyncService.encodeToken(tokenTime));
+
+        // Then
+        assertThat(result.getRemovedFarmIds()).containsExactly(100L);
+        assertThat(result.getAssignments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verifications - changes since the token are sent with their final flag")
+    void sync_ChangedVerification_Sent() {
+        // Given
+        LocalDateTime tokenTime = LocalDateTime.now().minusMinutes(10);
+        when(assignmentRepository.findByFieldOfficerIdAndStatusNot(OFFICER_ID, FieldOfficerAssignment.AssignmentStatus.CANCELLED))
+                .thenReturn(List.of());
+        when(verificationRepository.findByFieldOfficerIdAndUpdatedAtAfter(eq(OFFICER_ID), any()))
+                .thenReturn(List.of(FarmVerification.builder()
+                        .farmId(100L)
+                        .fieldOfficerId(OFFICER_ID)
+                        .verificationStatus(FarmVerification.VerificationStatus.VERIFIED)
+                        .updatedAt(tokenTime.plusMinutes(1))
+                        .build()));
+
+        // When
+        FieldOfficerSyncDto result = syncService.sync(OFFICER_USER_ID, FieldOfficerSyncService.encodeToken(tokenTime));
+
+        // Then
+        assertThat(result.getVerifications()).singleElement().satisfies(change -> {
+            assertThat(change.getFarmId()).isEqualTo(100L);
+            assertThat(change.getStatus()).isEqualTo("VERIFIED");
+            assertThat(change.getIsVerified()).isTrue();
+        });
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static String base64(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static FieldOfficerAssignment assignment(Long id, Long farmerUserId, LocalDateTime updatedAt) {
+        return FieldOfficerAssignment.builder()
+                .id(id)
+                .fieldOfficerId(OFFICER_ID)
+                .farmerUserId(farmerUserId)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> farmer(Map<String, Object>... farms) {
+        return Map.of("fullName", "Ramesh Patil", "farms", List.of(farms));
+    }
+
+    private static Map<String, Object> farm(Long farmId, boolean active) {
+        return Map.of("id", farmId, "isActive", active, "village", "Wagholi", "district", "Pune", "pincode", "412207");
+    }
+}
@@ -0,0 +1,154 @@
+package com.krushikranti.fieldofficer.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("OfficerSpatialIndex Unit Tests")
+class OfficerSpatialIndexTest {
+
+    private static final double CELL_DEGREES = 0.25;
+
+    // Pune
+    private static final double PUNE_LAT = 18.52;
+    private static final double PUNE_LON = 73.85;
+
+    @Test
+    @DisplayName("Nearest - returns officers within the radius, nearest first")
+    void nearest_WithinRadius_SortedByDistance() {
+        // Given
+        OfficerSpatialIndex index = OfficerSpatialIndex.build(List.of(
+                new OfficerSpatialIndex.Point(1L, 19.08, 72.88),
+                new OfficerSpatialIndex.Point(2L, 18.53, 73.86),
+                new OfficerSpatialIndex.Point(3L, 21.15, 79.09)), CELL_DEGREES);
+
+        // When
+        List<OfficerSpatialIndex.Hit> hits = index.nearest(PUNE_LAT, PUNE_LON, 200, 10);
+
+        // Then
+        assertThat(hits).extracting(OfficerSpatialIndex.Hit::officerId).containsExactly(2L, 1L);
+        assertThat(hits.get(0).distanceKm()).isLessThan(2);
+        assertThat(hits.get(1).distanceKm()).isBetween(110.0, 130.0);
+    }
+
+    @Test
+    @DisplayName("Nearest - limit keeps only the closest officers")
+    void nearest_Limit_KeepsClosest() {
+        // Given
+        List<OfficerSpatialIndex.Point> points = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            points.add(new OfficerSpatialIndex.Point(i, PUNE_LAT + i * 0.1, PUNE_LON));
+        }
+        OfficerSpatialIndex index = OfficerSpatialIndex.build(points, CELL_DEGREES);
+
+        // When
+        List<OfficerSpatialIndex.Hit> hits = index.nearest(PUNE_LAT, PUNE_LON, 500, 3);
+
+        // Then
+        assertThat(hits).extracting(OfficerSpatialIndex.Hit::officerId).containsExactly(0L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Nearest - empty index and non-positive limit return no hits")
+    void nearest_EmptyIndexOrZeroLimit_ReturnsEmpty() {
+        OfficerSpatialIndex empty = OfficerSpatialIndex.build(List.of(), CELL_DEGREES);
+        OfficerSpatialIndex single = OfficerSpatialIndex.build(
+                List.of(new OfficerSpatialIndex.Point(1L, PUNE_LAT, PUNE_LON)), CELL_DEGREES);
+
+        assertThat(empty.nearest(PUNE_LAT, PUNE_LON, 100, 5)).isEmpty();
+        assertThat(single.nearest(PUNE_LAT, PUNE_LON, 100, 0)).isEmpty();
+        assertThat(single.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Nearest - matches a brute-force scan over random officers")
+    void nearest_RandomPoints_MatchesBruteForce() {
+        // Given
+        Random random = new Random(42);
+        List<OfficerSpatialIndex.Point> points = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            points.add(new OfficerSpatialIndex.Point(i, 8 + random.nextDouble() * 27, 68 + random.nextDouble() * 29));
+        }
+        OfficerSpatialIndex index = OfficerSpatialIndex.build(points, CELL_DEGREES);
+
+        for (int query = 0; query < 200; query++) {
+            double latitude = 8 + random.nextDouble() * 27;
+            double longitude = 68 + random.nextDouble() * 29;
+            double maxKm = 20 + random.nextDouble() * 200;
+            int limit = 1 + random.nextInt(20);
+
+            // When
+            List<OfficerSpatialIndex.Hit> hits = index.nearest(latitude, longitude, maxKm, limit);
+
+            // Then
+            List<Double> expected = points.stream()
+                    .map(p -> OfficerSpatialIndex.distanceKm(latitude, longitude, p.latitude(), p.longitude()))
+                    .filter(distance -> distance <= maxKm)
+                    .sorted()
+                    .limit(limit)
+                    .toList();
+            assertThat(hits).extracting(OfficerSpatialIndex.Hit::distanceKm)
+                    .isSortedAccordingTo(Comparator.naturalOrder())
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Ring lower bound - never exceeds the distance to a point in that ring")
+    void ringLowerBound_NeverExceedsTrueDistance() {
+        // Given
+        OfficerSpatialIndex index = OfficerSpatialIndex.build(List.of(), CELL_DEGREES);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 10_000; i++) {
+            double latitude = -60 + random.nextDouble() * 120;
+            double longitude = -170 + random.nextDouble() * 340;
+            double otherLatitude = Math.max(-89.9, Math.min(89.9, latitude + (random.nextDouble() - 0.5) * 10));
+            double otherLongitude = longitude + (random.nextDouble() - 0.5) * 10;
+            int ring = Math.max(
+                    Math.abs(cell(otherLatitude + 90) - cell(latitude + 90)),
+                    Math.abs(cell(otherLongitude + 180) - cell(longitude + 180)));
+
+            // When
+            double bound = ReflectionTestUtils.invokeMethod(index, "ringLowerBoundKm", latitude, ring);
+
+            // Then
+            assertThat(bound).isLessThanOrEqualTo(
+                    OfficerSpatialIndex.distanceKm(latitude, longitude, otherLatitude, otherLongitude));
+        }
+    }
+
+    @Test
+    @DisplayName("Ring lower bound - zero for the centre cell and its neighbours, growing per ring")
+    void ringLowerBound_GrowsWithRing() {
+        // Given
+        OfficerSpatialIndex index = OfficerSpatialIndex.build(List.of(), CELL_DEGREES);
+
+        // When
+        double[] bounds = new double[5];
+        for (int ring = 0; ring < bounds.length; ring++) {
+            bounds[ring] = ReflectionTestUtils.invokeMethod(index, "ringLowerBoundKm", PUNE_LAT, ring);
+        }
+
+        // Then
+        assertThat(bounds[0]).isZero();
+        assertThat(bounds[1]).isZero();
+        assertThat(bounds[2]).isPositive();
+        assertThat(bounds[4]).isCloseTo(3 * bounds[2], within(3.0));
+        for (int ring = 2; ring < bounds.length; ring++) {
+            assertThat(bounds[ring]).isGreaterThan(bounds[ring - 1]);
+        }
+    }
+
+    private static int cell(double shiftedDegrees) {
+        return (int) Math.floor(shiftedDegrees / CELL_DEGREES);
+    }
+}
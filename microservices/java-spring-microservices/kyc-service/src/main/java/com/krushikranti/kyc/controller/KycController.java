@@ -9,6 +9,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * REST Controller for KYC verification endpoints.
  */
@@ -34,6 +36,20 @@ public class KycController {
         return ResponseEntity.ok(new ApiResponse<>("KYC status retrieved successfully", status));
     }
 
+    /**
+     * Get KYC status for a batch of users (inter-service, used by admin listings).
+     * 
+     * POST /kyc/status/batch
+     */
+    @PostMapping("/status/batch")
+    public ResponseEntity<ApiResponse<List<KycStatusResponse>>> getKycStatusBatch(
+            @Valid @RequestBody KycStatusBatchRequest request) {
+        log.info("POST /kyc/status/batch - {} userIds", request.getUserIds().size());
+        
+        List<KycStatusResponse> statuses = kycService.getKycStatusBatch(request.getUserIds());
+        return ResponseEntity.ok(new ApiResponse<>("KYC statuses retrieved successfully", statuses));
+    }
+
     /**
      * Check if user's KYC is complete.
      * 
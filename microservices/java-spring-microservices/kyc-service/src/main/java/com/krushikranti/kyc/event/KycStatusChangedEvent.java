@@ -0,0 +1,23 @@
+package com.krushikranti.kyc.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published to Kafka whenever a user's KYC record is saved.
+ * Consumers (farmer-service) keep a local copy of the status from these events.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KycStatusChangedEvent {
+
+    private Long userId;
+    private String kycStatus;
+    private LocalDateTime occurredAt;
+}
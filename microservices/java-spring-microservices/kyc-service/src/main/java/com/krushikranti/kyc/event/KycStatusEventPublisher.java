@@ -0,0 +1,77 @@
+package com.krushikranti.kyc.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krushikranti.kyc.model.KycVerification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Publishes {@link KycStatusChangedEvent}s to Kafka.
+ * Events are sent only after the surrounding transaction commits, so consumers
+ * never see a status that was rolled back. The KYC status itself is computed by
+ * the entity's lifecycle callbacks during flush, so it is read at that point too.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KycStatusEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${events.kafka.enabled:true}")
+    private boolean kafkaEnabled;
+
+    @Value("${events.topics.kyc-status-changed:kyc.status-changed}")
+    private String topic;
+
+    /**
+     * Record that a KYC verification was saved; the event goes out after commit.
+     */
+    public void kycUpdated(KycVerification kyc) {
+        applicationEventPublisher.publishEvent(new KycSaved(kyc));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onKycSaved(KycSaved saved) {
+        KycVerification kyc = saved.kyc();
+        if (!kafkaEnabled || kyc.getKycStatus() == null) {
+            return;
+        }
+
+        KycStatusChangedEvent event = KycStatusChangedEvent.builder()
+                .userId(kyc.getUserId())
+                .kycStatus(kyc.getKycStatus().name())
+                .occurredAt(LocalDateTime.now())
+                .build();
+
+        try {
+            // Keyed by userId so events for one user stay ordered within a partition
+            kafkaTemplate.send(topic, String.valueOf(event.getUserId()), objectMapper.writeValueAsString(event))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("Failed to publish KYC status event for userId {}: {}",
+                                    event.getUserId(), e.getMessage());
+                        }
+                    });
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Never fail the caller because the broker is unavailable
+            log.error("Failed to publish KYC status event for userId {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * In-process signal carrying the saved entity until the transaction commits.
+     */
+    public record KycSaved(KycVerification kyc) {}
+}
@@ -1,5 +1,6 @@
 package com.krushikranti.kyc.grpc;
 
+import com.krushikranti.kyc.dto.KycStatusBatchRequest;
 import com.krushikranti.kyc.dto.KycStatusResponse;
 import com.krushikranti.kyc.service.KycService;
 import io.grpc.stub.StreamObserver;
@@ -7,6 +8,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * gRPC Service for KYC verification.
  * Allows other microservices to check KYC status.
@@ -54,48 +58,86 @@ public class KycGrpcService extends KycServiceGrpc.KycServiceImplBase {
             Long userId = Long.parseLong(request.getUserId());
             KycStatusResponse status = kycService.getKycStatus(userId);
             
-            com.krushikranti.kyc.grpc.KycStatusResponse.Builder builder = 
-                    com.krushikranti.kyc.grpc.KycStatusResponse.newBuilder()
-                    .setUserId(String.valueOf(status.getUserId()))
-                    .setKycStatus(status.getKycStatus() != null ? status.getKycStatus().name() : "PENDING")
-                    .setAadhaarVerified(Boolean.TRUE.equals(status.getAadhaarVerified()))
-                    .setPanVerified(Boolean.TRUE.equals(status.getPanVerified()))
-                    .setBankVerified(Boolean.TRUE.equals(status.getBankVerified()));
+            responseObserver.onNext(toGrpcStatus(status));
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            log.error("Error in gRPC GetKycStatus", e);
+            responseObserver.onError(io.grpc.Status.INTERNAL
+                    .withDescription(e.getMessage())
+                    .asRuntimeException());
+        }
+    }
+
+    @Override
+    public void getKycStatusBatch(GetKycStatusBatchRequest request,
+            StreamObserver<GetKycStatusBatchResponse> responseObserver) {
+        log.info("gRPC GetKycStatusBatch called for {} userIds", request.getUserIdsCount());
+        if (request.getUserIdsCount() > KycStatusBatchRequest.MAX_USER_IDS) {
+            responseObserver.onError(io.grpc.Status.INVALID_ARGUMENT
+                    .withDescription("At most " + KycStatusBatchRequest.MAX_USER_IDS
+                            + " user IDs can be requested at once")
+                    .asRuntimeException());
+            return;
+        }
+        
+        try {
+            List<Long> userIds = request.getUserIdsList().stream()
+                    .map(Long::parseLong)
+                    .collect(Collectors.toList());
             
-            // Add optional fields if present
-            if (status.getAadhaarName() != null) {
-                builder.setAadhaarName(status.getAadhaarName());
-            }
-            if (status.getAadhaarNumberMasked() != null) {
-                builder.setAadhaarNumberMasked(status.getAadhaarNumberMasked());
-            }
-            if (status.getPanName() != null) {
-                builder.setPanName(status.getPanName());
-            }
-            if (status.getPanNumberMasked() != null) {
-                builder.setPanNumberMasked(status.getPanNumberMasked());
-            }
-            if (status.getBankAccountHolderName() != null) {
-                builder.setBankAccountHolderName(status.getBankAccountHolderName());
-            }
-            if (status.getBankAccountMasked() != null) {
-                builder.setBankAccountMasked(status.getBankAccountMasked());
-            }
-            if (status.getBankIfsc() != null) {
-                builder.setBankIfsc(status.getBankIfsc());
-            }
-            if (status.getBankName() != null) {
-                builder.setBankName(status.getBankName());
-            }
+            GetKycStatusBatchResponse.Builder builder = GetKycStatusBatchResponse.newBuilder();
+            kycService.getKycStatusBatch(userIds)
+                    .forEach(status -> builder.addStatuses(toGrpcStatus(status)));
             
             responseObserver.onNext(builder.build());
             responseObserver.onCompleted();
+        } catch (NumberFormatException e) {
+            log.error("Invalid user ID in gRPC GetKycStatusBatch: {}", e.getMessage());
+            responseObserver.onError(io.grpc.Status.INVALID_ARGUMENT
+                    .withDescription("Invalid user ID format")
+                    .asRuntimeException());
         } catch (Exception e) {
-            log.error("Error in gRPC GetKycStatus", e);
+            log.error("Error in gRPC GetKycStatusBatch", e);
             responseObserver.onError(io.grpc.Status.INTERNAL
                     .withDescription(e.getMessage())
                     .asRuntimeException());
         }
     }
-}
 
+    private com.krushikranti.kyc.grpc.KycStatusResponse toGrpcStatus(KycStatusResponse status) {
+        com.krushikranti.kyc.grpc.KycStatusResponse.Builder builder = 
+                com.krushikranti.kyc.grpc.KycStatusResponse.newBuilder()
+                .setUserId(String.valueOf(status.getUserId()))
+                .setKycStatus(status.getKycStatus() != null ? status.getKycStatus().name() : "PENDING")
+                .setAadhaarVerified(Boolean.TRUE.equals(status.getAadhaarVerified()))
+                .setPanVerified(Boolean.TRUE.equals(status.getPanVerified()))
+                .setBankVerified(Boolean.TRUE.equals(status.getBankVerified()));
+        
+        // Add optional fields if present
+        if (status.getAadhaarName() != null) {
+            builder.setAadhaarName(status.getAadhaarName());
+        }
+        if (status.getAadhaarNumberMasked() != null) {
+            builder.setAadhaarNumberMasked(status.getAadhaarNumberMasked());
+        }
+        if (status.getPanName() != null) {
+            builder.setPanName(status.getPanName());
+        }
+        if (status.getPanNumberMasked() != null) {
+            builder.setPanNumberMasked(status.getPanNumberMasked());
+        }
+        if (status.getBankAccountHolderName() != null) {
+            builder.setBankAccountHolderName(status.getBankAccountHolderName());
+        }
+        if (status.getBankAccountMasked() != null) {
+            builder.setBankAccountMasked(status.getBankAccountMasked());
+        }
+        if (status.getBankIfsc() != null) {
+            builder.setBankIfsc(status.getBankIfsc());
+        }
+        if (status.getBankName() != null) {
+            builder.setBankName(status.getBankName());
+        }
+        return builder.build();
+    }
+}
@@ -4,6 +4,8 @@ import com.krushikranti.kyc.model.KycVerification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,5 +17,7 @@ public interface KycVerificationRepository extends JpaRepository<KycVerification
     Optional<KycVerification> findByUserId(Long userId);
     
     boolean existsByUserId(Long userId);
+    
+    List<KycVerification> findByUserIdIn(Collection<Long> userIds);
 }
 
@@ -5,6 +5,7 @@ import com.krushikranti.kyc.client.dto.AadhaarSubmitOtpResponse;
 import com.krushikranti.kyc.client.dto.BankVerificationResponse;
 import com.krushikranti.kyc.client.dto.PanValidationResponse;
 import com.krushikranti.kyc.dto.*;
+import com.krushikranti.kyc.event.KycStatusEventPublisher;
 import com.krushikranti.kyc.model.*;
 import com.krushikranti.kyc.repository.*;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +19,12 @@ import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for KYC verification operations.
@@ -32,6 +38,7 @@ public class KycService {
     private final KycVerificationLogRepository kycVerificationLogRepository;
     private final AadhaarOtpSessionRepository aadhaarOtpSessionRepository;
     private final QuickEkycClient quickEkycClient;
+    private final KycStatusEventPublisher kycStatusEventPublisher;
 
     /**
      * Get KYC status for a user.
@@ -41,32 +48,27 @@ public class KycService {
         log.info("Getting KYC status for userId: {}", userId);
         
         KycVerification kyc = kycVerificationRepository.findByUserId(userId)
-                .orElse(KycVerification.builder()
-                        .userId(userId)
-                        .kycStatus(KycStatus.PENDING)
-                        .aadhaarVerified(false)
-                        .panVerified(false)
-                        .bankVerified(false)
-                        .build());
+                .orElse(pendingKycVerification(userId));
         
-        return KycStatusResponse.builder()
-                .userId(kyc.getUserId())
-                .kycStatus(kyc.getKycStatus())
-                .aadhaarVerified(kyc.getAadhaarVerified())
-                .aadhaarNumberMasked(kyc.getAadhaarNumberMasked())
-                .aadhaarName(kyc.getAadhaarName())
-                .aadhaarVerifiedAt(kyc.getAadhaarVerifiedAt())
-                .panVerified(kyc.getPanVerified())
-                .panNumberMasked(kyc.getPanNumberMasked())
-                .panName(kyc.getPanName())
-                .panVerifiedAt(kyc.getPanVerifiedAt())
-                .bankVerified(kyc.getBankVerified())
-                .bankAccountMasked(kyc.getBankAccountMasked())
-                .bankIfsc(kyc.getBankIfsc())
-                .bankName(kyc.getBankName())
-                .bankAccountHolderName(kyc.getBankAccountHolderName())
-                .bankVerifiedAt(kyc.getBankVerifiedAt())
-                .build();
+        return toStatusResponse(kyc);
+    }
+
+    /**
+     * Get KYC status for many users with a single query.
+     * Users without a KYC record are reported as PENDING, and the result
+     * follows the order of the requested ids.
+     */
+    @Transactional(readOnly = true)
+    public List<KycStatusResponse> getKycStatusBatch(Collection<Long> userIds) {
+        log.info("Getting KYC status for {} users", userIds.size());
+        
+        Map<Long, KycVerification> byUserId = kycVerificationRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(KycVerification::getUserId, Function.identity(), (a, b) -> a));
+        
+        return userIds.stream()
+                .distinct()
+                .map(userId -> toStatusResponse(byUserId.getOrDefault(userId, pendingKycVerification(userId))))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -111,6 +113,7 @@ public class KycService {
                 kyc.setPanName(response.getData().getFullName());
                 kyc.setPanVerifiedAt(LocalDateTime.now());
                 kycVerificationRepository.save(kyc);
+                kycStatusEventPublisher.kycUpdated(kyc);
                 
                 return PanVerifyResponse.builder()
                         .verified(true)
@@ -268,6 +271,7 @@ public class KycService {
                 kyc.setAadhaarAddress(address);
                 kyc.setAadhaarVerifiedAt(LocalDateTime.now());
                 kycVerificationRepository.save(kyc);
+                kycStatusEventPublisher.kycUpdated(kyc);
                 
                 return AadhaarVerifyOtpResponse.builder()
                         .verified(true)
@@ -350,6 +354,7 @@ public class KycService {
                 kyc.setBankName(bankName);
                 kyc.setBankVerifiedAt(LocalDateTime.now());
                 kycVerificationRepository.save(kyc);
+                kycStatusEventPublisher.kycUpdated(kyc);
                 
                 return BankVerifyResponse.builder()
                         .verified(true)
@@ -457,6 +462,7 @@ public class KycService {
         }
         
         kycVerificationRepository.save(kyc);
+        kycStatusEventPublisher.kycUpdated(kyc);
         
         // Log the test verification
         logVerificationAttempt(userId, VerificationType.AADHAAR, "TEST-MODE", 
@@ -475,6 +481,37 @@ public class KycService {
 
     // ==================== Helper Methods ====================
 
+    private KycVerification pendingKycVerification(Long userId) {
+        return KycVerification.builder()
+                .userId(userId)
+                .kycStatus(KycStatus.PENDING)
+                .aadhaarVerified(false)
+                .panVerified(false)
+                .bankVerified(false)
+                .build();
+    }
+
+    private KycStatusResponse toStatusResponse(KycVerification kyc) {
+        return KycStatusResponse.builder()
+                .userId(kyc.getUserId())
+                .kycStatus(kyc.getKycStatus())
+                .aadhaarVerified(kyc.getAadhaarVerified())
+                .aadhaarNumberMasked(kyc.getAadhaarNumberMasked())
+                .aadhaarName(kyc.getAadhaarName())
+                .aadhaarVerifiedAt(kyc.getAadhaarVerifiedAt())
+                .panVerified(kyc.getPanVerified())
+                .panNumberMasked(kyc.getPanNumberMasked())
+                .panName(kyc.getPanName())
+                .panVerifiedAt(kyc.getPanVerifiedAt())
+                .bankVerified(kyc.getBankVerified())
+                .bankAccountMasked(kyc.getBankAccountMasked())
+                .bankIfsc(kyc.getBankIfsc())
+                .bankName(kyc.getBankName())
+                .bankAccountHolderName(kyc.getBankAccountHolderName())
+                .bankVerifiedAt(kyc.getBankVerifiedAt())
+                .build();
+    }
+
     private KycVerification getOrCreateKycVerification(Long userId) {
         return kycVerificationRepository.findByUserId(userId)
                 .orElseGet(() -> {
@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * REST Controller for subscription management.
  */
@@ -32,6 +34,19 @@ public class SubscriptionController {
         return ResponseEntity.ok(ApiResponse.success("Subscription status retrieved", status));
     }
 
+    /**
+     * Get subscription status for a batch of users (inter-service, used by admin listings).
+     */
+    @PostMapping("/status/batch")
+    public ResponseEntity<ApiResponse<List<SubscriptionStatusResponse>>> getSubscriptionStatusBatch(
+            @Valid @RequestBody SubscriptionStatusBatchRequest request) {
+        
+        log.debug("Getting subscription status for {} userIds", request.getUserIds().size());
+        
+        List<SubscriptionStatusResponse> statuses = subscriptionService.getSubscriptionStatusBatch(request.getUserIds());
+        return ResponseEntity.ok(ApiResponse.success("Subscription statuses retrieved", statuses));
+    }
+
     /**
      * Check if user is subscribed.
      */
@@ -0,0 +1,25 @@
+package com.krushikranti.subscription.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for looking up subscription status of many users at once.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubscriptionStatusBatchRequest {
+
+    /** Also enforced by the gRPC batch call. */
+    public static final int MAX_USER_IDS = 500;
+
+    @NotEmpty(message = "At least one user ID is required")
+    @Size(max = MAX_USER_IDS, message = "At most 500 user IDs can be requested at once")
+    private List<Long> userIds;
+}
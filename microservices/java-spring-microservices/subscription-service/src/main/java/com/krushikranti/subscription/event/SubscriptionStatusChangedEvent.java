@@ -0,0 +1,24 @@
+package com.krushikranti.subscription.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published to Kafka whenever a user's subscription status changes.
+ * Consumers (farmer-service) keep a local copy of the status from these events.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubscriptionStatusChangedEvent {
+
+    private Long userId;
+    private Long subscriptionId;
+    private String subscriptionStatus;
+    private LocalDateTime occurredAt;
+}
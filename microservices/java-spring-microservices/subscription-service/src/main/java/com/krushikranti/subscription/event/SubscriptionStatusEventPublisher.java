@@ -0,0 +1,70 @@
+package com.krushikranti.subscription.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krushikranti.subscription.model.Subscription;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Publishes {@link SubscriptionStatusChangedEvent}s to Kafka.
+ * Events are sent only after the surrounding transaction commits, so consumers
+ * never see a status that was rolled back.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SubscriptionStatusEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${events.kafka.enabled:true}")
+    private boolean kafkaEnabled;
+
+    @Value("${events.topics.subscription-status-changed:subscription.status-changed}")
+    private String topic;
+
+    /**
+     * Record that a subscription's status changed; the event goes out after commit.
+     */
+    public void subscriptionUpdated(Subscription subscription) {
+        applicationEventPublisher.publishEvent(SubscriptionStatusChangedEvent.builder()
+                .userId(subscription.getUserId())
+                .subscriptionId(subscription.getId())
+                .subscriptionStatus(subscription.getSubscriptionStatus().name())
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSubscriptionUpdated(SubscriptionStatusChangedEvent event) {
+        if (!kafkaEnabled) {
+            return;
+        }
+
+        try {
+            // Keyed by userId so events for one user stay ordered within a partition
+            kafkaTemplate.send(topic, String.valueOf(event.getUserId()), objectMapper.writeValueAsString(event))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("Failed to publish subscription status event for userId {}: {}",
+                                    event.getUserId(), e.getMessage());
+                        }
+                    });
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Never fail the caller because the broker is unavailable
+            log.error("Failed to publish subscription status event for userId {}: {}",
+                    event.getUserId(), e.getMessage());
+        }
+    }
+}
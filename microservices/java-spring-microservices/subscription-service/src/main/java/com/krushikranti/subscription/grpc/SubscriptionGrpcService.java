@@ -1,5 +1,6 @@
 package com.krushikranti.subscription.grpc;
 
+import com.krushikranti.subscription.dto.SubscriptionStatusBatchRequest;
 import com.krushikranti.subscription.dto.SubscriptionStatusResponse;
 import com.krushikranti.subscription.service.SubscriptionService;
 import io.grpc.stub.StreamObserver;
@@ -7,6 +8,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * gRPC Service for subscription operations.
  * Exposed to other microservices for subscription status checks.
@@ -56,44 +60,82 @@ public class SubscriptionGrpcService extends SubscriptionServiceGrpc.Subscriptio
             Long userId = Long.parseLong(request.getUserId());
             SubscriptionStatusResponse status = subscriptionService.getSubscriptionStatus(userId);
             
-            com.krushikranti.subscription.grpc.SubscriptionStatusResponse.Builder responseBuilder = 
-                    com.krushikranti.subscription.grpc.SubscriptionStatusResponse.newBuilder()
-                    .setUserId(userId)
-                    .setIsSubscribed(status.isSubscribed())
-                    .setSubscriptionStatus(status.getSubscriptionStatus() != null ? status.getSubscriptionStatus() : "")
-                    .setPaymentStatus(status.getPaymentStatus() != null ? status.getPaymentStatus() : "")
-                    .setDaysRemaining(status.getDaysRemaining() != null ? status.getDaysRemaining() : 0)
-                    .setAmount(status.getSubscriptionAmount() != null ? status.getSubscriptionAmount().toString() : "999")
-                    .setCurrency(status.getCurrency() != null ? status.getCurrency() : "INR")
-                    .setMessage(status.getMessage() != null ? status.getMessage() : "");
+            responseObserver.onNext(toGrpcStatus(status));
+            responseObserver.onCompleted();
+            
+        } catch (NumberFormatException e) {
+            log.error("Invalid user ID format: {}", request.getUserId());
+            responseObserver.onError(io.grpc.Status.INVALID_ARGUMENT
+                    .withDescription("Invalid user ID format")
+                    .asRuntimeException());
+        } catch (Exception e) {
+            log.error("Error getting subscription status: ", e);
+            responseObserver.onError(io.grpc.Status.INTERNAL
+                    .withDescription("Internal error")
+                    .asRuntimeException());
+        }
+    }
 
-            if (status.getSubscriptionId() != null) {
-                responseBuilder.setSubscriptionId(status.getSubscriptionId());
-            }
-            if (status.getFarmerId() != null) {
-                responseBuilder.setFarmerId(status.getFarmerId());
-            }
-            if (status.getSubscriptionStartDate() != null) {
-                responseBuilder.setSubscriptionStartDate(status.getSubscriptionStartDate().toString());
-            }
-            if (status.getSubscriptionEndDate() != null) {
-                responseBuilder.setSubscriptionEndDate(status.getSubscriptionEndDate().toString());
-            }
+    @Override
+    public void getSubscriptionStatusBatch(GetSubscriptionStatusBatchRequest request,
+            StreamObserver<GetSubscriptionStatusBatchResponse> responseObserver) {
+        if (request.getUserIdsCount() > SubscriptionStatusBatchRequest.MAX_USER_IDS) {
+            responseObserver.onError(io.grpc.Status.INVALID_ARGUMENT
+                    .withDescription("At most " + SubscriptionStatusBatchRequest.MAX_USER_IDS
+                            + " user IDs can be requested at once")
+                    .asRuntimeException());
+            return;
+        }
+        
+        try {
+            List<Long> userIds = request.getUserIdsList().stream()
+                    .map(Long::parseLong)
+                    .collect(Collectors.toList());
+            
+            GetSubscriptionStatusBatchResponse.Builder responseBuilder = GetSubscriptionStatusBatchResponse.newBuilder();
+            subscriptionService.getSubscriptionStatusBatch(userIds)
+                    .forEach(status -> responseBuilder.addStatuses(toGrpcStatus(status)));
             
             responseObserver.onNext(responseBuilder.build());
             responseObserver.onCompleted();
             
         } catch (NumberFormatException e) {
-            log.error("Invalid user ID format: {}", request.getUserId());
+            log.error("Invalid user ID format in batch: {}", request.getUserIdsList());
             responseObserver.onError(io.grpc.Status.INVALID_ARGUMENT
                     .withDescription("Invalid user ID format")
                     .asRuntimeException());
         } catch (Exception e) {
-            log.error("Error getting subscription status: ", e);
+            log.error("Error getting subscription status batch: ", e);
             responseObserver.onError(io.grpc.Status.INTERNAL
                     .withDescription("Internal error")
                     .asRuntimeException());
         }
     }
-}
 
+    private com.krushikranti.subscription.grpc.SubscriptionStatusResponse toGrpcStatus(SubscriptionStatusResponse status) {
+        com.krushikranti.subscription.grpc.SubscriptionStatusResponse.Builder responseBuilder = 
+                com.krushikranti.subscription.grpc.SubscriptionStatusResponse.newBuilder()
+                .setUserId(status.getUserId())
+                .setIsSubscribed(status.isSubscribed())
+                .setSubscriptionStatus(status.getSubscriptionStatus() != null ? status.getSubscriptionStatus() : "")
+                .setPaymentStatus(status.getPaymentStatus() != null ? status.getPaymentStatus() : "")
+                .setDaysRemaining(status.getDaysRemaining() != null ? status.getDaysRemaining() : 0)
+                .setAmount(status.getSubscriptionAmount() != null ? status.getSubscriptionAmount().toString() : "999")
+                .setCurrency(status.getCurrency() != null ? status.getCurrency() : "INR")
+                .setMessage(status.getMessage() != null ? status.getMessage() : "");
+
+        if (status.getSubscriptionId() != null) {
+            responseBuilder.setSubscriptionId(status.getSubscriptionId());
+        }
+        if (status.getFarmerId() != null) {
+            responseBuilder.setFarmerId(status.getFarmerId());
+        }
+        if (status.getSubscriptionStartDate() != null) {
+            responseBuilder.setSubscriptionStartDate(status.getSubscriptionStartDate().toString());
+        }
+        if (status.getSubscriptionEndDate() != null) {
+            responseBuilder.setSubscriptionEndDate(status.getSubscriptionEndDate().toString());
+        }
+        return responseBuilder.build();
+    }
+}
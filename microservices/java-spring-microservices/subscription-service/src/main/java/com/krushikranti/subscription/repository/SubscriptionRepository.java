@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,11 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
      */
     Optional<Subscription> findByUserId(Long userId);
 
+    /**
+     * Find subscriptions for a set of user IDs (batch status lookups)
+     */
+    List<Subscription> findByUserIdIn(Collection<Long> userIds);
+
     /**
      * Find active subscription by farmer ID
      */
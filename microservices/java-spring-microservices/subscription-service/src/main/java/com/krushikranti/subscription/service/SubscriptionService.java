@@ -2,6 +2,7 @@ package com.krushikranti.subscription.service;
 
 import com.krushikranti.subscription.config.SubscriptionConfig;
 import com.krushikranti.subscription.dto.*;
+import com.krushikranti.subscription.event.SubscriptionStatusEventPublisher;
 import com.krushikranti.subscription.model.PaymentTransaction;
 import com.krushikranti.subscription.model.Subscription;
 import com.krushikranti.subscription.repository.PaymentTransactionRepository;
@@ -15,9 +16,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing subscriptions and payments.
@@ -30,6 +34,7 @@ public class SubscriptionService {
     private final SubscriptionRepository subscriptionRepository;
     private final PaymentTransactionRepository transactionRepository;
     private final SubscriptionConfig subscriptionConfig;
+    private final SubscriptionStatusEventPublisher statusEventPublisher;
 
     /**
      * Get subscription status for a user.
@@ -42,51 +47,94 @@ public class SubscriptionService {
                 .findActiveSubscriptionByUserId(userId, LocalDateTime.now());
 
         if (subscriptionOpt.isPresent()) {
-            Subscription subscription = subscriptionOpt.get();
-            int daysRemaining = (int) ChronoUnit.DAYS.between(
-                    LocalDateTime.now(), subscription.getSubscriptionEndDate());
-
-            return SubscriptionStatusResponse.builder()
-                    .subscriptionId(subscription.getId())
-                    .farmerId(subscription.getFarmerId())
-                    .userId(subscription.getUserId())
-                    .isSubscribed(true)
-                    .subscriptionStatus(subscription.getSubscriptionStatus().name())
-                    .paymentStatus(subscription.getPaymentStatus().name())
-                    .subscriptionStartDate(subscription.getSubscriptionStartDate())
-                    .subscriptionEndDate(subscription.getSubscriptionEndDate())
-                    .daysRemaining(daysRemaining)
-                    .subscriptionAmount(subscription.getSubscriptionAmount())
-                    .currency(subscription.getCurrency())
-                    .profileCompleted(true)
-                    .hasMyDetails(true)
-                    .hasFarmDetails(true)
-                    .hasCropDetails(true)
-                    .message("Subscription is active")
-                    .build();
+            return buildActiveStatus(subscriptionOpt.get());
         }
 
         // Check for any existing subscription (expired or pending)
         Optional<Subscription> anySubscription = subscriptionRepository.findByUserId(userId);
         if (anySubscription.isPresent()) {
-            Subscription subscription = anySubscription.get();
-            return SubscriptionStatusResponse.builder()
-                    .subscriptionId(subscription.getId())
-                    .farmerId(subscription.getFarmerId())
-                    .userId(subscription.getUserId())
-                    .isSubscribed(false)
-                    .subscriptionStatus(subscription.getSubscriptionStatus().name())
-                    .paymentStatus(subscription.getPaymentStatus().name())
-                    .subscriptionStartDate(subscription.getSubscriptionStartDate())
-                    .subscriptionEndDate(subscription.getSubscriptionEndDate())
-                    .daysRemaining(0)
-                    .subscriptionAmount(subscriptionConfig.getAmount())
-                    .currency(subscriptionConfig.getCurrency())
-                    .message("Subscription " + subscription.getSubscriptionStatus().name().toLowerCase())
-                    .build();
+            return buildInactiveStatus(anySubscription.get());
         }
 
         // No subscription exists
+        return buildNoSubscriptionStatus(userId);
+    }
+
+    /**
+     * Get subscription status for many users with a single query.
+     * Mirrors {@link #getSubscriptionStatus(Long)} for each user and keeps the
+     * order of the requested ids.
+     */
+    @Transactional(readOnly = true)
+    public List<SubscriptionStatusResponse> getSubscriptionStatusBatch(Collection<Long> userIds) {
+        log.debug("Getting subscription status for {} users", userIds.size());
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, List<Subscription>> byUserId = subscriptionRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.groupingBy(Subscription::getUserId));
+
+        return userIds.stream()
+                .distinct()
+                .map(userId -> {
+                    List<Subscription> subscriptions = byUserId.getOrDefault(userId, List.of());
+                    return subscriptions.stream()
+                            .filter(s -> isActive(s, now))
+                            .findFirst()
+                            .map(this::buildActiveStatus)
+                            .or(() -> subscriptions.stream().findFirst().map(this::buildInactiveStatus))
+                            .orElseGet(() -> buildNoSubscriptionStatus(userId));
+                })
+                .collect(Collectors.toList());
+    }
+
+    private boolean isActive(Subscription subscription, LocalDateTime now) {
+        return subscription.getSubscriptionStatus() == Subscription.SubscriptionStatus.ACTIVE
+                && subscription.getSubscriptionEndDate() != null
+                && subscription.getSubscriptionEndDate().isAfter(now);
+    }
+
+    private SubscriptionStatusResponse buildActiveStatus(Subscription subscription) {
+        int daysRemaining = (int) ChronoUnit.DAYS.between(
+                LocalDateTime.now(), subscription.getSubscriptionEndDate());
+
+        return SubscriptionStatusResponse.builder()
+                .subscriptionId(subscription.getId())
+                .farmerId(subscription.getFarmerId())
+                .userId(subscription.getUserId())
+                .isSubscribed(true)
+                .subscriptionStatus(subscription.getSubscriptionStatus().name())
+                .paymentStatus(subscription.getPaymentStatus().name())
+                .subscriptionStartDate(subscription.getSubscriptionStartDate())
+                .subscriptionEndDate(subscription.getSubscriptionEndDate())
+                .daysRemaining(daysRemaining)
+                .subscriptionAmount(subscription.getSubscriptionAmount())
+                .currency(subscription.getCurrency())
+                .profileCompleted(true)
+                .hasMyDetails(true)
+                .hasFarmDetails(true)
+                .hasCropDetails(true)
+                .message("Subscription is active")
+                .build();
+    }
+
+    private SubscriptionStatusResponse buildInactiveStatus(Subscription subscription) {
+        return SubscriptionStatusResponse.builder()
+                .subscriptionId(subscription.getId())
+                .farmerId(subscription.getFarmerId())
+                .userId(subscription.getUserId())
+                .isSubscribed(false)
+                .subscriptionStatus(subscription.getSubscriptionStatus().name())
+                .paymentStatus(subscription.getPaymentStatus().name())
+                .subscriptionStartDate(subscription.getSubscriptionStartDate())
+                .subscriptionEndDate(subscription.getSubscriptionEndDate())
+                .daysRemaining(0)
+                .subscriptionAmount(subscriptionConfig.getAmount())
+                .currency(subscriptionConfig.getCurrency())
+                .message("Subscription " + subscription.getSubscriptionStatus().name().toLowerCase())
+                .build();
+    }
+
+    private SubscriptionStatusResponse buildNoSubscriptionStatus(Long userId) {
         return SubscriptionStatusResponse.builder()
                 .userId(userId)
                 .isSubscribed(false)
@@ -233,6 +281,7 @@ public class SubscriptionService {
 
             transactionRepository.save(transaction);
             subscriptionRepository.save(subscription);
+            statusEventPublisher.subscriptionUpdated(subscription);
 
             log.info("Payment completed successfully. Subscription activated until: {}", 
                     subscription.getSubscriptionEndDate());
@@ -284,7 +333,9 @@ public class SubscriptionService {
                 .currency(subscriptionConfig.getCurrency())
                 .build();
 
-        return subscriptionRepository.save(subscription);
+        subscription = subscriptionRepository.save(subscription);
+        statusEventPublisher.subscriptionUpdated(subscription);
+        return subscription;
     }
 
     /**